@@ -5,9 +5,11 @@
  */
 package com.opengamma.strata.basics.date;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.collect.io.ResourceLocator;
@@ -15,6 +17,10 @@ import com.opengamma.strata.collect.named.NamedLookup;
 
 /**
  * Provider that loads common global holiday calendars from binary form on the classpath.
+ * <p>
+ * The binary file is read in a single operation when the lookup is created, recording the position
+ * of each calendar within the data. Each calendar is only created when it is first looked up,
+ * thus applications that only use a few calendars do not pay the cost of creating all of them.
  */
 final class GlobalHolidayCalendarLookup implements NamedLookup<HolidayCalendar> {
 
@@ -23,40 +29,76 @@ final class GlobalHolidayCalendarLookup implements NamedLookup<HolidayCalendar>
    */
   public static final GlobalHolidayCalendarLookup INSTANCE = new GlobalHolidayCalendarLookup();
 
-  // lookup of conventions
-  private final ImmutableMap<String, HolidayCalendar> map;
+  // the binary data
+  private final byte[] data;
+  // the offset of each calendar in the binary data, keyed by name
+  private final ImmutableMap<String, Integer> offsets;
+  // the calendars that have been created, keyed by name
+  private final ConcurrentHashMap<String, HolidayCalendar> calendars = new ConcurrentHashMap<>();
+  // the map of all calendars, created on demand
+  private volatile ImmutableMap<String, HolidayCalendar> map;
 
   /**
    * Restricted constructor.
    */
   private GlobalHolidayCalendarLookup() {
     // not a static initializer, as Hotspot does not work in static code
-    ImmutableMap.Builder<String, HolidayCalendar> builder = ImmutableMap.builder();
     ResourceLocator locator =
         ResourceLocator.ofClasspath("com/opengamma/strata/basics/date/GlobalHolidayCalendars.bin");
-    try (InputStream fis = locator.getByteSource().openStream()) {
-      try (DataInputStream in = new DataInputStream(fis)) {
-        if (in.readByte() != 'H' || in.readByte() != 'C' || in.readByte() != 'a' || in.readByte() != 'l') {
-          System.err.println("ERROR: Corrupt holiday calendar data file");
-        } else {
-          short calSize = in.readShort();
-          for (int i = 0; i < calSize; i++) {
-            HolidayCalendar cal = ImmutableHolidayCalendar.readExternal(in);
-            builder.put(cal.getId().getName(), cal);
-          }
+    byte[] bytes = new byte[0];
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    try {
+      bytes = locator.getByteSource().read();
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      if (in.readByte() != 'H' || in.readByte() != 'C' || in.readByte() != 'a' || in.readByte() != 'l') {
+        System.err.println("ERROR: Corrupt holiday calendar data file");
+      } else {
+        short calSize = in.readShort();
+        for (int i = 0; i < calSize; i++) {
+          int offset = bytes.length - in.available();
+          builder.put(ImmutableHolidayCalendar.skipExternal(in), offset);
         }
       }
     } catch (IOException ex) {
       System.err.println("ERROR: Unable to parse holiday calendar data file: " + ex.getMessage());
       ex.printStackTrace();
     }
-    map = builder.build();
+    data = bytes;
+    offsets = builder.build();
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public HolidayCalendar lookup(String name) {
+    Integer offset = offsets.get(name);
+    if (offset == null) {
+      return null;
+    }
+    return calendars.computeIfAbsent(name, n -> read(offset));
+  }
+
   @Override
   public ImmutableMap<String, HolidayCalendar> lookupAll() {
-    return map;
+    ImmutableMap<String, HolidayCalendar> result = map;
+    if (result == null) {
+      ImmutableMap.Builder<String, HolidayCalendar> builder = ImmutableMap.builder();
+      for (String name : offsets.keySet()) {
+        builder.put(name, lookup(name));
+      }
+      result = builder.build();
+      map = result;
+    }
+    return result;
+  }
+
+  // reads the calendar at the specified offset
+  private HolidayCalendar read(int offset) {
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, data.length - offset));
+      return ImmutableHolidayCalendar.readExternal(in);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
   }
 
 }
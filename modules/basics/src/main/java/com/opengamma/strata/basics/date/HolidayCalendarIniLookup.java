@@ -37,7 +37,9 @@ import com.opengamma.strata.collect.io.IniFile;
 import com.opengamma.strata.collect.io.PropertySet;
 import com.opengamma.strata.collect.io.ResourceConfig;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
 import com.opengamma.strata.collect.named.NamedLookup;
+import com.opengamma.strata.collect.tuple.Pair;
 
 /**
  * Loads holiday calendar implementations from INI files.
@@ -84,9 +86,10 @@ final class HolidayCalendarIniLookup
       .toFormatter(Locale.ENGLISH);
 
   /**
-   * The holiday calendars by name.
+   * The holiday calendars by name, with each calendar parsed from its INI section when first looked up.
    */
-  private static final ImmutableMap<String, HolidayCalendar> BY_NAME = loadFromIni("HolidayCalendarData.ini");
+  private static final LazyNamedLookup<Pair<String, PropertySet>, HolidayCalendar> BY_NAME =
+      loadLazilyFromIni("HolidayCalendarData.ini");
   /**
    * The default holiday calendars by currency.
    */
@@ -100,9 +103,14 @@ final class HolidayCalendarIniLookup
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public HolidayCalendar lookup(String name) {
+    return BY_NAME.lookup(name);
+  }
+
   @Override
   public Map<String, HolidayCalendar> lookupAll() {
-    return BY_NAME;
+    return BY_NAME.lookupAll();
   }
 
   // finds a default
@@ -120,27 +128,40 @@ final class HolidayCalendarIniLookup
   //-------------------------------------------------------------------------
   @VisibleForTesting
   static ImmutableMap<String, HolidayCalendar> loadFromIni(String filename) {
+    try {
+      return loadLazilyFromIni(filename).lookupAll();
+    } catch (RuntimeException ex) {
+      log.log(Level.SEVERE, "Error processing resource as Holiday Calendar INI file: " + filename, ex);
+      return ImmutableMap.of();
+    }
+  }
+
+  // reads the INI files, parsing each calendar when it is first looked up
+  @VisibleForTesting
+  static LazyNamedLookup<Pair<String, PropertySet>, HolidayCalendar> loadLazilyFromIni(String filename) {
     List<ResourceLocator> resources = ResourceConfig.orderedResources(filename);
-    Map<String, HolidayCalendar> map = new HashMap<>();
+    Map<String, Pair<String, PropertySet>> map = new HashMap<>();
     for (ResourceLocator resource : resources) {
       try {
         IniFile ini = IniFile.of(resource.getCharSource());
         for (String sectionName : ini.sections()) {
-          PropertySet section = ini.section(sectionName);
-          HolidayCalendar parsed = parseHolidayCalendar(sectionName, section);
-          map.put(parsed.getName(), parsed);
-          map.putIfAbsent(parsed.getName().toUpperCase(Locale.ENGLISH), parsed);
+          String name = HolidayCalendarId.of(sectionName).getName();
+          Pair<String, PropertySet> definition = Pair.of(sectionName, ini.section(sectionName));
+          map.put(name, definition);
+          map.putIfAbsent(name.toUpperCase(Locale.ENGLISH), definition);
         }
       } catch (RuntimeException ex) {
         log.log(Level.SEVERE, "Error processing resource as Holiday Calendar INI file: " + resource, ex);
-        return ImmutableMap.of();
+        return LazyNamedLookup.of(ImmutableMap.of(), HolidayCalendarIniLookup::parseHolidayCalendar);
       }
     }
-    return ImmutableMap.copyOf(map);
+    return LazyNamedLookup.of(map, HolidayCalendarIniLookup::parseHolidayCalendar);
   }
 
   // parses the holiday calendar
-  private static HolidayCalendar parseHolidayCalendar(String calendarName, PropertySet section) {
+  private static HolidayCalendar parseHolidayCalendar(Pair<String, PropertySet> definition) {
+    String calendarName = definition.getFirst();
+    PropertySet section = definition.getSecond();
     String weekendStr = section.value(WEEKEND_KEY);
     Set<DayOfWeek> weekends = parseWeekends(weekendStr);
     List<LocalDate> holidays = new ArrayList<>();
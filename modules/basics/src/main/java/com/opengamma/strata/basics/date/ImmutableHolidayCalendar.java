@@ -332,6 +332,15 @@ public final class ImmutableHolidayCalendar
     return new ImmutableHolidayCalendar(HolidayCalendarId.of(id), weekendDays, startYear, lookup, false);
   }
 
+  // skips over the binary format, returning the name of the calendar
+  static String skipExternal(DataInput in) throws IOException {
+    String id = in.readUTF();
+    in.skipBytes(4);
+    int lookupSize = in.readShort();
+    in.skipBytes(lookupSize * 4);
+    return id;
+  }
+
   //-------------------------------------------------------------------------
   // creates an instance, not cloning the lookup
   ImmutableHolidayCalendar(HolidayCalendarId id, int weekendDays, int startYear, int[] lookup, boolean flag) {
@@ -21,6 +21,7 @@ import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceConfig;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
 import com.opengamma.strata.collect.named.NamedLookup;
 
 /**
@@ -51,9 +52,9 @@ final class FxIndexCsvLookup
   private static final String MATURITY_CALENDAR_FIELD = "Maturity Calendar";
 
   /**
-   * The cache by name.
+   * The cache by name, with each index parsed from its CSV row when first looked up.
    */
-  private static final ImmutableMap<String, FxIndex> BY_NAME = loadFromCsv();
+  private static final LazyNamedLookup<CsvRow, FxIndex> BY_NAME = loadFromCsv();
 
   /**
    * Restricted constructor.
@@ -62,28 +63,33 @@ final class FxIndexCsvLookup
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public FxIndex lookup(String name) {
+    return BY_NAME.lookup(name);
+  }
+
   @Override
   public Map<String, FxIndex> lookupAll() {
-    return BY_NAME;
+    return BY_NAME.lookupAll();
   }
 
-  private static ImmutableMap<String, FxIndex> loadFromCsv() {
+  private static LazyNamedLookup<CsvRow, FxIndex> loadFromCsv() {
     List<ResourceLocator> resources = ResourceConfig.orderedResources("FxIndexData.csv");
-    Map<String, FxIndex> map = new HashMap<>();
+    Map<String, CsvRow> map = new HashMap<>();
     for (ResourceLocator resource : resources) {
       try {
         CsvFile csv = CsvFile.of(resource.getCharSource(), true);
         for (CsvRow row : csv.rows()) {
-          FxIndex parsed = parseFxIndex(row);
-          map.put(parsed.getName(), parsed);
-          map.putIfAbsent(parsed.getName().toUpperCase(Locale.ENGLISH), parsed);
+          String name = row.getField(NAME_FIELD);
+          map.put(name, row);
+          map.putIfAbsent(name.toUpperCase(Locale.ENGLISH), row);
         }
       } catch (RuntimeException ex) {
         log.log(Level.SEVERE, "Error processing resource as FX Index CSV file: " + resource, ex);
-        return ImmutableMap.of();
+        return LazyNamedLookup.of(ImmutableMap.of(), FxIndexCsvLookup::parseFxIndex);
       }
     }
-    return ImmutableMap.copyOf(map);
+    return LazyNamedLookup.of(map, FxIndexCsvLookup::parseFxIndex);
   }
 
   private static FxIndex parseFxIndex(CsvRow row) {
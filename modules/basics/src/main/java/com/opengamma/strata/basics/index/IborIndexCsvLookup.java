@@ -34,6 +34,7 @@ import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceConfig;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
 import com.opengamma.strata.collect.named.NamedLookup;
 
 /**
@@ -80,9 +81,9 @@ final class IborIndexCsvLookup
    */
   private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH[:mm]", Locale.ENGLISH);
   /**
-   * The cache by name.
+   * The cache by name, with each index parsed from its CSV row when first looked up.
    */
-  private static final ImmutableMap<String, IborIndex> BY_NAME = loadFromCsv();
+  private static final LazyNamedLookup<CsvRow, IborIndex> BY_NAME = loadFromCsv();
 
   /**
    * Restricted constructor.
@@ -91,29 +92,34 @@ final class IborIndexCsvLookup
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public IborIndex lookup(String name) {
+    return BY_NAME.lookup(name);
+  }
+
   @Override
   public Map<String, IborIndex> lookupAll() {
-    return BY_NAME;
+    return BY_NAME.lookupAll();
   }
 
-  private static ImmutableMap<String, IborIndex> loadFromCsv() {
+  private static LazyNamedLookup<CsvRow, IborIndex> loadFromCsv() {
     List<ResourceLocator> resources = ResourceConfig.orderedResources("IborIndexData.csv");
-    Map<String, IborIndex> map = new HashMap<>();
+    Map<String, CsvRow> map = new HashMap<>();
     // files are ordered lowest priority to highest, thus Map::put is used
     for (ResourceLocator resource : resources) {
       try {
         CsvFile csv = CsvFile.of(resource.getCharSource(), true);
         for (CsvRow row : csv.rows()) {
-          IborIndex parsed = parseIborIndex(row);
-          map.put(parsed.getName(), parsed);
-          map.put(parsed.getName().toUpperCase(Locale.ENGLISH), parsed);
+          String name = row.getValue(NAME_FIELD);
+          map.put(name, row);
+          map.put(name.toUpperCase(Locale.ENGLISH), row);
         }
       } catch (RuntimeException ex) {
         log.log(Level.SEVERE, "Error processing resource as Ibor Index CSV file: " + resource, ex);
-        return ImmutableMap.of();
+        return LazyNamedLookup.of(ImmutableMap.of(), IborIndexCsvLookup::parseIborIndex);
       }
     }
-    return ImmutableMap.copyOf(map);
+    return LazyNamedLookup.of(map, IborIndexCsvLookup::parseIborIndex);
   }
 
   private static IborIndex parseIborIndex(CsvRow row) {
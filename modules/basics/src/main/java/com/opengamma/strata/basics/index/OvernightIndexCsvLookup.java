@@ -20,6 +20,7 @@ import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceConfig;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
 import com.opengamma.strata.collect.named.NamedLookup;
 
 /**
@@ -52,9 +53,9 @@ final class OvernightIndexCsvLookup
   private static final String FIXED_LEG_DAY_COUNT = "Fixed Leg Day Count";
 
   /**
-   * The cache by name.
+   * The cache by name, with each index parsed from its CSV row when first looked up.
    */
-  private static final ImmutableMap<String, OvernightIndex> BY_NAME = loadFromCsv();
+  private static final LazyNamedLookup<CsvRow, OvernightIndex> BY_NAME = loadFromCsv();
 
   /**
    * Restricted constructor.
@@ -63,29 +64,34 @@ final class OvernightIndexCsvLookup
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public OvernightIndex lookup(String name) {
+    return BY_NAME.lookup(name);
+  }
+
   @Override
   public Map<String, OvernightIndex> lookupAll() {
-    return BY_NAME;
+    return BY_NAME.lookupAll();
   }
 
-  private static ImmutableMap<String, OvernightIndex> loadFromCsv() {
+  private static LazyNamedLookup<CsvRow, OvernightIndex> loadFromCsv() {
     List<ResourceLocator> resources = ResourceConfig.orderedResources("OvernightIndexData.csv");
-    Map<String, OvernightIndex> map = new HashMap<>();
+    Map<String, CsvRow> map = new HashMap<>();
     // files are ordered lowest priority to highest, thus Map::put is used
     for (ResourceLocator resource : resources) {
       try {
         CsvFile csv = CsvFile.of(resource.getCharSource(), true);
         for (CsvRow row : csv.rows()) {
-          OvernightIndex parsed = parseOvernightIndex(row);
-          map.put(parsed.getName(), parsed);
-          map.put(parsed.getName().toUpperCase(Locale.ENGLISH), parsed);
+          String name = row.getValue(NAME_FIELD);
+          map.put(name, row);
+          map.put(name.toUpperCase(Locale.ENGLISH), row);
         }
       } catch (RuntimeException ex) {
         log.log(Level.SEVERE, "Error processing resource as Overnight Index CSV file: " + resource, ex);
-        return ImmutableMap.of();
+        return LazyNamedLookup.of(ImmutableMap.of(), OvernightIndexCsvLookup::parseOvernightIndex);
       }
     }
-    return ImmutableMap.copyOf(map);
+    return LazyNamedLookup.of(map, OvernightIndexCsvLookup::parseOvernightIndex);
   }
 
   private static OvernightIndex parseOvernightIndex(CsvRow row) {
@@ -20,6 +20,7 @@ import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceConfig;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
 import com.opengamma.strata.collect.named.NamedLookup;
 
 /**
@@ -49,9 +50,9 @@ final class PriceIndexCsvLookup
   private static final String PUBLICATION_FREQUENCY_FIELD = "Publication Frequency";
 
   /**
-   * The cache by name.
+   * The cache by name, with each index parsed from its CSV row when first looked up.
    */
-  private static final ImmutableMap<String, PriceIndex> BY_NAME = loadFromCsv();
+  private static final LazyNamedLookup<CsvRow, PriceIndex> BY_NAME = loadFromCsv();
 
   /**
    * Restricted constructor.
@@ -60,29 +61,34 @@ final class PriceIndexCsvLookup
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public PriceIndex lookup(String name) {
+    return BY_NAME.lookup(name);
+  }
+
   @Override
   public Map<String, PriceIndex> lookupAll() {
-    return BY_NAME;
+    return BY_NAME.lookupAll();
   }
 
-  private static ImmutableMap<String, PriceIndex> loadFromCsv() {
+  private static LazyNamedLookup<CsvRow, PriceIndex> loadFromCsv() {
     List<ResourceLocator> resources = ResourceConfig.orderedResources("PriceIndexData.csv");
-    Map<String, PriceIndex> map = new HashMap<>();
+    Map<String, CsvRow> map = new HashMap<>();
     // files are ordered lowest priority to highest, thus Map::put is used
     for (ResourceLocator resource : resources) {
       try {
         CsvFile csv = CsvFile.of(resource.getCharSource(), true);
         for (CsvRow row : csv.rows()) {
-          PriceIndex parsed = parsePriceIndex(row);
-          map.put(parsed.getName(), parsed);
-          map.put(parsed.getName().toUpperCase(Locale.ENGLISH), parsed);
+          String name = row.getField(NAME_FIELD);
+          map.put(name, row);
+          map.put(name.toUpperCase(Locale.ENGLISH), row);
         }
       } catch (RuntimeException ex) {
         log.log(Level.SEVERE, "Error processing resource as Price Index CSV file: " + resource, ex);
-        return ImmutableMap.of();
+        return LazyNamedLookup.of(ImmutableMap.of(), PriceIndexCsvLookup::parsePriceIndex);
       }
     }
-    return ImmutableMap.copyOf(map);
+    return LazyNamedLookup.of(map, PriceIndexCsvLookup::parsePriceIndex);
   }
 
   private static PriceIndex parsePriceIndex(CsvRow row) {
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link GlobalHolidayCalendarLookup}.
+ */
+public class GlobalHolidayCalendarLookupTest {
+
+  @Test
+  public void test_lookup() {
+    GlobalHolidayCalendarLookup test = GlobalHolidayCalendarLookup.INSTANCE;
+    HolidayCalendar cal = test.lookup("GBLO");
+    assertThat(cal.getId()).isEqualTo(HolidayCalendarIds.GBLO);
+    assertThat(test.lookup("GBLO")).isSameAs(cal);
+    assertThat(test.lookup("Rubbish")).isNull();
+  }
+
+  @Test
+  public void test_lookupAll() {
+    GlobalHolidayCalendarLookup test = GlobalHolidayCalendarLookup.INSTANCE;
+    Map<String, HolidayCalendar> all = test.lookupAll();
+    assertThat(all).containsKeys("GBLO", "USNY", "EUTA", "JPTO");
+    assertThat(all.get("USNY")).isSameAs(test.lookup("USNY"));
+    assertThat(test.lookupAll()).isSameAs(all);
+    all.forEach((name, cal) -> assertThat(cal.getName()).isEqualTo(name));
+  }
+
+}
@@ -8,6 +8,7 @@ package com.opengamma.strata.basics.date;
 import static com.opengamma.strata.collect.TestHelper.caputureLog;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -18,6 +19,9 @@ import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.io.PropertySet;
+import com.opengamma.strata.collect.named.LazyNamedLookup;
+import com.opengamma.strata.collect.tuple.Pair;
 
 /**
  * Test {@link HolidayCalendar}.
@@ -79,6 +83,26 @@ public class HolidayCalendarIniLookupTest {
     assertThat(lookup1).isEqualTo(lookup2);
   }
 
+  @Test
+  public void test_lazy() {
+    LazyNamedLookup<Pair<String, PropertySet>, HolidayCalendar> lookup =
+        HolidayCalendarIniLookup.loadLazilyFromIni("HolidayCalendarDataValid1.ini");
+    HolidayCalendar test = lookup.lookup("TEST-VALID");
+    assertThat(test.isHoliday(date(2015, 1, 1))).isTrue();
+    assertThat(lookup.lookup("TEST-VALID")).isSameAs(test);
+    assertThat(lookup.lookup("TEST-OTHER")).isNull();
+    assertThat(lookup.lookupAll()).isEqualTo(HolidayCalendarIniLookup.loadFromIni("HolidayCalendarDataValid1.ini"));
+  }
+
+  @Test
+  public void test_lazy_invalidYear() {
+    LazyNamedLookup<Pair<String, PropertySet>, HolidayCalendar> lookup =
+        HolidayCalendarIniLookup.loadLazilyFromIni("HolidayCalendarDataInvalid1.ini");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> lookup.lookup("TEST-INVALID"))
+        .withMessageContaining("Parsed date had incorrect year");
+  }
+
   @Test
   public synchronized void test_invalid1_invalidYear() {
     List<LogRecord> captured = caputureLog(
@@ -0,0 +1,387 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Calculation results aggregated into a hierarchy of groups.
+ * <p>
+ * This defines a grid of results where the grid contains a row for each group and a column for each measure.
+ * Each group is identified by its path in the hierarchy, such as {@code [Desk A, Book 1]}.
+ * The group with an empty path contains the total of all targets.
+ * Each result is the sum of the results of all targets in the group.
+ */
+@BeanDefinition(builderScope = "private")
+public final class AggregatedResults implements ImmutableBean {
+
+  /**
+   * The groups, each defined by its path in the hierarchy.
+   * <p>
+   * The size of this list defines the number of rows.
+   * The group with an empty path contains all targets.
+   */
+  @PropertyDefinition(validate = "notNull", builderType = "List<? extends List<String>>")
+  private final ImmutableList<ImmutableList<String>> groups;
+  /**
+   * The aggregated results, with a row for each group.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Results results;
+  /**
+   * The row index of each group.
+   */
+  private final transient ImmutableMap<List<String>, Integer> groupIndices;  // derived, not a property
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from groups, columns and results.
+   * <p>
+   * The results are grouped by group, then column.
+   *
+   * @param groups  the groups, each defined by its path in the hierarchy
+   * @param columns  the column headers
+   * @param cells  the aggregated results, one for each group and column
+   * @return the aggregated results
+   */
+  public static AggregatedResults of(
+      List<? extends List<String>> groups,
+      List<ColumnHeader> columns,
+      List<? extends Result<?>> cells) {
+
+    return new AggregatedResults(groups, Results.of(columns, cells));
+  }
+
+  @ImmutableConstructor
+  private AggregatedResults(List<? extends List<String>> groups, Results results) {
+    JodaBeanUtils.notNull(groups, "groups");
+    JodaBeanUtils.notNull(results, "results");
+    ImmutableList.Builder<ImmutableList<String>> groupsBuilder = ImmutableList.builder();
+    ImmutableMap.Builder<List<String>, Integer> indicesBuilder = ImmutableMap.builder();
+    for (int i = 0; i < groups.size(); i++) {
+      ImmutableList<String> group = ImmutableList.copyOf(groups.get(i));
+      groupsBuilder.add(group);
+      indicesBuilder.put(group, i);
+    }
+    this.groups = groupsBuilder.build();
+    this.results = results;
+    this.groupIndices = indicesBuilder.build();
+    if (results.getColumnCount() > 0 && results.getRowCount() != this.groups.size()) {
+      throw new IllegalArgumentException(Messages.format(
+          "The number of rows ({}) must equal the number of groups ({})", results.getRowCount(), this.groups.size()));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the row index of a group.
+   *
+   * @param group  the path of the group
+   * @return the row index of the group
+   * @throws IllegalArgumentException if the group is not found
+   */
+  public int groupIndex(List<String> group) {
+    Integer index = groupIndices.get(group);
+    if (index == null) {
+      throw new IllegalArgumentException(Messages.format("Group not found: {}", group));
+    }
+    return index;
+  }
+
+  /**
+   * Returns the aggregated result for a group and column index.
+   *
+   * @param group  the path of the group
+   * @param columnIndex  the index of the column
+   * @return the aggregated result for the group and column
+   * @throws IllegalArgumentException if the group or column index is invalid
+   */
+  public Result<?> get(List<String> group, int columnIndex) {
+    return results.get(groupIndex(group), columnIndex);
+  }
+
+  /**
+   * Returns the aggregated result for a group and column name.
+   *
+   * @param group  the path of the group
+   * @param columnName  the name of the column
+   * @return the aggregated result for the group and column
+   * @throws IllegalArgumentException if the group or column name is invalid
+   */
+  public Result<?> get(List<String> group, ColumnName columnName) {
+    return results.get(groupIndex(group), columnName);
+  }
+
+  /**
+   * Returns the aggregated result of all targets for a column name.
+   *
+   * @param columnName  the name of the column
+   * @return the aggregated result of all targets
+   * @throws IllegalArgumentException if the column name is invalid
+   */
+  public Result<?> getTotal(ColumnName columnName) {
+    return get(ImmutableList.of(), columnName);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code AggregatedResults}.
+   * @return the meta-bean, not null
+   */
+  public static AggregatedResults.Meta meta() {
+    return AggregatedResults.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(AggregatedResults.Meta.INSTANCE);
+  }
+
+  @Override
+  public AggregatedResults.Meta metaBean() {
+    return AggregatedResults.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the groups, each defined by its path in the hierarchy.
+   * <p>
+   * The size of this list defines the number of rows.
+   * The group with an empty path contains all targets.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<ImmutableList<String>> getGroups() {
+    return groups;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the aggregated results, with a row for each group.
+   * @return the value of the property, not null
+   */
+  public Results getResults() {
+    return results;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      AggregatedResults other = (AggregatedResults) obj;
+      return JodaBeanUtils.equal(groups, other.groups) &&
+          JodaBeanUtils.equal(results, other.results);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(groups);
+    hash = hash * 31 + JodaBeanUtils.hashCode(results);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("AggregatedResults{");
+    buf.append("groups").append('=').append(JodaBeanUtils.toString(groups)).append(',').append(' ');
+    buf.append("results").append('=').append(JodaBeanUtils.toString(results));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code AggregatedResults}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code groups} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<ImmutableList<String>>> groups = DirectMetaProperty.ofImmutable(
+        this, "groups", AggregatedResults.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code results} property.
+     */
+    private final MetaProperty<Results> results = DirectMetaProperty.ofImmutable(
+        this, "results", AggregatedResults.class, Results.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "groups",
+        "results");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1237460524:  // groups
+          return groups;
+        case 1097546742:  // results
+          return results;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends AggregatedResults> builder() {
+      return new AggregatedResults.Builder();
+    }
+
+    @Override
+    public Class<? extends AggregatedResults> beanType() {
+      return AggregatedResults.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code groups} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<ImmutableList<String>>> groups() {
+      return groups;
+    }
+
+    /**
+     * The meta-property for the {@code results} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Results> results() {
+      return results;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1237460524:  // groups
+          return ((AggregatedResults) bean).getGroups();
+        case 1097546742:  // results
+          return ((AggregatedResults) bean).getResults();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code AggregatedResults}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<AggregatedResults> {
+
+    private List<? extends List<String>> groups = ImmutableList.of();
+    private Results results;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1237460524:  // groups
+          return groups;
+        case 1097546742:  // results
+          return results;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1237460524:  // groups
+          this.groups = (List<? extends List<String>>) newValue;
+          break;
+        case 1097546742:  // results
+          this.results = (Results) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public AggregatedResults build() {
+      return new AggregatedResults(
+          groups,
+          results);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("AggregatedResults.Builder{");
+      buf.append("groups").append('=').append(JodaBeanUtils.toString(groups)).append(',').append(' ');
+      buf.append("results").append('=').append(JodaBeanUtils.toString(results));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
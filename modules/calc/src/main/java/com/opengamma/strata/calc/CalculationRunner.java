@@ -12,6 +12,7 @@ import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationListener;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTaskRunnerOptions;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -54,6 +55,25 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a calculation runner that executes each task on a virtual thread.
+   * <p>
+   * This is intended for calculations where the market data performs blocking lookups.
+   * See {@link CalculationTaskRunner#ofVirtualThreads(int)} for details.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofVirtualThreads(200)) {
+   *    // use the runner
+   *  }
+   * </pre>
+   *
+   * @param maxConcurrentTasks  the maximum number of tasks that run at once, zero for no limit
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofVirtualThreads(int maxConcurrentTasks) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofVirtualThreads(maxConcurrentTasks));
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -66,6 +86,20 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner that delegates to the specified task runner.
+   * <p>
+   * This allows a runner to be created from a task runner with non-default behavior, such as one
+   * created by {@link CalculationTaskRunner#of(ExecutorService, CalculationTaskRunnerOptions)}.
+   * Closing the calculation runner closes the task runner.
+   * 
+   * @param taskRunner  the task runner to use
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(CalculationTaskRunner taskRunner) {
+    return new DefaultCalculationRunner(taskRunner);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
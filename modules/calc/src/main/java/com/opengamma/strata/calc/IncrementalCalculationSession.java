@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.runner.CalculationTask;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A stateful calculation session that only recalculates what has changed since the previous cycle.
+ * <p>
+ * Each call to {@code calculate} is a cycle. The session retains, for each target, the results of the
+ * previous cycle and the market data required to calculate them. On the next cycle, a target is only
+ * recalculated if it is new or has changed, or if any of the market data it requires has changed.
+ * The results of all other targets are reused.
+ * <p>
+ * Targets are matched between cycles using {@code equals}, thus an amended trade is a new target.
+ * Market data is compared value by value, for the identifiers required by the retained targets.
+ * Scenario values that are calculated lazily are compared by calculating the value of each scenario,
+ * see {@link com.opengamma.strata.data.scenario.MarketDataBox#ofLazySingleValue(Object, int)}.
+ * All targets are recalculated if the valuation date or the number of scenarios changes.
+ * <p>
+ * The rules, columns and reference data are fixed for the lifetime of the session.
+ * The methods of this class are thread-safe, but cycles are run one at a time.
+ */
+public final class IncrementalCalculationSession {
+
+  /**
+   * The underlying task runner.
+   */
+  private final CalculationTaskRunner taskRunner;
+  /**
+   * The calculation rules.
+   */
+  private final CalculationRules rules;
+  /**
+   * The columns.
+   */
+  private final ImmutableList<Column> columns;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The market data of the previous cycle, null if there has been no cycle.
+   */
+  private ScenarioMarketData previousMarketData;
+  /**
+   * Whether the previous cycle was for a single scenario.
+   */
+  private boolean previousSingleScenario;
+  /**
+   * The state of each target from the previous cycle.
+   */
+  private Map<CalculationTarget, TargetState> targetStates = new HashMap<>();
+  /**
+   * The number of targets calculated in the previous cycle.
+   */
+  private int calculatedCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a session that uses the specified runner.
+   *
+   * @param runner  the runner used to perform the calculations
+   * @param rules  the rules defining how the calculation is performed
+   * @param columns  the configuration for the columns that will be calculated
+   * @param refData  the reference data to be used in the calculation
+   * @return the session
+   */
+  public static IncrementalCalculationSession of(
+      CalculationRunner runner,
+      CalculationRules rules,
+      List<Column> columns,
+      ReferenceData refData) {
+
+    return new IncrementalCalculationSession(runner.getTaskRunner(), rules, columns, refData);
+  }
+
+  // restricted constructor
+  private IncrementalCalculationSession(
+      CalculationTaskRunner taskRunner,
+      CalculationRules rules,
+      List<Column> columns,
+      ReferenceData refData) {
+
+    this.taskRunner = ArgChecker.notNull(taskRunner, "taskRunner");
+    this.rules = ArgChecker.notNull(rules, "rules");
+    this.columns = ImmutableList.copyOf(ArgChecker.notEmpty(columns, "columns"));
+    this.refData = ArgChecker.notNull(refData, "refData");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Performs a cycle of calculations for a single set of market data.
+   * <p>
+   * Only the targets that have changed, or whose market data has changed, are calculated.
+   *
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of results for the calculations
+   */
+  public synchronized Results calculate(List<? extends CalculationTarget> targets, MarketData marketData) {
+    return calculate(
+        targets,
+        ScenarioMarketData.of(1, marketData),
+        true,
+        tasks -> taskRunner.calculate(tasks, marketData, refData));
+  }
+
+  /**
+   * Performs a cycle of calculations for multiple scenarios, each with a different set of market data.
+   * <p>
+   * Only the targets that have changed, or whose market data has changed, are calculated.
+   *
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of results for the calculations
+   */
+  public synchronized Results calculateMultiScenario(
+      List<? extends CalculationTarget> targets,
+      ScenarioMarketData marketData) {
+
+    return calculate(
+        targets,
+        marketData,
+        false,
+        tasks -> taskRunner.calculateMultiScenario(tasks, marketData, refData));
+  }
+
+  /**
+   * Gets the number of distinct targets that were calculated in the most recent cycle.
+   * <p>
+   * The remaining targets reused the results of an earlier cycle.
+   *
+   * @return the number of targets calculated
+   */
+  public synchronized int getCalculatedCount() {
+    return calculatedCount;
+  }
+
+  /**
+   * Discards the retained results, forcing all targets to be calculated in the next cycle.
+   */
+  public synchronized void reset() {
+    previousMarketData = null;
+    targetStates = new HashMap<>();
+    calculatedCount = 0;
+  }
+
+  //-------------------------------------------------------------------------
+  // performs a cycle of calculations
+  private Results calculate(
+      List<? extends CalculationTarget> targets,
+      ScenarioMarketData marketData,
+      boolean singleScenario,
+      Function<CalculationTasks, Results> calculator) {
+
+    MarketDataChanges changes = canReuse(marketData, singleScenario) ?
+        new MarketDataChanges(previousMarketData, marketData) :
+        null;
+
+    // find the targets whose results can be reused, and those that must be calculated
+    Map<CalculationTarget, TargetState> states = new HashMap<>();
+    Set<CalculationTarget> toCalculate = new LinkedHashSet<>();
+    for (CalculationTarget target : targets) {
+      if (states.containsKey(target) || toCalculate.contains(target)) {
+        continue;
+      }
+      TargetState state = changes != null ? targetStates.get(target) : null;
+      if (state != null && !changes.isChanged(state.requirements)) {
+        states.put(target, state);
+      } else {
+        toCalculate.add(target);
+      }
+    }
+
+    // calculate the targets that are new or affected by a change
+    if (!toCalculate.isEmpty()) {
+      List<CalculationTarget> calculationTargets = ImmutableList.copyOf(toCalculate);
+      CalculationTasks tasks = CalculationTasks.of(rules, calculationTargets, columns, refData);
+      Results results = calculator.apply(tasks);
+      List<MarketDataRequirements> requirements = requirementsByRow(tasks, calculationTargets.size());
+      Map<MarketDataRequirements, MarketDataRequirements> interned = new HashMap<>();
+      for (int row = 0; row < calculationTargets.size(); row++) {
+        List<Result<?>> rowResults = new ArrayList<>(columns.size());
+        for (int column = 0; column < columns.size(); column++) {
+          rowResults.add(results.get(row, column));
+        }
+        // targets of the same type often have identical requirements, so the instances are shared
+        MarketDataRequirements rowRequirements = interned.computeIfAbsent(requirements.get(row), r -> r);
+        states.put(calculationTargets.get(row), new TargetState(rowRequirements, rowResults));
+      }
+    }
+
+    // assemble the results, in the order of the targets
+    List<Result<?>> cells = new ArrayList<>(targets.size() * columns.size());
+    for (CalculationTarget target : targets) {
+      cells.addAll(states.get(target).results);
+    }
+    List<ColumnHeader> headers = columns.stream().map(Column::toHeader).collect(toImmutableList());
+
+    // retain the state for the next cycle
+    previousMarketData = marketData;
+    previousSingleScenario = singleScenario;
+    targetStates = states;
+    calculatedCount = toCalculate.size();
+    return Results.of(headers, cells);
+  }
+
+  // checks if the results of the previous cycle can be reused
+  private boolean canReuse(ScenarioMarketData marketData, boolean singleScenario) {
+    return previousMarketData != null &&
+        previousSingleScenario == singleScenario &&
+        previousMarketData.getScenarioCount() == marketData.getScenarioCount() &&
+        previousMarketData.getValuationDate().equals(marketData.getValuationDate());
+  }
+
+  // combines the requirements of the tasks for each row
+  private List<MarketDataRequirements> requirementsByRow(CalculationTasks tasks, int rowCount) {
+    List<List<MarketDataRequirements>> taskRequirements = new ArrayList<>(rowCount);
+    for (int row = 0; row < rowCount; row++) {
+      taskRequirements.add(new ArrayList<>());
+    }
+    for (CalculationTask task : tasks.getTasks()) {
+      taskRequirements.get(task.getRowIndex()).add(task.requirements(refData));
+    }
+    List<MarketDataRequirements> requirements = new ArrayList<>(rowCount);
+    for (List<MarketDataRequirements> rowRequirements : taskRequirements) {
+      requirements.add(
+          rowRequirements.size() == 1 ? rowRequirements.get(0) : MarketDataRequirements.combine(rowRequirements));
+    }
+    return requirements;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The retained state of a single target.
+   */
+  private static final class TargetState {
+    /**
+     * The market data required to calculate the target.
+     */
+    private final MarketDataRequirements requirements;
+    /**
+     * The results of the target, one for each column.
+     */
+    private final List<Result<?>> results;
+
+    private TargetState(MarketDataRequirements requirements, List<Result<?>> results) {
+      this.requirements = requirements;
+      this.results = results;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The changes between the market data of two cycles.
+   * <p>
+   * Each identifier is only compared once per cycle.
+   */
+  private static final class MarketDataChanges {
+    /**
+     * The market data of the previous cycle.
+     */
+    private final ScenarioMarketData previous;
+    /**
+     * The market data of the current cycle.
+     */
+    private final ScenarioMarketData current;
+    /**
+     * Whether the value of each identifier has changed.
+     */
+    private final Map<MarketDataId<?>, Boolean> changedValues = new HashMap<>();
+    /**
+     * Whether the time-series of each identifier has changed.
+     */
+    private final Map<ObservableId, Boolean> changedTimeSeries = new HashMap<>();
+    /**
+     * Whether each set of requirements is affected by a change.
+     */
+    private final Map<MarketDataRequirements, Boolean> changedRequirements = new HashMap<>();
+
+    private MarketDataChanges(ScenarioMarketData previous, ScenarioMarketData current) {
+      this.previous = previous;
+      this.current = current;
+    }
+
+    // checks if any of the market data in the requirements has changed
+    private boolean isChanged(MarketDataRequirements requirements) {
+      return changedRequirements.computeIfAbsent(requirements, this::checkChanged);
+    }
+
+    private boolean checkChanged(MarketDataRequirements requirements) {
+      return requirements.getObservables().stream().anyMatch(this::isValueChanged) ||
+          requirements.getNonObservables().stream().anyMatch(this::isValueChanged) ||
+          requirements.getTimeSeries().stream().anyMatch(this::isTimeSeriesChanged);
+    }
+
+    private boolean isValueChanged(MarketDataId<?> id) {
+      return changedValues.computeIfAbsent(id, k -> !Objects.equals(previous.findValue(k), current.findValue(k)));
+    }
+
+    private boolean isTimeSeriesChanged(ObservableId id) {
+      return changedTimeSeries.computeIfAbsent(id, k -> !previous.getTimeSeries(k).equals(current.getTimeSeries(k)));
+    }
+  }
+
+}
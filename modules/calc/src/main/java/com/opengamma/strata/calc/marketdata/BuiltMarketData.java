@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -115,6 +116,17 @@ public final class BuiltMarketData
     return underlying.getTimeSeriesFailures();
   }
 
+  /**
+   * Gets the time taken to build each item of market data that was built by a market data function.
+   * <p>
+   * This is intended for diagnostics.
+   * 
+   * @return the build times
+   */
+  public ImmutableMap<MarketDataId<?>, Duration> getBuildTimes() {
+    return underlying.getBuildTimes();
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code BuiltMarketData}.
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -56,7 +57,7 @@ public final class BuiltScenarioMarketData
 
   /** An instance containing no market data. */
   private static final BuiltScenarioMarketData EMPTY = new BuiltScenarioMarketData(
-      ImmutableScenarioMarketData.empty(), ImmutableMap.of(), ImmutableMap.of());
+      ImmutableScenarioMarketData.empty(), ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
 
   /**
    * The underlying market data.
@@ -73,6 +74,13 @@ public final class BuiltScenarioMarketData
    */
   @PropertyDefinition(validate = "notNull", builderType = "Map<? extends MarketDataId<?>, Failure>")
   private final ImmutableMap<MarketDataId<?>, Failure> timeSeriesFailures;
+  /**
+   * The time taken to build each item of market data that was built by a market data function.
+   * <p>
+   * This is intended for diagnostics, and is not included in {@code equals} or {@code hashCode}.
+   */
+  @PropertyDefinition(validate = "notNull", builderType = "Map<? extends MarketDataId<?>, Duration>", equalsHashCodeStyle = "omit")
+  private final ImmutableMap<MarketDataId<?>, Duration> buildTimes;
 
   //-------------------------------------------------------------------------
   /**
@@ -189,17 +197,21 @@ public final class BuiltScenarioMarketData
    * @param underlying  the value of the property, not null
    * @param valueFailures  the value of the property, not null
    * @param timeSeriesFailures  the value of the property, not null
+   * @param buildTimes  the value of the property, not null
    */
   BuiltScenarioMarketData(
       ImmutableScenarioMarketData underlying,
       Map<? extends MarketDataId<?>, Failure> valueFailures,
-      Map<? extends MarketDataId<?>, Failure> timeSeriesFailures) {
+      Map<? extends MarketDataId<?>, Failure> timeSeriesFailures,
+      Map<? extends MarketDataId<?>, Duration> buildTimes) {
     JodaBeanUtils.notNull(underlying, "underlying");
     JodaBeanUtils.notNull(valueFailures, "valueFailures");
     JodaBeanUtils.notNull(timeSeriesFailures, "timeSeriesFailures");
+    JodaBeanUtils.notNull(buildTimes, "buildTimes");
     this.underlying = underlying;
     this.valueFailures = ImmutableMap.copyOf(valueFailures);
     this.timeSeriesFailures = ImmutableMap.copyOf(timeSeriesFailures);
+    this.buildTimes = ImmutableMap.copyOf(buildTimes);
   }
 
   @Override
@@ -234,6 +246,17 @@ public final class BuiltScenarioMarketData
     return timeSeriesFailures;
   }
 
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the time taken to build each item of market data that was built by a market data function.
+   * <p>
+   * This is intended for diagnostics, and is not included in {@code equals} or {@code hashCode}.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<MarketDataId<?>, Duration> getBuildTimes() {
+    return buildTimes;
+  }
+
   //-----------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
@@ -260,11 +283,12 @@ public final class BuiltScenarioMarketData
 
   @Override
   public String toString() {
-    StringBuilder buf = new StringBuilder(128);
+    StringBuilder buf = new StringBuilder(160);
     buf.append("BuiltScenarioMarketData{");
     buf.append("underlying").append('=').append(JodaBeanUtils.toString(underlying)).append(',').append(' ');
     buf.append("valueFailures").append('=').append(JodaBeanUtils.toString(valueFailures)).append(',').append(' ');
-    buf.append("timeSeriesFailures").append('=').append(JodaBeanUtils.toString(timeSeriesFailures));
+    buf.append("timeSeriesFailures").append('=').append(JodaBeanUtils.toString(timeSeriesFailures)).append(',').append(' ');
+    buf.append("buildTimes").append('=').append(JodaBeanUtils.toString(buildTimes));
     buf.append('}');
     return buf.toString();
   }
@@ -296,6 +320,12 @@ public final class BuiltScenarioMarketData
     @SuppressWarnings({"unchecked", "rawtypes" })
     private final MetaProperty<ImmutableMap<MarketDataId<?>, Failure>> timeSeriesFailures = DirectMetaProperty.ofImmutable(
         this, "timeSeriesFailures", BuiltScenarioMarketData.class, (Class) ImmutableMap.class);
+    /**
+     * The meta-property for the {@code buildTimes} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableMap<MarketDataId<?>, Duration>> buildTimes = DirectMetaProperty.ofImmutable(
+        this, "buildTimes", BuiltScenarioMarketData.class, (Class) ImmutableMap.class);
     /**
      * The meta-properties.
      */
@@ -303,7 +333,8 @@ public final class BuiltScenarioMarketData
         this, null,
         "underlying",
         "valueFailures",
-        "timeSeriesFailures");
+        "timeSeriesFailures",
+        "buildTimes");
 
     /**
      * Restricted constructor.
@@ -320,6 +351,8 @@ public final class BuiltScenarioMarketData
           return valueFailures;
         case -1580093459:  // timeSeriesFailures
           return timeSeriesFailures;
+        case -480893576:  // buildTimes
+          return buildTimes;
       }
       return super.metaPropertyGet(propertyName);
     }
@@ -364,6 +397,14 @@ public final class BuiltScenarioMarketData
       return timeSeriesFailures;
     }
 
+    /**
+     * The meta-property for the {@code buildTimes} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableMap<MarketDataId<?>, Duration>> buildTimes() {
+      return buildTimes;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
@@ -374,6 +415,8 @@ public final class BuiltScenarioMarketData
           return ((BuiltScenarioMarketData) bean).getValueFailures();
         case -1580093459:  // timeSeriesFailures
           return ((BuiltScenarioMarketData) bean).getTimeSeriesFailures();
+        case -480893576:  // buildTimes
+          return ((BuiltScenarioMarketData) bean).getBuildTimes();
       }
       return super.propertyGet(bean, propertyName, quiet);
     }
@@ -398,6 +441,7 @@ public final class BuiltScenarioMarketData
     private ImmutableScenarioMarketData underlying;
     private Map<? extends MarketDataId<?>, Failure> valueFailures = ImmutableMap.of();
     private Map<? extends MarketDataId<?>, Failure> timeSeriesFailures = ImmutableMap.of();
+    private Map<? extends MarketDataId<?>, Duration> buildTimes = ImmutableMap.of();
 
     /**
      * Restricted constructor.
@@ -415,6 +459,8 @@ public final class BuiltScenarioMarketData
           return valueFailures;
         case -1580093459:  // timeSeriesFailures
           return timeSeriesFailures;
+        case -480893576:  // buildTimes
+          return buildTimes;
         default:
           throw new NoSuchElementException("Unknown property: " + propertyName);
       }
@@ -433,6 +479,9 @@ public final class BuiltScenarioMarketData
         case -1580093459:  // timeSeriesFailures
           this.timeSeriesFailures = (Map<? extends MarketDataId<?>, Failure>) newValue;
           break;
+        case -480893576:  // buildTimes
+          this.buildTimes = (Map<? extends MarketDataId<?>, Duration>) newValue;
+          break;
         default:
           throw new NoSuchElementException("Unknown property: " + propertyName);
       }
@@ -444,17 +493,19 @@ public final class BuiltScenarioMarketData
       return new BuiltScenarioMarketData(
           underlying,
           valueFailures,
-          timeSeriesFailures);
+          timeSeriesFailures,
+          buildTimes);
     }
 
     //-----------------------------------------------------------------------
     @Override
     public String toString() {
-      StringBuilder buf = new StringBuilder(128);
+      StringBuilder buf = new StringBuilder(160);
       buf.append("BuiltScenarioMarketData.Builder{");
       buf.append("underlying").append('=').append(JodaBeanUtils.toString(underlying)).append(',').append(' ');
       buf.append("valueFailures").append('=').append(JodaBeanUtils.toString(valueFailures)).append(',').append(' ');
-      buf.append("timeSeriesFailures").append('=').append(JodaBeanUtils.toString(timeSeriesFailures));
+      buf.append("timeSeriesFailures").append('=').append(JodaBeanUtils.toString(timeSeriesFailures)).append(',').append(' ');
+      buf.append("buildTimes").append('=').append(JodaBeanUtils.toString(buildTimes));
       buf.append('}');
       return buf.toString();
     }
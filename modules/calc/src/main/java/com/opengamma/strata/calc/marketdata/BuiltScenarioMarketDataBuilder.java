@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +23,8 @@ import com.opengamma.strata.data.scenario.MarketDataBox;
 
 /**
  * A mutable builder for building up {@link BuiltScenarioMarketData} instances.
+ * <p>
+ * The methods of this builder are synchronized, allowing market data to be added by multiple threads.
  */
 final class BuiltScenarioMarketDataBuilder {
 
@@ -43,6 +46,9 @@ final class BuiltScenarioMarketDataBuilder {
   /** Details of failures when building time series of market data values. */
   private final Map<MarketDataId<?>, Failure> timeSeriesFailures = new HashMap<>();
 
+  /** The time taken to build each item of market data, keyed by ID. */
+  private final Map<MarketDataId<?>, Duration> buildTimes = new HashMap<>();
+
   /**
    * Creates a builder pre-populated with the valuation date.
    *
@@ -103,7 +109,7 @@ final class BuiltScenarioMarketDataBuilder {
    * @param <T>  the type of the market data value
    * @return this builder
    */
-  <T> BuiltScenarioMarketDataBuilder addValue(MarketDataId<T> id, T value) {
+  synchronized <T> BuiltScenarioMarketDataBuilder addValue(MarketDataId<T> id, T value) {
     ArgChecker.notNull(id, "id");
     ArgChecker.notNull(value, "value");
     values.put(id, MarketDataBox.ofSingleValue(value));
@@ -119,7 +125,7 @@ final class BuiltScenarioMarketDataBuilder {
    * @param box  the market data box
    * @return this builder
    */
-  BuiltScenarioMarketDataBuilder addBox(MarketDataId<?> id, MarketDataBox<?> box) {
+  synchronized BuiltScenarioMarketDataBuilder addBox(MarketDataId<?> id, MarketDataBox<?> box) {
     ArgChecker.notNull(id, "id");
     ArgChecker.notNull(box, "box");
     updateScenarioCount(box);
@@ -137,7 +143,7 @@ final class BuiltScenarioMarketDataBuilder {
    * @param <T>  the type of the market data value
    * @return this builder
    */
-  <T> BuiltScenarioMarketDataBuilder addResult(MarketDataId<T> id, Result<MarketDataBox<?>> result) {
+  synchronized <T> BuiltScenarioMarketDataBuilder addResult(MarketDataId<T> id, Result<MarketDataBox<?>> result) {
     ArgChecker.notNull(id, "id");
     ArgChecker.notNull(result, "result");
 
@@ -162,7 +168,7 @@ final class BuiltScenarioMarketDataBuilder {
    * @param timeSeries  a time series of observable market data values
    * @return this builder
    */
-  BuiltScenarioMarketDataBuilder addTimeSeries(ObservableId id, LocalDateDoubleTimeSeries timeSeries) {
+  synchronized BuiltScenarioMarketDataBuilder addTimeSeries(ObservableId id, LocalDateDoubleTimeSeries timeSeries) {
     ArgChecker.notNull(id, "id");
     ArgChecker.notNull(timeSeries, "timeSeries");
     this.timeSeries.put(id, timeSeries);
@@ -176,7 +182,7 @@ final class BuiltScenarioMarketDataBuilder {
    * @param result  a time series of observable market data values
    * @return this builder
    */
-  BuiltScenarioMarketDataBuilder addTimeSeriesResult(ObservableId id, Result<LocalDateDoubleTimeSeries> result) {
+  synchronized BuiltScenarioMarketDataBuilder addTimeSeriesResult(ObservableId id, Result<LocalDateDoubleTimeSeries> result) {
     ArgChecker.notNull(id, "id");
     ArgChecker.notNull(result, "result");
 
@@ -190,6 +196,20 @@ final class BuiltScenarioMarketDataBuilder {
     return this;
   }
 
+  /**
+   * Adds the time taken to build an item of market data, replacing any existing time with the same ID.
+   *
+   * @param id  the ID of the market data
+   * @param buildTime  the time taken to build the market data
+   * @return this builder
+   */
+  synchronized BuiltScenarioMarketDataBuilder addBuildTime(MarketDataId<?> id, Duration buildTime) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(buildTime, "buildTime");
+    buildTimes.put(id, buildTime);
+    return this;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data from the data in this builder.
@@ -198,7 +218,7 @@ final class BuiltScenarioMarketDataBuilder {
    *
    * @return a set of market data from the data in this builder
    */
-  BuiltScenarioMarketData build() {
+  synchronized BuiltScenarioMarketData build() {
     if (valuationDate.getScenarioCount() == 0) {
       // This isn't checked in the main class otherwise it would be impossible to have an empty instance
       throw new IllegalArgumentException("Valuation date must be specified");
@@ -206,7 +226,7 @@ final class BuiltScenarioMarketDataBuilder {
     ImmutableScenarioMarketDataBuilder builder = ImmutableScenarioMarketData.builder(valuationDate)
         .addBoxMap(values)
         .addTimeSeriesMap(timeSeries);
-    return new BuiltScenarioMarketData(builder.build(), valueFailures, timeSeriesFailures);
+    return new BuiltScenarioMarketData(builder.build(), valueFailures, timeSeriesFailures, buildTimes);
   }
 
   //-------------------------------------------------------------------------
@@ -6,30 +6,55 @@
 package com.opengamma.strata.calc.marketdata;
 
 import static com.opengamma.strata.collect.Guavate.not;
-import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureException;
 import com.opengamma.strata.collect.result.Result;
-import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.NamedMarketDataId;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * Non-observable market data is built using an executor, which may build independent market data in parallel.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +67,18 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /**
+   * The maximum number of perturbed scenario values held in memory for each item of market data,
+   * or -1 if perturbed values are calculated eagerly.
+   */
+  private final int maxCachedScenarios;
+
+  /** The executor used to fetch batches of observable data and time-series, and to build non-observable market data. */
+  private final Executor executor;
+
+  /** The maximum number of identifiers requested from a provider in one batch. */
+  static final int PROVIDER_BATCH_SIZE = 1000;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +89,64 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, -1);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * optionally calculating perturbed scenario values lazily.
+   * <p>
+   * The market data functions are used to build the market data.
+   * If {@code maxCachedScenarios} is zero or positive, perturbations are applied lazily,
+   * see {@link MarketDataBox#ofLazySingleValue(Object, int)}.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param maxCachedScenarios  the maximum number of perturbed values held in memory for each item of
+   *   market data, -1 to apply perturbations eagerly
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      int maxCachedScenarios) {
+
+    this(observableDataProvider, timeSeriesProvider, functions, maxCachedScenarios, MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * building non-observable market data using an executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each item of non-observable market data is passed to the executor as soon as the market data
+   * it depends on has been built.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param maxCachedScenarios  the maximum number of perturbed values held in memory for each item of
+   *   market data, -1 to apply perturbations eagerly
+   * @param executor  the executor used to build non-observable market data
+   */
+  @SuppressWarnings("unchecked")
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      int maxCachedScenarios,
+      Executor executor) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.maxCachedScenarios = maxCachedScenarios;
+    this.executor = executor;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -103,102 +190,142 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition) {
 
     BuiltScenarioMarketDataBuilder dataBuilder = BuiltScenarioMarketData.builder(suppliedData.getValuationDate());
-    BuiltScenarioMarketData builtData = dataBuilder.build();
 
     // Build a tree of the market data dependencies. The root of the tree represents the calculations.
     // The children of the root represent the market data directly used in the calculations. The children
     // of those nodes represent the market data required to build that data, and so on
     MarketDataNode root = MarketDataNode.buildDependencyTree(requirements, suppliedData, marketDataConfig, functions);
 
-    // The leaf nodes of the dependency tree represent market data with no missing requirements for market data.
-    // This includes:
-    //   * Market data that is already available
-    //   * Observable data whose value can be obtained from a market data provider
-    //   * Market data that can be built from data that is already available
-    //
-    // Therefore the market data represented by the leaf nodes can be built immediately.
+    // The market data in the tree is divided into two parts:
+    //   * Market data with no dependencies that does not need to be built by a market data function.
+    //     This is observable data, time-series and data that is already available in the supplied data.
+    //   * Market data that must be built by a market data function.
     //
-    // Market data building proceeds in multiple steps. The operations in each step are:
-    //   1) Build the market data represented by the leaf nodes of the dependency tree
-    //   2) Create a copy of the dependency tree without the leaf nodes
-    //   3) If the root of new dependency tree has children, go to step 1 with the new tree
+    // The first part is added to the market data before anything is built.
     //
-    // When the tree has no children it indicates all dependencies have been built and the market data
-    // needed for the calculations is available.
+    // The dependencies between the market data in the second part form a graph. Each item of market data
+    // is built as soon as all the market data it depends on has been built. Independent items of market data,
+    // for example curve groups in different currencies, are built concurrently if the executor allows it.
     //
     // The result of this method also contains details of the problems for market data can't be built or found.
 
-    while (!root.isLeaf()) {
-      // Effectively final reference to buildData which can be used in a lambda expression
-      BuiltScenarioMarketData marketData = builtData;
-
-      // The leaves of the dependency tree represent market data with no dependencies that can be built immediately
-      Pair<MarketDataNode, MarketDataRequirements> pair = root.withLeavesRemoved();
-
-      // The requirements contained in the leaf nodes
-      MarketDataRequirements leafRequirements = pair.getSecond();
-
-      // Time series of observable data ------------------------------------------------------------
-
-      // Build any time series that are required but not available
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> marketData.getTimeSeries(id).isEmpty())
-          .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
-
-      // Copy supplied time series to the scenario data
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
+    MarketDataRequirementsBuilder leafRequirementsBuilder = MarketDataRequirements.builder();
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> graph = new LinkedHashMap<>();
+    collectDependencies(root, suppliedData, leafRequirementsBuilder, graph);
+    MarketDataRequirements leafRequirements = leafRequirementsBuilder.build();
+
+    // Time series of observable data ------------------------------------------------------------
+
+    // Request any time series that are required but not available
+    // The time series are requested in batches, adding each batch to the builder as it arrives
+    Set<ObservableId> timeSeriesIds = leafRequirements.getTimeSeries().stream()
+        .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
+        .collect(toImmutableSet());
+    CompletableFuture<Void> timeSeriesProvided = provideInBatches(
+        timeSeriesIds,
+        batch -> MapStream.of(timeSeriesProvider.provideTimeSeries(batch)).forEach(dataBuilder::addTimeSeriesResult));
+
+    // Copy supplied time series to the scenario data
+    leafRequirements.getTimeSeries().stream()
+        .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
+        .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
+
+    // Single values of observable data -----------------------------------------------------------
+
+    // Filter out IDs for the data that is already available
+    Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
+        .filter(not(suppliedData::containsValue))
+        .collect(toImmutableSet());
+
+    // Observable data is built in bulk so it can be efficiently requested from data provider in a few operations
+    // The batches are requested at the same time as the time series
+    CompletableFuture<Void> observablesProvided = provideInBatches(
+        observableIds,
+        batch -> MapStream.of(observableDataProvider.provideObservableData(batch))
+            .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder)));
+
+    // Copy observable data from the supplied data to the builder, applying any matching perturbations
+    leafRequirements.getObservables().stream()
+        .filter(suppliedData::containsValue)
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
+
+    // Copy supplied non-observable data to the scenario data after applying perturbations
+    leafRequirements.getNonObservables().stream()
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
+
+    // Non-observable data -----------------------------------------------------------------------
+
+    join(CompletableFuture.allOf(timeSeriesProvided, observablesProvided));
+    if (!graph.isEmpty()) {
+      new GraphBuild(graph, marketDataConfig, refData, scenarioDefinition, dataBuilder).run();
+    }
+    return dataBuilder.build();
+  }
 
-      // Single values of observable data -----------------------------------------------------------
+  /**
+   * Requests data from a provider in batches, passing each batch to the executor.
+   * <p>
+   * The loader must add the data it is provided to the builder.
+   *
+   * @param ids  the IDs of the data to request
+   * @param loader  requests the data for a batch of IDs from the provider and adds it to the builder
+   * @return a future that completes when all the batches have been added
+   */
+  private CompletableFuture<Void> provideInBatches(Set<ObservableId> ids, Consumer<Set<ObservableId>> loader) {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<?>[] futures = Lists.partition(ImmutableList.copyOf(ids), PROVIDER_BATCH_SIZE).stream()
+        .map(batch -> CompletableFuture.runAsync(() -> loader.accept(ImmutableSet.copyOf(batch)), executor))
+        .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
 
-      // Filter out IDs for the data that is already available
-      Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
-          .filter(not(marketData::containsValue))
-          .filter(not(suppliedData::containsValue))
-          .collect(toImmutableSet());
+  // waits for a future to complete, rethrowing the original exception if it failed
+  private static void join(CompletableFuture<?> future) {
+    try {
+      future.join();
+    } catch (CompletionException ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
+  }
 
-      // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
-      if (!observableIds.isEmpty()) {
-        Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
-        MapStream.of(observableResults)
-            .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
+  /**
+   * Collects the dependencies of the market data in a dependency tree.
+   * <p>
+   * Market data that does not need to be built by a market data function is added to the requirements.
+   * The remaining market data is added to the graph, together with the IDs of the market data in the graph
+   * that it depends on.
+   *
+   * @param node  the node whose dependencies are collected
+   * @param suppliedData  the market data supplied by the user
+   * @param leafRequirements  the builder for the market data that is not built by a function
+   * @param graph  the IDs of the market data that is built by a function, mapped to the IDs it depends on
+   * @return the IDs of the direct dependencies of the node that are in the graph
+   */
+  private static Set<MarketDataId<?>> collectDependencies(
+      MarketDataNode node,
+      ScenarioMarketData suppliedData,
+      MarketDataRequirementsBuilder leafRequirements,
+      Map<MarketDataId<?>, Set<MarketDataId<?>>> graph) {
+
+    Set<MarketDataId<?>> graphDependencies = new HashSet<>();
+    for (MarketDataNode child : node.getDependencies()) {
+      MarketDataId<?> id = child.getId();
+      if (child.getDataType() == MarketDataNode.DataType.TIME_SERIES) {
+        leafRequirements.addTimeSeries((ObservableId) id);
+      } else if (id instanceof ObservableId || suppliedData.containsValue(id)) {
+        leafRequirements.addValues(id);
+      } else {
+        // the same market data can appear many times in the tree, but always has the same dependencies
+        if (!graph.containsKey(id)) {
+          graph.put(id, collectDependencies(child, suppliedData, leafRequirements, graph));
+        }
+        graphDependencies.add(id);
       }
-
-      // Copy observable data from the supplied data to the builder, applying any matching perturbations
-      leafRequirements.getObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
-
-      // Non-observable data -----------------------------------------------------------------------
-
-      // Filter out IDs for the data that is already available and build the rest
-      Set<MarketDataId<?>> nonObservableIds = leafRequirements.getNonObservables().stream()
-          .filter(not(marketData::containsValue))
-          .filter(not(suppliedData::containsValue))
-          .collect(toImmutableSet());
-
-      Map<MarketDataId<?>, Result<MarketDataBox<?>>> nonObservableResults =
-          buildNonObservableData(nonObservableIds, marketDataConfig, marketData, refData);
-
-      MapStream.of(nonObservableResults)
-          .forEach((id, result) -> addResult(id, result, refData, scenarioDefinition, dataBuilder));
-
-      // Copy supplied data to the scenario data after applying perturbations
-      leafRequirements.getNonObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
-
-      // --------------------------------------------------------------------------------------------
-
-      // Put the data built so far into an object that will be used in the next phase of building data
-      builtData = dataBuilder.build();
-
-      // A copy of the dependency tree not including the leaf nodes
-      root = pair.getFirst();
     }
-    return builtData;
+    return graphDependencies;
   }
 
   //-------------------------------------------------------------------------
@@ -215,7 +342,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   private Result<MarketDataBox<?>> buildNonObservableData(
       MarketDataId id,
       MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData suppliedData,
+      ScenarioMarketData suppliedData,
       ReferenceData refData) {
 
     // The raw types in this method are an unfortunate necessity. The type parameters on MarketDataBuilder
@@ -234,44 +361,6 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
-      Set<? extends MarketDataId<?>> ids,
-      MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData marketData,
-      ReferenceData refData) {
-
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
-  }
-
-  /**
-   * Adds an item of market data to a builder.
-   * <p>
-   * If the result is a failure it is added to the list of failures.
-   * <p>
-   * If the result is a success it is passed to {@link #addValue} where the scenario definition is
-   * applied and the data is added to the builder.
-   *
-   * @param id  ID of the market data value
-   * @param valueResult  a result containing the market data value or details of why it couldn't be built
-   * @param scenarioDefinition  definition of a set of scenarios
-   * @param builder  the value or failure details are added to this builder
-   */
-  private void addResult(
-      MarketDataId<?> id,
-      Result<MarketDataBox<?>> valueResult,
-      ReferenceData refData,
-      ScenarioDefinition scenarioDefinition,
-      BuiltScenarioMarketDataBuilder builder) {
-
-    if (valueResult.isFailure()) {
-      builder.addResult(id, valueResult);
-    } else {
-      addValue(id, valueResult.getValue(), refData, scenarioDefinition, builder);
-    }
-  }
-
   /**
    * Adds an item of observable market data to a builder.
    * <p>
@@ -304,13 +393,13 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * <p>
    * The mappings from the scenario definition is applied to the value. If any of the mappings match the value
    * is perturbed and the perturbed values are added to the market data.
+   * If lazy perturbation is enabled, the perturbed value for each scenario is calculated when first used.
    *
    * @param id  ID of the market data value
    * @param value  the market data value
    * @param scenarioDefinition  definition of a set of scenarios
    * @param builder  the market data is added to this builder
    */
-  @SuppressWarnings("unchecked")
   private void addValue(
       MarketDataId<?> id,
       MarketDataBox<?> value,
@@ -318,6 +407,24 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
+    builder.addResult(id, applyScenarios(id, value, refData, scenarioDefinition));
+  }
+
+  /**
+   * Applies the first matching mapping from the scenario definition to an item of market data.
+   *
+   * @param id  ID of the market data value
+   * @param value  the market data value
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @return a result containing the perturbed value, or the value if no mapping matches
+   */
+  @SuppressWarnings("unchecked")
+  private Result<MarketDataBox<?>> applyScenarios(
+      MarketDataId<?> id,
+      MarketDataBox<?> value,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
     Optional<PerturbationMapping<?>> optionalMapping = scenarioDefinition.getMappings().stream()
         .filter(m -> m.matches(id, value, refData))
         .findFirst();
@@ -326,12 +433,285 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       // This is definitely safe because the filter matched the value and the types of the filter and perturbation
       // are compatible
       PerturbationMapping<Object> mapping = (PerturbationMapping<Object>) optionalMapping.get();
-      MarketDataBox<Object> objectValue = ((MarketDataBox<Object>) value);
+      MarketDataBox<Object> objectValue = lazyIfEnabled((MarketDataBox<Object>) value);
       // Result.of() catches any exceptions thrown by the mapping and wraps them in a failure
-      Result<MarketDataBox<?>> result = Result.of(() -> mapping.applyPerturbation(objectValue, refData));
-      builder.addResult(id, result);
-    } else {
-      builder.addBox(id, value);
+      return Result.of(() -> validateIfLazy(objectValue, mapping.applyPerturbation(objectValue, refData)));
+    }
+    return Result.success(value);
+  }
+
+  /**
+   * Validates lazily perturbed values by calculating the value for each scenario.
+   * <p>
+   * This ensures that a perturbation that fails for any scenario results in a failure when the
+   * market data is built, as it does when perturbations are applied eagerly.
+   * The calculated values are not retained beyond the bounded cache of the scenario array.
+   *
+   * @param value  the market data value before perturbation
+   * @param perturbed  the perturbed market data value
+   * @return the perturbed market data value
+   */
+  private static MarketDataBox<?> validateIfLazy(MarketDataBox<?> value, MarketDataBox<?> perturbed) {
+    if (value.isLazy() && perturbed.isScenarioValue()) {
+      ScenarioArray<?> scenarioValues = perturbed.getScenarioValue();
+      for (int i = 0; i < scenarioValues.getScenarioCount(); i++) {
+        scenarioValues.get(i);
+      }
+    }
+    return perturbed;
+  }
+
+  /**
+   * Wraps a single value in a box that applies perturbations lazily, if lazy perturbation is enabled.
+   *
+   * @param value  the market data value
+   * @return the value, in a box that applies perturbations lazily if enabled
+   */
+  private MarketDataBox<Object> lazyIfEnabled(MarketDataBox<Object> value) {
+    if (maxCachedScenarios < 0 || !value.isSingleValue()) {
+      return value;
+    }
+    return MarketDataBox.ofLazySingleValue(value.getSingleValue(), maxCachedScenarios);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the non-observable market data in a dependency graph.
+   * <p>
+   * Each item of market data is passed to the executor once all the market data it depends on has been built.
+   * The market data function receives a read-only view of the market data built so far,
+   * which includes all its dependencies. The view is not copied as each item is built.
+   * <p>
+   * If building fails unexpectedly, the items not yet started are cancelled and the exception is rethrown.
+   */
+  private final class GraphBuild {
+
+    /** The nodes of the graph, keyed by the ID of the market data. */
+    private final Map<MarketDataId<?>, GraphNode> nodes = new LinkedHashMap<>();
+    /** Configuration specifying how the market data should be built. */
+    private final MarketDataConfig marketDataConfig;
+    /** The reference data. */
+    private final ReferenceData refData;
+    /** The scenario definition. */
+    private final ScenarioDefinition scenarioDefinition;
+    /** The builder that receives the market data. */
+    private final BuiltScenarioMarketDataBuilder dataBuilder;
+    /** The view of the market data built so far, passed to the market data functions. */
+    private final GraphMarketData marketData;
+    /** The number of nodes that have not been built. */
+    private final AtomicInteger remaining;
+    /** The tasks passed to the executor, cancelled if building fails. */
+    private final Queue<CompletableFuture<Void>> tasks = new ConcurrentLinkedQueue<>();
+    /** Completed when all the nodes have been built, or exceptionally if building fails unexpectedly. */
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private GraphBuild(
+        Map<MarketDataId<?>, Set<MarketDataId<?>>> graph,
+        MarketDataConfig marketDataConfig,
+        ReferenceData refData,
+        ScenarioDefinition scenarioDefinition,
+        BuiltScenarioMarketDataBuilder dataBuilder) {
+
+      this.marketDataConfig = marketDataConfig;
+      this.refData = refData;
+      this.scenarioDefinition = scenarioDefinition;
+      this.dataBuilder = dataBuilder;
+      this.marketData = new GraphMarketData(dataBuilder.build());
+      this.remaining = new AtomicInteger(graph.size());
+      graph.forEach((id, dependencies) -> nodes.put(id, new GraphNode(id, dependencies.size())));
+      graph.forEach((id, dependencies) -> dependencies.forEach(dep -> nodes.get(dep).dependents.add(nodes.get(id))));
+    }
+
+    // builds all the nodes, returning when complete
+    private void run() {
+      schedule(nodes.values().stream()
+          .filter(node -> node.pendingDependencies.get() == 0)
+          .collect(toImmutableList()));
+      try {
+        done.get();
+      } catch (InterruptedException ex) {
+        fail(ex);
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while building market data", ex);
+      } catch (ExecutionException ex) {
+        Throwables.throwIfUnchecked(ex.getCause());
+        throw new RuntimeException(ex.getCause());
+      }
+    }
+
+    // passes nodes whose dependencies have been built to the executor
+    private void schedule(List<GraphNode> ready) {
+      for (GraphNode node : ready) {
+        if (done.isDone()) {
+          return;
+        }
+        try {
+          tasks.add(CompletableFuture.runAsync(() -> build(node), executor));
+        } catch (RuntimeException ex) {
+          fail(ex);
+        }
+      }
+    }
+
+    // builds a node, then schedules any dependent nodes that are now ready
+    private void build(GraphNode node) {
+      if (done.isDone()) {
+        return;
+      }
+      try {
+        long start = System.nanoTime();
+        Result<MarketDataBox<?>> result = buildNonObservableData(node.id, marketDataConfig, marketData, refData);
+        if (result.isSuccess()) {
+          result = applyScenarios(node.id, result.getValue(), refData, scenarioDefinition);
+        }
+        dataBuilder.addResult(node.id, result);
+        dataBuilder.addBuildTime(node.id, Duration.ofNanos(System.nanoTime() - start));
+        marketData.add(node.id, result);
+
+        List<GraphNode> ready = new ArrayList<>();
+        for (GraphNode dependent : node.dependents) {
+          if (dependent.pendingDependencies.decrementAndGet() == 0) {
+            ready.add(dependent);
+          }
+        }
+        schedule(ready);
+        if (remaining.decrementAndGet() == 0) {
+          done.complete(null);
+        }
+      } catch (RuntimeException | Error ex) {
+        fail(ex);
+      }
+    }
+
+    // stops the build, cancelling the tasks that have not started
+    private void fail(Throwable ex) {
+      done.completeExceptionally(ex);
+      tasks.forEach(task -> task.cancel(false));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A read-only view of the market data available while building the dependency graph.
+   * <p>
+   * This combines the market data that is not built by a function with the market data built so far.
+   * An item is only added once it has been built, and the items it depends on are always added first.
+   */
+  private static final class GraphMarketData implements ScenarioMarketData {
+
+    /** The market data that is not built by a function. */
+    private final BuiltScenarioMarketData baseData;
+    /** The market data built by a function. */
+    private final Map<MarketDataId<?>, MarketDataBox<?>> values = new ConcurrentHashMap<>();
+    /** The failures when building market data using a function. */
+    private final Map<MarketDataId<?>, Failure> valueFailures = new ConcurrentHashMap<>();
+    /** The number of scenarios. */
+    private volatile int scenarioCount;
+
+    private GraphMarketData(BuiltScenarioMarketData baseData) {
+      this.baseData = baseData;
+      this.scenarioCount = baseData.getScenarioCount();
+    }
+
+    // adds the result of building an item of market data, which has already been added to the builder
+    private void add(MarketDataId<?> id, Result<MarketDataBox<?>> result) {
+      if (result.isFailure()) {
+        valueFailures.put(id, result.getFailure());
+        return;
+      }
+      MarketDataBox<?> box = result.getValue();
+      if (box.isScenarioValue()) {
+        // the builder has already checked that the scenario counts match
+        scenarioCount = box.getScenarioCount();
+      } else if (scenarioCount == 0) {
+        scenarioCount = 1;
+      }
+      values.put(id, box);
+    }
+
+    @Override
+    public MarketDataBox<LocalDate> getValuationDate() {
+      return baseData.getValuationDate();
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return scenarioCount;
+    }
+
+    @Override
+    public boolean containsValue(MarketDataId<?> id) {
+      return values.containsKey(id) || baseData.containsValue(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+      MarketDataBox<T> box = (MarketDataBox<T>) values.get(id);
+      if (box != null) {
+        return box;
+      }
+      Failure failure = valueFailures.get(id);
+      if (failure != null) {
+        throw new FailureException(failure);
+      }
+      return baseData.getValue(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+      MarketDataBox<T> box = (MarketDataBox<T>) values.get(id);
+      return box != null ? Optional.of(box) : baseData.findValue(id);
+    }
+
+    @Override
+    public Set<MarketDataId<?>> getIds() {
+      return ImmutableSet.<MarketDataId<?>>builder()
+          .addAll(baseData.getIds())
+          .addAll(values.keySet())
+          .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+      ImmutableSet.Builder<MarketDataId<T>> builder = ImmutableSet.builder();
+      builder.addAll(baseData.findIds(name));
+      values.keySet().stream()
+          .filter(id -> id instanceof NamedMarketDataId)
+          .filter(id -> ((NamedMarketDataId<?>) id).getMarketDataName().equals(name))
+          .forEach(id -> builder.add((MarketDataId<T>) id));
+      return builder.build();
+    }
+
+    @Override
+    public Set<ObservableId> getTimeSeriesIds() {
+      return baseData.getTimeSeriesIds();
+    }
+
+    @Override
+    public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+      return baseData.getTimeSeries(id);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A node in the graph of non-observable market data.
+   */
+  private static final class GraphNode {
+
+    /** The ID of the market data. */
+    private final MarketDataId<?> id;
+    /** The number of dependencies that have not been built. */
+    private final AtomicInteger pendingDependencies;
+    /** The nodes that depend on this node. */
+    private final List<GraphNode> dependents = new ArrayList<>();
+
+    private GraphNode(MarketDataId<?> id, int dependencyCount) {
+      this.id = id;
+      this.pendingDependencies = new AtomicInteger(dependencyCount);
     }
   }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.MoreFiles;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.ObservableSource;
+
+/**
+ * A time-series provider that reads time-series from files in a local directory.
+ * <p>
+ * Each time-series is stored in its own CSV file, with the columns {@code Date} and {@code Value}.
+ * The name of the file is derived from the standard identifier of the observable identifier,
+ * followed by the field name if it is not {@link FieldName#MARKET_VALUE} and the observable source
+ * if it is not {@link ObservableSource#NONE}. Characters that are not safe in a file name are escaped.
+ * Files can be written using {@link #store(ObservableId, LocalDateDoubleTimeSeries)}.
+ * <p>
+ * Each file is read when the time-series is requested. As the market data factory requests time-series
+ * in batches, which may be requested concurrently, a large number of time-series can be read in parallel.
+ * A failure is returned if the file does not exist or cannot be parsed.
+ * <p>
+ * This class is thread-safe, provided that files are not written while they are being read.
+ */
+public final class FileTimeSeriesProvider implements TimeSeriesProvider {
+
+  /**
+   * The header of the date column.
+   */
+  private static final String DATE_HEADER = "Date";
+  /**
+   * The header of the value column.
+   */
+  private static final String VALUE_HEADER = "Value";
+  /**
+   * The hexadecimal digits used when escaping.
+   */
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * The directory containing the files.
+   */
+  private final Path directory;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that reads time-series from the specified directory.
+   *
+   * @param directory  the directory containing the time-series files
+   * @return the time-series provider
+   */
+  public static FileTimeSeriesProvider of(Path directory) {
+    return new FileTimeSeriesProvider(directory);
+  }
+
+  // restricted constructor
+  private FileTimeSeriesProvider(Path directory) {
+    this.directory = ArgChecker.notNull(directory, "directory");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Result<LocalDateDoubleTimeSeries> provideTimeSeries(ObservableId identifier) {
+    Path file = file(identifier);
+    if (!Files.isRegularFile(file)) {
+      return Result.failure(
+          FailureReason.MISSING_DATA,
+          "No time-series file found for '{}' in directory '{}'",
+          identifier,
+          directory);
+    }
+    try {
+      return Result.success(read(file));
+    } catch (RuntimeException ex) {
+      return Result.failure(
+          FailureReason.PARSING,
+          ex,
+          "Unable to read time-series file for '{}': {}",
+          identifier,
+          ex.getMessage());
+    }
+  }
+
+  // reads a time-series from a file
+  private static LocalDateDoubleTimeSeries read(Path file) {
+    CsvFile csv = CsvFile.of(MoreFiles.asCharSource(file, UTF_8), true);
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (CsvRow row : csv.rows()) {
+      builder.put(LocalDate.parse(row.getValue(DATE_HEADER)), Double.parseDouble(row.getValue(VALUE_HEADER)));
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Stores a time-series, replacing any existing time-series for the identifier.
+   * <p>
+   * The file is written to a temporary file, which is then moved into place.
+   *
+   * @param identifier  the market data identifier
+   * @param timeSeries  the time-series to store
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  public void store(ObservableId identifier, LocalDateDoubleTimeSeries timeSeries) {
+    ArgChecker.notNull(identifier, "identifier");
+    ArgChecker.notNull(timeSeries, "timeSeries");
+    Path file = file(identifier);
+    try {
+      Files.createDirectories(directory);
+      Path tempFile = Files.createTempFile(directory, "timeseries", ".tmp");
+      try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+        CsvOutput csv = CsvOutput.standard(writer, "\n");
+        csv.writeLine(ImmutableList.of(DATE_HEADER, VALUE_HEADER));
+        timeSeries.forEach((date, value) -> csv.writeLine(ImmutableList.of(date.toString(), Double.toString(value))));
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the file holding the time-series for an identifier
+  private Path file(ObservableId identifier) {
+    StringBuilder buf = new StringBuilder(identifier.getStandardId().toString());
+    if (!identifier.getFieldName().equals(FieldName.MARKET_VALUE)) {
+      buf.append('@').append(identifier.getFieldName());
+    }
+    if (!identifier.getObservableSource().equals(ObservableSource.NONE)) {
+      buf.append('#').append(identifier.getObservableSource());
+    }
+    return directory.resolve(escape(buf.toString()) + ".csv");
+  }
+
+  // escapes characters that are not safe in a file name, using percent-encoding of the UTF-8 bytes
+  private static String escape(String name) {
+    StringBuilder buf = new StringBuilder(name.length() + 16);
+    for (byte b : name.getBytes(UTF_8)) {
+      char ch = (char) (b & 0xFF);
+      if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+          ch == '-' || ch == '_' || ch == '.' || ch == '~' || ch == '@' || ch == '#') {
+        buf.append(ch);
+      } else {
+        buf.append('%').append(HEX_DIGITS[ch >> 4]).append(HEX_DIGITS[ch & 0xF]);
+      }
+    }
+    return buf.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "FileTimeSeriesProvider[" + directory + "]";
+  }
+
+}
@@ -6,10 +6,12 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -74,6 +76,68 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory that calculates perturbed scenario values lazily.
+   * <p>
+   * The market data functions are used to build the market data.
+   * <p>
+   * When a perturbation is applied to an item of market data with a single value, the perturbed
+   * value for each scenario is calculated the first time it is used, instead of calculating the values
+   * for all scenarios up front. At most {@code maxCachedScenarios} perturbed values are held in memory
+   * for each item of market data; the least recently used values are discarded and recalculated if needed.
+   * This reduces the memory needed to run a large number of scenarios, particularly when the calculations
+   * are run one group of scenarios at a time.
+   * <p>
+   * The perturbed value for each scenario is calculated once when the market data is built, without
+   * being retained, so that a perturbation that fails is reported as a failure in the market data.
+   * The perturbed scenario values are not serializable.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param maxCachedScenarios  the maximum number of perturbed values held in memory for each item of market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory ofLazyScenarios(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      int maxCachedScenarios,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNegative(maxCachedScenarios, "maxCachedScenarios");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, maxCachedScenarios);
+  }
+
+  /**
+   * Obtains an instance of the factory that builds independent market data in parallel.
+   * <p>
+   * The market data functions are used to build the market data.
+   * <p>
+   * The market data dependencies form a graph. Each item of market data is built on the executor
+   * as soon as all the market data it depends on has been built, thus independent items, such as
+   * curve groups in different currencies, are built concurrently. The market data functions must
+   * therefore be thread-safe. The time taken to build each item is available from the result,
+   * see {@link BuiltScenarioMarketData#getBuildTimes()}.
+   * <p>
+   * Observable data and time-series are requested from the providers in batches, which are also
+   * passed to the executor, thus the providers must also be thread-safe.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory ofParallel(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(executor, "executor");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, -1, executor);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
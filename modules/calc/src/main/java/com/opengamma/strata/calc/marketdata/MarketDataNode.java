@@ -12,9 +12,7 @@ import java.util.Objects;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketDataId;
-import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
@@ -122,64 +120,30 @@ final class MarketDataNode {
   }
 
   /**
-   * Returns a copy of the dependency tree without the leaf nodes. It also returns the market data requirements
-   * represented by the leaf nodes.
-   * <p>
-   * The leaf nodes represent market data with no missing requirements for market data. This includes:
-   * <ul>
-   *   <li>Market data that is already available</li>
-   *   <li>Observable data whose value can be obtained from a market data provider</li>
-   *   <li>Market data that can be built from data that is already available</li>
-   * </ul>
-   * Therefore the market data represented by the leaf nodes can be built immediately.
+   * Returns the ID of the market data value represented by this node.
    *
-   * @return a copy of the dependency tree without the leaf nodes and the market data requirements
-   *   represented by the leaf nodes
+   * @return the ID of the market data value represented by this node
    */
-  Pair<MarketDataNode, MarketDataRequirements> withLeavesRemoved() {
-    ImmutableList.Builder<MarketDataNode> childNodesBuilder = ImmutableList.builder();
-    MarketDataRequirementsBuilder requirementsBuilder = MarketDataRequirements.builder();
-
-    for (MarketDataNode child : dependencies) {
-      if (child.isLeaf()) {
-        switch (child.dataType) {
-          case SINGLE_VALUE:
-            requirementsBuilder.addValues(child.id);
-            break;
-          case TIME_SERIES:
-            requirementsBuilder.addTimeSeries(((ObservableId) child.id));
-            break;
-          default:
-            throw new IllegalStateException("Unexpected enum value");
-        }
-      } else {
-        Pair<MarketDataNode, MarketDataRequirements> childResult = child.withLeavesRemoved();
-        childNodesBuilder.add(childResult.getFirst());
-        requirementsBuilder.addRequirements(childResult.getSecond());
-      }
-    }
-    MarketDataNode node = new MarketDataNode(id, dataType, childNodesBuilder.build());
-    MarketDataRequirements requirements = requirementsBuilder.build();
-
-    return Pair.of(node, requirements);
+  public MarketDataId<?> getId() {
+    return id;
   }
 
   /**
-   * Returns true if this node has no children.
+   * Returns the type of the market data represented by this node, null for the root node.
    *
-   * @return true if this node has no children
+   * @return the type of the market data represented by this node
    */
-  boolean isLeaf() {
-    return dependencies.isEmpty();
+  DataType getDataType() {
+    return dataType;
   }
 
   /**
-   * Returns the ID of the market data value represented by this node.
+   * Returns the child nodes identifying the market data required to build the market data in this node.
    *
-   * @return the ID of the market data value represented by this node
+   * @return the child nodes of this node
    */
-  public MarketDataId<?> getId() {
-    return id;
+  List<MarketDataNode> getDependencies() {
+    return dependencies;
   }
 
   /**
@@ -46,6 +46,9 @@ public interface ObservableDataProvider {
    * The implementation will provide market data for each identifier.
    * If market data cannot be obtained for an identifier, a failure will be returned.
    * The returned map must contain one entry for each identifier that was requested.
+   * <p>
+   * When a large number of identifiers is required, the market data factory requests them in batches,
+   * which may be requested concurrently.
    *
    * @param identifiers  the market data identifiers to find
    * @return the map of market data values, keyed by identifier
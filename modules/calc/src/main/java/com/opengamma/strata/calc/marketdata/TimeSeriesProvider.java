@@ -5,6 +5,11 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+
+import java.util.Map;
+import java.util.Set;
+
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ObservableId;
@@ -53,4 +58,23 @@ public interface TimeSeriesProvider {
    */
   public abstract Result<LocalDateDoubleTimeSeries> provideTimeSeries(ObservableId identifier);
 
+  /**
+   * Provides the time-series for the specified identifiers.
+   * <p>
+   * The market data factory requests time-series in batches, so an implementation can fetch
+   * many time-series in a single operation. Batches may be requested concurrently.
+   * If a time-series cannot be obtained for an identifier, a failure will be returned.
+   * The returned map must contain one entry for each identifier that was requested.
+   * <p>
+   * The default implementation invokes {@link #provideTimeSeries(ObservableId)} for each identifier.
+   *
+   * @param identifiers  the market data identifiers to find
+   * @return the map of time-series, keyed by identifier
+   */
+  public default Map<ObservableId, Result<LocalDateDoubleTimeSeries>> provideTimeSeries(
+      Set<? extends ObservableId> identifiers) {
+
+    return identifiers.stream().collect(toImmutableMap(id -> id, this::provideTimeSeries));
+  }
+
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.AggregatedResults;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Mutable state of an aggregation, holding the sum of the results for each group and column.
+ * <p>
+ * The groups of each row are determined once, when the state is created.
+ * Adding a result is then a matter of adding it to the accumulator of each group containing the row.
+ * <p>
+ * This class is not thread-safe.
+ * Separate instances can be used to aggregate different rows in parallel and then merged.
+ */
+final class AggregationState {
+
+  /**
+   * The groups, in the order they were first found.
+   */
+  private final ImmutableList<ImmutableList<String>> groups;
+  /**
+   * The indices of the groups containing each row.
+   */
+  private final int[][] rowGroups;
+  /**
+   * The combiners, keyed by type.
+   */
+  private final Map<Class<?>, BinaryOperator<Object>> combiners;
+  /**
+   * The accumulators, indexed by group and then column, created on demand.
+   */
+  private final ResultAccumulator[][] accumulators;
+  /**
+   * The number of columns.
+   */
+  private final int columnCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the state for the specified targets.
+   * <p>
+   * Each target is in the group at each level of the path returned by the hierarchy function,
+   * and in the top-level group with an empty path.
+   *
+   * @param targets  the targets, one for each row
+   * @param columnCount  the number of columns
+   * @param hierarchy  the function providing the path of the group containing each target
+   * @param combiners  the combiners for types that are not summed by default
+   * @return the state
+   */
+  static AggregationState of(
+      List<? extends CalculationTarget> targets,
+      int columnCount,
+      Function<? super CalculationTarget, ? extends List<String>> hierarchy,
+      Map<Class<?>, BinaryOperator<Object>> combiners) {
+
+    Map<List<String>, Integer> groupIndices = new LinkedHashMap<>();
+    groupIndices.put(ImmutableList.of(), 0);
+    // targets in the same group share the same indices
+    Map<List<String>, int[]> pathGroups = new HashMap<>();
+    int[][] rowGroups = new int[targets.size()][];
+    for (int row = 0; row < targets.size(); row++) {
+      List<String> path = hierarchy.apply(targets.get(row));
+      rowGroups[row] = pathGroups.computeIfAbsent(ImmutableList.copyOf(path), p -> groupIndices(p, groupIndices));
+    }
+    List<ImmutableList<String>> groups = new ArrayList<>(groupIndices.size());
+    groupIndices.keySet().forEach(group -> groups.add(ImmutableList.copyOf(group)));
+    return new AggregationState(ImmutableList.copyOf(groups), rowGroups, combiners, columnCount);
+  }
+
+  // finds the indices of the group at each level of the path, adding groups as necessary
+  private static int[] groupIndices(List<String> path, Map<List<String>, Integer> groupIndices) {
+    int[] indices = new int[path.size() + 1];
+    for (int level = 0; level <= path.size(); level++) {
+      List<String> group = path.subList(0, level);
+      Integer index = groupIndices.get(group);
+      if (index == null) {
+        index = groupIndices.size();
+        groupIndices.put(group, index);
+      }
+      indices[level] = index;
+    }
+    return indices;
+  }
+
+  // creates an instance
+  private AggregationState(
+      ImmutableList<ImmutableList<String>> groups,
+      int[][] rowGroups,
+      Map<Class<?>, BinaryOperator<Object>> combiners,
+      int columnCount) {
+
+    this.groups = groups;
+    this.rowGroups = rowGroups;
+    this.combiners = combiners;
+    this.accumulators = new ResultAccumulator[groups.size()][columnCount];
+    this.columnCount = columnCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty state with the same groups as this state.
+   *
+   * @return the empty state
+   */
+  AggregationState emptyCopy() {
+    return new AggregationState(groups, rowGroups, combiners, columnCount);
+  }
+
+  /**
+   * Gets the number of rows.
+   *
+   * @return the number of rows
+   */
+  int getRowCount() {
+    return rowGroups.length;
+  }
+
+  /**
+   * Adds the result of a single cell to each group containing the row.
+   *
+   * @param rowIndex  the row index
+   * @param columnIndex  the column index
+   * @param result  the result
+   */
+  void add(int rowIndex, int columnIndex, Result<?> result) {
+    for (int group : rowGroups[rowIndex]) {
+      accumulator(group, columnIndex).add(result);
+    }
+  }
+
+  /**
+   * Merges the sums held by another state into this state.
+   * <p>
+   * The other state must have been created using {@link #emptyCopy()}.
+   *
+   * @param other  the other state
+   * @return this state, with the sums merged
+   */
+  AggregationState merge(AggregationState other) {
+    for (int group = 0; group < accumulators.length; group++) {
+      for (int column = 0; column < columnCount; column++) {
+        ResultAccumulator otherAccumulator = other.accumulators[group][column];
+        if (otherAccumulator != null) {
+          accumulator(group, column).merge(otherAccumulator);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Creates the aggregated results.
+   *
+   * @param columns  the column headers
+   * @return the aggregated results
+   */
+  AggregatedResults toAggregatedResults(List<ColumnHeader> columns) {
+    List<Result<?>> cells = new ArrayList<>(groups.size() * columns.size());
+    for (int group = 0; group < accumulators.length; group++) {
+      for (int column = 0; column < columns.size(); column++) {
+        cells.add(accumulator(group, column).result());
+      }
+    }
+    return AggregatedResults.of(groups, columns, cells);
+  }
+
+  // gets the accumulator, creating it if necessary
+  private ResultAccumulator accumulator(int group, int column) {
+    ResultAccumulator accumulator = accumulators[group][column];
+    if (accumulator == null) {
+      accumulator = new ResultAccumulator(combiners);
+      accumulators[group][column] = accumulator;
+    }
+    return accumulator;
+  }
+
+}
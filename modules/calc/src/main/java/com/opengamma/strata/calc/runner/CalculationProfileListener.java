@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+/**
+ * Listener that receives the resources used by each calculation task.
+ * <p>
+ * A calculation task runner with profiling enabled invokes the listener once for each execution of a task,
+ * see {@link CalculationTaskRunnerOptions#getProfileListener()}.
+ * The listener is invoked on the thread that executed the task, immediately after the task completes.
+ * Unlike {@link CalculationListener}, implementations must therefore be thread-safe.
+ * <p>
+ * {@link CalculationProfiler} provides an implementation that aggregates the profiles.
+ */
+@FunctionalInterface
+public interface CalculationProfileListener {
+
+  /**
+   * Invoked when a calculation task has been executed.
+   *
+   * @param profile  the resources used by the task
+   */
+  public abstract void taskProfiled(CalculationTaskProfile profile);
+
+}
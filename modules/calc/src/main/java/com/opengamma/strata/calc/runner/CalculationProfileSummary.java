@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.LongArray;
+
+/**
+ * The aggregated resources used by a group of calculation tasks.
+ * <p>
+ * This is produced by {@link CalculationProfiler}, grouping tasks by function, measure or target type.
+ * <p>
+ * The wall-clock times are also recorded in a histogram with power of two buckets.
+ * The element at index {@code i} is the number of tasks that took at least 2<sup>i</sup> nanoseconds,
+ * but less than 2<sup>i+1</sup> nanoseconds. The element at index zero also includes tasks that took zero time.
+ */
+@BeanDefinition(style = "light")
+public final class CalculationProfileSummary
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The number of tasks.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final long taskCount;
+  /**
+   * The total elapsed wall-clock time of the tasks.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Duration totalWallTime;
+  /**
+   * The total CPU time used by the tasks in nanoseconds, -1 if not supported by the JVM.
+   */
+  @PropertyDefinition
+  private final long totalCpuTimeNanos;
+  /**
+   * The total number of bytes allocated by the tasks, -1 if not supported by the JVM.
+   */
+  @PropertyDefinition
+  private final long totalAllocatedBytes;
+  /**
+   * The longest elapsed wall-clock time of a single task.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Duration maxWallTime;
+  /**
+   * The histogram of the wall-clock times, with 64 power of two buckets.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final LongArray wallTimeHistogram;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param taskCount  the number of tasks
+   * @param totalWallTime  the total elapsed wall-clock time
+   * @param totalCpuTimeNanos  the total CPU time in nanoseconds, -1 if not supported
+   * @param totalAllocatedBytes  the total number of bytes allocated, -1 if not supported
+   * @param maxWallTime  the longest elapsed wall-clock time of a single task
+   * @param wallTimeHistogram  the histogram of the wall-clock times
+   * @return the summary
+   */
+  public static CalculationProfileSummary of(
+      long taskCount,
+      Duration totalWallTime,
+      long totalCpuTimeNanos,
+      long totalAllocatedBytes,
+      Duration maxWallTime,
+      LongArray wallTimeHistogram) {
+
+    ArgChecker.isTrue(wallTimeHistogram.size() == 64, "Histogram must have 64 buckets");
+    return new CalculationProfileSummary(
+        taskCount, totalWallTime, totalCpuTimeNanos, totalAllocatedBytes, maxWallTime, wallTimeHistogram);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the mean elapsed wall-clock time of a task.
+   *
+   * @return the mean wall-clock time, zero if there are no tasks
+   */
+  public Duration getMeanWallTime() {
+    return taskCount == 0 ? Duration.ZERO : totalWallTime.dividedBy(taskCount);
+  }
+
+  /**
+   * Estimates a percentile of the elapsed wall-clock times using the histogram.
+   * <p>
+   * The result is the upper bound of the histogram bucket containing the percentile,
+   * limited to the maximum time. It is therefore at most twice the actual value.
+   *
+   * @param percentile  the percentile, from 0 to 1 inclusive
+   * @return the estimated wall-clock time at the percentile, zero if there are no tasks
+   */
+  public Duration wallTimePercentile(double percentile) {
+    ArgChecker.inRangeInclusive(percentile, 0d, 1d, "percentile");
+    if (taskCount == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max((long) Math.ceil(percentile * taskCount), 1);
+    long cumulative = 0;
+    for (int i = 0; i < wallTimeHistogram.size(); i++) {
+      cumulative += wallTimeHistogram.get(i);
+      if (cumulative >= rank) {
+        long upperBound = i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+        return Duration.ofNanos(Math.min(upperBound, maxWallTime.toNanos()));
+      }
+    }
+    return maxWallTime;
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CalculationProfileSummary}.
+   */
+  private static final TypedMetaBean<CalculationProfileSummary> META_BEAN =
+      LightMetaBean.of(
+          CalculationProfileSummary.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "taskCount",
+              "totalWallTime",
+              "totalCpuTimeNanos",
+              "totalAllocatedBytes",
+              "maxWallTime",
+              "wallTimeHistogram"},
+          new Object[0]);
+
+  /**
+   * The meta-bean for {@code CalculationProfileSummary}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<CalculationProfileSummary> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private CalculationProfileSummary(
+      long taskCount,
+      Duration totalWallTime,
+      long totalCpuTimeNanos,
+      long totalAllocatedBytes,
+      Duration maxWallTime,
+      LongArray wallTimeHistogram) {
+    ArgChecker.notNegative(taskCount, "taskCount");
+    JodaBeanUtils.notNull(totalWallTime, "totalWallTime");
+    JodaBeanUtils.notNull(maxWallTime, "maxWallTime");
+    JodaBeanUtils.notNull(wallTimeHistogram, "wallTimeHistogram");
+    this.taskCount = taskCount;
+    this.totalWallTime = totalWallTime;
+    this.totalCpuTimeNanos = totalCpuTimeNanos;
+    this.totalAllocatedBytes = totalAllocatedBytes;
+    this.maxWallTime = maxWallTime;
+    this.wallTimeHistogram = wallTimeHistogram;
+  }
+
+  @Override
+  public TypedMetaBean<CalculationProfileSummary> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of tasks.
+   * @return the value of the property
+   */
+  public long getTaskCount() {
+    return taskCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total elapsed wall-clock time of the tasks.
+   * @return the value of the property, not null
+   */
+  public Duration getTotalWallTime() {
+    return totalWallTime;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total CPU time used by the tasks in nanoseconds, -1 if not supported by the JVM.
+   * @return the value of the property
+   */
+  public long getTotalCpuTimeNanos() {
+    return totalCpuTimeNanos;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total number of bytes allocated by the tasks, -1 if not supported by the JVM.
+   * @return the value of the property
+   */
+  public long getTotalAllocatedBytes() {
+    return totalAllocatedBytes;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the longest elapsed wall-clock time of a single task.
+   * @return the value of the property, not null
+   */
+  public Duration getMaxWallTime() {
+    return maxWallTime;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the histogram of the wall-clock times, with 64 power of two buckets.
+   * @return the value of the property, not null
+   */
+  public LongArray getWallTimeHistogram() {
+    return wallTimeHistogram;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalculationProfileSummary other = (CalculationProfileSummary) obj;
+      return (taskCount == other.taskCount) &&
+          JodaBeanUtils.equal(totalWallTime, other.totalWallTime) &&
+          (totalCpuTimeNanos == other.totalCpuTimeNanos) &&
+          (totalAllocatedBytes == other.totalAllocatedBytes) &&
+          JodaBeanUtils.equal(maxWallTime, other.maxWallTime) &&
+          JodaBeanUtils.equal(wallTimeHistogram, other.wallTimeHistogram);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(taskCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(totalWallTime);
+    hash = hash * 31 + JodaBeanUtils.hashCode(totalCpuTimeNanos);
+    hash = hash * 31 + JodaBeanUtils.hashCode(totalAllocatedBytes);
+    hash = hash * 31 + JodaBeanUtils.hashCode(maxWallTime);
+    hash = hash * 31 + JodaBeanUtils.hashCode(wallTimeHistogram);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(224);
+    buf.append("CalculationProfileSummary{");
+    buf.append("taskCount").append('=').append(JodaBeanUtils.toString(taskCount)).append(',').append(' ');
+    buf.append("totalWallTime").append('=').append(JodaBeanUtils.toString(totalWallTime)).append(',').append(' ');
+    buf.append("totalCpuTimeNanos").append('=').append(JodaBeanUtils.toString(totalCpuTimeNanos)).append(',').append(' ');
+    buf.append("totalAllocatedBytes").append('=').append(JodaBeanUtils.toString(totalAllocatedBytes)).append(',').append(' ');
+    buf.append("maxWallTime").append('=').append(JodaBeanUtils.toString(maxWallTime)).append(',').append(' ');
+    buf.append("wallTimeHistogram").append('=').append(JodaBeanUtils.toString(wallTimeHistogram));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
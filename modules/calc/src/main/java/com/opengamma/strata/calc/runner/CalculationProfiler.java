@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.array.LongArray;
+
+/**
+ * Profile listener that aggregates the resources used by calculation tasks.
+ * <p>
+ * The profiles are summarized by function, by measure and by target type, identifying
+ * the calculations that use the most time and memory.
+ * A task calculates all the measures for a single target that use the same function,
+ * thus the resources of a task are included in the summary of each of its measures.
+ * <p>
+ * This class is thread-safe. The summaries can be obtained while calculations are running.
+ * <pre>
+ *  CalculationProfiler profiler = CalculationProfiler.create();
+ *  CalculationTaskRunnerOptions options = CalculationTaskRunnerOptions.ofProfileListener(profiler);
+ *  try (CalculationTaskRunner runner = CalculationTaskRunner.of(executor, options)) {
+ *    // run the calculations
+ *  }
+ *  profiler.summaryByFunction().forEach(...);
+ * </pre>
+ */
+public final class CalculationProfiler implements CalculationProfileListener {
+
+  /** The number of buckets in the histograms. */
+  private static final int BUCKETS = 64;
+
+  /** The accumulators for each type of function. */
+  private final Map<Class<?>, Accumulator> byFunction = new ConcurrentHashMap<>();
+  /** The accumulators for each measure. */
+  private final Map<Measure, Accumulator> byMeasure = new ConcurrentHashMap<>();
+  /** The accumulators for each type of target. */
+  private final Map<Class<?>, Accumulator> byTargetType = new ConcurrentHashMap<>();
+  /** The accumulator for all tasks. */
+  private final Accumulator total = new Accumulator();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty profiler.
+   *
+   * @return the profiler
+   */
+  public static CalculationProfiler create() {
+    return new CalculationProfiler();
+  }
+
+  // restricted constructor
+  private CalculationProfiler() {
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void taskProfiled(CalculationTaskProfile profile) {
+    total.add(profile);
+    byFunction.computeIfAbsent(profile.getFunctionType(), k -> new Accumulator()).add(profile);
+    byTargetType.computeIfAbsent(profile.getTargetType(), k -> new Accumulator()).add(profile);
+    for (Measure measure : profile.getMeasures()) {
+      byMeasure.computeIfAbsent(measure, k -> new Accumulator()).add(profile);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the summary of all tasks.
+   *
+   * @return the summary of all tasks
+   */
+  public CalculationProfileSummary summary() {
+    return total.summary();
+  }
+
+  /**
+   * Returns the summary of the tasks for each type of function.
+   *
+   * @return the summaries, keyed by the type of the function
+   */
+  public ImmutableMap<Class<?>, CalculationProfileSummary> summaryByFunction() {
+    return summaries(byFunction);
+  }
+
+  /**
+   * Returns the summary of the tasks for each measure.
+   *
+   * @return the summaries, keyed by measure
+   */
+  public ImmutableMap<Measure, CalculationProfileSummary> summaryByMeasure() {
+    return summaries(byMeasure);
+  }
+
+  /**
+   * Returns the summary of the tasks for each type of target.
+   *
+   * @return the summaries, keyed by the type of the target
+   */
+  public ImmutableMap<Class<?>, CalculationProfileSummary> summaryByTargetType() {
+    return summaries(byTargetType);
+  }
+
+  // summarizes each accumulator
+  private static <K> ImmutableMap<K, CalculationProfileSummary> summaries(Map<K, Accumulator> accumulators) {
+    ImmutableMap.Builder<K, CalculationProfileSummary> builder = ImmutableMap.builder();
+    accumulators.forEach((key, accumulator) -> builder.put(key, accumulator.summary()));
+    return builder.build();
+  }
+
+  @Override
+  public String toString() {
+    return "CalculationProfiler[" + total.summary().getTaskCount() + " tasks]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Accumulates the resources used by a group of tasks.
+   */
+  private static final class Accumulator {
+
+    private long taskCount;
+    private long totalWallNanos;
+    private long totalCpuNanos;
+    private long totalAllocatedBytes;
+    private long maxWallNanos;
+    private final long[] histogram = new long[BUCKETS];
+
+    // adds a profile
+    private synchronized void add(CalculationTaskProfile profile) {
+      long wallNanos = profile.getWallTime().toNanos();
+      taskCount++;
+      totalWallNanos += wallNanos;
+      if (totalCpuNanos >= 0) {
+        totalCpuNanos = profile.getCpuTimeNanos() < 0 ? -1 : totalCpuNanos + profile.getCpuTimeNanos();
+      }
+      if (totalAllocatedBytes >= 0) {
+        totalAllocatedBytes = profile.getAllocatedBytes() < 0 ? -1 : totalAllocatedBytes + profile.getAllocatedBytes();
+      }
+      maxWallNanos = Math.max(maxWallNanos, wallNanos);
+      histogram[wallNanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(wallNanos)]++;
+    }
+
+    // summarizes the profiles added so far
+    private synchronized CalculationProfileSummary summary() {
+      return CalculationProfileSummary.of(
+          taskCount,
+          Duration.ofNanos(totalWallNanos),
+          totalCpuNanos,
+          totalAllocatedBytes,
+          Duration.ofNanos(maxWallNanos),
+          LongArray.copyOf(histogram));
+    }
+  }
+
+}
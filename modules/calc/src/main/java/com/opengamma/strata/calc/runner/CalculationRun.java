@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A handle on an asynchronous run of calculations.
+ * <p>
+ * This is returned by
+ * {@link CalculationTaskRunner#calculateMultiScenarioAsync(CalculationTasks, com.opengamma.strata.data.scenario.ScenarioMarketData,
+ * com.opengamma.strata.basics.ReferenceData, CalculationListener, CalculationRunOptions)}.
+ * It reports the progress of the run and allows the run to be cancelled.
+ * <p>
+ * When a run is cancelled, or its deadline passes, tasks that have not started are not executed.
+ * Instead, the listener receives a failure for each of their cells, such that the listener is still
+ * invoked for every cell and {@link CalculationListener#calculationsComplete()} is still invoked.
+ * Tasks that have already started are not interrupted.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class CalculationRun {
+
+  /**
+   * The number of tasks in the run.
+   */
+  private final int taskCount;
+  /**
+   * The deadline, as a value of {@link System#nanoTime()}, only valid if {@code hasDeadline} is true.
+   */
+  private final long deadlineNanos;
+  /**
+   * Whether there is a deadline.
+   */
+  private final boolean hasDeadline;
+  /**
+   * The number of tasks whose results have been passed to the listener.
+   */
+  private final AtomicInteger completedTaskCount = new AtomicInteger();
+  /**
+   * The reason the run was stopped, null while the run is active.
+   */
+  private final AtomicReference<String> stopReason = new AtomicReference<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param taskCount  the number of tasks in the run
+   * @param options  the options of the run
+   */
+  CalculationRun(int taskCount, CalculationRunOptions options) {
+    this.taskCount = ArgChecker.notNegative(taskCount, "taskCount");
+    this.hasDeadline = options.getDeadline().isPresent();
+    this.deadlineNanos = hasDeadline ?
+        System.nanoTime() + saturatedNanos(Duration.between(Instant.now(), options.getDeadline().get())) :
+        0;
+  }
+
+  // converts a duration to nanoseconds, avoiding overflow
+  private static long saturatedNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException ex) {
+      return duration.isNegative() ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of tasks in the run.
+   *
+   * @return the number of tasks
+   */
+  public int getTaskCount() {
+    return taskCount;
+  }
+
+  /**
+   * Gets the number of tasks whose results have been passed to the listener.
+   * <p>
+   * This includes tasks that were not executed because the run was cancelled.
+   *
+   * @return the number of completed tasks
+   */
+  public int getCompletedTaskCount() {
+    return completedTaskCount.get();
+  }
+
+  /**
+   * Checks if the results of all tasks have been passed to the listener.
+   *
+   * @return true if the run is complete
+   */
+  public boolean isDone() {
+    return completedTaskCount.get() == taskCount;
+  }
+
+  /**
+   * Cancels the run.
+   * <p>
+   * Tasks that have not started will not be executed, and the listener will receive failures instead.
+   * This has no effect if the run has already been cancelled or is complete.
+   */
+  public void cancel() {
+    stop("Calculation cancelled");
+  }
+
+  /**
+   * Checks if the run has been cancelled, either explicitly or because the deadline has passed.
+   *
+   * @return true if the run has been cancelled
+   */
+  public boolean isCancelled() {
+    isActive();
+    return stopReason.get() != null;
+  }
+
+  @Override
+  public String toString() {
+    String reason = stopReason.get();
+    return "CalculationRun[" + completedTaskCount.get() + "/" + taskCount + (reason != null ? ", " + reason : "") + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // checks if tasks should still be executed, stopping the run if the deadline has passed
+  boolean isActive() {
+    if (stopReason.get() != null) {
+      return false;
+    }
+    if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+      stop("Calculation deadline exceeded");
+      return false;
+    }
+    return true;
+  }
+
+  // gets the reason the run was stopped, null if active
+  String getStopReason() {
+    return stopReason.get();
+  }
+
+  // records that the results of a task have been passed to the listener
+  void taskCompleted() {
+    completedTaskCount.incrementAndGet();
+  }
+
+  // records that the results of all tasks have been passed to the listener
+  void allTasksCompleted() {
+    completedTaskCount.set(taskCount);
+  }
+
+  // stops the run, unless already stopped
+  private void stop(String reason) {
+    if (!isDone()) {
+      stopReason.compareAndSet(null, reason);
+    }
+  }
+
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Options controlling an asynchronous run of calculations.
+ * <p>
+ * These options are passed to
+ * {@link CalculationTaskRunner#calculateMultiScenarioAsync(CalculationTasks, com.opengamma.strata.data.scenario.ScenarioMarketData,
+ * com.opengamma.strata.basics.ReferenceData, CalculationListener, CalculationRunOptions)}.
+ */
+@BeanDefinition
+public final class CalculationRunOptions
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The default options, with no limit on the number of tasks in flight and no deadline.
+   */
+  public static final CalculationRunOptions DEFAULT = CalculationRunOptions.builder().build();
+
+  /**
+   * The maximum number of tasks in flight, zero if unlimited.
+   * <p>
+   * A task is in flight from when it is passed to the executor until its results have been passed to the listener.
+   * When the limit is reached, no further tasks are passed to the executor until the listener has received
+   * the results of an earlier task. This limits the number of results held in memory when the listener is slow.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int maxTasksInFlight;
+  /**
+   * The deadline of the run, optional.
+   * <p>
+   * If the deadline passes before the run is complete, the run is cancelled.
+   * Tasks that have already started are not interrupted.
+   */
+  @PropertyDefinition(get = "optional")
+  private final Instant deadline;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with a limit on the number of tasks in flight.
+   *
+   * @param maxTasksInFlight  the maximum number of tasks in flight, zero if unlimited
+   * @return the options
+   */
+  public static CalculationRunOptions ofMaxTasksInFlight(int maxTasksInFlight) {
+    return CalculationRunOptions.builder().maxTasksInFlight(maxTasksInFlight).build();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CalculationRunOptions}.
+   * @return the meta-bean, not null
+   */
+  public static CalculationRunOptions.Meta meta() {
+    return CalculationRunOptions.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(CalculationRunOptions.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Returns a builder used to create an instance of the bean.
+   * @return the builder, not null
+   */
+  public static CalculationRunOptions.Builder builder() {
+    return new CalculationRunOptions.Builder();
+  }
+
+  private CalculationRunOptions(
+      int maxTasksInFlight,
+      Instant deadline) {
+    ArgChecker.notNegative(maxTasksInFlight, "maxTasksInFlight");
+    this.maxTasksInFlight = maxTasksInFlight;
+    this.deadline = deadline;
+  }
+
+  @Override
+  public CalculationRunOptions.Meta metaBean() {
+    return CalculationRunOptions.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the maximum number of tasks in flight, zero if unlimited.
+   * <p>
+   * A task is in flight from when it is passed to the executor until its results have been passed to the listener.
+   * When the limit is reached, no further tasks are passed to the executor until the listener has received
+   * the results of an earlier task. This limits the number of results held in memory when the listener is slow.
+   * @return the value of the property
+   */
+  public int getMaxTasksInFlight() {
+    return maxTasksInFlight;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the deadline of the run, optional.
+   * <p>
+   * If the deadline passes before the run is complete, the run is cancelled.
+   * Tasks that have already started are not interrupted.
+   * @return the optional value of the property, not null
+   */
+  public Optional<Instant> getDeadline() {
+    return Optional.ofNullable(deadline);
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Returns a builder that allows this bean to be mutated.
+   * @return the mutable builder, not null
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalculationRunOptions other = (CalculationRunOptions) obj;
+      return (maxTasksInFlight == other.maxTasksInFlight) &&
+          JodaBeanUtils.equal(deadline, other.deadline);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(maxTasksInFlight);
+    hash = hash * 31 + JodaBeanUtils.hashCode(deadline);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("CalculationRunOptions{");
+    buf.append("maxTasksInFlight").append('=').append(JodaBeanUtils.toString(maxTasksInFlight)).append(',').append(' ');
+    buf.append("deadline").append('=').append(JodaBeanUtils.toString(deadline));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CalculationRunOptions}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code maxTasksInFlight} property.
+     */
+    private final MetaProperty<Integer> maxTasksInFlight = DirectMetaProperty.ofImmutable(
+        this, "maxTasksInFlight", CalculationRunOptions.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code deadline} property.
+     */
+    private final MetaProperty<Instant> deadline = DirectMetaProperty.ofImmutable(
+        this, "deadline", CalculationRunOptions.class, Instant.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "maxTasksInFlight",
+        "deadline");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1805046625:  // maxTasksInFlight
+          return maxTasksInFlight;
+        case 503634520:  // deadline
+          return deadline;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public CalculationRunOptions.Builder builder() {
+      return new CalculationRunOptions.Builder();
+    }
+
+    @Override
+    public Class<? extends CalculationRunOptions> beanType() {
+      return CalculationRunOptions.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code maxTasksInFlight} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> maxTasksInFlight() {
+      return maxTasksInFlight;
+    }
+
+    /**
+     * The meta-property for the {@code deadline} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Instant> deadline() {
+      return deadline;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1805046625:  // maxTasksInFlight
+          return ((CalculationRunOptions) bean).getMaxTasksInFlight();
+        case 503634520:  // deadline
+          return ((CalculationRunOptions) bean).deadline;
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CalculationRunOptions}.
+   */
+  public static final class Builder extends DirectFieldsBeanBuilder<CalculationRunOptions> {
+
+    private int maxTasksInFlight;
+    private Instant deadline;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    /**
+     * Restricted copy constructor.
+     * @param beanToCopy  the bean to copy from, not null
+     */
+    private Builder(CalculationRunOptions beanToCopy) {
+      this.maxTasksInFlight = beanToCopy.getMaxTasksInFlight();
+      this.deadline = beanToCopy.deadline;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1805046625:  // maxTasksInFlight
+          return maxTasksInFlight;
+        case 503634520:  // deadline
+          return deadline;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1805046625:  // maxTasksInFlight
+          this.maxTasksInFlight = (Integer) newValue;
+          break;
+        case 503634520:  // deadline
+          this.deadline = (Instant) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public CalculationRunOptions build() {
+      return new CalculationRunOptions(
+          maxTasksInFlight,
+          deadline);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the maximum number of tasks in flight, zero if unlimited.
+     * <p>
+     * A task is in flight from when it is passed to the executor until its results have been passed to the listener.
+     * When the limit is reached, no further tasks are passed to the executor until the listener has received
+     * the results of an earlier task. This limits the number of results held in memory when the listener is slow.
+     * @param maxTasksInFlight  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder maxTasksInFlight(int maxTasksInFlight) {
+      ArgChecker.notNegative(maxTasksInFlight, "maxTasksInFlight");
+      this.maxTasksInFlight = maxTasksInFlight;
+      return this;
+    }
+
+    /**
+     * Sets the deadline of the run, optional.
+     * <p>
+     * If the deadline passes before the run is complete, the run is cancelled.
+     * Tasks that have already started are not interrupted.
+     * @param deadline  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder deadline(Instant deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("CalculationRunOptions.Builder{");
+      buf.append("maxTasksInFlight").append('=').append(JodaBeanUtils.toString(maxTasksInFlight)).append(',').append(' ');
+      buf.append("deadline").append('=').append(JodaBeanUtils.toString(deadline));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -203,15 +203,26 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
+    return execute(ScenarioFxRateProviders.of(marketData), refData);
+  }
+
+  /**
+   * Executes the task, sharing the FX rate providers with other tasks.
+   * <p>
+   * The market data is obtained from the FX rate providers.
+   * Sharing the providers allows the FX rates used to convert the results to be looked up once for all tasks.
+   *
+   * @param fxRateProviders  the FX rate providers, including the market data used in the calculation
+   * @param refData  the reference data
+   * @return results of the calculation, one for every scenario in the market data
+   */
+  CalculationResults execute(ScenarioFxRateProviders fxRateProviders, ReferenceData refData) {
     // calculate the results
-    Map<Measure, Result<?>> results = calculate(marketData, refData);
+    Map<Measure, Result<?>> results = calculate(fxRateProviders.getMarketData(), refData);
 
     // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
-        .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
-        .orElse(ScenarioFxRateProvider.of(marketData));
+    ScenarioFxRateProvider fxProvider = fxRateProviders.provider(parameters);
 
     // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Set;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The resources used by a single execution of a calculation task.
+ * <p>
+ * This is produced by a calculation task runner that has profiling enabled,
+ * see {@link CalculationTaskRunnerOptions#getProfileListener()}.
+ * A task calculates all the measures for a single target that use the same function,
+ * thus the resources cannot be split between the measures.
+ */
+@BeanDefinition(style = "light")
+public final class CalculationTaskProfile
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The row index of the target in the grid of results.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int rowIndex;
+  /**
+   * The type of the target, such as the trade type.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Class<?> targetType;
+  /**
+   * The type of the function that performed the calculation.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Class<?> functionType;
+  /**
+   * The measures calculated by the task.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableSet<Measure> measures;
+  /**
+   * The number of scenarios calculated by the task.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int scenarioCount;
+  /**
+   * The elapsed wall-clock time.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Duration wallTime;
+  /**
+   * The CPU time used by the thread executing the task, in nanoseconds.
+   * <p>
+   * This is -1 if the JVM does not support measuring thread CPU time.
+   */
+  @PropertyDefinition
+  private final long cpuTimeNanos;
+  /**
+   * The number of bytes allocated by the thread executing the task.
+   * <p>
+   * This is -1 if the JVM does not support measuring thread allocation.
+   */
+  @PropertyDefinition
+  private final long allocatedBytes;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param rowIndex  the row index of the target
+   * @param targetType  the type of the target
+   * @param functionType  the type of the function
+   * @param measures  the measures calculated by the task
+   * @param scenarioCount  the number of scenarios
+   * @param wallTime  the elapsed wall-clock time
+   * @param cpuTimeNanos  the CPU time in nanoseconds, -1 if not supported
+   * @param allocatedBytes  the number of bytes allocated, -1 if not supported
+   * @return the profile
+   */
+  public static CalculationTaskProfile of(
+      int rowIndex,
+      Class<?> targetType,
+      Class<?> functionType,
+      Set<Measure> measures,
+      int scenarioCount,
+      Duration wallTime,
+      long cpuTimeNanos,
+      long allocatedBytes) {
+
+    return new CalculationTaskProfile(
+        rowIndex, targetType, functionType, measures, scenarioCount, wallTime, cpuTimeNanos, allocatedBytes);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CalculationTaskProfile}.
+   */
+  private static final TypedMetaBean<CalculationTaskProfile> META_BEAN =
+      LightMetaBean.of(
+          CalculationTaskProfile.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "rowIndex",
+              "targetType",
+              "functionType",
+              "measures",
+              "scenarioCount",
+              "wallTime",
+              "cpuTimeNanos",
+              "allocatedBytes"},
+          0,
+          null,
+          null,
+          ImmutableSet.of(),
+          0,
+          null,
+          0L,
+          0L);
+
+  /**
+   * The meta-bean for {@code CalculationTaskProfile}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<CalculationTaskProfile> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private CalculationTaskProfile(
+      int rowIndex,
+      Class<?> targetType,
+      Class<?> functionType,
+      Set<Measure> measures,
+      int scenarioCount,
+      Duration wallTime,
+      long cpuTimeNanos,
+      long allocatedBytes) {
+    ArgChecker.notNegative(rowIndex, "rowIndex");
+    JodaBeanUtils.notNull(targetType, "targetType");
+    JodaBeanUtils.notNull(functionType, "functionType");
+    JodaBeanUtils.notNull(measures, "measures");
+    ArgChecker.notNegative(scenarioCount, "scenarioCount");
+    JodaBeanUtils.notNull(wallTime, "wallTime");
+    this.rowIndex = rowIndex;
+    this.targetType = targetType;
+    this.functionType = functionType;
+    this.measures = ImmutableSet.copyOf(measures);
+    this.scenarioCount = scenarioCount;
+    this.wallTime = wallTime;
+    this.cpuTimeNanos = cpuTimeNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  @Override
+  public TypedMetaBean<CalculationTaskProfile> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the row index of the target in the grid of results.
+   * @return the value of the property
+   */
+  public int getRowIndex() {
+    return rowIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the type of the target, such as the trade type.
+   * @return the value of the property, not null
+   */
+  public Class<?> getTargetType() {
+    return targetType;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the type of the function that performed the calculation.
+   * @return the value of the property, not null
+   */
+  public Class<?> getFunctionType() {
+    return functionType;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the measures calculated by the task.
+   * @return the value of the property, not null
+   */
+  public ImmutableSet<Measure> getMeasures() {
+    return measures;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios calculated by the task.
+   * @return the value of the property
+   */
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the elapsed wall-clock time.
+   * @return the value of the property, not null
+   */
+  public Duration getWallTime() {
+    return wallTime;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the CPU time used by the thread executing the task, in nanoseconds.
+   * <p>
+   * This is -1 if the JVM does not support measuring thread CPU time.
+   * @return the value of the property
+   */
+  public long getCpuTimeNanos() {
+    return cpuTimeNanos;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of bytes allocated by the thread executing the task.
+   * <p>
+   * This is -1 if the JVM does not support measuring thread allocation.
+   * @return the value of the property
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalculationTaskProfile other = (CalculationTaskProfile) obj;
+      return (rowIndex == other.rowIndex) &&
+          JodaBeanUtils.equal(targetType, other.targetType) &&
+          JodaBeanUtils.equal(functionType, other.functionType) &&
+          JodaBeanUtils.equal(measures, other.measures) &&
+          (scenarioCount == other.scenarioCount) &&
+          JodaBeanUtils.equal(wallTime, other.wallTime) &&
+          (cpuTimeNanos == other.cpuTimeNanos) &&
+          (allocatedBytes == other.allocatedBytes);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(rowIndex);
+    hash = hash * 31 + JodaBeanUtils.hashCode(targetType);
+    hash = hash * 31 + JodaBeanUtils.hashCode(functionType);
+    hash = hash * 31 + JodaBeanUtils.hashCode(measures);
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(wallTime);
+    hash = hash * 31 + JodaBeanUtils.hashCode(cpuTimeNanos);
+    hash = hash * 31 + JodaBeanUtils.hashCode(allocatedBytes);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(288);
+    buf.append("CalculationTaskProfile{");
+    buf.append("rowIndex").append('=').append(JodaBeanUtils.toString(rowIndex)).append(',').append(' ');
+    buf.append("targetType").append('=').append(JodaBeanUtils.toString(targetType)).append(',').append(' ');
+    buf.append("functionType").append('=').append(JodaBeanUtils.toString(functionType)).append(',').append(' ');
+    buf.append("measures").append('=').append(JodaBeanUtils.toString(measures)).append(',').append(' ');
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+    buf.append("wallTime").append('=').append(JodaBeanUtils.toString(wallTime)).append(',').append(' ');
+    buf.append("cpuTimeNanos").append('=').append(JodaBeanUtils.toString(cpuTimeNanos)).append(',').append(' ');
+    buf.append("allocatedBytes").append('=').append(JodaBeanUtils.toString(allocatedBytes));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
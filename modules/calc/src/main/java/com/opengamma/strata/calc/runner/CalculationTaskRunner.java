@@ -8,9 +8,11 @@ package com.opengamma.strata.calc.runner;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -67,6 +69,35 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a calculation task runner that executes each task on a virtual thread.
+   * <p>
+   * This is intended for calculations where the market data performs blocking lookups, such as
+   * {@code MarketData} implementations that load values lazily from a cache server.
+   * While a task is blocked, its carrier thread is free to execute other tasks, thus I/O is overlapped
+   * with pricing. The number of carrier threads, and hence the CPU parallelism, is controlled by the JVM
+   * and defaults to the number of available processors.
+   * <p>
+   * The maximum number of concurrent tasks limits the number of calculations in progress at any one time,
+   * including those blocked on I/O, which bounds the memory used by intermediate state.
+   * On a JVM without virtual threads, the tasks run on a pool of daemon platform threads whose size is
+   * the maximum number of concurrent tasks, or the number of available processors if not limited.
+   * <p>
+   * Closing the runner waits for all submitted tasks to complete, thus it must not be closed from a task.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofVirtualThreads(200)) {
+   *    // use the runner
+   *  }
+   * </pre>
+   *
+   * @param maxConcurrentTasks  the maximum number of tasks that run at once, zero for no limit
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofVirtualThreads(int maxConcurrentTasks) {
+    return DefaultCalculationTaskRunner.ofVirtualThreads(maxConcurrentTasks);
+  }
+
   /**
    * Creates a calculation task runner capable of performing calculations, specifying the executor.
    * <p>
@@ -79,6 +110,22 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and options.
+   * <p>
+   * The options control whether the scenarios are calculated in groups and whether the calculations are profiled.
+   * See {@link CalculationTaskRunnerOptions} for details.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param options  the options controlling how the tasks are executed
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, CalculationTaskRunnerOptions options) {
+    return DefaultCalculationTaskRunner.of(executor, options);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -161,6 +208,57 @@ public interface CalculationTaskRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations asynchronously for multiple scenarios, each with a different set of market data,
+   * invoking a listener as each calculation completes and returning a handle on the run.
+   * <p>
+   * This is the same as
+   * {@link #calculateMultiScenarioAsync(CalculationTasks, ScenarioMarketData, ReferenceData, CalculationListener)},
+   * but the options can limit the number of tasks in flight and set a deadline.
+   * The returned handle reports progress and can be used to cancel the run, for example if the market data
+   * has been superseded. If the run is cancelled, the listener receives failures for the tasks not yet started.
+   * The limit on the number of tasks in flight is not applied when the scenarios are calculated in groups.
+   * <p>
+   * The default implementation ignores the options and delegates to
+   * {@link #calculateMultiScenarioAsync(CalculationTasks, ScenarioMarketData, ReferenceData, CalculationListener)}.
+   * The handle only reports the run as done once all the calculations are complete, and cancelling it has no effect
+   * on the calculations. Implementations should override this method to support the options.
+   *
+   * @param tasks  the calculation tasks to invoke
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param options  the options controlling the run
+   * @return the handle on the run
+   */
+  public default CalculationRun calculateMultiScenarioAsync(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      CalculationRunOptions options) {
+
+    CalculationRun run = new CalculationRun(tasks.getTasks().size(), CalculationRunOptions.DEFAULT);
+    calculateMultiScenarioAsync(tasks, marketData, refData, new CalculationListener() {
+      @Override
+      public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+        listener.calculationsStarted(targets, columns);
+      }
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+        listener.resultReceived(target, result);
+      }
+
+      @Override
+      public void calculationsComplete() {
+        run.allTasksCompleted();
+        listener.calculationsComplete();
+      }
+    });
+    return run;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Closes any resources held by the component.
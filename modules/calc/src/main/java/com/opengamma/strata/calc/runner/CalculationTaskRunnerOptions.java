@@ -0,0 +1,420 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Options controlling how a calculation task runner executes tasks.
+ * <p>
+ * These options are passed to
+ * {@link CalculationTaskRunner#of(java.util.concurrent.ExecutorService, CalculationTaskRunnerOptions)}.
+ * The options can be combined, for example to profile a calculation that is performed for groups of scenarios.
+ */
+@BeanDefinition
+public final class CalculationTaskRunnerOptions
+    implements ImmutableBean {
+
+  /**
+   * The default options, with all scenarios calculated at once and no profiling.
+   */
+  public static final CalculationTaskRunnerOptions DEFAULT = CalculationTaskRunnerOptions.builder().build();
+
+  /**
+   * The maximum number of scenarios passed to a task in one execution, zero if unlimited.
+   * <p>
+   * By default, each task is executed once with the market data for all scenarios.
+   * If a limit is set, the scenarios are split into consecutive groups with at most this number of scenarios.
+   * All tasks are executed for the first group before any task is executed for the second group, and so on.
+   * The results for each group are combined, such that the results are the same as if all scenarios
+   * had been calculated at once.
+   * <p>
+   * This reduces the amount of memory needed when calculating a large number of scenarios, at the
+   * cost of repeating any work that a calculation shares between scenarios once for each group.
+   * It is most effective when the scenario market data is created lazily, such that the data for
+   * a scenario is only held in memory while the group containing it is being calculated.
+   * With the asynchronous methods, results are only passed to the listener once all groups are complete.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int scenarioChunkSize;
+  /**
+   * The listener that receives the resources used by each task, optional.
+   * <p>
+   * If present, the wall-clock time, CPU time and bytes allocated by each execution of a task are measured
+   * and passed to the listener, on the thread that executed the task.
+   * Use {@link CalculationProfiler} to aggregate the profiles by function, measure and target type.
+   * The CPU time and allocation are only measured if supported by the JVM.
+   */
+  @PropertyDefinition(get = "optional")
+  private final CalculationProfileListener profileListener;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that performs calculations for groups of scenarios in turn.
+   *
+   * @param scenarioChunkSize  the maximum number of scenarios in each group
+   * @return the options
+   */
+  public static CalculationTaskRunnerOptions ofScenarioChunkSize(int scenarioChunkSize) {
+    ArgChecker.notNegativeOrZero(scenarioChunkSize, "scenarioChunkSize");
+    return CalculationTaskRunnerOptions.builder().scenarioChunkSize(scenarioChunkSize).build();
+  }
+
+  /**
+   * Obtains an instance that profiles the calculations.
+   *
+   * @param profileListener  the listener that receives the resources used by each task
+   * @return the options
+   */
+  public static CalculationTaskRunnerOptions ofProfileListener(CalculationProfileListener profileListener) {
+    ArgChecker.notNull(profileListener, "profileListener");
+    return CalculationTaskRunnerOptions.builder().profileListener(profileListener).build();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CalculationTaskRunnerOptions}.
+   * @return the meta-bean, not null
+   */
+  public static CalculationTaskRunnerOptions.Meta meta() {
+    return CalculationTaskRunnerOptions.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(CalculationTaskRunnerOptions.Meta.INSTANCE);
+  }
+
+  /**
+   * Returns a builder used to create an instance of the bean.
+   * @return the builder, not null
+   */
+  public static CalculationTaskRunnerOptions.Builder builder() {
+    return new CalculationTaskRunnerOptions.Builder();
+  }
+
+  private CalculationTaskRunnerOptions(
+      int scenarioChunkSize,
+      CalculationProfileListener profileListener) {
+    ArgChecker.notNegative(scenarioChunkSize, "scenarioChunkSize");
+    this.scenarioChunkSize = scenarioChunkSize;
+    this.profileListener = profileListener;
+  }
+
+  @Override
+  public CalculationTaskRunnerOptions.Meta metaBean() {
+    return CalculationTaskRunnerOptions.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the maximum number of scenarios passed to a task in one execution, zero if unlimited.
+   * <p>
+   * By default, each task is executed once with the market data for all scenarios.
+   * If a limit is set, the scenarios are split into consecutive groups with at most this number of scenarios.
+   * All tasks are executed for the first group before any task is executed for the second group, and so on.
+   * The results for each group are combined, such that the results are the same as if all scenarios
+   * had been calculated at once.
+   * <p>
+   * This reduces the amount of memory needed when calculating a large number of scenarios, at the
+   * cost of repeating any work that a calculation shares between scenarios once for each group.
+   * It is most effective when the scenario market data is created lazily, such that the data for
+   * a scenario is only held in memory while the group containing it is being calculated.
+   * With the asynchronous methods, results are only passed to the listener once all groups are complete.
+   * @return the value of the property
+   */
+  public int getScenarioChunkSize() {
+    return scenarioChunkSize;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the listener that receives the resources used by each task, optional.
+   * <p>
+   * If present, the wall-clock time, CPU time and bytes allocated by each execution of a task are measured
+   * and passed to the listener, on the thread that executed the task.
+   * Use {@link CalculationProfiler} to aggregate the profiles by function, measure and target type.
+   * The CPU time and allocation are only measured if supported by the JVM.
+   * @return the optional value of the property, not null
+   */
+  public Optional<CalculationProfileListener> getProfileListener() {
+    return Optional.ofNullable(profileListener);
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Returns a builder that allows this bean to be mutated.
+   * @return the mutable builder, not null
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalculationTaskRunnerOptions other = (CalculationTaskRunnerOptions) obj;
+      return (scenarioChunkSize == other.scenarioChunkSize) &&
+          JodaBeanUtils.equal(profileListener, other.profileListener);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioChunkSize);
+    hash = hash * 31 + JodaBeanUtils.hashCode(profileListener);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("CalculationTaskRunnerOptions{");
+    buf.append("scenarioChunkSize").append('=').append(JodaBeanUtils.toString(scenarioChunkSize)).append(',').append(' ');
+    buf.append("profileListener").append('=').append(JodaBeanUtils.toString(profileListener));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CalculationTaskRunnerOptions}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code scenarioChunkSize} property.
+     */
+    private final MetaProperty<Integer> scenarioChunkSize = DirectMetaProperty.ofImmutable(
+        this, "scenarioChunkSize", CalculationTaskRunnerOptions.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code profileListener} property.
+     */
+    private final MetaProperty<CalculationProfileListener> profileListener = DirectMetaProperty.ofImmutable(
+        this, "profileListener", CalculationTaskRunnerOptions.class, CalculationProfileListener.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "scenarioChunkSize",
+        "profileListener");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1286068642:  // scenarioChunkSize
+          return scenarioChunkSize;
+        case 1413085565:  // profileListener
+          return profileListener;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public CalculationTaskRunnerOptions.Builder builder() {
+      return new CalculationTaskRunnerOptions.Builder();
+    }
+
+    @Override
+    public Class<? extends CalculationTaskRunnerOptions> beanType() {
+      return CalculationTaskRunnerOptions.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code scenarioChunkSize} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioChunkSize() {
+      return scenarioChunkSize;
+    }
+
+    /**
+     * The meta-property for the {@code profileListener} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CalculationProfileListener> profileListener() {
+      return profileListener;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1286068642:  // scenarioChunkSize
+          return ((CalculationTaskRunnerOptions) bean).getScenarioChunkSize();
+        case 1413085565:  // profileListener
+          return ((CalculationTaskRunnerOptions) bean).profileListener;
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CalculationTaskRunnerOptions}.
+   */
+  public static final class Builder extends DirectFieldsBeanBuilder<CalculationTaskRunnerOptions> {
+
+    private int scenarioChunkSize;
+    private CalculationProfileListener profileListener;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    /**
+     * Restricted copy constructor.
+     * @param beanToCopy  the bean to copy from, not null
+     */
+    private Builder(CalculationTaskRunnerOptions beanToCopy) {
+      this.scenarioChunkSize = beanToCopy.getScenarioChunkSize();
+      this.profileListener = beanToCopy.profileListener;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1286068642:  // scenarioChunkSize
+          return scenarioChunkSize;
+        case 1413085565:  // profileListener
+          return profileListener;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1286068642:  // scenarioChunkSize
+          this.scenarioChunkSize = (Integer) newValue;
+          break;
+        case 1413085565:  // profileListener
+          this.profileListener = (CalculationProfileListener) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public CalculationTaskRunnerOptions build() {
+      return new CalculationTaskRunnerOptions(
+          scenarioChunkSize,
+          profileListener);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the maximum number of scenarios passed to a task in one execution, zero if unlimited.
+     * <p>
+     * By default, each task is executed once with the market data for all scenarios.
+     * If a limit is set, the scenarios are split into consecutive groups with at most this number of scenarios.
+     * All tasks are executed for the first group before any task is executed for the second group, and so on.
+     * The results for each group are combined, such that the results are the same as if all scenarios
+     * had been calculated at once.
+     * <p>
+     * This reduces the amount of memory needed when calculating a large number of scenarios, at the
+     * cost of repeating any work that a calculation shares between scenarios once for each group.
+     * It is most effective when the scenario market data is created lazily, such that the data for
+     * a scenario is only held in memory while the group containing it is being calculated.
+     * With the asynchronous methods, results are only passed to the listener once all groups are complete.
+     * @param scenarioChunkSize  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder scenarioChunkSize(int scenarioChunkSize) {
+      ArgChecker.notNegative(scenarioChunkSize, "scenarioChunkSize");
+      this.scenarioChunkSize = scenarioChunkSize;
+      return this;
+    }
+
+    /**
+     * Sets the listener that receives the resources used by each task, optional.
+     * <p>
+     * If present, the wall-clock time, CPU time and bytes allocated by each execution of a task are measured
+     * and passed to the listener, on the thread that executed the task.
+     * Use {@link CalculationProfiler} to aggregate the profiles by function, measure and target type.
+     * The CPU time and allocation are only measured if supported by the JVM.
+     * @param profileListener  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder profileListener(CalculationProfileListener profileListener) {
+      this.profileListener = profileListener;
+      return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("CalculationTaskRunnerOptions.Builder{");
+      buf.append("scenarioChunkSize").append('=').append(JodaBeanUtils.toString(scenarioChunkSize)).append(',').append(' ');
+      buf.append("profileListener").append('=').append(JodaBeanUtils.toString(profileListener));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
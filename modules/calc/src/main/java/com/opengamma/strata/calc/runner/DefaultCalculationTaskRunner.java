@@ -7,11 +7,14 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -21,6 +24,7 @@ import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
@@ -30,6 +34,14 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * By default, each task is executed once for all scenarios.
+ * If a scenario chunk size is specified, the scenarios are instead split into consecutive groups
+ * of that size. Every task is executed for one group before any task is executed for the next group,
+ * and the results for each group are combined once all groups are complete.
+ * <p>
+ * If a profile listener is specified, the resources used by each execution of a task are measured
+ * and passed to the listener.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +50,14 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of scenarios passed to a task in one execution, zero if unlimited.
+   */
+  private final int scenarioChunkSize;
+  /**
+   * The profiler that measures the resources used by each task, null if not profiling.
+   */
+  private final TaskProfiler profiler;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +74,7 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), 0, null);
   }
 
   /**
@@ -66,7 +86,34 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, 0, null);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor and options.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param options  the options controlling how the tasks are executed
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, CalculationTaskRunnerOptions options) {
+    ArgChecker.notNull(options, "options");
+    TaskProfiler profiler = options.getProfileListener().map(TaskProfiler::new).orElse(null);
+    return new DefaultCalculationTaskRunner(executor, options.getScenarioChunkSize(), profiler);
+  }
+
+  /**
+   * Creates a calculation task runner that executes each task on a virtual thread.
+   * <p>
+   * Closing the runner waits for all submitted tasks to complete.
+   *
+   * @param maxConcurrentTasks  the maximum number of tasks that run at once, zero for no limit
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofVirtualThreads(int maxConcurrentTasks) {
+    return new DefaultCalculationTaskRunner(VirtualThreadExecutor.of(maxConcurrentTasks), 0, null);
   }
 
   // create an executor with daemon threads
@@ -87,9 +134,13 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param scenarioChunkSize  the maximum number of scenarios passed to a task in one execution, zero if unlimited
+   * @param profiler  the profiler that measures the resources used by each task, null if not profiling
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, int scenarioChunkSize, TaskProfiler profiler) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.scenarioChunkSize = scenarioChunkSize;
+    this.profiler = profiler;
   }
 
   //-------------------------------------------------------------------------
@@ -173,37 +224,210 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       ReferenceData refData,
       CalculationListener listener) {
 
+    calculateMultiScenarioAsync(tasks, marketData, refData, listener, CalculationRunOptions.DEFAULT);
+  }
+
+  @Override
+  public CalculationRun calculateMultiScenarioAsync(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      CalculationRunOptions options) {
+
     List<CalculationTask> taskList = tasks.getTasks();
-    // the listener is invoked via this wrapper
-    // the wrapper ensures thread-safety for the listener
-    // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
-        new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
+    CalculationRun run = new CalculationRun(taskList.size(), options);
+    int scenarioCount = marketData.getScenarioCount();
+    if (scenarioChunkSize == 0 || scenarioCount <= scenarioChunkSize) {
+      // the FX rates used to convert the results are shared by all tasks
+      ScenarioFxRateProviders fxRateProviders = ScenarioFxRateProviders.of(marketData);
+      TaskSubmitter submitter = new TaskSubmitter(taskList, fxRateProviders, refData, run);
+      boolean bounded = options.getMaxTasksInFlight() > 0;
+      // the listener is invoked via this wrapper
+      // the wrapper ensures thread-safety for the listener
+      // it also calls the listener with single CalculationResult cells, not CalculationResults
+      // when the number of tasks in flight is bounded, the next task is submitted once a result is delivered
+      submitter.consumer = new ListenerWrapper(
+          listener,
+          taskList.size(),
+          tasks.getTargets(),
+          tasks.getColumns(),
+          bounded ? submitter::taskDelivered : run::taskCompleted);
+
+      // run each task using the executor
+      int initialTasks = bounded ? Math.min(options.getMaxTasksInFlight(), taskList.size()) : taskList.size();
+      for (int i = 0; i < initialTasks; i++) {
+        submitter.submitNext();
+      }
+    } else {
+      Consumer<CalculationResults> consumer = new ListenerWrapper(
+          listener, taskList.size(), tasks.getTargets(), tasks.getColumns(), run::taskCompleted);
+      runTasksInChunks(taskList, marketData, refData, consumer, run);
+    }
+    return run;
+  }
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+  // runs all the tasks for each group of scenarios in turn, combining the results at the end
+  private void runTasksInChunks(
+      List<CalculationTask> taskList,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Consumer<CalculationResults> consumer,
+      CalculationRun run) {
+
+    int scenarioCount = marketData.getScenarioCount();
+    int chunkCount = (scenarioCount + scenarioChunkSize - 1) / scenarioChunkSize;
+    // the results for each task and chunk, written before the future for the chunk completes
+    CalculationResults[][] chunkResults = new CalculationResults[taskList.size()][chunkCount];
+
+    // each chunk is only started once all tasks for the previous chunk are complete
+    // this ensures only the market data and intermediate values of a single chunk are in use at any time
+    CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      int chunkIndex = chunk;
+      int startIndex = chunk * scenarioChunkSize;
+      int endIndex = Math.min(startIndex + scenarioChunkSize, scenarioCount);
+      future = future.thenCompose(ignored -> runChunk(
+          taskList, marketData.subsetScenarios(startIndex, endIndex), refData, chunkResults, chunkIndex, run));
+    }
+    // if any chunk fails, such as when the executor rejects a task, every task receives a failure
+    // this ensures the listener always receives a result for every cell and is told the calculations are complete
+    future.whenComplete((ignored, ex) -> {
+      Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+      for (int i = 0; i < taskList.size(); i++) {
+        CalculationTask task = taskList.get(i);
+        if (cause != null) {
+          consumer.accept(failureResults(task, Result.failure(
+              FailureReason.CALCULATION_FAILED, cause, "Unable to calculate group of scenarios: {}", cause.getMessage())));
+        } else {
+          consumer.accept(combineChunks(task, chunkResults[i]));
+        }
+      }
+    });
+  }
+
+  // combines the results of a task for each chunk of scenarios, capturing any failure
+  private static CalculationResults combineChunks(CalculationTask task, CalculationResults[] taskResults) {
+    try {
+      return ScenarioChunkResults.combine(Arrays.asList(taskResults));
+    } catch (RuntimeException ex) {
+      return failureResults(task, Result.failure(
+          FailureReason.CALCULATION_FAILED, ex, "Unable to combine results for groups of scenarios: {}", ex.getMessage()));
+    }
+  }
+
+  // submits the tasks for a single chunk of scenarios to the executor
+  private CompletableFuture<Void> runChunk(
+      List<CalculationTask> taskList,
+      ScenarioMarketData chunkMarketData,
+      ReferenceData refData,
+      CalculationResults[][] chunkResults,
+      int chunkIndex,
+      CalculationRun run) {
+
+    ScenarioFxRateProviders fxRateProviders = ScenarioFxRateProviders.of(chunkMarketData);
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[taskList.size()];
+    for (int i = 0; i < taskList.size(); i++) {
+      int taskIndex = i;
+      CalculationTask task = taskList.get(i);
+      futures[i] = CompletableFuture.supplyAsync(() -> execute(task, fxRateProviders, refData, run), executor)
+          .thenAccept(results -> chunkResults[taskIndex][chunkIndex] = results);
+    }
+    return CompletableFuture.allOf(futures);
   }
 
   // submits a task to the executor to be run
   private void runTask(
       CalculationTask task,
-      ScenarioMarketData marketData,
+      ScenarioFxRateProviders fxRateProviders,
       ReferenceData refData,
-      Consumer<CalculationResults> consumer) {
+      Consumer<CalculationResults> consumer,
+      CalculationRun run) {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = () -> execute(task, fxRateProviders, refData, run);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // executes a task, measuring the resources used if profiling
+  // if the run has been cancelled the task is not executed, and the results are failures
+  private CalculationResults execute(
+      CalculationTask task,
+      ScenarioFxRateProviders fxRateProviders,
+      ReferenceData refData,
+      CalculationRun run) {
+
+    if (!run.isActive()) {
+      return failureResults(task, Result.failure(FailureReason.CALCULATION_FAILED, run.getStopReason()));
+    }
+    if (profiler == null) {
+      return task.execute(fxRateProviders, refData);
+    }
+    int scenarioCount = fxRateProviders.getMarketData().getScenarioCount();
+    return profiler.execute(task, scenarioCount, () -> task.execute(fxRateProviders, refData));
+  }
+
+  // creates results where every cell of the task is the failure
+  private static CalculationResults failureResults(CalculationTask task, Result<?> failure) {
+    List<CalculationResult> cells = task.getCells().stream()
+        .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+        .collect(toImmutableList());
+    return CalculationResults.of(task.getTarget(), cells);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
-    executor.shutdown();
+    if (executor instanceof VirtualThreadExecutor) {
+      ((VirtualThreadExecutor) executor).close();
+    } else {
+      executor.shutdown();
+    }
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Submits the tasks of a run to the executor in order.
+   * <p>
+   * When the number of tasks in flight is bounded, the next task is submitted each time
+   * the results of a task have been delivered to the listener.
+   */
+  private final class TaskSubmitter {
+
+    private final List<CalculationTask> taskList;
+    private final ScenarioFxRateProviders fxRateProviders;
+    private final ReferenceData refData;
+    private final CalculationRun run;
+    private final AtomicInteger nextTask = new AtomicInteger();
+    private Consumer<CalculationResults> consumer;
+
+    private TaskSubmitter(
+        List<CalculationTask> taskList,
+        ScenarioFxRateProviders fxRateProviders,
+        ReferenceData refData,
+        CalculationRun run) {
+
+      this.taskList = taskList;
+      this.fxRateProviders = fxRateProviders;
+      this.refData = refData;
+      this.run = run;
+    }
+
+    // submits the next task, if there is one
+    private void submitNext() {
+      int taskIndex = nextTask.getAndIncrement();
+      if (taskIndex < taskList.size()) {
+        runTask(taskList.get(taskIndex), fxRateProviders, refData, consumer, run);
+      }
+    }
+
+    // invoked when the results of a task have been delivered, freeing a place for the next task
+    private void taskDelivered() {
+      run.taskCompleted();
+      submitNext();
+    }
+  }
 
   //-------------------------------------------------------------------------
   /**
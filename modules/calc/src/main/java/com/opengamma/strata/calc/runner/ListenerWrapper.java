@@ -49,6 +49,9 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The total number of tasks to be executed. */
   private final int tasksExpected;
 
+  /** Invoked after the results of each task have been delivered to the listener. */
+  private final Runnable resultsDelivered;
+
   // Mutable state -----------------------------------------------------
 
   /**
@@ -70,8 +73,31 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    * @param columns  the columns for which values are being calculated
    */
   ListenerWrapper(CalculationListener listener, int tasksExpected, List<CalculationTarget> targets, List<Column> columns) {
+    this(listener, tasksExpected, targets, columns, () -> { });
+  }
+
+  /**
+   * Creates an instance wrapping the specified listener, with a callback invoked as results are delivered.
+   * <p>
+   * The callback is invoked by the thread delivering results, after the results of each task
+   * have been passed to the listener and before {@link CalculationListener#calculationsComplete()} is invoked.
+   *
+   * @param listener  the underlying listener wrapped by this object
+   * @param tasksExpected  the number of tasks to be executed
+   * @param targets  the targets for which values are being calculated
+   * @param columns  the columns for which values are being calculated
+   * @param resultsDelivered  invoked after the results of each task have been delivered to the listener
+   */
+  ListenerWrapper(
+      CalculationListener listener,
+      int tasksExpected,
+      List<CalculationTarget> targets,
+      List<Column> columns,
+      Runnable resultsDelivered) {
+
     this.listener = ArgChecker.notNull(listener, "listener");
     this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this.resultsDelivered = ArgChecker.notNull(resultsDelivered, "resultsDelivered");
 
     listenerLock.lock();
     try {
@@ -148,6 +174,11 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
       } finally {
         listenerLock.unlock();
       }
+      try {
+        resultsDelivered.run();
+      } catch (RuntimeException e) {
+        log.warn("Exception invoking callback after results delivered", e);
+      }
 
       // The following code must be executed whilst holding the lock to guarantee any changes
       // to the executing flag and to the state of the queue are visible to all threads
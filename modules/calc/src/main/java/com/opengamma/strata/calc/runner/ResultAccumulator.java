@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+
+/**
+ * Mutable accumulator of the sum of the results in a single cell of an aggregation.
+ * <p>
+ * Amounts and scenario arrays of amounts are summed into primitive arrays,
+ * avoiding the creation of an immutable intermediate value for each result added.
+ * Other types are summed using a combiner registered for the type.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class ResultAccumulator {
+
+  /**
+   * The kind of value being summed.
+   */
+  private enum Kind {
+    /** Nothing has been added. */
+    NONE,
+    /** A {@code Double}. */
+    DOUBLE,
+    /** A {@code DoubleScenarioArray}. */
+    DOUBLE_ARRAY,
+    /** A {@code CurrencyAmount} or {@code MultiCurrencyAmount}. */
+    AMOUNT,
+    /** A {@code CurrencyScenarioArray} or {@code MultiCurrencyScenarioArray}. */
+    AMOUNT_ARRAY,
+    /** Any other type, summed using a combiner. */
+    OTHER
+  }
+
+  /**
+   * The combiners, keyed by type.
+   */
+  private final Map<Class<?>, BinaryOperator<Object>> combiners;
+  /**
+   * The kind of value being summed.
+   */
+  private Kind kind = Kind.NONE;
+  /**
+   * The first failure, null if there has been no failure.
+   */
+  private Result<?> failure;
+  /**
+   * The sum of values of kind {@code DOUBLE} or {@code DOUBLE_ARRAY}.
+   */
+  private double[] values;
+  /**
+   * The sum of values of kind {@code AMOUNT} or {@code AMOUNT_ARRAY}, keyed by currency.
+   */
+  private final Map<Currency, double[]> currencyValues = new TreeMap<>();
+  /**
+   * Whether the sum must be returned as a multiple currency value.
+   */
+  private boolean multiCurrency;
+  /**
+   * The sum of values of kind {@code OTHER}.
+   */
+  private Object other;
+
+  // creates an instance
+  ResultAccumulator(Map<Class<?>, BinaryOperator<Object>> combiners) {
+    this.combiners = combiners;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a result to the sum.
+   * <p>
+   * If the result is a failure, or cannot be added, the sum becomes a failure.
+   *
+   * @param result  the result to add
+   */
+  void add(Result<?> result) {
+    if (failure != null) {
+      return;
+    }
+    if (result.isFailure()) {
+      failure = result;
+      return;
+    }
+    Object value = result.getValue();
+    if (value instanceof Double) {
+      addValues(Kind.DOUBLE, new double[] {(Double) value});
+    } else if (value instanceof DoubleScenarioArray) {
+      addValues(Kind.DOUBLE_ARRAY, ((DoubleScenarioArray) value).getValues().toArrayUnsafe());
+    } else if (value instanceof CurrencyAmount) {
+      CurrencyAmount amount = (CurrencyAmount) value;
+      addCurrencyValues(Kind.AMOUNT, amount.getCurrency(), new double[] {amount.getAmount()}, 1);
+    } else if (value instanceof MultiCurrencyAmount) {
+      multiCurrency = true;
+      for (CurrencyAmount amount : ((MultiCurrencyAmount) value).getAmounts()) {
+        addCurrencyValues(Kind.AMOUNT, amount.getCurrency(), new double[] {amount.getAmount()}, 1);
+      }
+      checkKind(Kind.AMOUNT);
+    } else if (value instanceof CurrencyScenarioArray) {
+      CurrencyScenarioArray array = (CurrencyScenarioArray) value;
+      double[] amounts = array.getAmounts().getValues().toArrayUnsafe();
+      addCurrencyValues(Kind.AMOUNT_ARRAY, array.getCurrency(), amounts, array.getScenarioCount());
+    } else if (value instanceof MultiCurrencyScenarioArray) {
+      multiCurrency = true;
+      MultiCurrencyScenarioArray array = (MultiCurrencyScenarioArray) value;
+      int scenarioCount = array.getScenarioCount();
+      for (Map.Entry<Currency, DoubleArray> entry : array.getAmounts().getValues().entrySet()) {
+        addCurrencyValues(Kind.AMOUNT_ARRAY, entry.getKey(), entry.getValue().toArrayUnsafe(), scenarioCount);
+      }
+      checkKind(Kind.AMOUNT_ARRAY);
+      checkScenarioCount(scenarioCount);
+    } else {
+      addOther(value);
+    }
+  }
+
+  /**
+   * Merges the sum held by another accumulator into this sum.
+   *
+   * @param otherAccumulator  the other accumulator
+   */
+  void merge(ResultAccumulator otherAccumulator) {
+    if (otherAccumulator.failure != null || otherAccumulator.kind != Kind.NONE) {
+      add(otherAccumulator.result());
+    }
+  }
+
+  /**
+   * Returns the sum.
+   *
+   * @return the sum, a failure if any result was a failure or the results could not be summed
+   */
+  Result<?> result() {
+    if (failure != null) {
+      return failure;
+    }
+    switch (kind) {
+      case DOUBLE:
+        return Result.success(values[0]);
+      case DOUBLE_ARRAY:
+        return Result.success(DoubleScenarioArray.of(DoubleArray.copyOf(values)));
+      case AMOUNT:
+        if (!multiCurrency && currencyValues.size() == 1) {
+          Map.Entry<Currency, double[]> entry = currencyValues.entrySet().iterator().next();
+          return Result.success(CurrencyAmount.of(entry.getKey(), entry.getValue()[0]));
+        }
+        ImmutableMap.Builder<Currency, Double> amounts = ImmutableMap.builder();
+        currencyValues.forEach((currency, amount) -> amounts.put(currency, amount[0]));
+        return Result.success(MultiCurrencyAmount.of(amounts.build()));
+      case AMOUNT_ARRAY:
+        if (!multiCurrency && currencyValues.size() == 1) {
+          Map.Entry<Currency, double[]> entry = currencyValues.entrySet().iterator().next();
+          return Result.success(CurrencyScenarioArray.of(entry.getKey(), DoubleArray.copyOf(entry.getValue())));
+        }
+        ImmutableMap.Builder<Currency, DoubleArray> arrays = ImmutableMap.builder();
+        currencyValues.forEach((currency, array) -> arrays.put(currency, DoubleArray.copyOf(array)));
+        return Result.success(MultiCurrencyScenarioArray.of(arrays.build()));
+      case OTHER:
+        return Result.success(other);
+      default:
+        return Result.failure(FailureReason.CALCULATION_FAILED, "Unable to aggregate, no results were received");
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // adds values of kind DOUBLE or DOUBLE_ARRAY
+  private void addValues(Kind valueKind, double[] valuesToAdd) {
+    if (!checkKind(valueKind)) {
+      return;
+    }
+    if (values == null) {
+      values = valuesToAdd.clone();
+    } else if (checkScenarioCount(valuesToAdd.length)) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] += valuesToAdd[i];
+      }
+    }
+  }
+
+  // adds values of kind AMOUNT or AMOUNT_ARRAY
+  private void addCurrencyValues(Kind valueKind, Currency currency, double[] valuesToAdd, int scenarioCount) {
+    if (!checkKind(valueKind) || !checkScenarioCount(scenarioCount)) {
+      return;
+    }
+    double[] sum = currencyValues.get(currency);
+    if (sum == null) {
+      currencyValues.put(currency, valuesToAdd.clone());
+    } else {
+      for (int i = 0; i < sum.length; i++) {
+        sum[i] += valuesToAdd[i];
+      }
+    }
+  }
+
+  // adds a value of kind OTHER using a combiner
+  private void addOther(Object value) {
+    if (!checkKind(Kind.OTHER)) {
+      return;
+    }
+    // the type must be summable even if there is only one value, so the result does not depend on the count
+    BinaryOperator<Object> combiner = findCombiner(value.getClass());
+    if (combiner == null || (other != null && !value.getClass().equals(other.getClass()))) {
+      failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          "Unable to aggregate values of type {}, no combiner has been registered",
+          value.getClass().getName());
+      return;
+    }
+    other = other == null ? value : combiner.apply(other, value);
+  }
+
+  // finds the combiner for the type, or a supertype
+  private BinaryOperator<Object> findCombiner(Class<?> type) {
+    BinaryOperator<Object> combiner = combiners.get(type);
+    if (combiner != null) {
+      return combiner;
+    }
+    for (Map.Entry<Class<?>, BinaryOperator<Object>> entry : combiners.entrySet()) {
+      if (entry.getKey().isAssignableFrom(type)) {
+        return entry.getValue();
+      }
+    }
+    return null;
+  }
+
+  // checks the kind is the same as values already added, setting the failure if not
+  private boolean checkKind(Kind valueKind) {
+    if (kind == Kind.NONE) {
+      kind = valueKind;
+    } else if (kind != valueKind) {
+      failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          "Unable to aggregate, results contain incompatible types: {} and {}",
+          kind,
+          valueKind);
+    }
+    return failure == null;
+  }
+
+  // checks the scenario count is the same as values already added, setting the failure if not
+  private boolean checkScenarioCount(int scenarioCount) {
+    int expected = values != null ? values.length : scenarioCount(currencyValues);
+    if (expected >= 0 && expected != scenarioCount) {
+      failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          "Unable to aggregate, expected {} scenarios but found {}",
+          expected,
+          scenarioCount);
+    }
+    return failure == null;
+  }
+
+  // the scenario count of the currency values, -1 if none
+  private static int scenarioCount(Map<Currency, double[]> currencyValues) {
+    if (currencyValues.isEmpty()) {
+      return -1;
+    }
+    return currencyValues.values().iterator().next().length;
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.AggregatedResults;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * Defines how calculation results are aggregated into a hierarchy of groups.
+ * <p>
+ * The hierarchy is defined by a function that returns the path of the group containing each target,
+ * such as {@code [Desk A, Book 1]}. The results of each target are added to the group at each level
+ * of the path, and to the top-level group with an empty path.
+ * For example, a path can be built from the attributes of each trade:
+ * <pre>
+ *  ResultsAggregation.of(target -&gt; ImmutableList.of(
+ *      ((Trade) target).getInfo().getAttribute(DESK),
+ *      ((Trade) target).getInfo().getAttribute(BOOK)));
+ * </pre>
+ * <p>
+ * Results of type {@code Double}, {@code CurrencyAmount}, {@code MultiCurrencyAmount},
+ * {@code DoubleScenarioArray}, {@code CurrencyScenarioArray} and {@code MultiCurrencyScenarioArray}
+ * are summed in primitive arrays. Other types can be summed by registering a combiner,
+ * for example {@code CurrencyParameterSensitivities::combinedWith}.
+ * If any result in a group is a failure, or cannot be summed, the aggregated result is a failure.
+ * <p>
+ * Results can be aggregated as they are calculated using {@link #listener()},
+ * or once all results are available using {@link #aggregate(List, Results)}.
+ */
+public final class ResultsAggregation {
+
+  /**
+   * The function providing the path of the group containing each target.
+   */
+  private final Function<? super CalculationTarget, ? extends List<String>> hierarchy;
+  /**
+   * The combiners for types that are not summed by default, keyed by type.
+   */
+  private final ImmutableMap<Class<?>, BinaryOperator<Object>> combiners;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that aggregates results using the specified hierarchy.
+   *
+   * @param hierarchy  the function providing the path of the group containing each target
+   * @return the aggregation
+   */
+  public static ResultsAggregation of(Function<? super CalculationTarget, ? extends List<String>> hierarchy) {
+    return new ResultsAggregation(hierarchy, ImmutableMap.of());
+  }
+
+  // restricted constructor
+  private ResultsAggregation(
+      Function<? super CalculationTarget, ? extends List<String>> hierarchy,
+      ImmutableMap<Class<?>, BinaryOperator<Object>> combiners) {
+
+    this.hierarchy = ArgChecker.notNull(hierarchy, "hierarchy");
+    this.combiners = combiners;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this aggregation that sums results of the specified type using a combiner.
+   * <p>
+   * The combiner must return the sum of the two values.
+   *
+   * @param <T>  the type of the results
+   * @param type  the type of the results
+   * @param combiner  the function that sums two results
+   * @return a copy of this aggregation using the combiner
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ResultsAggregation withCombiner(Class<T> type, BinaryOperator<T> combiner) {
+    ArgChecker.notNull(type, "type");
+    ArgChecker.notNull(combiner, "combiner");
+    Map<Class<?>, BinaryOperator<Object>> updated = new LinkedHashMap<>(combiners);
+    updated.put(type, (BinaryOperator<Object>) combiner);
+    return new ResultsAggregation(hierarchy, ImmutableMap.copyOf(updated));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a listener that aggregates results as they are calculated.
+   * <p>
+   * A new listener must be used for each set of calculations.
+   *
+   * @return the listener
+   */
+  public ResultsAggregationListener listener() {
+    return new ResultsAggregationListener(this);
+  }
+
+  /**
+   * Aggregates a complete set of results.
+   * <p>
+   * The rows are split into ranges that are aggregated in parallel, then the partial aggregates are merged.
+   *
+   * @param targets  the targets, one for each row of the results
+   * @param results  the results
+   * @return the aggregated results
+   * @throws IllegalArgumentException if the number of targets does not match the number of rows
+   */
+  public AggregatedResults aggregate(List<? extends CalculationTarget> targets, Results results) {
+    if (targets.size() != results.getRowCount()) {
+      throw new IllegalArgumentException(Messages.format(
+          "The number of targets ({}) must equal the number of rows ({})", targets.size(), results.getRowCount()));
+    }
+    AggregationState initial = createState(targets, results.getColumnCount());
+    int rowCount = results.getRowCount();
+    int rangeCount = Math.max(Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, rowCount / 1000), 1);
+    AggregationState aggregated = IntStream.range(0, rangeCount)
+        .parallel()
+        .mapToObj(range -> {
+          AggregationState state = initial.emptyCopy();
+          int endRow = (int) ((long) rowCount * (range + 1) / rangeCount);
+          for (int row = (int) ((long) rowCount * range / rangeCount); row < endRow; row++) {
+            for (int column = 0; column < results.getColumnCount(); column++) {
+              state.add(row, column, results.get(row, column));
+            }
+          }
+          return state;
+        })
+        .reduce(AggregationState::merge)
+        .orElse(initial);
+    return aggregated.toAggregatedResults(results.getColumns());
+  }
+
+  //-------------------------------------------------------------------------
+  // creates the state for a set of targets
+  AggregationState createState(List<? extends CalculationTarget> targets, int columnCount) {
+    return AggregationState.of(targets, columnCount, hierarchy, combiners);
+  }
+
+  @Override
+  public String toString() {
+    return "ResultsAggregation[combiners=" + combiners.keySet() + "]";
+  }
+
+}
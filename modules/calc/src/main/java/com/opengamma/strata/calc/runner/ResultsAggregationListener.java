@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.AggregatedResults;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+
+/**
+ * Calculation listener that aggregates the results into a hierarchy of groups as they are calculated.
+ * <p>
+ * Each result is added to the sum of each group containing its target when it is received,
+ * thus the individual results do not need to be retained.
+ * Instances are created using {@link ResultsAggregation#listener()}.
+ * <p>
+ * A new listener must be used for each set of calculations.
+ */
+public final class ResultsAggregationListener extends AggregatingCalculationListener<AggregatedResults> {
+
+  /**
+   * The aggregation.
+   */
+  private final ResultsAggregation aggregation;
+  /**
+   * The column headers, set when the calculations start.
+   */
+  private List<ColumnHeader> columns;
+  /**
+   * The state of the aggregation, set when the calculations start.
+   */
+  private AggregationState state;
+
+  // creates an instance
+  ResultsAggregationListener(ResultsAggregation aggregation) {
+    this.aggregation = aggregation;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    this.columns = columns.stream()
+        .map(Column::toHeader)
+        .collect(toImmutableList());
+    this.state = aggregation.createState(targets, columns.size());
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    state.add(result.getRowIndex(), result.getColumnIndex(), result.getResult());
+  }
+
+  @Override
+  protected AggregatedResults createAggregateResult() {
+    return state.toAggregatedResults(columns);
+  }
+
+}
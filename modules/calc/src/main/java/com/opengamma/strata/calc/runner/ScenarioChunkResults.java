@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Combines the results of calculations performed separately for consecutive groups of scenarios.
+ * <p>
+ * When a calculation is run in scenario-major order, each task is executed once for each group
+ * of scenarios, producing a {@link ScenarioArray} per group. This class joins the arrays
+ * so the combined result is the same as if the task had been executed for all scenarios at once.
+ */
+final class ScenarioChunkResults {
+
+  /**
+   * Restricted constructor.
+   */
+  private ScenarioChunkResults() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Combines the results of one task executed for each group of scenarios.
+   * <p>
+   * The results must be in scenario order.
+   * The cells of each result are combined in turn.
+   *
+   * @param chunkResults  the results for each group of scenarios
+   * @return the combined results
+   */
+  static CalculationResults combine(List<CalculationResults> chunkResults) {
+    CalculationResults first = chunkResults.get(0);
+    if (chunkResults.size() == 1) {
+      return first;
+    }
+    ImmutableList.Builder<CalculationResult> cells = ImmutableList.builder();
+    for (int i = 0; i < first.getCells().size(); i++) {
+      List<Result<?>> cellResults = new ArrayList<>(chunkResults.size());
+      for (CalculationResults results : chunkResults) {
+        cellResults.add(results.getCells().get(i).getResult());
+      }
+      cells.add(first.getCells().get(i).withResult(combineResults(cellResults)));
+    }
+    return CalculationResults.of(first.getTarget(), cells.build());
+  }
+
+  // combines the results of a single cell
+  static Result<?> combineResults(List<Result<?>> results) {
+    List<Object> values = new ArrayList<>(results.size());
+    for (Result<?> result : results) {
+      if (result.isFailure()) {
+        return result;
+      }
+      values.add(result.getValue());
+    }
+    if (!values.stream().allMatch(ScenarioArray.class::isInstance)) {
+      // a value which is not a scenario array can only be combined if it is the same in every group
+      if (values.stream().distinct().count() == 1) {
+        return results.get(0);
+      }
+      return Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          "Unable to combine results for groups of scenarios, expected ScenarioArray but found {}",
+          values.get(0).getClass().getName());
+    }
+    return Result.success(combineArrays(values));
+  }
+
+  // combines scenario arrays, retaining the efficient representation of common types
+  private static ScenarioArray<?> combineArrays(List<Object> arrays) {
+    Object first = arrays.get(0);
+    if (arrays.stream().allMatch(DoubleScenarioArray.class::isInstance)) {
+      return DoubleScenarioArray.of(concat(arrays, array -> ((DoubleScenarioArray) array).getValues()));
+    }
+    if (first instanceof CurrencyScenarioArray) {
+      Currency currency = ((CurrencyScenarioArray) first).getCurrency();
+      if (arrays.stream().allMatch(a -> a instanceof CurrencyScenarioArray &&
+          ((CurrencyScenarioArray) a).getCurrency().equals(currency))) {
+        return CurrencyScenarioArray.of(
+            currency, concat(arrays, array -> ((CurrencyScenarioArray) array).getAmounts().getValues()));
+      }
+    }
+    if (arrays.stream().allMatch(MultiCurrencyScenarioArray.class::isInstance)) {
+      List<MultiCurrencyAmount> combined = new ArrayList<>();
+      for (Object array : arrays) {
+        ((MultiCurrencyScenarioArray) array).stream().forEach(combined::add);
+      }
+      return MultiCurrencyScenarioArray.of(combined);
+    }
+    List<Object> combined = new ArrayList<>();
+    for (Object array : arrays) {
+      ((ScenarioArray<?>) array).stream().forEach(combined::add);
+    }
+    return ScenarioArray.of(combined);
+  }
+
+  // concatenates the values of the arrays, allocating the combined array once
+  private static DoubleArray concat(List<Object> arrays, Function<Object, DoubleArray> valuesFn) {
+    List<DoubleArray> values = arrays.stream().map(valuesFn).collect(toImmutableList());
+    double[] combined = new double[values.stream().mapToInt(DoubleArray::size).sum()];
+    int offset = 0;
+    for (DoubleArray array : values) {
+      System.arraycopy(array.toArrayUnsafe(), 0, combined, offset, array.size());
+      offset += array.size();
+    }
+    return DoubleArray.ofUnsafe(combined);
+  }
+
+}
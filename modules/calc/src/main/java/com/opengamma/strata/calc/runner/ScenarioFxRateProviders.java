@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * The FX rate providers used to convert the results of the tasks in a single run.
+ * <p>
+ * The providers cache the rates they obtain, one array of rates for each currency pair.
+ * A single instance is shared by all tasks that are executed using the same market data,
+ * thus the rates for each currency pair are only looked up once, rather than once for each task.
+ */
+final class ScenarioFxRateProviders {
+
+  /**
+   * The market data.
+   */
+  private final ScenarioMarketData marketData;
+  /**
+   * The provider used when there is no FX rate lookup.
+   */
+  private final ScenarioFxRateProvider defaultProvider;
+  /**
+   * The providers, keyed by FX rate lookup.
+   */
+  private final ConcurrentMap<FxRateLookup, ScenarioFxRateProvider> providers = new ConcurrentHashMap<>();
+
+  /**
+   * Obtains an instance for the specified market data.
+   *
+   * @param marketData  the market data
+   * @return the FX rate providers
+   */
+  static ScenarioFxRateProviders of(ScenarioMarketData marketData) {
+    return new ScenarioFxRateProviders(marketData);
+  }
+
+  // restricted constructor
+  private ScenarioFxRateProviders(ScenarioMarketData marketData) {
+    this.marketData = ArgChecker.notNull(marketData, "marketData");
+    this.defaultProvider = ScenarioFxRateProvider.cached(ScenarioFxRateProvider.of(marketData));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the market data.
+   *
+   * @return the market data
+   */
+  ScenarioMarketData getMarketData() {
+    return marketData;
+  }
+
+  /**
+   * Gets the FX rate provider for the specified calculation parameters.
+   * <p>
+   * If the parameters contain an {@link FxRateLookup}, it is used to obtain the rates.
+   * Otherwise, the FX rates in the market data are used.
+   *
+   * @param parameters  the calculation parameters
+   * @return the FX rate provider
+   */
+  ScenarioFxRateProvider provider(CalculationParameters parameters) {
+    return parameters.findParameter(FxRateLookup.class)
+        .map(lookup -> providers.computeIfAbsent(
+            lookup, lk -> ScenarioFxRateProvider.cached(LookupScenarioFxRateProvider.of(marketData, lk))))
+        .orElse(defaultProvider);
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableSet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Measures the resources used by the execution of calculation tasks.
+ * <p>
+ * The CPU time and allocated bytes are obtained from the {@link ThreadMXBean}, if supported by the JVM.
+ * The allocated bytes are obtained from the extended bean provided by HotSpot JVMs,
+ * which is accessed reflectively as it is not part of the standard API.
+ */
+final class TaskProfiler {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskProfiler.class);
+
+  /** The thread management bean. */
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  /** Whether thread CPU time is measured. */
+  private static final boolean CPU_TIME_SUPPORTED = cpuTimeSupported();
+  /** The method handle that obtains the bytes allocated by a thread, null if not supported. */
+  private static final MethodHandle ALLOCATED_BYTES = allocatedBytesHandle();
+
+  /** The listener that receives the profiles. */
+  private final CalculationProfileListener listener;
+
+  // checks whether thread CPU time can be measured
+  private static boolean cpuTimeSupported() {
+    try {
+      return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+    } catch (RuntimeException ex) {
+      return false;
+    }
+  }
+
+  // finds the method that measures allocation
+  private static MethodHandle allocatedBytesHandle() {
+    try {
+      Class<?> beanType = Class.forName("com.sun.management.ThreadMXBean");
+      if (beanType.isInstance(THREADS) &&
+          (Boolean) beanType.getMethod("isThreadAllocatedMemorySupported").invoke(THREADS) &&
+          (Boolean) beanType.getMethod("isThreadAllocatedMemoryEnabled").invoke(THREADS)) {
+        Method method = beanType.getMethod("getThreadAllocatedBytes", long.class);
+        return MethodHandles.publicLookup().unreflect(method).bindTo(THREADS);
+      }
+    } catch (Exception | LinkageError ex) {
+      // not supported
+    }
+    return null;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param listener  the listener that receives the profiles
+   */
+  TaskProfiler(CalculationProfileListener listener) {
+    this.listener = ArgChecker.notNull(listener, "listener");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Executes a task, passing the resources it used to the listener.
+   *
+   * @param task  the task
+   * @param scenarioCount  the number of scenarios calculated by the task
+   * @param execution  the execution of the task
+   * @return the results of the task
+   */
+  CalculationResults execute(CalculationTask task, int scenarioCount, Supplier<CalculationResults> execution) {
+    long threadId = Thread.currentThread().getId();
+    long startAllocated = allocatedBytes(threadId);
+    long startCpu = cpuTime();
+    long startWall = System.nanoTime();
+
+    CalculationResults results = execution.get();
+
+    long wall = System.nanoTime() - startWall;
+    long cpu = startCpu < 0 ? -1 : cpuTime() - startCpu;
+    long allocated = startAllocated < 0 ? -1 : allocatedBytes(threadId) - startAllocated;
+    Set<Measure> measures = task.getCells().stream().map(CalculationTaskCell::getMeasure).collect(toImmutableSet());
+    CalculationTaskProfile profile = CalculationTaskProfile.of(
+        task.getRowIndex(),
+        task.getTarget().getClass(),
+        task.getFunction().getClass(),
+        measures,
+        scenarioCount,
+        Duration.ofNanos(wall),
+        cpu,
+        allocated);
+    try {
+      listener.taskProfiled(profile);
+    } catch (RuntimeException ex) {
+      log.warn("Exception invoking listener.taskProfiled", ex);
+    }
+    return results;
+  }
+
+  // the CPU time of the current thread, -1 if not supported
+  private static long cpuTime() {
+    return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+  }
+
+  // the bytes allocated by the thread, -1 if not supported
+  private static long allocatedBytes(long threadId) {
+    if (ALLOCATED_BYTES == null) {
+      return -1;
+    }
+    try {
+      return (long) ALLOCATED_BYTES.invokeExact(threadId);
+    } catch (Throwable ex) {
+      return -1;
+    }
+  }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * An executor that runs each task on a new thread, using virtual threads where the JVM supports them.
+ * <p>
+ * Virtual threads are cheap to create and release their carrier thread when they block, thus tasks that
+ * perform blocking market data lookups can overlap their I/O with the pricing of other tasks.
+ * The number of carrier threads, and thus the CPU parallelism, is controlled by the JVM,
+ * see the {@code jdk.virtualThreadScheduler.parallelism} system property.
+ * <p>
+ * The number of tasks that run at once can also be limited, to avoid holding the intermediate state
+ * of too many calculations in memory. Tasks waiting for a permit do not use a carrier thread.
+ * <p>
+ * On a JVM without virtual threads, the tasks run on a bounded pool of daemon platform threads.
+ * The pool size is the maximum number of concurrent tasks, or the number of processors if not limited.
+ * Tasks waiting to run are queued, and do not hold a thread.
+ * <p>
+ * Closing the executor waits for all submitted tasks to complete, in the style of structured concurrency.
+ * As such, the executor must not be closed from one of its own tasks.
+ */
+final class VirtualThreadExecutor extends AbstractExecutorService {
+
+  /**
+   * The factory for virtual threads, null if not supported by the JVM.
+   */
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+  /**
+   * The factory used to create a virtual thread for each task, null if the platform pool is used.
+   */
+  private final ThreadFactory threadFactory;
+  /**
+   * The pool of platform threads, null if virtual threads are used.
+   */
+  private final ThreadPoolExecutor platformPool;
+  /**
+   * The permits limiting the number of virtual threads that run a task at once, null if not limited.
+   */
+  private final Semaphore permits;
+  /**
+   * The threads that are running tasks.
+   */
+  private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+  /**
+   * The lock protecting the shutdown state.
+   */
+  private final Object lock = new Object();
+  /**
+   * The number of tasks submitted that have not completed, guarded by the lock.
+   */
+  private int activeCount;
+  /**
+   * Whether the executor has been shut down, guarded by the lock.
+   */
+  private boolean shutdown;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an executor that limits the number of tasks that run at once.
+   *
+   * @param maxConcurrentTasks  the maximum number of tasks that run at once, zero for no limit
+   * @return the executor
+   */
+  static VirtualThreadExecutor of(int maxConcurrentTasks) {
+    ArgChecker.notNegative(maxConcurrentTasks, "maxConcurrentTasks");
+    if (VIRTUAL_THREAD_FACTORY != null) {
+      Semaphore permits = maxConcurrentTasks > 0 ? new Semaphore(maxConcurrentTasks) : null;
+      return new VirtualThreadExecutor(VIRTUAL_THREAD_FACTORY, null, permits);
+    }
+    int poolSize = maxConcurrentTasks > 0 ? maxConcurrentTasks : Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor platformPool = new ThreadPoolExecutor(
+        poolSize, poolSize, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), platformThreadFactory());
+    platformPool.allowCoreThreadTimeOut(true);
+    return new VirtualThreadExecutor(null, platformPool, null);
+  }
+
+  // restricted constructor
+  private VirtualThreadExecutor(ThreadFactory threadFactory, ThreadPoolExecutor platformPool, Semaphore permits) {
+    this.threadFactory = threadFactory;
+    this.platformPool = platformPool;
+    this.permits = permits;
+  }
+
+  /**
+   * Checks if the JVM supports virtual threads.
+   *
+   * @return true if tasks run on virtual threads
+   */
+  static boolean isVirtualThreadsSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  // obtains the virtual thread factory by reflection, as the code is compiled for an earlier Java version
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "CalculationTaskRunner-virtual-", 0L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      return null;
+    }
+  }
+
+  // creates a factory for daemon platform threads
+  private static ThreadFactory platformThreadFactory() {
+    ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+    return r -> {
+      Thread t = defaultFactory.newThread(r);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void execute(Runnable command) {
+    ArgChecker.notNull(command, "command");
+    synchronized (lock) {
+      if (shutdown) {
+        throw new RejectedExecutionException("Executor has been shut down");
+      }
+      activeCount++;
+    }
+    Task task = new Task(command);
+    try {
+      if (platformPool != null) {
+        platformPool.execute(task);
+      } else {
+        threadFactory.newThread(task).start();
+      }
+    } catch (RuntimeException | Error ex) {
+      taskCompleted();
+      throw new RejectedExecutionException("Unable to start task", ex);
+    }
+  }
+
+  // runs a task on the current thread, once a permit is available
+  private void run(Runnable command) {
+    Thread thread = Thread.currentThread();
+    threads.add(thread);
+    try {
+      if (permits == null) {
+        command.run();
+      } else {
+        permits.acquire();
+        try {
+          command.run();
+        } finally {
+          permits.release();
+        }
+      }
+    } catch (InterruptedException ex) {
+      // the executor was shut down while waiting for a permit
+      thread.interrupt();
+    } finally {
+      threads.remove(thread);
+      taskCompleted();
+    }
+  }
+
+  // records that a task has completed
+  private void taskCompleted() {
+    synchronized (lock) {
+      activeCount--;
+      if (activeCount == 0) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void shutdown() {
+    synchronized (lock) {
+      shutdown = true;
+    }
+    if (platformPool != null) {
+      platformPool.shutdown();
+    }
+  }
+
+  /**
+   * Shuts down the executor, interrupting the running tasks.
+   * <p>
+   * Tasks waiting for a permit are not run.
+   * Tasks queued for the platform thread pool are not run, and are returned.
+   *
+   * @return the tasks that were queued and not run
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    if (platformPool == null) {
+      threads.forEach(Thread::interrupt);
+      return ImmutableList.of();
+    }
+    // the queue is drained before the running tasks are interrupted, so their threads cannot take a queued task
+    List<Runnable> queued = platformPool.shutdownNow();
+    threads.forEach(Thread::interrupt);
+    queued.forEach(task -> taskCompleted());
+    return queued.stream()
+        .map(task -> ((Task) task).command)
+        .collect(toImmutableList());
+  }
+
+  @Override
+  public boolean isShutdown() {
+    synchronized (lock) {
+      return shutdown;
+    }
+  }
+
+  @Override
+  public boolean isTerminated() {
+    synchronized (lock) {
+      return shutdown && activeCount == 0;
+    }
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (lock) {
+      while (!(shutdown && activeCount == 0)) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Shuts down the executor and waits for all submitted tasks to complete.
+   * <p>
+   * If the current thread is interrupted while waiting, the running tasks are interrupted.
+   * This must not be called from a task of this executor, as the task would wait for itself.
+   *
+   * @throws IllegalStateException if called from a task of this executor
+   */
+  void close() {
+    if (threads.contains(Thread.currentThread())) {
+      throw new IllegalStateException("Executor must not be closed from one of its own tasks");
+    }
+    shutdown();
+    try {
+      while (!awaitTermination(1, TimeUnit.DAYS)) {
+        // keep waiting
+      }
+    } catch (InterruptedException ex) {
+      shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualThreadExecutor[" + (isVirtualThreadsSupported() ? "virtual" : "platform") + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // a submitted task, allowing the command to be returned if it is not run
+  private final class Task implements Runnable {
+    private final Runnable command;
+
+    private Task(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      VirtualThreadExecutor.this.run(command);
+    }
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Test {@link AggregatedResults}.
+ */
+public class AggregatedResultsTest {
+
+  private static final ColumnName NAME_A = ColumnName.of("A");
+  private static final ColumnName NAME_B = ColumnName.of("B");
+  private static final ColumnHeader HEADER1 = ColumnHeader.of(NAME_A, TestingMeasures.PRESENT_VALUE);
+  private static final ColumnHeader HEADER2 = ColumnHeader.of(NAME_B, TestingMeasures.PRESENT_VALUE);
+  private static final ImmutableList<String> TOTAL = ImmutableList.of();
+  private static final ImmutableList<String> DESK = ImmutableList.of("Desk");
+
+  @Test
+  public void test_of() {
+    AggregatedResults test = AggregatedResults.of(
+        ImmutableList.of(TOTAL, DESK),
+        ImmutableList.of(HEADER1, HEADER2),
+        ImmutableList.of(Result.success(1d), Result.success(2d), Result.success(3d), Result.success(4d)));
+    assertThat(test.getGroups()).containsExactly(TOTAL, DESK);
+    assertThat(test.getResults().getColumns()).containsExactly(HEADER1, HEADER2);
+    assertThat(test.groupIndex(DESK)).isEqualTo(1);
+    assertThat(test.get(TOTAL, 1).getValue()).isEqualTo(2d);
+    assertThat(test.get(DESK, NAME_A).getValue()).isEqualTo(3d);
+    assertThat(test.getTotal(NAME_B).getValue()).isEqualTo(2d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.get(ImmutableList.of("Other"), 0))
+        .withMessageStartingWith("Group not found");
+  }
+
+  @Test
+  public void test_of_invalidRowCount() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> AggregatedResults.of(
+            ImmutableList.of(TOTAL, DESK), ImmutableList.of(HEADER1), ImmutableList.of(Result.success(1d))));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    AggregatedResults test = AggregatedResults.of(
+        ImmutableList.of(TOTAL), ImmutableList.of(HEADER1), ImmutableList.of(Result.success(1d)));
+    coverImmutableBean(test);
+    AggregatedResults test2 = AggregatedResults.of(
+        ImmutableList.of(DESK), ImmutableList.of(HEADER2), ImmutableList.of(Result.success(2d)));
+    coverBeanEquals(test, test2);
+  }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
+import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link IncrementalCalculationSession}.
+ */
+public class IncrementalCalculationSessionTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2016, 6, 30);
+  private static final TestObservableId ID_A = TestObservableId.of("A");
+  private static final TestObservableId ID_B = TestObservableId.of("B");
+  private static final TestTarget TARGET_A1 = new TestTarget("A", 1);
+  private static final TestTarget TARGET_A2 = new TestTarget("A", 2);
+  private static final TestTarget TARGET_B3 = new TestTarget("B", 3);
+  private static final List<Column> COLUMNS = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_unchanged() {
+    TestFunction fn = new TestFunction();
+    IncrementalCalculationSession test = session(fn);
+    List<TestTarget> targets = ImmutableList.of(TARGET_A1, TARGET_A2, TARGET_B3);
+    MarketData md = marketData(VAL_DATE, 10, 20);
+
+    Results results1 = test.calculate(targets, md);
+    assertThat(test.getCalculatedCount()).isEqualTo(3);
+    assertThat(fn.calculated).containsExactly(TARGET_A1, TARGET_A2, TARGET_B3);
+    assertValues(results1, 10d, 20d, 60d);
+
+    fn.calculated.clear();
+    Results results2 = test.calculate(targets, marketData(VAL_DATE, 10, 20));
+    assertThat(test.getCalculatedCount()).isEqualTo(0);
+    assertThat(fn.calculated).isEmpty();
+    assertThat(results2).isEqualTo(results1);
+  }
+
+  @Test
+  public void test_marketDataChanged() {
+    TestFunction fn = new TestFunction();
+    IncrementalCalculationSession test = session(fn);
+    List<TestTarget> targets = ImmutableList.of(TARGET_A1, TARGET_A2, TARGET_B3);
+    test.calculate(targets, marketData(VAL_DATE, 10, 20));
+
+    fn.calculated.clear();
+    Results results = test.calculate(targets, marketData(VAL_DATE, 10, 25));
+    assertThat(test.getCalculatedCount()).isEqualTo(1);
+    assertThat(fn.calculated).containsExactly(TARGET_B3);
+    assertValues(results, 10d, 20d, 75d);
+
+    fn.calculated.clear();
+    results = test.calculate(targets, marketData(VAL_DATE, 11, 25));
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+    assertThat(fn.calculated).containsExactly(TARGET_A1, TARGET_A2);
+    assertValues(results, 11d, 22d, 75d);
+  }
+
+  @Test
+  public void test_targetsChanged() {
+    TestFunction fn = new TestFunction();
+    IncrementalCalculationSession test = session(fn);
+    MarketData md = marketData(VAL_DATE, 10, 20);
+    test.calculate(ImmutableList.of(TARGET_A1, TARGET_A2), md);
+
+    fn.calculated.clear();
+    TestTarget amended = new TestTarget("A", 4);
+    Results results = test.calculate(ImmutableList.of(TARGET_B3, amended, TARGET_A1), md);
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+    assertThat(fn.calculated).containsExactly(TARGET_B3, amended);
+    assertValues(results, 60d, 40d, 10d);
+  }
+
+  @Test
+  public void test_fullRecalculation() {
+    TestFunction fn = new TestFunction();
+    IncrementalCalculationSession test = session(fn);
+    List<TestTarget> targets = ImmutableList.of(TARGET_A1, TARGET_B3);
+    test.calculate(targets, marketData(VAL_DATE, 10, 20));
+
+    // valuation date changed
+    test.calculate(targets, marketData(VAL_DATE.plusDays(1), 10, 20));
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+
+    // reset
+    test.reset();
+    assertThat(test.getCalculatedCount()).isEqualTo(0);
+    test.calculate(targets, marketData(VAL_DATE.plusDays(1), 10, 20));
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+
+    // single scenario to multiple scenarios
+    ScenarioMarketData smd = ScenarioMarketData.of(1, marketData(VAL_DATE.plusDays(1), 10, 20));
+    test.calculateMultiScenario(targets, smd);
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+    test.calculateMultiScenario(targets, smd);
+    assertThat(test.getCalculatedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_lazyScenarioValues() {
+    TestFunction fn = new TestFunction();
+    IncrementalCalculationSession test = session(fn);
+    List<TestTarget> targets = ImmutableList.of(TARGET_A1, TARGET_B3);
+    test.calculateMultiScenario(targets, lazyMarketData(10, 20));
+    assertThat(test.getCalculatedCount()).isEqualTo(2);
+
+    // market data rebuilt with the same values
+    fn.calculated.clear();
+    Results results = test.calculateMultiScenario(targets, lazyMarketData(10, 20));
+    assertThat(test.getCalculatedCount()).isEqualTo(0);
+    assertThat(results.get(1, 0).getValue()).isEqualTo(DoubleScenarioArray.of(DoubleArray.of(60d, 63d)));
+
+    test.calculateMultiScenario(targets, lazyMarketData(10, 25));
+    assertThat(fn.calculated).containsExactly(TARGET_B3);
+  }
+
+  //-------------------------------------------------------------------------
+  private static IncrementalCalculationSession session(TestFunction fn) {
+    CalculationRunner runner = CalculationRunner.of(MoreExecutors.newDirectExecutorService());
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.of(fn));
+    return IncrementalCalculationSession.of(runner, rules, COLUMNS, REF_DATA);
+  }
+
+  // market data with two scenarios, where the scenario values are calculated lazily
+  private static ScenarioMarketData lazyMarketData(double quoteA, double quoteB) {
+    return ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(ID_A, MarketDataBox.ofLazySingleValue(quoteA, 1).mapWithIndex(2, (value, idx) -> value + idx))
+        .addBox(ID_B, MarketDataBox.ofLazySingleValue(quoteB, 1).mapWithIndex(2, (value, idx) -> value + idx))
+        .build();
+  }
+
+  private static MarketData marketData(LocalDate valuationDate, double quoteA, double quoteB) {
+    return MarketData.of(valuationDate, ImmutableMap.of(ID_A, quoteA, ID_B, quoteB));
+  }
+
+  private static void assertValues(Results results, Double... expected) {
+    assertThat(results.getRowCount()).isEqualTo(expected.length);
+    for (int row = 0; row < expected.length; row++) {
+      assertThat(results.get(row, 0).getValue()).isEqualTo(expected[row]);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements CalculationTarget {
+
+    private final String quote;
+    private final int quantity;
+
+    private TestTarget(String quote, int quantity) {
+      this.quote = quote;
+      this.quantity = quantity;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof TestTarget) {
+        TestTarget other = (TestTarget) obj;
+        return quote.equals(other.quote) && quantity == other.quantity;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(quote, quantity);
+    }
+
+    @Override
+    public String toString() {
+      return quote + quantity;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestFunction implements CalculationFunction<TestTarget> {
+
+    private final List<TestTarget> calculated = new ArrayList<>();
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget target, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(TestObservableId.of(target.quote)).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      calculated.add(target);
+      MarketDataBox<Double> box = marketData.getValue(TestObservableId.of(target.quote));
+      DoubleScenarioArray result =
+          DoubleScenarioArray.of(marketData.getScenarioCount(), i -> box.getValue(i) * target.quantity);
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(result));
+    }
+  }
+
+}
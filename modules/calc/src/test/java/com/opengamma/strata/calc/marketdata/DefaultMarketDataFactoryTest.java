@@ -5,16 +5,30 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -493,6 +507,78 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(id2)).isEqualTo(MarketDataBox.ofSingleValue(2d));
   }
 
+  @Test
+  public void perturbObservableValuesLazily() {
+    MarketDataFactory factory = MarketDataFactory.ofLazyScenarios(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        2,
+        ImmutableList.of());
+
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    TestObservableId id1 = TestObservableId.of(StandardId.of("reqs", "a"));
+    TestObservableId id2 = TestObservableId.of(StandardId.of("reqs", "b"));
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1, id2).build();
+    PerturbationMapping<Double> mapping = PerturbationMapping.of(
+        new ExactIdFilter<>(id1),
+        new AbsoluteDoubleShift(1, 2, 3));
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+    BuiltScenarioMarketData marketData = factory.createMultiScenario(
+        requirements,
+        MARKET_DATA_CONFIG,
+        suppliedData,
+        REF_DATA, scenarioDefinition);
+
+    MarketDataBox<Double> box = marketData.getValue(id1);
+    assertThat(box.getScenarioCount()).isEqualTo(3);
+    assertThat(box.stream()).containsExactly(2d, 3d, 4d);
+    assertThat(marketData.getValue(id2)).isEqualTo(MarketDataBox.ofSingleValue(2d));
+  }
+
+  @Test
+  public void perturbObservableValuesLazily_failure() {
+    MarketDataFactory factory = MarketDataFactory.ofLazyScenarios(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        2,
+        ImmutableList.of());
+
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    TestObservableId id1 = TestObservableId.of(StandardId.of("reqs", "a"));
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1).build();
+    ScenarioPerturbation<Double> perturbation = new ScenarioPerturbation<Double>() {
+      @Override
+      public MarketDataBox<Double> applyTo(MarketDataBox<Double> marketData, ReferenceData refData) {
+        return marketData.mapWithIndex(3, (value, idx) -> {
+          if (idx == 2) {
+            throw new IllegalArgumentException("Invalid shift");
+          }
+          return value + idx;
+        });
+      }
+
+      @Override
+      public int getScenarioCount() {
+        return 3;
+      }
+
+      @Override
+      public Class<Double> getMarketDataType() {
+        return Double.class;
+      }
+    };
+    PerturbationMapping<Double> mapping = PerturbationMapping.of(new ExactIdFilter<>(id1), perturbation);
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+    BuiltScenarioMarketData marketData = factory.createMultiScenario(
+        requirements,
+        MARKET_DATA_CONFIG,
+        suppliedData,
+        REF_DATA, scenarioDefinition);
+
+    assertThat(marketData.findValue(id1)).isEmpty();
+    assertThat(marketData.getValueFailures().get(id1).getMessage()).contains("Invalid shift");
+  }
+
   /**
    * Tests that observable data is only perturbed once, even if there are two applicable perturbation mappings.
    */
@@ -862,6 +948,190 @@ public class DefaultMarketDataFactoryTest {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Tests building market data that depends on other market data using an executor.
+   */
+  @Test
+  public void buildDataFromOtherData_parallel() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 1)
+        .put(date(2011, 3, 9), 2)
+        .build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 10)
+        .put(date(2011, 3, 9), 20)
+        .build();
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(
+        ImmutableMap.of(new TestIdA("1"), timeSeries1, new TestIdA("2"), timeSeries2));
+    List<MarketDataFunction<?, ?>> functions =
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC());
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    MarketDataFactory sequentialFactory = MarketDataFactory.of(
+        new TestObservableDataProvider(), timeSeriesProvider, functions);
+    BuiltMarketData expected = sequentialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      MarketDataFactory factory = MarketDataFactory.ofParallel(
+          new TestObservableDataProvider(), timeSeriesProvider, executor, functions);
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getValue(new TestIdB("1")))
+          .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+      assertThat(marketData.getValue(new TestIdB("2")))
+          .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+      assertThat(marketData).isEqualTo(expected);
+      assertThat(marketData.getBuildTimes())
+          .containsOnlyKeys(new TestIdB("1"), new TestIdB("2"), new TestIdC("1"), new TestIdC("2"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that independent market data is built concurrently.
+   */
+  @Test
+  public void buildIndependentData_parallel() {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    BarrierMarketDataFunction function = new BarrierMarketDataFunction(barrier);
+    NonObservableId id1 = new NonObservableId("1");
+    NonObservableId id2 = new NonObservableId("2");
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1, id2).build();
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.ofParallel(
+          new TestObservableDataProvider(), TimeSeriesProvider.empty(), executor, ImmutableList.of(function));
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      // each build waits for the other, so this only succeeds if they are built at the same time
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getValue(id1)).isEqualTo("1.0");
+      assertThat(marketData.getValue(id2)).isEqualTo("2.0");
+      assertThat(marketData.getBuildTimes()).containsOnlyKeys(id1, id2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that an exception when building market data using an executor is thrown to the caller.
+   */
+  @Test
+  public void buildWithoutFunction_parallel() {
+    TestIdB id = new TestIdB("1");
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id).build();
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.ofParallel(
+          new TestObservableDataProvider(), TimeSeriesProvider.empty(), executor, ImmutableList.of());
+      assertThatIllegalStateException()
+          .isThrownBy(() -> factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA))
+          .withMessageContaining("No market data function available");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that an executor rejecting a task stops the build and is thrown to the caller.
+   */
+  @Test
+  @Timeout(10)
+  public void buildRejected_parallel() {
+    NonObservableId id1 = new NonObservableId("1");
+    NonObservableId id2 = new NonObservableId("2");
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1, id2).build();
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+    // runs the observable data request and the first item of market data, then rejects
+    AtomicInteger submitted = new AtomicInteger();
+    Executor executor = task -> {
+      if (submitted.incrementAndGet() > 2) {
+        throw new RejectedExecutionException("Rejected");
+      }
+      task.run();
+    };
+    MarketDataFactory factory = MarketDataFactory.ofParallel(
+        new TestObservableDataProvider(),
+        TimeSeriesProvider.empty(),
+        executor,
+        ImmutableList.of(new NonObservableMarketDataFunction()));
+    assertThatExceptionOfType(RejectedExecutionException.class)
+        .isThrownBy(() -> factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA))
+        .withMessage("Rejected");
+    assertThat(submitted.get()).isEqualTo(3);
+  }
+
+  /**
+   * Tests that observable data and time series are requested in batches using an executor.
+   */
+  @Test
+  public void buildObservablesAndTimeSeries_batched() {
+    int count = DefaultMarketDataFactory.PROVIDER_BATCH_SIZE * 2 + 500;
+    List<TestObservableId> ids = IntStream.range(0, count)
+        .mapToObj(i -> TestObservableId.of(Integer.toString(i)))
+        .collect(toImmutableList());
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(ids)
+        .addTimeSeries(ids)
+        .build();
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+    BatchRecordingProvider provider = new BatchRecordingProvider();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      MarketDataFactory factory = MarketDataFactory.ofParallel(provider, provider, executor, ImmutableList.of());
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getTimeSeriesFailures()).isEmpty();
+      for (TestObservableId id : ids) {
+        double value = Double.parseDouble(id.getStandardId().getValue());
+        assertThat(marketData.getValue(id)).isEqualTo(value);
+        assertThat(marketData.getTimeSeries(id).get(date(2011, 3, 8))).hasValue(value);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(provider.observableBatchSizes).containsExactlyInAnyOrder(1000, 1000, 500);
+    assertThat(provider.timeSeriesBatchSizes).containsExactlyInAnyOrder(1000, 1000, 500);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Provider of observable data and time series that records the size of each batch.
+   */
+  private static final class BatchRecordingProvider implements ObservableDataProvider, TimeSeriesProvider {
+
+    private final List<Integer> observableBatchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> timeSeriesBatchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Map<ObservableId, Result<Double>> provideObservableData(Set<? extends ObservableId> identifiers) {
+      observableBatchSizes.add(identifiers.size());
+      return identifiers.stream()
+          .collect(toImmutableMap(id -> id, id -> Result.success(Double.parseDouble(id.getStandardId().getValue()))));
+    }
+
+    @Override
+    public Map<ObservableId, Result<LocalDateDoubleTimeSeries>> provideTimeSeries(Set<? extends ObservableId> identifiers) {
+      timeSeriesBatchSizes.add(identifiers.size());
+      return TimeSeriesProvider.super.provideTimeSeries(identifiers);
+    }
+
+    @Override
+    public Result<LocalDateDoubleTimeSeries> provideTimeSeries(ObservableId id) {
+      double value = Double.parseDouble(id.getStandardId().getValue());
+      return Result.success(LocalDateDoubleTimeSeries.of(date(2011, 3, 8), value));
+    }
+  }
+
   /**
    * Simple time series provider backed by a map.
    */
@@ -1305,6 +1575,44 @@ public class DefaultMarketDataFactoryTest {
     }
   }
 
+  /**
+   * Market data function that waits for another build to reach the same point before building.
+   */
+  private static final class BarrierMarketDataFunction implements MarketDataFunction<String, NonObservableId> {
+
+    private final NonObservableMarketDataFunction underlying = new NonObservableMarketDataFunction();
+    private final CyclicBarrier barrier;
+
+    private BarrierMarketDataFunction(CyclicBarrier barrier) {
+      this.barrier = barrier;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(NonObservableId id, MarketDataConfig marketDataConfig) {
+      return underlying.requirements(id, marketDataConfig);
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        NonObservableId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      try {
+        barrier.await(10, TimeUnit.SECONDS);
+      } catch (Exception ex) {
+        throw new IllegalStateException(ex);
+      }
+      return underlying.build(id, marketDataConfig, marketData, refData);
+    }
+
+    @Override
+    public Class<NonObservableId> getMarketDataIdType() {
+      return NonObservableId.class;
+    }
+  }
+
   /**
    * A perturbation which perturbs a string by appending another string to it.
    */
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.MoreFiles;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.ObservableSource;
+
+/**
+ * Test {@link FileTimeSeriesProvider}.
+ */
+public class FileTimeSeriesProviderTest {
+
+  private static final TestObservableId ID1 = TestObservableId.of(StandardId.of("OG-Ticker", "GBP/LIBOR 3M"));
+  private static final TestObservableId ID2 = TestObservableId.of("2");
+  private static final TestObservableId ID2_SOURCE = TestObservableId.of("2", ObservableSource.of("Vendor"));
+  private static final LocalDateDoubleTimeSeries SERIES1 = LocalDateDoubleTimeSeries.builder()
+      .put(date(2011, 3, 8), 0.01)
+      .put(date(2011, 3, 9), 0.02)
+      .build();
+  private static final LocalDateDoubleTimeSeries SERIES2 = LocalDateDoubleTimeSeries.of(date(2012, 4, 8), 10);
+
+  private Path tmpDir;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    tmpDir = Files.createTempDirectory("file-time-series-provider-test");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    try {
+      MoreFiles.deleteRecursively(tmpDir);
+    } catch (IOException ex) {
+      // ignore
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_storeAndProvide() {
+    FileTimeSeriesProvider test = FileTimeSeriesProvider.of(tmpDir);
+    test.store(ID1, SERIES1);
+    test.store(ID2, SERIES2);
+    assertThat(test.provideTimeSeries(ID1)).isEqualTo(Result.success(SERIES1));
+    assertThat(test.provideTimeSeries(ID2)).isEqualTo(Result.success(SERIES2));
+    assertThat(test.provideTimeSeries(ID2_SOURCE).getFailure().getReason()).isEqualTo(FailureReason.MISSING_DATA);
+
+    // replace
+    test.store(ID2, SERIES1);
+    assertThat(test.provideTimeSeries(ID2)).isEqualTo(Result.success(SERIES1));
+    assertThat(test.toString()).contains(tmpDir.toString());
+  }
+
+  @Test
+  public void test_provideBatch() {
+    FileTimeSeriesProvider test = FileTimeSeriesProvider.of(tmpDir);
+    test.store(ID1, SERIES1);
+    test.store(ID2_SOURCE, SERIES2);
+    Map<ObservableId, Result<LocalDateDoubleTimeSeries>> result = test.provideTimeSeries(ImmutableSet.of(ID1, ID2));
+    assertThat(result).hasSize(2);
+    assertThat(result.get(ID1)).isEqualTo(Result.success(SERIES1));
+    assertThat(result.get(ID2).isFailure()).isTrue();
+    assertThat(test.provideTimeSeries(ID2_SOURCE)).isEqualTo(Result.success(SERIES2));
+  }
+
+  @Test
+  public void test_invalidFile() throws IOException {
+    FileTimeSeriesProvider test = FileTimeSeriesProvider.of(tmpDir);
+    test.store(ID2, SERIES2);
+    try (Stream<Path> files = Files.list(tmpDir)) {
+      Path file = files.findFirst().get();
+      Files.write(file, "Date,Value\n2012-04-08,abc\n".getBytes(StandardCharsets.UTF_8));
+    }
+    Result<LocalDateDoubleTimeSeries> result = test.provideTimeSeries(ID2);
+    assertThat(result.getFailure().getReason()).isEqualTo(FailureReason.PARSING);
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.LongArray;
+
+/**
+ * Test {@link CalculationProfiler}, {@link CalculationTaskProfile} and {@link CalculationProfileSummary}.
+ */
+public class CalculationProfilerTest {
+
+  private static final CalculationTaskProfile PROFILE1 = CalculationTaskProfile.of(
+      0,
+      TestTarget.class,
+      String.class,
+      ImmutableSet.of(TestingMeasures.PRESENT_VALUE, TestingMeasures.PAR_RATE),
+      1,
+      Duration.ofNanos(1000),
+      800,
+      100);
+  private static final CalculationTaskProfile PROFILE2 = CalculationTaskProfile.of(
+      1,
+      TestTarget.class,
+      Integer.class,
+      ImmutableSet.of(TestingMeasures.PRESENT_VALUE),
+      1,
+      Duration.ofNanos(3000),
+      2000,
+      200);
+  private static final CalculationTaskProfile PROFILE3 = CalculationTaskProfile.of(
+      2,
+      String.class,
+      Integer.class,
+      ImmutableSet.of(TestingMeasures.PAR_RATE),
+      1,
+      Duration.ofNanos(5000),
+      -1,
+      -1);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_taskProfiled() {
+    CalculationProfiler test = CalculationProfiler.create();
+    assertThat(test.summary().getTaskCount()).isEqualTo(0);
+    assertThat(test.summary().getMeanWallTime()).isEqualTo(Duration.ZERO);
+    test.taskProfiled(PROFILE1);
+    test.taskProfiled(PROFILE2);
+
+    CalculationProfileSummary total = test.summary();
+    assertThat(total.getTaskCount()).isEqualTo(2);
+    assertThat(total.getTotalWallTime()).isEqualTo(Duration.ofNanos(4000));
+    assertThat(total.getTotalCpuTimeNanos()).isEqualTo(2800);
+    assertThat(total.getTotalAllocatedBytes()).isEqualTo(300);
+    assertThat(total.getMaxWallTime()).isEqualTo(Duration.ofNanos(3000));
+    assertThat(total.getMeanWallTime()).isEqualTo(Duration.ofNanos(2000));
+    // 1000 is in bucket 9 (512 to 1023), 3000 is in bucket 11 (2048 to 4095)
+    assertThat(total.getWallTimeHistogram().get(9)).isEqualTo(1);
+    assertThat(total.getWallTimeHistogram().get(11)).isEqualTo(1);
+
+    assertThat(test.summaryByFunction()).containsOnlyKeys(String.class, Integer.class);
+    assertThat(test.summaryByFunction().get(String.class).getTaskCount()).isEqualTo(1);
+    assertThat(test.summaryByMeasure()).containsOnlyKeys(TestingMeasures.PRESENT_VALUE, TestingMeasures.PAR_RATE);
+    assertThat(test.summaryByMeasure().get(TestingMeasures.PRESENT_VALUE).getTaskCount()).isEqualTo(2);
+    assertThat(test.summaryByMeasure().get(TestingMeasures.PAR_RATE).getTaskCount()).isEqualTo(1);
+    assertThat(test.summaryByTargetType()).containsOnlyKeys(TestTarget.class);
+
+    // CPU time and allocation not supported for one task
+    test.taskProfiled(PROFILE3);
+    assertThat(test.summary().getTotalCpuTimeNanos()).isEqualTo(-1);
+    assertThat(test.summary().getTotalAllocatedBytes()).isEqualTo(-1);
+    assertThat(test.summaryByFunction().get(String.class).getTotalAllocatedBytes()).isEqualTo(100);
+    assertThat(test.toString()).isEqualTo("CalculationProfiler[3 tasks]");
+  }
+
+  @Test
+  public void test_wallTimePercentile() {
+    CalculationProfiler profiler = CalculationProfiler.create();
+    profiler.taskProfiled(PROFILE1);
+    profiler.taskProfiled(PROFILE2);
+    profiler.taskProfiled(PROFILE3);
+    CalculationProfileSummary test = profiler.summary();
+    assertThat(test.wallTimePercentile(0)).isEqualTo(Duration.ofNanos(1023));
+    assertThat(test.wallTimePercentile(0.5)).isEqualTo(Duration.ofNanos(4095));
+    assertThat(test.wallTimePercentile(1)).isEqualTo(Duration.ofNanos(5000));
+    assertThat(CalculationProfiler.create().summary().wallTimePercentile(0.5)).isEqualTo(Duration.ZERO);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverImmutableBean(PROFILE1);
+    coverBeanEquals(PROFILE1, PROFILE3);
+    assertSerialization(PROFILE1);
+    CalculationProfileSummary summary1 = CalculationProfileSummary.of(
+        1, Duration.ofNanos(2), 1, 3, Duration.ofNanos(2), LongArray.filled(64));
+    CalculationProfileSummary summary2 = CalculationProfileSummary.of(
+        2, Duration.ofNanos(4), -1, -1, Duration.ofNanos(3), LongArray.filled(64, 1));
+    coverImmutableBean(summary1);
+    coverBeanEquals(summary1, summary2);
+    assertSerialization(summary1);
+  }
+
+}
@@ -8,11 +8,17 @@ package com.opengamma.strata.calc.runner;
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
 import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -20,7 +26,9 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -32,14 +40,20 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.CalculationRunner;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
 import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -52,6 +66,8 @@ public class DefaultCalculationTaskRunnerTest {
   private static final TestTarget TARGET = new TestTarget();
   private static final LocalDate VAL_DATE = date(2011, 3, 8);
   private static final Set<Measure> MEASURES = ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+  private static final TestObservableId SCENARIO_ID = TestObservableId.of("scenario");
+  private static final DoubleScenarioArray EXPECTED = DoubleScenarioArray.of(DoubleArray.of(1d, 2d, 3d, 4d, 5d));
 
   //-------------------------------------------------------------------------
   // Test that ScenarioArrays containing a single value are unwrapped.
@@ -89,6 +105,30 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(result3).hasValue("foo");
   }
 
+  /**
+   * Test that the resources used by each task are passed to the profile listener.
+   */
+  @Test
+  public void calculate_profiled() {
+    ScenarioArray<String> scenarioResult = ScenarioArray.of("foo");
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, scenarioResult);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    CalculationProfiler profiler = CalculationProfiler.create();
+    CalculationTaskRunner test = CalculationTaskRunner.of(
+        MoreExecutors.newDirectExecutorService(), CalculationTaskRunnerOptions.ofProfileListener(profiler));
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.get(0, 0)).hasValue("foo");
+
+    assertThat(profiler.summary().getTaskCount()).isEqualTo(1);
+    assertThat(profiler.summaryByFunction()).containsOnlyKeys(ScenarioResultFunction.class);
+    assertThat(profiler.summaryByMeasure()).containsOnlyKeys(TestingMeasures.PRESENT_VALUE);
+    assertThat(profiler.summaryByTargetType()).containsOnlyKeys(TestTarget.class);
+  }
+
   /**
    * Test that ScenarioArrays containing multiple values are an error.
    */
@@ -157,6 +197,269 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Tests that calculating scenarios in chunks produces the same results as calculating them all at once.
+   */
+  @Test
+  public void calculateMultiScenarioInChunks() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(SCENARIO_ID, MarketDataBox.ofScenarioValues(1d, 2d, 3d, 4d, 5d))
+        .build();
+    ScenarioValueFunction fn = new ScenarioValueFunction();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTask task1 = CalculationTask.of(TARGET, fn, cell);
+    CalculationTask task2 = CalculationTask.of(TARGET, fn, CalculationTaskCell.of(1, 0, TestingMeasures.PRESENT_VALUE, NATURAL));
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task1, task2), ImmutableList.of(column));
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    // the calculations are also profiled, showing the options can be combined
+    CalculationProfiler profiler = CalculationProfiler.create();
+    CalculationTaskRunnerOptions options = CalculationTaskRunnerOptions.builder()
+        .scenarioChunkSize(2)
+        .profileListener(profiler)
+        .build();
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), options);
+    Results results = test.calculateMultiScenario(tasks, marketData, REF_DATA);
+    assertThat(results.getRowCount()).isEqualTo(2);
+    assertThat(results.get(0, 0)).hasValue(EXPECTED);
+    assertThat(results.get(1, 0)).hasValue(EXPECTED);
+    assertThat(fn.maxScenarioCount.get()).isEqualTo(2);
+    // each task is executed once for each of the three groups of scenarios
+    assertThat(profiler.summary().getTaskCount()).isEqualTo(6);
+
+    // fewer scenarios than the chunk size
+    ScenarioValueFunction fn2 = new ScenarioValueFunction();
+    CalculationTasks tasks2 = CalculationTasks.of(
+        ImmutableList.of(CalculationTask.of(TARGET, fn2, cell)), ImmutableList.of(column));
+    CalculationTaskRunner test2 = CalculationTaskRunner.of(
+        MoreExecutors.newDirectExecutorService(), CalculationTaskRunnerOptions.ofScenarioChunkSize(10));
+    Results results2 = test2.calculateMultiScenario(tasks2, marketData, REF_DATA);
+    assertThat(results2.get(0, 0)).hasValue(EXPECTED);
+    assertThat(fn2.maxScenarioCount.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void calculateMultiScenarioInChunks_multiThreaded() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(SCENARIO_ID, MarketDataBox.ofScenarioValues(1d, 2d, 3d, 4d, 5d))
+        .build();
+    ScenarioValueFunction fn = new ScenarioValueFunction();
+    List<CalculationTask> taskList = IntStream.range(0, 3)
+        .mapToObj(i -> CalculationTask.of(TARGET, fn, CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL)))
+        .collect(toImmutableList());
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(taskList, ImmutableList.of(column));
+
+    CalculationTaskRunnerOptions options = CalculationTaskRunnerOptions.ofScenarioChunkSize(3);
+    try (CalculationRunner runner = CalculationRunner.of(CalculationTaskRunner.of(Executors.newFixedThreadPool(2), options))) {
+      Results results = runner.getTaskRunner().calculateMultiScenario(tasks, marketData, REF_DATA);
+      for (int i = 0; i < 3; i++) {
+        assertThat(results.get(i, 0)).hasValue(EXPECTED);
+      }
+    }
+    assertThat(fn.maxScenarioCount.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void invalidChunkSize() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CalculationTaskRunnerOptions.ofScenarioChunkSize(0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunnerOptions.builder().scenarioChunkSize(-1).build());
+    assertThat(CalculationTaskRunnerOptions.DEFAULT.getScenarioChunkSize()).isEqualTo(0);
+    assertThat(CalculationTaskRunnerOptions.DEFAULT.getProfileListener()).isEmpty();
+  }
+
+  /**
+   * Tests that every cell receives a failure if a group of scenarios cannot be calculated.
+   */
+  @Test
+  @Timeout(5)
+  public void calculateMultiScenarioInChunks_chunkFails() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(SCENARIO_ID, MarketDataBox.ofScenarioValues(1d, 2d, 3d, 4d, 5d))
+        .build();
+    CalculationTasks tasks = tasks(new ScenarioValueFunction(), 2);
+    // the executor rejects the tasks of the first group of scenarios
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+
+    CalculationTaskRunner test = CalculationTaskRunner.of(executor, CalculationTaskRunnerOptions.ofScenarioChunkSize(2));
+    ResultsListener listener = new ResultsListener();
+    CalculationRun run = test.calculateMultiScenarioAsync(
+        tasks, marketData, REF_DATA, listener, CalculationRunOptions.DEFAULT);
+    Results results = listener.result();
+    assertThat(results.get(0, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+    assertThat(results.get(1, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+    assertThat(results.get(0, 0).getFailure().getMessage()).startsWith("Unable to calculate group of scenarios");
+    assertThat(run.isDone()).isTrue();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  @Timeout(5)
+  public void calculateMultiScenarioAsync_cancel() throws InterruptedException {
+    BlockingFunction fn = new BlockingFunction();
+    CalculationTasks tasks = tasks(fn, 3);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.of(executor);
+      ResultsListener listener = new ResultsListener();
+      CalculationRun run = test.calculateMultiScenarioAsync(
+          tasks, ScenarioMarketData.empty(), REF_DATA, listener, CalculationRunOptions.DEFAULT);
+      fn.started.await();
+      assertThat(run.isCancelled()).isFalse();
+      run.cancel();
+      fn.release.countDown();
+      Results results = listener.result();
+
+      assertThat(results.get(0, 0)).hasValue(1d);
+      assertThat(results.get(1, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+      assertThat(results.get(2, 0).getFailure().getMessage()).isEqualTo("Calculation cancelled");
+      assertThat(fn.callCount.get()).isEqualTo(1);
+      assertThat(run.isCancelled()).isTrue();
+      assertThat(run.isDone()).isTrue();
+      assertThat(run.getCompletedTaskCount()).isEqualTo(3);
+      assertThat(run.getTaskCount()).isEqualTo(3);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void calculateMultiScenarioAsync_deadline() {
+    BlockingFunction fn = new BlockingFunction();
+    fn.release.countDown();
+    CalculationTasks tasks = tasks(fn, 2);
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+
+    // deadline passed
+    ResultsListener listener = new ResultsListener();
+    CalculationRunOptions options = CalculationRunOptions.builder().deadline(Instant.EPOCH).build();
+    CalculationRun run = test.calculateMultiScenarioAsync(tasks, ScenarioMarketData.empty(), REF_DATA, listener, options);
+    Results results = listener.result();
+    assertThat(results.get(0, 0).getFailure().getMessage()).isEqualTo("Calculation deadline exceeded");
+    assertThat(results.get(1, 0).getFailure().getMessage()).isEqualTo("Calculation deadline exceeded");
+    assertThat(fn.callCount.get()).isEqualTo(0);
+    assertThat(run.isCancelled()).isTrue();
+    assertThat(run.isDone()).isTrue();
+
+    // deadline in the future
+    ResultsListener listener2 = new ResultsListener();
+    CalculationRunOptions options2 = CalculationRunOptions.builder().deadline(Instant.now().plusSeconds(3600)).build();
+    CalculationRun run2 = test.calculateMultiScenarioAsync(tasks, ScenarioMarketData.empty(), REF_DATA, listener2, options2);
+    Results results2 = listener2.result();
+    assertThat(results2.get(0, 0)).hasValue(1d);
+    assertThat(results2.get(1, 0)).hasValue(1d);
+    assertThat(run2.isCancelled()).isFalse();
+    assertThat(run2.isDone()).isTrue();
+  }
+
+  @Test
+  @Timeout(10)
+  public void calculateMultiScenarioAsync_maxTasksInFlight() {
+    InFlightFunction fn = new InFlightFunction();
+    CalculationTasks tasks = tasks(fn, 20);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.of(executor);
+      ResultsListener listener = new ResultsListener();
+      CalculationRunOptions options = CalculationRunOptions.ofMaxTasksInFlight(2);
+      CalculationRun run = test.calculateMultiScenarioAsync(tasks, ScenarioMarketData.empty(), REF_DATA, listener, options);
+      Results results = listener.result();
+
+      for (int i = 0; i < 20; i++) {
+        assertThat(results.get(i, 0)).hasValue(1d);
+      }
+      assertThat(fn.maxInFlight.get()).isBetween(1, 2);
+      assertThat(run.getCompletedTaskCount()).isEqualTo(20);
+      assertThat(run.isDone()).isTrue();
+      assertThat(run.isCancelled()).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void calculateMultiScenarioAsync_cancelInChunks() {
+    BlockingFunction fn = new BlockingFunction();
+    fn.release.countDown();
+    CalculationTasks tasks = tasks(fn, 2);
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addBox(SCENARIO_ID, MarketDataBox.ofScenarioValues(1d, 2d, 3d))
+        .build();
+    CalculationTaskRunner test = CalculationTaskRunner.of(
+        MoreExecutors.newDirectExecutorService(), CalculationTaskRunnerOptions.ofScenarioChunkSize(2));
+
+    ResultsListener listener = new ResultsListener();
+    CalculationRunOptions options = CalculationRunOptions.builder().deadline(Instant.EPOCH).build();
+    CalculationRun run = test.calculateMultiScenarioAsync(tasks, marketData, REF_DATA, listener, options);
+    Results results = listener.result();
+    assertThat(results.get(0, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+    assertThat(results.get(1, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+    assertThat(fn.callCount.get()).isEqualTo(0);
+    assertThat(run.isDone()).isTrue();
+  }
+
+  @Test
+  public void calculateMultiScenarioAsync_defaultMethod() {
+    BlockingFunction fn = new BlockingFunction();
+    fn.release.countDown();
+    CalculationTasks tasks = tasks(fn, 2);
+    CalculationTaskRunner test = new DelegatingTaskRunner(CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()));
+
+    // the options are ignored by the default method
+    ResultsListener listener = new ResultsListener();
+    CalculationRunOptions options = CalculationRunOptions.builder().deadline(Instant.EPOCH).build();
+    CalculationRun run = test.calculateMultiScenarioAsync(tasks, ScenarioMarketData.empty(), REF_DATA, listener, options);
+    Results results = listener.result();
+    assertThat(results.get(0, 0)).hasValue(1d);
+    assertThat(results.get(1, 0)).hasValue(1d);
+    assertThat(run.getTaskCount()).isEqualTo(2);
+    assertThat(run.getCompletedTaskCount()).isEqualTo(2);
+    assertThat(run.isDone()).isTrue();
+    assertThat(run.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void calculationRunOptions() {
+    CalculationRunOptions test = CalculationRunOptions.builder()
+        .maxTasksInFlight(4)
+        .deadline(Instant.EPOCH)
+        .build();
+    assertThat(test.getMaxTasksInFlight()).isEqualTo(4);
+    assertThat(test.getDeadline()).hasValue(Instant.EPOCH);
+    assertThat(CalculationRunOptions.DEFAULT.getMaxTasksInFlight()).isEqualTo(0);
+    assertThat(CalculationRunOptions.DEFAULT.getDeadline()).isEmpty();
+    assertThatIllegalArgumentException().isThrownBy(() -> CalculationRunOptions.ofMaxTasksInFlight(-1));
+    coverImmutableBean(test);
+    coverBeanEquals(test, CalculationRunOptions.ofMaxTasksInFlight(2));
+    assertSerialization(test);
+  }
+
+  @Test
+  @Timeout(10)
+  public void calculate_virtualThreads() {
+    InFlightFunction fn = new InFlightFunction();
+    CalculationTasks tasks = tasks(fn, 20);
+    Results results;
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofVirtualThreads(4)) {
+      results = test.calculateMultiScenario(tasks, ScenarioMarketData.empty(), REF_DATA);
+    }
+    for (int i = 0; i < 20; i++) {
+      assertThat(results.get(i, 0)).hasValue(1d);
+    }
+    assertThat(fn.maxInFlight.get()).isBetween(1, 4);
+  }
+
+  private static CalculationTasks tasks(CalculationFunction<TestTarget> fn, int count) {
+    List<CalculationTask> taskList = IntStream.range(0, count)
+        .mapToObj(i -> CalculationTask.of(TARGET, fn, CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL)))
+        .collect(toImmutableList());
+    return CalculationTasks.of(taskList, ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -205,6 +508,131 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class ScenarioValueFunction implements CalculationFunction<TestTarget> {
+
+    private final AtomicInteger maxScenarioCount = new AtomicInteger();
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      maxScenarioCount.accumulateAndGet(marketData.getScenarioCount(), Math::max);
+      MarketDataBox<Double> box = marketData.getValue(SCENARIO_ID);
+      DoubleScenarioArray result = DoubleScenarioArray.of(marketData.getScenarioCount(), i -> box.getValue(i));
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(result));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private abstract static class ValueFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+  }
+
+  // the first call blocks until released
+  private static final class BlockingFunction extends ValueFunction {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger callCount = new AtomicInteger();
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      callCount.incrementAndGet();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(1d));
+    }
+  }
+
+  // records the maximum number of concurrent calls
+  private static final class InFlightFunction extends ValueFunction {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(1d));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
@@ -359,4 +787,51 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Task runner that only implements the abstract methods.
+   */
+  private static final class DelegatingTaskRunner implements CalculationTaskRunner {
+    private final CalculationTaskRunner delegate;
+
+    private DelegatingTaskRunner(CalculationTaskRunner delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Results calculate(CalculationTasks tasks, MarketData marketData, ReferenceData refData) {
+      return delegate.calculate(tasks, marketData, refData);
+    }
+
+    @Override
+    public void calculateAsync(
+        CalculationTasks tasks,
+        MarketData marketData,
+        ReferenceData refData,
+        CalculationListener listener) {
+
+      delegate.calculateAsync(tasks, marketData, refData, listener);
+    }
+
+    @Override
+    public Results calculateMultiScenario(CalculationTasks tasks, ScenarioMarketData marketData, ReferenceData refData) {
+      return delegate.calculateMultiScenario(tasks, marketData, refData);
+    }
+
+    @Override
+    public void calculateMultiScenarioAsync(
+        CalculationTasks tasks,
+        ScenarioMarketData marketData,
+        ReferenceData refData,
+        CalculationListener listener) {
+
+      delegate.calculateMultiScenarioAsync(tasks, marketData, refData, listener);
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.result.FailureReason.CALCULATION_FAILED;
+import static com.opengamma.strata.collect.result.FailureReason.MISSING_DATA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.AggregatedResults;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+
+/**
+ * Test {@link ResultsAggregation} and {@link ResultsAggregationListener}.
+ */
+public class ResultsAggregationTest {
+
+  private static final List<Column> COLUMNS =
+      ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE), Column.of(TestingMeasures.PAR_RATE));
+  private static final List<ColumnHeader> HEADERS =
+      ImmutableList.of(COLUMNS.get(0).toHeader(), COLUMNS.get(1).toHeader());
+  private static final ImmutableList<String> TOTAL = ImmutableList.of();
+  private static final ImmutableList<String> DESK_A = ImmutableList.of("A");
+  private static final ImmutableList<String> DESK_A_BOOK_1 = ImmutableList.of("A", "1");
+  private static final ImmutableList<String> DESK_A_BOOK_2 = ImmutableList.of("A", "2");
+  private static final ImmutableList<String> DESK_B = ImmutableList.of("B");
+  private static final ImmutableList<String> DESK_B_BOOK_1 = ImmutableList.of("B", "1");
+  private static final ResultsAggregation AGGREGATION = ResultsAggregation.of(target -> ((TestTarget) target).path);
+  private static final List<CalculationTarget> TARGETS = ImmutableList.of(
+      new TestTarget("A", "1"),
+      new TestTarget("A", "2"),
+      new TestTarget("B", "1"),
+      new TestTarget("A", "1"));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_listener() {
+    Results results = results(
+        CurrencyAmount.of(GBP, 1), 1d,
+        CurrencyAmount.of(GBP, 2), 2d,
+        CurrencyAmount.of(GBP, 4), 4d,
+        CurrencyAmount.of(GBP, 8), 8d);
+    AggregatedResults test = aggregateUsingListener(AGGREGATION, results);
+    assertThat(test.getGroups()).containsExactly(TOTAL, DESK_A, DESK_A_BOOK_1, DESK_A_BOOK_2, DESK_B, DESK_B_BOOK_1);
+    assertThat(test.getResults().getColumns()).isEqualTo(HEADERS);
+    assertThat(test.get(TOTAL, 0).getValue()).isEqualTo(CurrencyAmount.of(GBP, 15));
+    assertThat(test.get(TOTAL, 1).getValue()).isEqualTo(15d);
+    assertThat(test.get(DESK_A, 0).getValue()).isEqualTo(CurrencyAmount.of(GBP, 11));
+    assertThat(test.get(DESK_A_BOOK_1, 0).getValue()).isEqualTo(CurrencyAmount.of(GBP, 9));
+    assertThat(test.get(DESK_A_BOOK_2, 1).getValue()).isEqualTo(2d);
+    assertThat(test.get(DESK_B_BOOK_1, 0).getValue()).isEqualTo(CurrencyAmount.of(GBP, 4));
+    assertThat(AGGREGATION.aggregate(TARGETS, results)).isEqualTo(test);
+  }
+
+  @Test
+  public void test_multipleCurrencies() {
+    Results results = results(
+        CurrencyAmount.of(GBP, 1), CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2)),
+        CurrencyAmount.of(USD, 2), CurrencyScenarioArray.of(USD, DoubleArray.of(3, 4)),
+        MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 4)), CurrencyScenarioArray.of(GBP, DoubleArray.of(5, 6)),
+        CurrencyAmount.of(GBP, 8),
+        MultiCurrencyScenarioArray.of(MultiCurrencyAmount.of(EUR, 7), MultiCurrencyAmount.of(EUR, 8)));
+    AggregatedResults test = aggregateUsingListener(AGGREGATION, results);
+    assertThat(test.get(TOTAL, 0).getValue())
+        .isEqualTo(MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 13), CurrencyAmount.of(USD, 2)));
+    assertThat(test.get(TOTAL, 1).getValue()).isEqualTo(MultiCurrencyScenarioArray.of(
+        MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 6), CurrencyAmount.of(USD, 3), CurrencyAmount.of(EUR, 7)),
+        MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 8), CurrencyAmount.of(USD, 4), CurrencyAmount.of(EUR, 8))));
+    assertThat(test.get(DESK_A_BOOK_1, 0).getValue()).isEqualTo(CurrencyAmount.of(GBP, 9));
+    assertThat(test.get(DESK_A_BOOK_1, 1).getValue()).isEqualTo(MultiCurrencyScenarioArray.of(
+        MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 1), CurrencyAmount.of(EUR, 7)),
+        MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 2), CurrencyAmount.of(EUR, 8))));
+    // a multiple currency value is retained even if it contains a single currency
+    assertThat(test.get(DESK_B, 0).getValue()).isEqualTo(MultiCurrencyAmount.of(GBP, 4));
+    assertThat(test.get(DESK_B, 1).getValue()).isEqualTo(CurrencyScenarioArray.of(GBP, DoubleArray.of(5, 6)));
+  }
+
+  @Test
+  public void test_failures() {
+    Results results = results(
+        DoubleScenarioArray.of(DoubleArray.of(1, 2)), Result.failure(MISSING_DATA, "Missing"),
+        DoubleScenarioArray.of(DoubleArray.of(1, 2, 3)), 2d,
+        DoubleScenarioArray.of(DoubleArray.of(3, 4)), CurrencyAmount.of(GBP, 3),
+        DoubleScenarioArray.of(DoubleArray.of(5, 6)), 4d);
+    AggregatedResults test = aggregateUsingListener(AGGREGATION, results);
+    assertThat(test.get(DESK_A_BOOK_1, 0).getValue()).isEqualTo(DoubleScenarioArray.of(DoubleArray.of(6, 8)));
+    assertThat(test.get(DESK_A_BOOK_1, 1).getFailure().getReason()).isEqualTo(MISSING_DATA);
+    assertThat(test.get(DESK_A, 0).getFailure().getMessage()).contains("expected 2 scenarios but found 3");
+    assertThat(test.get(DESK_A_BOOK_2, 1).getValue()).isEqualTo(2d);
+    assertThat(test.get(DESK_B, 1).getValue()).isEqualTo(CurrencyAmount.of(GBP, 3));
+    assertThat(test.get(TOTAL, 1).getFailure().getReason()).isEqualTo(MISSING_DATA);
+    assertThat(test.get(TOTAL, 0).getFailure().getReason()).isEqualTo(CALCULATION_FAILED);
+    AggregatedResults aggregated = AGGREGATION.aggregate(TARGETS, results);
+    assertThat(aggregated.get(DESK_A, 0).getFailure().getMessage())
+        .isEqualTo(test.get(DESK_A, 0).getFailure().getMessage());
+    assertThat(aggregated.get(DESK_B, 1)).isEqualTo(test.get(DESK_B, 1));
+  }
+
+  @Test
+  public void test_incompatibleTypes() {
+    Results results = results(1d, 1d, 2d, 2d, CurrencyAmount.of(GBP, 3), 3d, 4d, 4d);
+    AggregatedResults test = aggregateUsingListener(AGGREGATION, results);
+    assertThat(test.get(DESK_A, 0).getValue()).isEqualTo(7d);
+    assertThat(test.get(TOTAL, 0).getFailure().getMessage()).contains("incompatible types");
+    assertThat(test.get(TOTAL, 1).getValue()).isEqualTo(10d);
+  }
+
+  @Test
+  public void test_combiner() {
+    Results results = results("a", "a", "b", "b", "c", "c", "d", "d");
+    ResultsAggregation aggregation = AGGREGATION.withCombiner(CharSequence.class, (a, b) -> a + "" + b);
+    AggregatedResults test = aggregateUsingListener(aggregation, results);
+    assertThat(test.get(DESK_A, 0).getValue()).isEqualTo("abd");
+    assertThat(test.get(DESK_B, 0).getValue()).isEqualTo("c");
+    assertThat(aggregation.aggregate(TARGETS, results).get(DESK_A, 1).getValue()).isEqualTo("abd");
+    // no combiner has been registered, which fails even if there is only one value
+    AggregatedResults noCombiner = aggregateUsingListener(AGGREGATION, results);
+    assertThat(noCombiner.get(DESK_B, 0).getFailure().getMessage()).contains("no combiner has been registered");
+    assertThat(noCombiner.get(DESK_A, 0).getFailure().getMessage()).contains("no combiner has been registered");
+    assertThat(AGGREGATION.aggregate(TARGETS, results).get(DESK_B, 0).getFailure().getReason())
+        .isEqualTo(CALCULATION_FAILED);
+  }
+
+  @Test
+  public void test_aggregate_parallel() {
+    int rowCount = 10_000;
+    List<CalculationTarget> targets = new ArrayList<>();
+    List<Result<?>> cells = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      targets.add(new TestTarget("Desk" + (i % 3), "Book" + (i % 7)));
+      cells.add(Result.success(CurrencyScenarioArray.of(GBP, DoubleArray.of(i, 2 * i))));
+      cells.add(Result.success((double) i));
+    }
+    Results results = Results.of(HEADERS, cells);
+    AggregatedResults test = AGGREGATION.aggregate(targets, results);
+    double total = (double) rowCount * (rowCount - 1) / 2;
+    assertThat(test.get(TOTAL, 0).getValue())
+        .isEqualTo(CurrencyScenarioArray.of(GBP, DoubleArray.of(total, 2 * total)));
+    assertThat(test.get(TOTAL, 1).getValue()).isEqualTo(total);
+    assertThat(test.getGroups()).hasSize(1 + 3 + 21);
+    assertThat(aggregateUsingListener(AGGREGATION, targets, results)).isEqualTo(test);
+  }
+
+  @Test
+  public void test_aggregate_invalidTargets() {
+    Results results = results(1d, 1d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> AGGREGATION.aggregate(TARGETS, results))
+        .withMessageStartingWith("The number of targets (4) must equal the number of rows (1)");
+  }
+
+  //-------------------------------------------------------------------------
+  // creates results with two columns from the values, which may be failures
+  private static Results results(Object... values) {
+    List<Result<?>> cells = new ArrayList<>();
+    for (Object value : values) {
+      cells.add(value instanceof Result ? (Result<?>) value : Result.success(value));
+    }
+    return Results.of(HEADERS, cells);
+  }
+
+  private static AggregatedResults aggregateUsingListener(ResultsAggregation aggregation, Results results) {
+    return aggregateUsingListener(aggregation, TARGETS, results);
+  }
+
+  // passes the results to a listener
+  private static AggregatedResults aggregateUsingListener(
+      ResultsAggregation aggregation,
+      List<CalculationTarget> targets,
+      Results results) {
+
+    ResultsAggregationListener listener = aggregation.listener();
+    listener.calculationsStarted(targets, COLUMNS);
+    for (int row = 0; row < results.getRowCount(); row++) {
+      for (int column = 0; column < results.getColumnCount(); column++) {
+        listener.resultReceived(targets.get(row), CalculationResult.of(row, column, results.get(row, column)));
+      }
+    }
+    listener.calculationsComplete();
+    return listener.result();
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements CalculationTarget {
+    private final List<String> path;
+
+    private TestTarget(String desk, String book) {
+      this.path = ImmutableList.of(desk, book);
+    }
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Test {@link ScenarioChunkResults}.
+ */
+public class ScenarioChunkResultsTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_combine() {
+    CalculationResults chunk1 = CalculationResults.of(TARGET, ImmutableList.of(
+        CalculationResult.of(0, 0, Result.success(DoubleScenarioArray.of(DoubleArray.of(1, 2)))),
+        CalculationResult.of(0, 1, Result.success(ScenarioArray.of("a")))));
+    CalculationResults chunk2 = CalculationResults.of(TARGET, ImmutableList.of(
+        CalculationResult.of(0, 0, Result.success(DoubleScenarioArray.of(DoubleArray.of(3)))),
+        CalculationResult.of(0, 1, Result.success(ScenarioArray.of("b", "c")))));
+    CalculationResults test = ScenarioChunkResults.combine(ImmutableList.of(chunk1, chunk2));
+    assertThat(test.getTarget()).isEqualTo(TARGET);
+    assertThat(test.getCells()).containsExactly(
+        CalculationResult.of(0, 0, Result.success(DoubleScenarioArray.of(DoubleArray.of(1, 2, 3)))),
+        CalculationResult.of(0, 1, Result.success(ScenarioArray.of("a", "b", "c"))));
+    assertThat(ScenarioChunkResults.combine(ImmutableList.of(chunk1))).isSameAs(chunk1);
+  }
+
+  @Test
+  public void test_combineResults_currency() {
+    Result<?> test = ScenarioChunkResults.combineResults(ImmutableList.of(
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2))),
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(3)))));
+    assertThat(test).hasValue(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2, 3)));
+
+    Result<?> mixed = ScenarioChunkResults.combineResults(ImmutableList.of(
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(1))),
+        Result.success(CurrencyScenarioArray.of(GBP, DoubleArray.of(2)))));
+    assertThat(mixed).hasValue(ScenarioArray.of(CurrencyAmount.of(USD, 1), CurrencyAmount.of(GBP, 2)));
+  }
+
+  @Test
+  public void test_combineResults_multiCurrency() {
+    MultiCurrencyAmount amount1 = MultiCurrencyAmount.of(CurrencyAmount.of(USD, 1), CurrencyAmount.of(EUR, 2));
+    MultiCurrencyAmount amount2 = MultiCurrencyAmount.of(CurrencyAmount.of(GBP, 3));
+    Result<?> test = ScenarioChunkResults.combineResults(ImmutableList.of(
+        Result.success(MultiCurrencyScenarioArray.of(amount1)),
+        Result.success(MultiCurrencyScenarioArray.of(amount2))));
+    assertThat(test).hasValue(MultiCurrencyScenarioArray.of(amount1, amount2));
+  }
+
+  @Test
+  public void test_combineResults_failure() {
+    Result<?> failure = Result.failure(FailureReason.ERROR, "Failed");
+    Result<?> test = ScenarioChunkResults.combineResults(ImmutableList.of(
+        Result.success(ScenarioArray.of("a")),
+        failure));
+    assertThat(test).isSameAs(failure);
+  }
+
+  @Test
+  public void test_combineResults_notScenarioArray() {
+    Result<?> same = ScenarioChunkResults.combineResults(ImmutableList.of(Result.success("a"), Result.success("a")));
+    assertThat(same).hasValue("a");
+    Result<?> different = ScenarioChunkResults.combineResults(ImmutableList.of(Result.success("a"), Result.success("b")));
+    assertThat(different).isFailure(FailureReason.CALCULATION_FAILED);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverPrivateConstructor(ScenarioChunkResults.class);
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ScenarioFxRateProviders}.
+ */
+public class ScenarioFxRateProvidersTest {
+
+  private static final ObservableSource SOURCE = ObservableSource.of("Test");
+  private static final ScenarioMarketData MARKET_DATA = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+      .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.4d))
+      .addValue(FxRateId.of(GBP, USD, SOURCE), FxRate.of(GBP, USD, 1.5d))
+      .build();
+
+  @Test
+  public void test_provider() {
+    ScenarioFxRateProviders test = ScenarioFxRateProviders.of(MARKET_DATA);
+    assertThat(test.getMarketData()).isSameAs(MARKET_DATA);
+    ScenarioFxRateProvider provider = test.provider(CalculationParameters.empty());
+    assertThat(test.provider(CalculationParameters.empty())).isSameAs(provider);
+    assertThat(provider.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.4d));
+  }
+
+  @Test
+  public void test_provider_lookup() {
+    ScenarioFxRateProviders test = ScenarioFxRateProviders.of(MARKET_DATA);
+    CalculationParameters parameters = CalculationParameters.of(FxRateLookup.ofRates(SOURCE));
+    ScenarioFxRateProvider provider = test.provider(parameters);
+    assertThat(test.provider(parameters)).isSameAs(provider);
+    assertThat(test.provider(CalculationParameters.empty())).isNotSameAs(provider);
+    assertThat(provider.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.5d));
+  }
+
+}
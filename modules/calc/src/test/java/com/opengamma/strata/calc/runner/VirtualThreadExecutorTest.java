@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Test {@link VirtualThreadExecutor}.
+ */
+public class VirtualThreadExecutorTest {
+
+  @Test
+  @Timeout(10)
+  public void test_maxConcurrentTasks() {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(3);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    for (int i = 0; i < 30; i++) {
+      test.execute(() -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        sleep(2);
+        inFlight.decrementAndGet();
+        completed.incrementAndGet();
+      });
+    }
+    test.close();
+    assertThat(completed.get()).isEqualTo(30);
+    assertThat(maxInFlight.get()).isBetween(1, 3);
+    assertThat(test.isShutdown()).isTrue();
+    assertThat(test.isTerminated()).isTrue();
+  }
+
+  @Test
+  @Timeout(10)
+  public void test_unlimited() throws InterruptedException {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(0);
+    // all tasks must run at once for the latch to be released, the platform pool is limited to the processors
+    int taskCount = VirtualThreadExecutor.isVirtualThreadsSupported() ? 10 : Runtime.getRuntime().availableProcessors();
+    CountDownLatch latch = new CountDownLatch(taskCount);
+    for (int i = 0; i < taskCount; i++) {
+      test.execute(() -> {
+        latch.countDown();
+        await(latch);
+      });
+    }
+    test.shutdown();
+    assertThat(test.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @Timeout(10)
+  public void test_queuedTasksDoNotHoldThreads() {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(2);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    for (int i = 0; i < 200; i++) {
+      test.execute(() -> threads.add(Thread.currentThread()));
+    }
+    test.close();
+    if (!VirtualThreadExecutor.isVirtualThreadsSupported()) {
+      assertThat(threads).hasSizeBetween(1, 2);
+    }
+  }
+
+  @Test
+  @Timeout(10)
+  public void test_closeFromTask() {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(1);
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    test.execute(() -> {
+      try {
+        test.close();
+      } catch (RuntimeException ex) {
+        thrown.set(ex);
+      }
+    });
+    test.close();
+    assertThat(thrown.get()).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void test_shutdown() {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(1);
+    assertThat(test.isTerminated()).isFalse();
+    test.shutdown();
+    assertThat(test.isTerminated()).isTrue();
+    assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> test.execute(() -> { }));
+    assertThatIllegalArgumentException().isThrownBy(() -> VirtualThreadExecutor.of(-1));
+  }
+
+  @Test
+  @Timeout(10)
+  public void test_shutdownNow() throws InterruptedException {
+    VirtualThreadExecutor test = VirtualThreadExecutor.of(1);
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    test.execute(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(60_000);
+      } catch (InterruptedException ex) {
+        interrupted.set(true);
+      }
+    });
+    Runnable queued = () -> { };
+    test.execute(queued);
+    started.await();
+    assertThat(test.awaitTermination(10, TimeUnit.MILLISECONDS)).isFalse();
+    if (VirtualThreadExecutor.isVirtualThreadsSupported()) {
+      assertThat(test.shutdownNow()).isEmpty();
+    } else {
+      assertThat(test.shutdownNow()).containsExactly(queued);
+    }
+    assertThat(test.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(interrupted.get()).isTrue();
+    assertThat(test.toString()).startsWith("VirtualThreadExecutor[");
+  }
+
+  //-------------------------------------------------------------------------
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,757 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.convert.RenameHandler;
+import org.joda.convert.StringConvert;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.SetMultimap;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.collect.array.LongArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * A compact binary codec for Joda-Beans and the core value types.
+ * <p>
+ * This writes an object graph of Joda-Beans, Joda-Convert types, collections and primitive arrays
+ * to a versioned binary format, and reads it back.
+ * It is intended for snapshotting large immutable values, such as calibrated curves, sensitivities,
+ * scenario arrays and time-series, and transferring them between processes.
+ * <p>
+ * The format differs from the generic Joda-Bean binary format in the following ways:
+ * <ul>
+ * <li>Primitive arrays, {@link DoubleArray}, {@link IntArray}, {@link LongArray}, {@link DoubleMatrix}
+ *  and {@link LocalDateDoubleTimeSeries} are written as blocks of little-endian primitives
+ * <li>The property names of each bean type are written once, the first time the type is seen,
+ *  and subsequent beans of the same type only write the property values
+ * <li>Type names and strings are written once and then referenced by index
+ * </ul>
+ * When reading, the property names are matched to the meta-bean of the type at that time.
+ * Properties that no longer exist are ignored, and properties that have been added are not set.
+ * <p>
+ * Reading from a {@code ByteBuffer} allows the data to be read directly from a memory-mapped file.
+ * The primitive blocks are copied in bulk from the buffer without any intermediate objects.
+ * <p>
+ * Values that are neither a Joda-Bean, a Joda-Convert type, a supported collection nor a primitive array
+ * cannot be written. Sorted collections must use the natural order.
+ * Collections are read as immutable collections and must not contain null.
+ * <p>
+ * The binary data may come from an untrusted source, such as a shared directory.
+ * When reading, types are loaded without being initialized, and only Joda-Bean and Joda-Convert
+ * types are created. The length of each array and collection is validated against the remaining data.
+ * The nesting depth of beans, collections and optionals is limited to 1000.
+ */
+public final class BeanBinaryCodec {
+
+  /**
+   * The version of the format written.
+   */
+  public static final int VERSION = 1;
+  /**
+   * The header that identifies the format.
+   */
+  private static final int MAGIC = 0x43425453;
+  /**
+   * The initial size of the write buffer.
+   */
+  private static final int INITIAL_SIZE = 4096;
+  /**
+   * The maximum nesting depth of values that can be read.
+   */
+  private static final int MAX_DEPTH = 1000;
+
+  // the tags identifying the type of each value
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte TRUE = 2;
+  private static final byte FALSE = 3;
+  private static final byte INT = 4;
+  private static final byte LONG = 5;
+  private static final byte DOUBLE = 6;
+  private static final byte DOUBLE_ARRAY = 7;
+  private static final byte INT_ARRAY = 8;
+  private static final byte LONG_ARRAY = 9;
+  private static final byte BYTE_ARRAY = 10;
+  private static final byte DOUBLE_ARRAY_OBJECT = 11;
+  private static final byte INT_ARRAY_OBJECT = 12;
+  private static final byte LONG_ARRAY_OBJECT = 13;
+  private static final byte DOUBLE_MATRIX = 14;
+  private static final byte TIME_SERIES = 15;
+  private static final byte OPTIONAL = 16;
+  private static final byte CONVERT = 17;
+  private static final byte BEAN = 18;
+  private static final byte LIST = 19;
+  private static final byte SET = 20;
+  private static final byte SORTED_SET = 21;
+  private static final byte MAP = 22;
+  private static final byte SORTED_MAP = 23;
+  private static final byte LIST_MULTIMAP = 24;
+  private static final byte SET_MULTIMAP = 25;
+  private static final byte OBJECT_ARRAY = 26;
+
+  /**
+   * Restricted constructor.
+   */
+  private BeanBinaryCodec() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes the value to the binary format.
+   *
+   * @param value  the value to write, may be null
+   * @return the bytes
+   * @throws IllegalArgumentException if the value, or a value it contains, cannot be written
+   */
+  public static ArrayByteSource write(Object value) {
+    Writer writer = new Writer();
+    writer.writeHeader();
+    writer.writeValue(value);
+    return ArrayByteSource.ofUnsafe(writer.toByteArray());
+  }
+
+  /**
+   * Writes the value to a file in the binary format.
+   *
+   * @param value  the value to write, may be null
+   * @param file  the file to write to, replaced if it exists
+   * @throws IllegalArgumentException if the value, or a value it contains, cannot be written
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static void write(Object value, Path file) {
+    ArgChecker.notNull(file, "file");
+    try {
+      Files.write(file, write(value).readUnsafe());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Reads a value from the binary format.
+   *
+   * @param <T>  the type of the value
+   * @param source  the source of the bytes
+   * @param type  the type of the value
+   * @return the value, null if null was written
+   * @throws IllegalArgumentException if the bytes are not in the binary format or the value is of the wrong type
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static <T> T read(ByteSource source, Class<T> type) {
+    ArgChecker.notNull(source, "source");
+    byte[] bytes = source instanceof ArrayByteSource ?
+        ((ArrayByteSource) source).readUnsafe() :
+        Unchecked.wrap(() -> source.read());
+    return read(ByteBuffer.wrap(bytes), type);
+  }
+
+  /**
+   * Reads a value from a file in the binary format.
+   * <p>
+   * The file is memory-mapped and read directly.
+   *
+   * @param <T>  the type of the value
+   * @param file  the file to read
+   * @param type  the type of the value
+   * @return the value, null if null was written
+   * @throws IllegalArgumentException if the file is not in the binary format or the value is of the wrong type
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static <T> T read(Path file, Class<T> type) {
+    ArgChecker.notNull(file, "file");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ArgChecker.isTrue(channel.size() <= Integer.MAX_VALUE, "File is too large to be memory-mapped: {}", file);
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), type);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Reads a value from a buffer in the binary format.
+   * <p>
+   * The value is read from the current position of the buffer, which is not altered.
+   * The buffer may be memory-mapped.
+   *
+   * @param <T>  the type of the value
+   * @param buffer  the buffer to read
+   * @param type  the type of the value
+   * @return the value, null if null was written
+   * @throws IllegalArgumentException if the buffer is not in the binary format or the value is of the wrong type
+   */
+  public static <T> T read(ByteBuffer buffer, Class<T> type) {
+    ArgChecker.notNull(buffer, "buffer");
+    ArgChecker.notNull(type, "type");
+    Reader reader = new Reader(buffer.slice().order(ByteOrder.LITTLE_ENDIAN));
+    try {
+      reader.readHeader();
+      Object value = reader.readValue();
+      if (value != null && !type.isInstance(value)) {
+        throw new IllegalArgumentException(
+            "Binary data contained " + value.getClass().getName() + " but " + type.getName() + " was expected");
+      }
+      return type.cast(value);
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Binary data ended unexpectedly", ex);
+    } catch (ClassCastException ex) {
+      throw new IllegalArgumentException("Binary data contained a value of the wrong type", ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // writes values to a growable buffer
+  private static final class Writer {
+    private final StringConvert converter = JodaBeanUtils.stringConverter();
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Class<?>, Integer> types = new HashMap<>();
+    private final Map<Class<?>, List<MetaProperty<?>>> schemas = new HashMap<>();
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private void writeHeader() {
+      ensureCapacity(5);
+      buffer.putInt(MAGIC);
+      buffer.put((byte) VERSION);
+    }
+
+    private byte[] toByteArray() {
+      byte[] bytes = new byte[buffer.position()];
+      System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+      return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object value) {
+      if (value == null) {
+        writeTag(NULL);
+      } else if (value instanceof String) {
+        writeTag(STRING);
+        writeString((String) value);
+      } else if (value instanceof Boolean) {
+        writeTag(((Boolean) value) ? TRUE : FALSE);
+      } else if (value instanceof Integer) {
+        writeTag(INT);
+        ensureCapacity(4);
+        buffer.putInt((Integer) value);
+      } else if (value instanceof Long) {
+        writeTag(LONG);
+        ensureCapacity(8);
+        buffer.putLong((Long) value);
+      } else if (value instanceof Double) {
+        writeTag(DOUBLE);
+        ensureCapacity(8);
+        buffer.putDouble((Double) value);
+      } else if (value instanceof double[]) {
+        writeTag(DOUBLE_ARRAY);
+        writeDoubles((double[]) value);
+      } else if (value instanceof int[]) {
+        writeTag(INT_ARRAY);
+        writeInts((int[]) value);
+      } else if (value instanceof long[]) {
+        writeTag(LONG_ARRAY);
+        writeLongs((long[]) value);
+      } else if (value instanceof byte[]) {
+        writeTag(BYTE_ARRAY);
+        writeBytes((byte[]) value);
+      } else if (value instanceof DoubleArray) {
+        writeTag(DOUBLE_ARRAY_OBJECT);
+        writeDoubles(((DoubleArray) value).toArrayUnsafe());
+      } else if (value instanceof IntArray) {
+        writeTag(INT_ARRAY_OBJECT);
+        writeInts(((IntArray) value).toArrayUnsafe());
+      } else if (value instanceof LongArray) {
+        writeTag(LONG_ARRAY_OBJECT);
+        writeLongs(((LongArray) value).toArrayUnsafe());
+      } else if (value instanceof DoubleMatrix) {
+        writeTag(DOUBLE_MATRIX);
+        double[][] rows = ((DoubleMatrix) value).toArrayUnsafe();
+        writeVarInt(rows.length);
+        for (double[] row : rows) {
+          writeDoubles(row);
+        }
+      } else if (value instanceof LocalDateDoubleTimeSeries) {
+        writeTag(TIME_SERIES);
+        LocalDateDoubleTimeSeries series = (LocalDateDoubleTimeSeries) value;
+        writeInts(series.epochDayArray().toArrayUnsafe());
+        writeDoubles(series.valueArray().toArrayUnsafe());
+      } else if (value instanceof Optional) {
+        writeTag(OPTIONAL);
+        writeValue(((Optional<?>) value).orElse(null));
+      } else if (converter.isConvertible(value.getClass())) {
+        Class<?> effectiveType = converter.findTypedConverterNoGenerics(value.getClass()).getEffectiveType();
+        writeTag(CONVERT);
+        writeType(effectiveType);
+        writeString(converter.convertToString(effectiveType, value));
+      } else if (value instanceof Bean) {
+        writeBean((Bean) value);
+      } else if (value instanceof Map) {
+        if (value instanceof SortedMap) {
+          checkNaturalOrder(((SortedMap<?, ?>) value).comparator());
+        }
+        writeTag(value instanceof SortedMap ? SORTED_MAP : MAP);
+        Map<Object, Object> map = (Map<Object, Object>) value;
+        writeVarInt(map.size());
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+          writeValue(entry.getKey());
+          writeValue(entry.getValue());
+        }
+      } else if (value instanceof Multimap) {
+        writeTag(value instanceof SetMultimap ? SET_MULTIMAP : LIST_MULTIMAP);
+        Multimap<Object, Object> multimap = (Multimap<Object, Object>) value;
+        writeVarInt(multimap.size());
+        for (Map.Entry<Object, Object> entry : multimap.entries()) {
+          writeValue(entry.getKey());
+          writeValue(entry.getValue());
+        }
+      } else if (value instanceof Collection) {
+        if (value instanceof SortedSet) {
+          checkNaturalOrder(((SortedSet<?>) value).comparator());
+        }
+        writeTag(value instanceof SortedSet ? SORTED_SET : value instanceof Set ? SET : LIST);
+        Collection<?> collection = (Collection<?>) value;
+        writeVarInt(collection.size());
+        for (Object item : collection) {
+          writeValue(item);
+        }
+      } else if (value instanceof Object[]) {
+        writeTag(OBJECT_ARRAY);
+        Object[] array = (Object[]) value;
+        writeType(array.getClass().getComponentType());
+        writeVarInt(array.length);
+        for (Object item : array) {
+          writeValue(item);
+        }
+      } else {
+        throw new IllegalArgumentException("Unable to write value of type: " + value.getClass().getName());
+      }
+    }
+
+    // writes the bean, with the property names if this is the first bean of the type
+    private void writeBean(Bean bean) {
+      Class<?> type = bean.getClass();
+      writeTag(BEAN);
+      writeType(type);
+      List<MetaProperty<?>> properties = schemas.get(type);
+      if (properties == null) {
+        properties = new ArrayList<>();
+        for (MetaProperty<?> property : bean.metaBean().metaPropertyIterable()) {
+          if (property.style().isSerializable()) {
+            properties.add(property);
+          }
+        }
+        schemas.put(type, properties);
+        writeVarInt(properties.size());
+        for (MetaProperty<?> property : properties) {
+          writeString(property.name());
+        }
+      }
+      for (MetaProperty<?> property : properties) {
+        writeValue(property.get(bean));
+      }
+    }
+
+    // the order is not written, thus only the natural order can be read back
+    private void checkNaturalOrder(Comparator<?> comparator) {
+      if (comparator != null && !comparator.equals(Ordering.natural()) && !comparator.equals(Comparator.naturalOrder())) {
+        throw new IllegalArgumentException("Unable to write sorted collection with comparator: " + comparator);
+      }
+    }
+
+    private void writeTag(byte tag) {
+      ensureCapacity(1);
+      buffer.put(tag);
+    }
+
+    // writes the type name the first time, and the index of the type thereafter
+    private void writeType(Class<?> type) {
+      Integer index = types.get(type);
+      if (index != null) {
+        writeVarInt(index);
+      } else {
+        writeVarInt(types.size());
+        types.put(type, types.size());
+        writeString(type.getName());
+      }
+    }
+
+    // writes the string the first time, and the index of the string thereafter
+    private void writeString(String str) {
+      Integer index = strings.get(str);
+      if (index != null) {
+        writeVarInt(index);
+      } else {
+        writeVarInt(strings.size());
+        strings.put(str, strings.size());
+        writeBytes(str.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+
+    private void writeDoubles(double[] values) {
+      writeVarInt(values.length);
+      ensureCapacity(values.length * 8);
+      buffer.asDoubleBuffer().put(values);
+      buffer.position(buffer.position() + values.length * 8);
+    }
+
+    private void writeInts(int[] values) {
+      writeVarInt(values.length);
+      ensureCapacity(values.length * 4);
+      buffer.asIntBuffer().put(values);
+      buffer.position(buffer.position() + values.length * 4);
+    }
+
+    private void writeLongs(long[] values) {
+      writeVarInt(values.length);
+      ensureCapacity(values.length * 8);
+      buffer.asLongBuffer().put(values);
+      buffer.position(buffer.position() + values.length * 8);
+    }
+
+    private void writeBytes(byte[] values) {
+      writeVarInt(values.length);
+      ensureCapacity(values.length);
+      buffer.put(values);
+    }
+
+    // writes a non-negative int using 7 bits per byte
+    private void writeVarInt(int value) {
+      ensureCapacity(5);
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        buffer.put((byte) ((remaining & 0x7F) | 0x80));
+        remaining >>>= 7;
+      }
+      buffer.put((byte) remaining);
+    }
+
+    private void ensureCapacity(int size) {
+      if (buffer.remaining() < size) {
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + size);
+        ByteBuffer expanded = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        expanded.put(buffer);
+        buffer = expanded;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // reads values from a buffer
+  private static final class Reader {
+    private final StringConvert converter = JodaBeanUtils.stringConverter();
+    private final List<String> strings = new ArrayList<>();
+    private final List<Class<?>> types = new ArrayList<>();
+    private final Map<Class<?>, MetaProperty<?>[]> schemas = new HashMap<>();
+    private final ByteBuffer buffer;
+    private int depth;
+
+    private Reader(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    private void readHeader() {
+      if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Binary data is not in the expected format");
+      }
+      int version = buffer.get();
+      if (version < 1 || version > VERSION) {
+        throw new IllegalArgumentException("Binary data has unsupported version: " + version);
+      }
+    }
+
+    // reads a value, limiting the depth of nested values to avoid exhausting the stack
+    private Object readValue() {
+      if (depth >= MAX_DEPTH) {
+        throw new IllegalArgumentException("Binary data exceeded the maximum nesting depth: " + MAX_DEPTH);
+      }
+      depth++;
+      try {
+        return readTaggedValue();
+      } finally {
+        depth--;
+      }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object readTaggedValue() {
+      byte tag = buffer.get();
+      switch (tag) {
+        case NULL:
+          return null;
+        case STRING:
+          return readString();
+        case TRUE:
+          return Boolean.TRUE;
+        case FALSE:
+          return Boolean.FALSE;
+        case INT:
+          return buffer.getInt();
+        case LONG:
+          return buffer.getLong();
+        case DOUBLE:
+          return buffer.getDouble();
+        case DOUBLE_ARRAY:
+          return readDoubles();
+        case INT_ARRAY:
+          return readInts();
+        case LONG_ARRAY:
+          return readLongs();
+        case BYTE_ARRAY:
+          return readBytes();
+        case DOUBLE_ARRAY_OBJECT:
+          return DoubleArray.ofUnsafe(readDoubles());
+        case INT_ARRAY_OBJECT:
+          return IntArray.ofUnsafe(readInts());
+        case LONG_ARRAY_OBJECT:
+          return LongArray.ofUnsafe(readLongs());
+        case DOUBLE_MATRIX: {
+          double[][] rows = new double[readLength(1)][];
+          for (int i = 0; i < rows.length; i++) {
+            rows[i] = readDoubles();
+          }
+          return DoubleMatrix.ofUnsafe(rows);
+        }
+        case TIME_SERIES: {
+          IntArray epochDays = IntArray.ofUnsafe(readInts());
+          return LocalDateDoubleTimeSeries.ofEpochDays(epochDays, DoubleArray.ofUnsafe(readDoubles()));
+        }
+        case OPTIONAL:
+          return Optional.ofNullable(readValue());
+        case CONVERT: {
+          Class<?> type = readType();
+          if (!converter.isConvertible(type)) {
+            throw new IllegalArgumentException("Binary data contained a type that is not convertible: " + type.getName());
+          }
+          return converter.convertFromString(type, readString());
+        }
+        case BEAN:
+          return readBean();
+        case LIST:
+          return ImmutableList.copyOf(readItems());
+        case SET:
+          return ImmutableSet.copyOf(readItems());
+        case SORTED_SET:
+          return ImmutableSortedSet.copyOf((Ordering) Ordering.natural(), readItems());
+        case MAP: {
+          int size = readLength(2);
+          ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+          for (int i = 0; i < size; i++) {
+            builder.put(readValue(), readValue());
+          }
+          return builder.build();
+        }
+        case SORTED_MAP: {
+          int size = readLength(2);
+          ImmutableSortedMap.Builder<Object, Object> builder =
+              new ImmutableSortedMap.Builder<>((Ordering) Ordering.natural());
+          for (int i = 0; i < size; i++) {
+            builder.put(readValue(), readValue());
+          }
+          return builder.build();
+        }
+        case LIST_MULTIMAP: {
+          int size = readLength(2);
+          ImmutableListMultimap.Builder<Object, Object> builder = ImmutableListMultimap.builder();
+          for (int i = 0; i < size; i++) {
+            builder.put(readValue(), readValue());
+          }
+          return builder.build();
+        }
+        case SET_MULTIMAP: {
+          int size = readLength(2);
+          ImmutableSetMultimap.Builder<Object, Object> builder = ImmutableSetMultimap.builder();
+          for (int i = 0; i < size; i++) {
+            builder.put(readValue(), readValue());
+          }
+          return builder.build();
+        }
+        case OBJECT_ARRAY: {
+          Class<?> componentType = readType();
+          if (componentType.isPrimitive()) {
+            throw new IllegalArgumentException("Binary data contained an invalid array type: " + componentType.getName());
+          }
+          Object[] array = (Object[]) Array.newInstance(componentType, readLength(1));
+          for (int i = 0; i < array.length; i++) {
+            array[i] = readValue();
+          }
+          return array;
+        }
+        default:
+          throw new IllegalArgumentException("Binary data contained an invalid tag: " + tag);
+      }
+    }
+
+    // reads the bean, with the property names if this is the first bean of the type
+    private Object readBean() {
+      Class<?> type = readType();
+      if (!Bean.class.isAssignableFrom(type)) {
+        throw new IllegalArgumentException("Binary data contained a type that is not a bean: " + type.getName());
+      }
+      MetaBean metaBean = MetaBean.of(type);
+      MetaProperty<?>[] properties = schemas.get(type);
+      if (properties == null) {
+        properties = new MetaProperty<?>[readLength(1)];
+        for (int i = 0; i < properties.length; i++) {
+          String name = readString();
+          properties[i] = metaBean.metaPropertyExists(name) ? metaBean.metaProperty(name) : null;
+        }
+        schemas.put(type, properties);
+      }
+      BeanBuilder<? extends Bean> builder = metaBean.builder();
+      for (MetaProperty<?> property : properties) {
+        Object value = readValue();
+        if (property != null && value != null) {
+          builder.set(property, value);
+        }
+      }
+      return builder.build();
+    }
+
+    private List<Object> readItems() {
+      int size = readLength(1);
+      List<Object> items = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        items.add(readValue());
+      }
+      return items;
+    }
+
+    // reads the type name the first time, and the index of the type thereafter
+    // the type is loaded without being initialized, the caller checks the type is valid before use
+    private Class<?> readType() {
+      int index = readVarInt();
+      if (index < types.size()) {
+        return types.get(index);
+      }
+      if (index != types.size()) {
+        throw new IllegalArgumentException("Binary data contained an invalid type reference: " + index);
+      }
+      String name = readString();
+      Class<?> type = RenameHandler.INSTANCE.getTypeRenames().get(name);
+      if (type == null) {
+        try {
+          type = Class.forName(name, false, BeanBinaryCodec.class.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+          throw new IllegalArgumentException("Binary data contained an unknown type: " + name, ex);
+        }
+      }
+      types.add(type);
+      return type;
+    }
+
+    // reads the string the first time, and the index of the string thereafter
+    private String readString() {
+      int index = readVarInt();
+      if (index < strings.size()) {
+        return strings.get(index);
+      }
+      if (index != strings.size()) {
+        throw new IllegalArgumentException("Binary data contained an invalid string reference: " + index);
+      }
+      String str = new String(readBytes(), StandardCharsets.UTF_8);
+      strings.add(str);
+      return str;
+    }
+
+    private double[] readDoubles() {
+      double[] values = new double[readLength(8)];
+      buffer.asDoubleBuffer().get(values);
+      buffer.position(buffer.position() + values.length * 8);
+      return values;
+    }
+
+    private int[] readInts() {
+      int[] values = new int[readLength(4)];
+      buffer.asIntBuffer().get(values);
+      buffer.position(buffer.position() + values.length * 4);
+      return values;
+    }
+
+    private long[] readLongs() {
+      long[] values = new long[readLength(8)];
+      buffer.asLongBuffer().get(values);
+      buffer.position(buffer.position() + values.length * 8);
+      return values;
+    }
+
+    private byte[] readBytes() {
+      byte[] values = new byte[readLength(1)];
+      buffer.get(values);
+      return values;
+    }
+
+    // reads a length, checking the remaining data can hold that many elements of at least the minimum size
+    private int readLength(int minElementSize) {
+      int length = readVarInt();
+      if (length > buffer.remaining() / minElementSize) {
+        throw new IllegalArgumentException(
+            "Binary data contained a length larger than the remaining data: " + length);
+      }
+      return length;
+    }
+
+    // reads a non-negative int using 7 bits per byte
+    private int readVarInt() {
+      int result = 0;
+      int shift = 0;
+      byte next;
+      do {
+        if (shift > 28) {
+          throw new IllegalArgumentException("Binary data contained an invalid length");
+        }
+        next = buffer.get();
+        result |= (next & 0x7F) << shift;
+        shift += 7;
+      } while (next < 0);
+      if (result < 0) {
+        throw new IllegalArgumentException("Binary data contained an invalid length");
+      }
+      return result;
+    }
+  }
+
+}
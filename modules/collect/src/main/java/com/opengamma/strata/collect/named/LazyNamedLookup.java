@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.named;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A lookup that creates each named instance from its definition when first looked up.
+ * <p>
+ * Configuration, such as a CSV or INI file, is typically read once and split into one definition
+ * per instance, such as a row or a section. Creating the instances from the definitions is often
+ * the larger part of the cost of loading, thus this lookup defers it until each name is used.
+ * Applications that only use a few instances do not pay the cost of creating all of them.
+ * <p>
+ * The same definition may be keyed under several names, such as the upper-case form of the name,
+ * in which case a single instance is created for all of them.
+ * If creating an instance fails, the exception is thrown from the lookup.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <D>  the type of the definition
+ * @param <T>  the named type
+ */
+public final class LazyNamedLookup<D, T extends Named> implements NamedLookup<T> {
+
+  /**
+   * The definitions, keyed by name.
+   */
+  private final ImmutableMap<String, D> definitions;
+  /**
+   * The function creating an instance from its definition.
+   */
+  private final Function<? super D, ? extends T> factory;
+  /**
+   * The instances that have been created, keyed by definition.
+   */
+  private final ConcurrentHashMap<D, T> instances = new ConcurrentHashMap<>();
+  /**
+   * The map of all instances, created on demand.
+   */
+  private volatile ImmutableMap<String, T> map;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the definitions keyed by name and the function that creates the instances.
+   *
+   * @param <D>  the type of the definition
+   * @param <T>  the named type
+   * @param definitions  the definitions, keyed by name
+   * @param factory  the function creating an instance from its definition
+   * @return the lookup
+   */
+  public static <D, T extends Named> LazyNamedLookup<D, T> of(
+      Map<String, D> definitions,
+      Function<? super D, ? extends T> factory) {
+
+    return new LazyNamedLookup<>(ImmutableMap.copyOf(definitions), factory);
+  }
+
+  // restricted constructor
+  private LazyNamedLookup(ImmutableMap<String, D> definitions, Function<? super D, ? extends T> factory) {
+    this.definitions = definitions;
+    this.factory = ArgChecker.notNull(factory, "factory");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public T lookup(String name) {
+    D definition = definitions.get(name);
+    if (definition == null) {
+      return null;
+    }
+    return instances.computeIfAbsent(definition, factory);
+  }
+
+  @Override
+  public ImmutableMap<String, T> lookupAll() {
+    ImmutableMap<String, T> result = map;
+    if (result == null) {
+      ImmutableMap.Builder<String, T> builder = ImmutableMap.builder();
+      for (Entry<String, D> entry : definitions.entrySet()) {
+        builder.put(entry.getKey(), instances.computeIfAbsent(entry.getValue(), factory));
+      }
+      result = builder.build();
+      map = result;
+    }
+    return result;
+  }
+
+}
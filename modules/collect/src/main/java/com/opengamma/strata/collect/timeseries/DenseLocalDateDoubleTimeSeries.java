@@ -42,6 +42,8 @@ import com.google.common.collect.Ordering;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.function.ObjDoublePredicate;
 
 /**
@@ -81,6 +83,21 @@ final class DenseLocalDateDoubleTimeSeries
         return unadjusted - (2 * numWeekends);
       }
 
+      @Override
+      int calculatePosition(int startEpochDay, int epochDay) {
+        // same algorithm as above, working directly on epoch-days
+        int unadjusted = epochDay - startEpochDay;
+        int weekendAdjustment = dayOfWeekIndex(startEpochDay) > dayOfWeekIndex(epochDay) ? 1 : 0;
+        int numWeekends = (unadjusted / 7) + weekendAdjustment;
+        return unadjusted - (2 * numWeekends);
+      }
+
+      @Override
+      int nextEpochDay(int epochDay) {
+        // Friday is index 4, so skip over Saturday and Sunday
+        return dayOfWeekIndex(epochDay) == 4 ? epochDay + 3 : epochDay + 1;
+      }
+
       @Override
       LocalDate calculateDateFromPosition(LocalDate startDate, int position) {
         int numWeekends = position / 5;
@@ -110,6 +127,16 @@ final class DenseLocalDateDoubleTimeSeries
         return (int) DAYS.between(startDate, date);
       }
 
+      @Override
+      int calculatePosition(int startEpochDay, int epochDay) {
+        return epochDay - startEpochDay;
+      }
+
+      @Override
+      int nextEpochDay(int epochDay) {
+        return epochDay + 1;
+      }
+
       @Override
       LocalDate calculateDateFromPosition(LocalDate startDate, int position) {
         return startDate.plusDays(position);
@@ -138,6 +165,26 @@ final class DenseLocalDateDoubleTimeSeries
      */
     abstract int calculatePosition(LocalDate startDate, LocalDate date);
 
+    /**
+     * Calculates the position in the array where the supplied epoch-day should
+     * be located given a start epoch-day. As no information is held about the
+     * actual array, callers must check array bounds.
+     *
+     * @param startEpochDay  the epoch-day of the start date for the series
+     * @param epochDay  the epoch-day to calculate a position for
+     * @return the position in the array where the epoch-day would be located
+     */
+    abstract int calculatePosition(int startEpochDay, int epochDay);
+
+    /**
+     * Calculates the epoch-day held at the position following the position
+     * of the supplied epoch-day.
+     *
+     * @param epochDay  the epoch-day of a position in the array
+     * @return the epoch-day held at the next position in the array
+     */
+    abstract int nextEpochDay(int epochDay);
+
     /**
      * Given a start date and a position in an array, calculate what date
      * the position holds data for.
@@ -172,6 +219,12 @@ final class DenseLocalDateDoubleTimeSeries
     private static boolean isWeekend(LocalDate date) {
       return date.get(DAY_OF_WEEK) > 5;
     }
+
+    // the zero-based day-of-week, where Monday is 0 and Sunday is 6
+    // epoch-day zero, 1970-01-01, is a Thursday
+    private static int dayOfWeekIndex(int epochDay) {
+      return Math.floorMod(epochDay + 3, 7);
+    }
   }
 
   /**
@@ -238,6 +291,31 @@ final class DenseLocalDateDoubleTimeSeries
     return new DenseLocalDateDoubleTimeSeries(startDate, points, dateCalculation, true, size);
   }
 
+  /**
+   * Package protected factory method intended to be called
+   * when creating a time-series from epoch-days. As such
+   * all the information passed is assumed to be consistent.
+   *
+   * @param epochDays  the epoch-days, sorted from earliest to latest, not empty
+   * @param values  the values, matching the epoch-days
+   * @param dateCalculation  the date calculation method to be used
+   * @return a new time-series
+   */
+  static LocalDateDoubleTimeSeries ofEpochDays(
+      int[] epochDays,
+      double[] values,
+      DenseTimeSeriesCalculation dateCalculation) {
+
+    int startEpochDay = epochDays[0];
+    double[] points = new double[dateCalculation.calculatePosition(startEpochDay, epochDays[epochDays.length - 1]) + 1];
+    Arrays.fill(points, Double.NaN);
+    for (int i = 0; i < epochDays.length; i++) {
+      points[dateCalculation.calculatePosition(startEpochDay, epochDays[i])] = values[i];
+    }
+    return new DenseLocalDateDoubleTimeSeries(
+        LocalDate.ofEpochDay(startEpochDay), points, dateCalculation, true, epochDays.length + 1);
+  }
+
   // Private constructor, the trusted flag indicates whether the
   // points array should be cloned. If trusted, it will not be cloned.
   // size is the size of the time series + 1 if known, 0 if unknown
@@ -472,6 +550,32 @@ final class DenseLocalDateDoubleTimeSeries
         .mapToObj(this::calculateDateFromPosition);
   }
 
+  @Override
+  public IntArray epochDayArray() {
+    int[] result = new int[size()];
+    int epochDay = Math.toIntExact(startDate.toEpochDay());
+    int index = 0;
+    for (int i = 0; i < points.length; i++) {
+      if (isValidPoint(points[i])) {
+        result[index++] = epochDay;
+      }
+      epochDay = dateCalculation.nextEpochDay(epochDay);
+    }
+    return IntArray.ofUnsafe(result);
+  }
+
+  @Override
+  public DoubleArray valueArray() {
+    double[] result = new double[size()];
+    int index = 0;
+    for (double point : points) {
+      if (isValidPoint(point)) {
+        result[index++] = point;
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
   private IntStream validIndices() {
     return IntStream.range(0, points.length)
         .filter(this::isValidIndex);
@@ -8,6 +8,7 @@ package com.opengamma.strata.collect.timeseries;
 import static java.util.stream.Collectors.partitioningBy;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
@@ -21,6 +22,10 @@ import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.function.ObjDoublePredicate;
 import com.opengamma.strata.collect.tuple.Pair;
 
@@ -64,6 +69,99 @@ public interface LocalDateDoubleTimeSeries {
     return builder().put(date, value).build();
   }
 
+  /**
+   * Obtains a time-series from matching arrays of epoch-days and values.
+   * <p>
+   * This allows a time-series to be created from primitive data without creating
+   * an instance of {@code LocalDate} and {@code Double} for each point.
+   * Each epoch-day is as defined by {@link LocalDate#toEpochDay()}.
+   * The two arrays must be the same size and the epoch-days must be sorted from earliest to latest.
+   *
+   * @param epochDays  the epoch-days of the points
+   * @param values  the values of the points
+   * @return the time-series
+   * @throws IllegalArgumentException if the arrays are different sizes, the epoch-days are
+   *   not in ascending order, or a value is NaN
+   */
+  public static LocalDateDoubleTimeSeries ofEpochDays(IntArray epochDays, DoubleArray values) {
+    ArgChecker.notNull(epochDays, "epochDays");
+    ArgChecker.notNull(values, "values");
+    ArgChecker.isTrue(epochDays.size() == values.size(),
+        "Arrays are of different sizes - epochDays: {}, values: {}", epochDays.size(), values.size());
+    for (int i = 0; i < epochDays.size(); i++) {
+      if (i > 0 && epochDays.get(i) <= epochDays.get(i - 1)) {
+        throw new IllegalArgumentException(Messages.format(
+            "Epoch-days must be in ascending order but: {} is not after: {}",
+            epochDays.get(i),
+            epochDays.get(i - 1)));
+      }
+      ArgChecker.isFalse(Double.isNaN(values.get(i)), "NaN is not allowed as a value");
+    }
+    return LocalDateDoubleTimeSeriesBuilder.build(epochDays.toArrayUnsafe(), values.toArrayUnsafe());
+  }
+
+  /**
+   * Obtains the values of a list of time-series aligned on the dates they have in common.
+   * <p>
+   * This performs an intersection of the dates of all the input time-series in a single pass
+   * over primitive data. The first element of the result contains the epoch-days that are present
+   * in every time-series, sorted from earliest to latest. The second element of the result is a
+   * matrix with one row for each input time-series, in the order of the input list, and one column
+   * for each of the common epoch-days.
+   * <p>
+   * This is useful when processing many time-series together, such as when calculating
+   * historical returns across a set of market quotes.
+   *
+   * @param timeSeries  the time-series to align
+   * @return the common epoch-days and the matrix of aligned values
+   */
+  public static Pair<IntArray, DoubleMatrix> alignedValues(List<? extends LocalDateDoubleTimeSeries> timeSeries) {
+    ArgChecker.noNulls(timeSeries, "timeSeries");
+    if (timeSeries.isEmpty()) {
+      return Pair.of(IntArray.EMPTY, DoubleMatrix.EMPTY);
+    }
+    int seriesCount = timeSeries.size();
+    int[][] epochDays = new int[seriesCount][];
+    double[][] values = new double[seriesCount][];
+    for (int i = 0; i < seriesCount; i++) {
+      epochDays[i] = timeSeries.get(i).epochDayArray().toArrayUnsafe();
+      values[i] = timeSeries.get(i).valueArray().toArrayUnsafe();
+    }
+    // intersect the sorted epoch-days
+    int[] common = epochDays[0];
+    int commonSize = common.length;
+    for (int i = 1; i < seriesCount; i++) {
+      int[] other = epochDays[i];
+      int[] intersection = new int[Math.min(commonSize, other.length)];
+      int size = 0;
+      for (int j = 0, k = 0; j < commonSize && k < other.length;) {
+        if (common[j] < other[k]) {
+          j++;
+        } else if (common[j] > other[k]) {
+          k++;
+        } else {
+          intersection[size++] = common[j];
+          j++;
+          k++;
+        }
+      }
+      common = intersection;
+      commonSize = size;
+    }
+    // extract the values for the common epoch-days
+    double[][] aligned = new double[seriesCount][commonSize];
+    for (int i = 0; i < seriesCount; i++) {
+      int[] seriesEpochDays = epochDays[i];
+      double[] seriesValues = values[i];
+      for (int j = 0, k = 0; j < commonSize; k++) {
+        if (seriesEpochDays[k] == common[j]) {
+          aligned[i][j++] = seriesValues[k];
+        }
+      }
+    }
+    return Pair.of(IntArray.copyOf(common, 0, commonSize), DoubleMatrix.ofUnsafe(aligned));
+  }
+
   /**
    * Creates an empty builder, used to create time-series.
    * <p>
@@ -245,6 +343,32 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract DoubleStream values();
 
+  /**
+   * Returns the dates of this time-series as an array of epoch-days.
+   * <p>
+   * This provides bulk access to the dates without creating an instance of {@code LocalDate} per point.
+   * Each element is as defined by {@link LocalDate#toEpochDay()}, sorted from earliest to latest.
+   * The value associated with each date is at the same index in {@link #valueArray()}.
+   *
+   * @return the epoch-days of this time-series
+   * @throws ArithmeticException if a date cannot be represented as an {@code int} epoch-day
+   */
+  public default IntArray epochDayArray() {
+    return IntArray.of(dates().mapToInt(date -> Math.toIntExact(date.toEpochDay())));
+  }
+
+  /**
+   * Returns the values of this time-series as an array.
+   * <p>
+   * This provides bulk access to the values, sorted by date from earliest to latest.
+   * The date associated with each value is at the same index in {@link #epochDayArray()}.
+   *
+   * @return the values of this time-series
+   */
+  public default DoubleArray valueArray() {
+    return DoubleArray.of(values());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Applies an action to each pair in the time series.
@@ -302,6 +426,71 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate);
 
+  /**
+   * Applies an operation to each pair of adjacent values in the time-series.
+   * <p>
+   * This returns a time-series with one point less than this time-series.
+   * The operator is invoked with the earlier value as the first argument and the later value
+   * as the second argument, with the result associated with the date of the later value.
+   * <p>
+   * This is generally used to calculate returns:
+   * <pre>
+   *   absoluteReturns = base.mapAdjacent((previous, current) -&gt; current - previous);
+   *   relativeReturns = base.mapAdjacent((previous, current) -&gt; current / previous - 1);
+   * </pre>
+   *
+   * @param mapper  the operator to be applied to each pair of adjacent values
+   * @return a new time-series containing the results of the operator
+   * @throws IllegalArgumentException if the operator returns NaN
+   */
+  public default LocalDateDoubleTimeSeries mapAdjacent(DoubleBinaryOperator mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    int size = size();
+    if (size < 2) {
+      return empty();
+    }
+    double[] values = valueArray().toArrayUnsafe();
+    double[] result = new double[size - 1];
+    for (int i = 1; i < size; i++) {
+      result[i - 1] = mapper.applyAsDouble(values[i - 1], values[i]);
+    }
+    return ofEpochDays(epochDayArray().subArray(1), DoubleArray.ofUnsafe(result));
+  }
+
+  /**
+   * Calculates the rolling sum of the values in the time-series.
+   * <p>
+   * This returns a time-series where the value at each date is the sum of the specified number
+   * of points ending at, and including, that date. The window is defined in terms of points,
+   * not calendar days. The first date of the result is the date of the point at index
+   * {@code windowSize - 1}, thus the result is empty if this time-series has fewer points
+   * than the window size.
+   *
+   * @param windowSize  the number of points in each window, one or greater
+   * @return a new time-series containing the rolling sums
+   * @throws IllegalArgumentException if the window size is less than one
+   */
+  public default LocalDateDoubleTimeSeries rollingSum(int windowSize) {
+    ArgChecker.notNegativeOrZero(windowSize, "windowSize");
+    int size = size();
+    if (size < windowSize) {
+      return empty();
+    }
+    double[] values = valueArray().toArrayUnsafe();
+    double[] result = new double[size - windowSize + 1];
+    double sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += values[i];
+      if (i >= windowSize) {
+        sum -= values[i - windowSize];
+      }
+      if (i >= windowSize - 1) {
+        result[i - windowSize + 1] = sum;
+      }
+    }
+    return ofEpochDays(epochDayArray().subArray(windowSize - 1), DoubleArray.ofUnsafe(result));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Obtains the intersection of a pair of time series.
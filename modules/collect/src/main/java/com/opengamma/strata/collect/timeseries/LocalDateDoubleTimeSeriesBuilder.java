@@ -293,6 +293,36 @@ public final class LocalDateDoubleTimeSeriesBuilder {
         createSparseSeries();
   }
 
+  /**
+   * Builds a time-series from arrays of epoch-days and values.
+   * <p>
+   * This avoids the intermediate map used by the builder.
+   * The arrays must be validated and must not be mutated after this call.
+   *
+   * @param epochDays  the epoch-days, sorted from earliest to latest
+   * @param values  the values, matching the epoch-days
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries build(int[] epochDays, double[] values) {
+    if (epochDays.length == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    boolean containsWeekends = false;
+    for (int epochDay : epochDays) {
+      // epoch-day zero is a Thursday, thus Saturday and Sunday are 2 and 3
+      if (Math.floorMod(epochDay, 7) == 2 || Math.floorMod(epochDay, 7) == 3) {
+        containsWeekends = true;
+        break;
+      }
+    }
+    DenseLocalDateDoubleTimeSeries.DenseTimeSeriesCalculation calculation =
+        containsWeekends ? INCLUDE_WEEKENDS : SKIP_WEEKENDS;
+    double rangeSize = calculation.calculatePosition(epochDays[0], epochDays[epochDays.length - 1]) + 1;
+    return epochDays.length / rangeSize > DENSITY_THRESHOLD ?
+        DenseLocalDateDoubleTimeSeries.ofEpochDays(epochDays, values, calculation) :
+        SparseLocalDateDoubleTimeSeries.ofEpochDays(epochDays, values);
+  }
+
   private LocalDateDoubleTimeSeries createDenseSeries() {
     return DenseLocalDateDoubleTimeSeries.of(
         entries.firstKey(),
@@ -37,6 +37,8 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.function.ObjDoublePredicate;
 
 /**
@@ -92,6 +94,23 @@ final class SparseLocalDateDoubleTimeSeries
     return createUnsafe(datesArray, valuesArray);
   }
 
+  /**
+   * Obtains a time-series from matching arrays of epoch-days and values.
+   * <p>
+   * The arrays are assumed to be the same size, sorted from earliest to latest and not mutated.
+   *
+   * @param epochDays  the epoch-days
+   * @param values  the values
+   * @return the time-series
+   */
+  static SparseLocalDateDoubleTimeSeries ofEpochDays(int[] epochDays, double[] values) {
+    LocalDate[] datesArray = new LocalDate[epochDays.length];
+    for (int i = 0; i < epochDays.length; i++) {
+      datesArray[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return createUnsafe(datesArray, values);
+  }
+
   // creates time-series by directly assigning the input arrays
   // must only be called when safe to do so
   private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
@@ -271,6 +290,20 @@ final class SparseLocalDateDoubleTimeSeries
     return DoubleStream.of(values);
   }
 
+  @Override
+  public IntArray epochDayArray() {
+    int[] result = new int[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      result[i] = Math.toIntExact(dates[i].toEpochDay());
+    }
+    return IntArray.ofUnsafe(result);
+  }
+
+  @Override
+  public DoubleArray valueArray() {
+    return DoubleArray.copyOf(values);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void forEach(ObjDoubleConsumer<LocalDate> action) {
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.joda.beans.ser.JodaBeanSer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.common.io.MoreFiles;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.collect.array.LongArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.ObjDoublePair;
+import com.opengamma.strata.collect.tuple.Pair;
+
+/**
+ * Test {@link BeanBinaryCodec}.
+ */
+public class BeanBinaryCodecTest {
+
+  private static final LocalDateDoubleTimeSeries SPARSE = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 6), 1.5)
+      .put(date(2020, 3, 9), 2.5)
+      .put(date(2021, 7, 1), -0.25)
+      .build();
+  private static final LocalDateDoubleTimeSeries DENSE = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 6), 1.5)
+      .put(date(2020, 1, 7), 2.5)
+      .put(date(2020, 1, 8), 3.5)
+      .build();
+
+  private Path tmpDir;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    tmpDir = Files.createTempDirectory("bean-binary-codec-test");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    try {
+      MoreFiles.deleteRecursively(tmpDir);
+    } catch (IOException ex) {
+      // ignore
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_simpleValues() {
+    assertRoundTrip(null);
+    assertRoundTrip("Hello");
+    assertRoundTrip(true);
+    assertRoundTrip(false);
+    assertRoundTrip(12);
+    assertRoundTrip(123456789012L);
+    assertRoundTrip(1.25d);
+    assertRoundTrip(Double.NaN);
+    assertRoundTrip(date(2020, 6, 30));
+    assertRoundTrip(FailureReason.CALCULATION_FAILED);
+    assertRoundTrip(Optional.of("A"));
+    assertRoundTrip(Optional.empty());
+  }
+
+  @Test
+  public void test_arrays() {
+    double[] doubles = {1.5, -2d, 3.25};
+    assertThat(roundTrip(doubles)).isEqualTo(doubles);
+    int[] ints = {1, -2, 3};
+    assertThat(roundTrip(ints)).isEqualTo(ints);
+    long[] longs = {1L, -2L, Long.MAX_VALUE};
+    assertThat(roundTrip(longs)).isEqualTo(longs);
+    byte[] bytes = {1, -2, 3};
+    assertThat(roundTrip(bytes)).isEqualTo(bytes);
+    String[] strs = {"A", "B", "A", null};
+    assertThat(roundTrip(strs)).isEqualTo(strs);
+    LocalDate[] dates = {date(2020, 6, 30), date(2021, 6, 30)};
+    assertThat(roundTrip(dates)).isEqualTo(dates);
+    assertRoundTrip(DoubleArray.EMPTY);
+    assertRoundTrip(DoubleArray.of(1d, 2d, 3d));
+    assertRoundTrip(IntArray.of(1, 2, 3));
+    assertRoundTrip(LongArray.of(1L, 2L, 3L));
+    assertRoundTrip(DoubleMatrix.EMPTY);
+    assertRoundTrip(DoubleMatrix.of(2, 3, 1d, 2d, 3d, 4d, 5d, 6d));
+    assertRoundTrip(DoubleMatrix.ofUnsafe(new double[][] {{1d}, {2d, 3d}}));
+  }
+
+  @Test
+  public void test_timeSeries() {
+    assertRoundTrip(LocalDateDoubleTimeSeries.empty());
+    assertRoundTrip(SPARSE);
+    assertRoundTrip(DENSE);
+  }
+
+  @Test
+  public void test_collections() {
+    assertRoundTrip(ImmutableList.of("A", 1, 2.5d, date(2020, 6, 30)));
+    assertRoundTrip(ImmutableSet.of("B", "A"));
+    assertRoundTrip(ImmutableSortedSet.of("B", "A"));
+    assertRoundTrip(ImmutableMap.of("B", DoubleArray.of(1d), "A", DoubleArray.of(2d)));
+    assertRoundTrip(ImmutableSortedMap.of("B", 1, "A", 2));
+    assertRoundTrip(ImmutableListMultimap.of("A", 1, "A", 1, "B", 2));
+    assertRoundTrip(ImmutableSetMultimap.of("A", 1, "A", 2, "B", 2));
+  }
+
+  @Test
+  public void test_beans() {
+    Pair<String, DoubleArray> pair = Pair.of("A", DoubleArray.of(1d, 2d));
+    assertRoundTrip(pair);
+    assertRoundTrip(ObjDoublePair.of(SPARSE, 1.5d));
+    assertRoundTrip(ImmutableList.of(Pair.of("A", 1), Pair.of("B", 2), Pair.of(pair, DENSE)));
+    assertRoundTrip(Result.success(DoubleMatrix.of(1, 2, 1d, 2d)));
+    Result<?> failure = Result.failure(FailureReason.MISSING_DATA, "Missing {}", "curve");
+    assertThat(roundTrip(failure).getFailure().getReason()).isEqualTo(FailureReason.MISSING_DATA);
+    assertThat(roundTrip(failure).getFailure().getMessage()).isEqualTo("Missing curve");
+    assertRoundTrip(SerializedValue.serialize(String.class, "A"));
+  }
+
+  @Test
+  public void test_compact() {
+    DoubleArray values = DoubleArray.of(1000, i -> Math.sin(i));
+    Pair<String, DoubleArray> pair = Pair.of("A", values);
+    long size = BeanBinaryCodec.write(pair).size();
+    assertThat(size).isLessThan(1000 * 8 + 100L);
+    assertThat(size).isLessThan((long) JodaBeanSer.COMPACT.binWriter().write(pair, false).length);
+  }
+
+  @Test
+  public void test_file() {
+    Path file = tmpDir.resolve("values.bin");
+    ImmutableMap<String, Object> value = ImmutableMap.of("A", SPARSE, "B", DoubleMatrix.of(1, 2, 1d, 2d));
+    BeanBinaryCodec.write(value, file);
+    assertThat(BeanBinaryCodec.read(file, ImmutableMap.class)).isEqualTo(value);
+    assertThat(BeanBinaryCodec.read(FileByteSource.of(file), ImmutableMap.class)).isEqualTo(value);
+  }
+
+  @Test
+  public void test_buffer_position() {
+    byte[] bytes = BeanBinaryCodec.write("Hello").read();
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+    buffer.position(3);
+    buffer.put(bytes);
+    buffer.position(3);
+    assertThat(BeanBinaryCodec.read(buffer, String.class)).isEqualTo("Hello");
+    assertThat(buffer.position()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.read(ArrayByteSource.ofUtf8("Hello"), String.class))
+        .withMessageContaining("expected format");
+    byte[] bytes = BeanBinaryCodec.write("Hello").read();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.read(ArrayByteSource.ofUnsafe(bytes), Integer.class))
+        .withMessageContaining("java.lang.Integer");
+    byte[] truncated = BeanBinaryCodec.write(DoubleArray.of(1d, 2d)).read();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.read(ByteBuffer.wrap(truncated, 0, truncated.length - 1), DoubleArray.class))
+        .withMessageContaining("larger than the remaining data");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.read(ByteBuffer.wrap(truncated, 0, 6), DoubleArray.class))
+        .withMessageContaining("ended unexpectedly");
+    byte[] newVersion = bytes.clone();
+    newVersion[4] = (byte) (BeanBinaryCodec.VERSION + 1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.read(ArrayByteSource.ofUnsafe(newVersion), String.class))
+        .withMessageContaining("unsupported version");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.write(new Object()));
+  }
+
+  @Test
+  public void test_unsupportedTypes() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.write(BitSet.valueOf(new long[] {5L})))
+        .withMessageContaining("Unable to write value");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.write(ImmutableSortedSet.orderedBy(Ordering.natural().reverse()).build()))
+        .withMessageContaining("comparator");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BeanBinaryCodec.write(new TreeMap<>(Comparator.reverseOrder())))
+        .withMessageContaining("comparator");
+    assertRoundTrip(new TreeMap<>(ImmutableMap.of("B", 1, "A", 2)));
+  }
+
+  @Test
+  public void test_untrustedInput() {
+    // the removed Java serialization tag
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(27, 0)))
+        .withMessageContaining("invalid tag");
+    // a bean that is not a bean, type reference 0 and string reference 0 followed by the name
+    byte[] name = "java.lang.Thread".getBytes(StandardCharsets.UTF_8);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(concat(bytes(18, 0, 0, name.length), name)))
+        .withMessageContaining("not a bean");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(concat(bytes(17, 0, 0, name.length), name)))
+        .withMessageContaining("not convertible");
+    byte[] unknown = "com.example.Unknown".getBytes(StandardCharsets.UTF_8);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(concat(bytes(18, 0, 0, unknown.length), unknown)))
+        .withMessageContaining("unknown type");
+    // lengths larger than the remaining data
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(7, 0xFF, 0xFF, 0xFF, 0xFF, 0x07)))
+        .withMessageContaining("length");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(19, 0xFF, 0xFF, 0xFF, 0x7F)))
+        .withMessageContaining("length");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(22, 0xFF, 0xFF, 0x03, 0, 0)))
+        .withMessageContaining("length");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(7, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)))
+        .withMessageContaining("invalid length");
+  }
+
+  @Test
+  public void test_untrustedInput_nesting() {
+    Object nested = "Hello";
+    for (int i = 0; i < 500; i++) {
+      nested = i % 2 == 0 ? Optional.of(nested) : ImmutableList.of(nested);
+    }
+    assertRoundTrip(nested);
+    // deeply nested optionals, and lists of size one, ending with null
+    int[] optionals = new int[100_001];
+    Arrays.fill(optionals, 16);
+    optionals[optionals.length - 1] = 0;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(optionals)))
+        .withMessageContaining("maximum nesting depth");
+    int[] lists = new int[200_001];
+    for (int i = 0; i < lists.length - 1; i += 2) {
+      lists[i] = 19;
+      lists[i + 1] = 1;
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> readBytes(bytes(lists)))
+        .withMessageContaining("maximum nesting depth");
+  }
+
+  //-------------------------------------------------------------------------
+  // the header followed by the specified bytes
+  private static byte[] bytes(int... values) {
+    byte[] header = BeanBinaryCodec.write(null).read();
+    byte[] bytes = Arrays.copyOf(header, header.length - 1 + values.length);
+    for (int i = 0; i < values.length; i++) {
+      bytes[header.length - 1 + i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  private static Object readBytes(byte[] bytes) {
+    return BeanBinaryCodec.read(ArrayByteSource.ofUnsafe(bytes), Object.class);
+  }
+
+  private static byte[] concat(byte[] first, byte[] second) {
+    byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, bytes, first.length, second.length);
+    return bytes;
+  }
+
+  private static void assertRoundTrip(Object value) {
+    assertThat(roundTrip(value)).isEqualTo(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T value) {
+    ArrayByteSource bytes = BeanBinaryCodec.write(value);
+    return (T) BeanBinaryCodec.read(bytes, Object.class);
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.named;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test {@link LazyNamedLookup}.
+ */
+public class LazyNamedLookupTest {
+
+  @Test
+  public void test_lookup() {
+    List<String> created = new ArrayList<>();
+    LazyNamedLookup<String, Named> test = LazyNamedLookup.of(
+        ImmutableMap.of("One", "One", "ONE", "One", "Two", "Two"),
+        name -> {
+          created.add(name);
+          return () -> name;
+        });
+    assertThat(created).isEmpty();
+    Named one = test.lookup("One");
+    assertThat(one.getName()).isEqualTo("One");
+    assertThat(test.lookup("ONE")).isSameAs(one);
+    assertThat(test.lookup("One")).isSameAs(one);
+    assertThat(test.lookup("Three")).isNull();
+    assertThat(created).containsExactly("One");
+
+    ImmutableMap<String, Named> all = test.lookupAll();
+    assertThat(all).containsOnlyKeys("One", "ONE", "Two");
+    assertThat(all.get("One")).isSameAs(one);
+    assertThat(all.get("Two").getName()).isEqualTo("Two");
+    assertThat(test.lookupAll()).isSameAs(all);
+    assertThat(created).containsExactly("One", "Two");
+  }
+
+  @Test
+  public void test_lookup_invalid() {
+    LazyNamedLookup<String, Named> test = LazyNamedLookup.of(
+        ImmutableMap.of("One", "One"),
+        name -> {
+          throw new IllegalArgumentException("Invalid: " + name);
+        });
+    assertThat(test.lookup("Two")).isNull();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.lookup("One"))
+        .withMessage("Invalid: One");
+  }
+
+}
@@ -37,6 +37,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.TestHelper;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.tuple.Pair;
 
 /**
@@ -969,6 +971,55 @@ public class DenseLocalDateDoubleTimeSeriesTest {
     assertThat(ts.get(dt(2015, 1, 9))).hasValue(16d);
   }
 
+  @Test
+  public void test_ofEpochDays_skipWeekends() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.ofEpochDays(
+        IntArray.of(DATES_2015_1_WEEK.size(), i -> (int) DATES_2015_1_WEEK.get(i).toEpochDay()),
+        DoubleArray.copyOf(VALUES_1_WEEK));
+    assertThat(test).isInstanceOf(DenseLocalDateDoubleTimeSeries.class);
+    assertThat(test).isEqualTo(LocalDateDoubleTimeSeries.builder().putAll(DATES_2015_1_WEEK, VALUES_1_WEEK).build());
+    assertThat(test.get(DATE_2015_01_07)).hasValue(12);
+  }
+
+  @Test
+  public void test_ofEpochDays_includeWeekends() {
+    List<LocalDate> dates = dates(DATE_2015_01_02, DATE_2015_01_03, DATE_2015_01_04, DATE_2015_01_05);
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.ofEpochDays(
+        IntArray.of(dates.size(), i -> (int) dates.get(i).toEpochDay()),
+        DoubleArray.of(1, 2, 3, 4));
+    assertThat(test).isInstanceOf(DenseLocalDateDoubleTimeSeries.class);
+    assertThat(test).isEqualTo(LocalDateDoubleTimeSeries.builder().putAll(dates, values(1, 2, 3, 4)).build());
+  }
+
+  @Test
+  public void test_epochDayArray_valueArray() {
+    List<LocalDate> dates = dates(
+        DATE_2015_01_02, DATE_2015_01_05, DATE_2015_01_06, DATE_2015_01_08, DATE_2015_01_09, DATE_2015_01_12);
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder()
+        .putAll(dates, values(1, 2, 3, 4, 5, 6))
+        .build();
+    assertThat(test).isInstanceOf(DenseLocalDateDoubleTimeSeries.class);
+    assertThat(test.epochDayArray()).isEqualTo(IntArray.of(dates.size(), i -> (int) dates.get(i).toEpochDay()));
+    assertThat(test.valueArray()).isEqualTo(DoubleArray.of(1, 2, 3, 4, 5, 6));
+    LocalDateDoubleTimeSeries weekends = LocalDateDoubleTimeSeries.builder()
+        .putAll(dates(DATE_2015_01_03, DATE_2015_01_04, DATE_2015_01_06), values(1, 2, 3))
+        .build();
+    assertThat(weekends).isInstanceOf(DenseLocalDateDoubleTimeSeries.class);
+    assertThat(weekends.epochDayArray()).isEqualTo(IntArray.of(
+        (int) DATE_2015_01_03.toEpochDay(), (int) DATE_2015_01_04.toEpochDay(), (int) DATE_2015_01_06.toEpochDay()));
+    assertThat(weekends.valueArray()).isEqualTo(DoubleArray.of(1, 2, 3));
+  }
+
+  @Test
+  public void test_mapAdjacent() {
+    LocalDateDoubleTimeSeries base =
+        LocalDateDoubleTimeSeries.builder().putAll(DATES_2015_1_WEEK, VALUES_1_WEEK).build();
+    LocalDateDoubleTimeSeries test = base.mapAdjacent((previous, current) -> current - previous);
+    assertThat(test).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .putAll(DATES_2015_1_WEEK.subList(1, 5), values(1, 1, 1, 1))
+        .build());
+  }
+
   @Test
   public void roundTrip() {
     Map<LocalDate, Double> in = ImmutableMap.<LocalDate, Double>builder()
@@ -32,6 +32,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Doubles;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.IntArray;
 import com.opengamma.strata.collect.tuple.Pair;
 
 /**
@@ -687,6 +690,84 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThat(extreme.get(DATE_2014_01_01)).hasValue(14);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofEpochDays() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.ofEpochDays(
+        IntArray.of((int) DATE_2010_01_01.toEpochDay(), (int) DATE_2011_06_01.toEpochDay()),
+        DoubleArray.of(10, 11));
+    assertThat(test).isInstanceOf(SparseLocalDateDoubleTimeSeries.class);
+    assertThat(test).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(DATE_2010_01_01, 10)
+        .put(DATE_2011_06_01, 11)
+        .build());
+    assertThat(LocalDateDoubleTimeSeries.ofEpochDays(IntArray.EMPTY, DoubleArray.EMPTY))
+        .isEqualTo(LocalDateDoubleTimeSeries.empty());
+  }
+
+  @Test
+  public void test_ofEpochDays_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(IntArray.of(1, 2), DoubleArray.of(1)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(IntArray.of(2, 1), DoubleArray.of(1, 2)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(IntArray.of(1, 2), DoubleArray.of(1, Double.NaN)));
+  }
+
+  @Test
+  public void test_epochDayArray_valueArray() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    assertThat(test.epochDayArray())
+        .isEqualTo(IntArray.of(DATES_2010_14.size(), i -> (int) DATES_2010_14.get(i).toEpochDay()));
+    assertThat(test.valueArray()).isEqualTo(DoubleArray.copyOf(VALUES_10_14));
+    assertThat(LocalDateDoubleTimeSeries.empty().epochDayArray()).isEqualTo(IntArray.EMPTY);
+    assertThat(LocalDateDoubleTimeSeries.empty().valueArray()).isEqualTo(DoubleArray.EMPTY);
+  }
+
+  @Test
+  public void test_mapAdjacent() {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder()
+        .putAll(DATES_2010_14, values(8, 10, 5, 5, 20))
+        .build();
+    LocalDateDoubleTimeSeries test = base.mapAdjacent((previous, current) -> current / previous - 1);
+    LocalDateDoubleTimeSeries expected = LocalDateDoubleTimeSeries.builder()
+        .putAll(DATES_2010_14.subList(1, 5), values(0.25, -0.5, 0, 3))
+        .build();
+    assertThat(test).isEqualTo(expected);
+    assertThat(LocalDateDoubleTimeSeries.of(DATE_2010_01_01, 1d).mapAdjacent((a, b) -> b - a))
+        .isEqualTo(LocalDateDoubleTimeSeries.empty());
+  }
+
+  @Test
+  public void test_rollingSum() {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    LocalDateDoubleTimeSeries test = base.rollingSum(3);
+    assertThat(test.dates().collect(toList())).isEqualTo(DATES_2010_14.subList(2, 5));
+    assertThat(test.valueArray().equalWithTolerance(DoubleArray.of(33, 36, 39), 1e-12)).isTrue();
+    assertThat(base.rollingSum(1)).isEqualTo(base);
+    assertThat(base.rollingSum(6)).isEqualTo(LocalDateDoubleTimeSeries.empty());
+    assertThatIllegalArgumentException().isThrownBy(() -> base.rollingSum(0));
+  }
+
+  @Test
+  public void test_alignedValues() {
+    LocalDateDoubleTimeSeries series1 = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    LocalDateDoubleTimeSeries series2 = LocalDateDoubleTimeSeries.builder()
+        .putAll(dates(DATE_2010_06_01, DATE_2011_01_01, DATE_2013_01_01, DATE_2015_06_01), values(1, 2, 3, 4))
+        .build();
+    LocalDateDoubleTimeSeries series3 = LocalDateDoubleTimeSeries.builder()
+        .putAll(dates(DATE_2011_01_01, DATE_2012_01_01, DATE_2013_01_01), values(5, 6, 7))
+        .build();
+    Pair<IntArray, DoubleMatrix> test =
+        LocalDateDoubleTimeSeries.alignedValues(ImmutableList.of(series1, series2, series3));
+    assertThat(test.getFirst())
+        .isEqualTo(IntArray.of((int) DATE_2011_01_01.toEpochDay(), (int) DATE_2013_01_01.toEpochDay()));
+    assertThat(test.getSecond()).isEqualTo(DoubleMatrix.copyOf(new double[][] {{11, 13}, {2, 3}, {5, 7}}));
+    assertThat(LocalDateDoubleTimeSeries.alignedValues(ImmutableList.of()))
+        .isEqualTo(Pair.of(IntArray.EMPTY, DoubleMatrix.EMPTY));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
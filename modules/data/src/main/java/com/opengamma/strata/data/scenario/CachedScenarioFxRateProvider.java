@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A provider of FX rates for scenarios that caches the rates of an underlying provider.
+ * <p>
+ * The rates for a currency pair are obtained from the underlying provider for all scenarios
+ * the first time the pair is requested. Subsequent requests for the pair use the cached array.
+ */
+final class CachedScenarioFxRateProvider
+    implements ScenarioFxRateProvider, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The underlying provider.
+   */
+  private final ScenarioFxRateProvider underlying;
+  /**
+   * The cached rates, keyed by currency pair.
+   */
+  private final ConcurrentMap<CurrencyPair, DoubleArray> rates = new ConcurrentHashMap<>();
+
+  // creates an instance
+  CachedScenarioFxRateProvider(ScenarioFxRateProvider underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return underlying.getScenarioCount();
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return 1;
+    }
+    return fxRates(baseCurrency, counterCurrency).get(scenarioIndex);
+  }
+
+  @Override
+  public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    // the rates are obtained outside the map to avoid calling the underlying provider while holding a lock
+    CurrencyPair pair = CurrencyPair.of(baseCurrency, counterCurrency);
+    DoubleArray cached = rates.get(pair);
+    if (cached != null) {
+      return cached;
+    }
+    DoubleArray computed = underlying.fxRates(baseCurrency, counterCurrency);
+    DoubleArray existing = rates.putIfAbsent(pair, computed);
+    return existing != null ? existing : computed;
+  }
+
+  @Override
+  public FxRateProvider fxRateProvider(int scenarioIndex) {
+    return underlying.fxRateProvider(scenarioIndex);
+  }
+
+  @Override
+  public String toString() {
+    return "CachedScenarioFxRateProvider[" + underlying + "]";
+  }
+
+}
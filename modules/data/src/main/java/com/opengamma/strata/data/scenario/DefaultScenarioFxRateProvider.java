@@ -6,8 +6,13 @@
 package com.opengamma.strata.data.scenario;
 
 import java.io.Serializable;
+import java.util.Optional;
 
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
 import com.opengamma.strata.data.ObservableSource;
 
@@ -41,6 +46,23 @@ class DefaultScenarioFxRateProvider
     return marketData.getScenarioCount();
   }
 
+  @Override
+  public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    // read a direct rate from the box without creating a provider for each scenario
+    Optional<MarketDataBox<FxRate>> box = marketData.findValue(FxRateId.of(baseCurrency, counterCurrency, source));
+    if (box.isPresent()) {
+      MarketDataBox<FxRate> rates = box.get();
+      if (rates.isSingleValue()) {
+        return DoubleArray.filled(getScenarioCount(), rates.getSingleValue().fxRate(baseCurrency, counterCurrency));
+      }
+      return DoubleArray.of(getScenarioCount(), i -> rates.getValue(i).fxRate(baseCurrency, counterCurrency));
+    }
+    return ScenarioFxRateProvider.super.fxRates(baseCurrency, counterCurrency);
+  }
+
   @Override
   public FxRateProvider fxRateProvider(int scenarioIndex) {
     return MarketDataFxRateProvider.of(marketData.scenario(scenarioIndex), source);
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A scenario array where the value for each scenario is calculated when it is first requested.
+ * <p>
+ * The values are calculated using a function of the scenario index.
+ * Calculated values are cached, with at most {@code maxCachedScenarios} values held at any time.
+ * When the limit is reached the least recently used value is discarded and will be recalculated
+ * if it is requested again. The function must therefore return an equal value each time it is
+ * invoked for the same scenario index.
+ * <p>
+ * This allows the market data for a large number of scenarios to be defined without holding
+ * the values for all scenarios in memory at the same time.
+ * <p>
+ * This class is thread-safe provided the function is thread-safe.
+ * Two threads requesting the same uncached scenario may both invoke the function.
+ *
+ * @param <T>  the type of each individual value
+ */
+final class LazyScenarioArray<T> implements ScenarioArray<T> {
+
+  /**
+   * The number of scenarios.
+   */
+  private final int scenarioCount;
+  /**
+   * The function used to calculate the value for a scenario.
+   */
+  private final IntFunction<T> valueFunction;
+  /**
+   * The maximum number of scenario values held in the cache.
+   */
+  private final int maxCachedScenarios;
+  /**
+   * The cached values, keyed by scenario index, in order of access.
+   * All access must be synchronized on the map.
+   */
+  private final Map<Integer, T> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance using a function to calculate the value for each scenario.
+   *
+   * @param <T>  the type of each individual value
+   * @param scenarioCount  the number of scenarios
+   * @param valueFunction  the function used to calculate the value for a scenario index
+   * @param maxCachedScenarios  the maximum number of scenario values to cache, zero to disable caching
+   * @return an instance that calculates the value for each scenario when requested
+   */
+  static <T> LazyScenarioArray<T> of(int scenarioCount, IntFunction<T> valueFunction, int maxCachedScenarios) {
+    return new LazyScenarioArray<>(scenarioCount, valueFunction, maxCachedScenarios);
+  }
+
+  // restricted constructor
+  @SuppressWarnings("serial")
+  private LazyScenarioArray(int scenarioCount, IntFunction<T> valueFunction, int maxCachedScenarios) {
+    this.scenarioCount = ArgChecker.notNegative(scenarioCount, "scenarioCount");
+    this.valueFunction = ArgChecker.notNull(valueFunction, "valueFunction");
+    this.maxCachedScenarios = ArgChecker.notNegative(maxCachedScenarios, "maxCachedScenarios");
+    this.cache = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+        return size() > maxCachedScenarios;
+      }
+    };
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  @Override
+  public T get(int scenarioIndex) {
+    ArgChecker.inRange(scenarioIndex, 0, scenarioCount, "scenarioIndex");
+    synchronized (cache) {
+      T cached = cache.get(scenarioIndex);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    // the value is calculated outside the lock so scenarios can be calculated in parallel
+    T value = ArgChecker.notNull(valueFunction.apply(scenarioIndex), "value");
+    if (maxCachedScenarios > 0) {
+      synchronized (cache) {
+        cache.put(scenarioIndex, value);
+      }
+    }
+    return value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if this array is equal to another lazy scenario array.
+   * <p>
+   * The arrays are equal if they have the same number of scenarios and the value of each scenario is equal.
+   * This allows market data built in separate cycles to be compared, but calculates the value of each
+   * scenario that is not cached.
+   *
+   * @param obj  the other object
+   * @return true if equal
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      LazyScenarioArray<?> other = (LazyScenarioArray<?>) obj;
+      if (scenarioCount != other.scenarioCount) {
+        return false;
+      }
+      for (int i = 0; i < scenarioCount; i++) {
+        if (!get(i).equals(other.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns a suitable hash code.
+   * <p>
+   * The hash code only uses the number of scenarios, avoiding the calculation of the values.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    return scenarioCount;
+  }
+
+  @Override
+  public String toString() {
+    return "LazyScenarioArray[scenarioCount=" + scenarioCount + ", maxCachedScenarios=" + maxCachedScenarios + "]";
+  }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.function.ObjIntFunction;
+
+/**
+ * A market data box containing a single value where derived scenario values are calculated lazily.
+ * <p>
+ * This box behaves in the same way as a box created by {@link MarketDataBox#ofSingleValue(Object)},
+ * except for {@link #mapWithIndex(int, ObjIntFunction)}.
+ * Instead of eagerly applying the function for every scenario, the resulting box contains a
+ * scenario array that applies the function the first time the value for a scenario is requested.
+ * At most {@code maxCachedScenarios} of the calculated values are held in memory at any time.
+ * <p>
+ * This is typically used when applying perturbations to create market data for a large number of scenarios.
+ * <p>
+ * This box is serializable if the value is serializable, however the derived scenario array is not.
+ *
+ * @param <T>  the type of data held in the box
+ */
+final class LazySingleMarketDataBox<T> implements MarketDataBox<T>, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The market data value used in all scenarios.
+   */
+  private final T value;
+  /**
+   * The maximum number of scenario values held in memory by boxes derived from this box.
+   */
+  private final int maxCachedScenarios;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance containing a single market data value.
+   *
+   * @param <T> the type of the value
+   * @param value  the market data value
+   * @param maxCachedScenarios  the maximum number of derived scenario values held in memory
+   * @return a market data box containing a single market data value
+   */
+  static <T> LazySingleMarketDataBox<T> of(T value, int maxCachedScenarios) {
+    return new LazySingleMarketDataBox<>(value, maxCachedScenarios);
+  }
+
+  // restricted constructor
+  private LazySingleMarketDataBox(T value, int maxCachedScenarios) {
+    this.value = ArgChecker.notNull(value, "value");
+    this.maxCachedScenarios = ArgChecker.notNegative(maxCachedScenarios, "maxCachedScenarios");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public T getSingleValue() {
+    return value;
+  }
+
+  @Override
+  public ScenarioArray<T> getScenarioValue() {
+    throw new IllegalStateException("This box does not contain a scenario value");
+  }
+
+  @Override
+  public T getValue(int scenarioIndex) {
+    ArgChecker.notNegative(scenarioIndex, "scenarioIndex");
+    return value;
+  }
+
+  @Override
+  public boolean isSingleValue() {
+    return true;
+  }
+
+  @Override
+  public boolean isLazy() {
+    return true;
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return -1;
+  }
+
+  @Override
+  public Class<?> getMarketDataType() {
+    return value.getClass();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public <R> MarketDataBox<R> map(Function<T, R> fn) {
+    return new LazySingleMarketDataBox<>(fn.apply(value), maxCachedScenarios);
+  }
+
+  @Override
+  public <R> MarketDataBox<R> mapWithIndex(int scenarioCount, ObjIntFunction<T, R> fn) {
+    ScenarioArray<R> lazyValues = LazyScenarioArray.of(scenarioCount, idx -> fn.apply(value, idx), maxCachedScenarios);
+    return MarketDataBox.ofScenarioValue(lazyValues);
+  }
+
+  @Override
+  public <U, R> MarketDataBox<R> combineWith(MarketDataBox<U> other, BiFunction<T, U, R> fn) {
+    return SingleMarketDataBox.of(value).combineWith(other, fn);
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return Stream.of(value);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      LazySingleMarketDataBox<?> other = (LazySingleMarketDataBox<?>) obj;
+      return value.equals(other.value) && maxCachedScenarios == other.maxCachedScenarios;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, maxCachedScenarios);
+  }
+
+  @Override
+  public String toString() {
+    return "LazySingleMarketDataBox[value=" + value + ", maxCachedScenarios=" + maxCachedScenarios + "]";
+  }
+
+}
@@ -50,6 +50,29 @@ public interface MarketDataBox<T> {
     return SingleMarketDataBox.of(singleValue);
   }
 
+  /**
+   * Obtains an instance containing a single market data value, where scenario values derived from it
+   * are calculated lazily.
+   * <p>
+   * The box is equivalent to one created by {@link #ofSingleValue(Object)}, except when using
+   * {@link #mapWithIndex(int, ObjIntFunction)}, which is typically used to apply perturbations.
+   * The resulting box contains a scenario array that calculates the value for a scenario when it
+   * is first requested, rather than calculating the values for all scenarios immediately.
+   * At most {@code maxCachedScenarios} calculated values are held in memory at any time.
+   * Values that have been discarded are recalculated if they are requested again.
+   * <p>
+   * This allows data for a large number of scenarios to be used without holding the values for all
+   * scenarios in memory. The box created by {@code mapWithIndex} is not serializable.
+   *
+   * @param <T> the type of the market data value used in each scenario
+   * @param singleValue  the market data value containing data for a single scenario
+   * @param maxCachedScenarios  the maximum number of derived scenario values held in memory, zero to disable caching
+   * @return a box containing a single market data value that is used in all scenarios
+   */
+  public static <T> MarketDataBox<T> ofLazySingleValue(T singleValue, int maxCachedScenarios) {
+    return LazySingleMarketDataBox.of(singleValue, maxCachedScenarios);
+  }
+
   /**
    * Obtains an instance containing a scenario market data value with data for multiple scenarios.
    * <p>
@@ -163,6 +186,19 @@ public interface MarketDataBox<T> {
     return !isSingleValue();
   }
 
+  /**
+   * Checks if scenario values derived from this box are calculated lazily.
+   * <p>
+   * If true, {@link #mapWithIndex(int, ObjIntFunction)} returns a box that calculates the value for
+   * a scenario when it is first requested, see {@link #ofLazySingleValue(Object, int)}.
+   * Perturbations should not calculate the values for all scenarios eagerly when this returns true.
+   *
+   * @return true if scenario values derived from this box are calculated lazily
+   */
+  public default boolean isLazy() {
+    return false;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the number of scenarios for which this box contains data.
@@ -7,6 +7,7 @@ package com.opengamma.strata.data.scenario;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.ObservableSource;
 
 /**
@@ -42,6 +43,24 @@ public interface ScenarioFxRateProvider {
     return new DefaultScenarioFxRateProvider(marketData, source);
   }
 
+  /**
+   * Returns a scenario FX rate provider which caches the rates of the underlying provider.
+   * <p>
+   * The rates for each currency pair are obtained for all scenarios the first time the pair is requested,
+   * and are then held as a primitive array. This is intended for use when many amounts are converted
+   * using the same set of market data, such as when converting the results of a portfolio.
+   *
+   * @param underlying  the underlying provider
+   * @return a scenario FX rate provider which caches the rates of the underlying provider
+   */
+  public static ScenarioFxRateProvider cached(ScenarioFxRateProvider underlying) {
+    if (underlying instanceof CachedScenarioFxRateProvider) {
+      return underlying;
+    }
+    return new CachedScenarioFxRateProvider(underlying);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * Gets the number of scenarios.
    * 
@@ -86,6 +105,25 @@ public interface ScenarioFxRateProvider {
     return fxRateProvider(scenarioIndex).fxRate(baseCurrency, counterCurrency);
   }
 
+  /**
+   * Gets the FX rates for the specified currency pair for all scenarios.
+   * <p>
+   * The rates returned are the rates from the base currency to the counter currency
+   * as defined by this formula: {@code (1 * baseCurrency = fxRate * counterCurrency)}.
+   * The array contains one element for each scenario.
+   *
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates for the currency pair, one for each scenario
+   * @throws RuntimeException if no FX rate could be found
+   */
+  public default DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    return DoubleArray.of(getScenarioCount(), i -> fxRate(baseCurrency, counterCurrency, i));
+  }
+
   /**
    * Gets the FX rate provider for the specified scenario index.
    * 
@@ -154,6 +154,25 @@ public interface ScenarioMarketData {
     return SingleScenarioMarketData.of(this, scenarioIndex);
   }
 
+  /**
+   * Returns market data for a contiguous range of the scenarios.
+   * <p>
+   * This returns a view of the market data where scenario zero is the scenario at {@code startIndex}.
+   * The values for the scenarios are not copied.
+   * This can be used to perform calculations for a large number of scenarios in smaller groups.
+   *
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return the market data for the specified range of scenarios
+   * @throws IllegalArgumentException if the range is invalid
+   */
+  public default ScenarioMarketData subsetScenarios(int startIndex, int endIndex) {
+    if (startIndex == 0 && endIndex == getScenarioCount()) {
+      return this;
+    }
+    return SubsetScenarioMarketData.of(this, startIndex, endIndex);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Checks if this market data contains a value for the specified identifier.
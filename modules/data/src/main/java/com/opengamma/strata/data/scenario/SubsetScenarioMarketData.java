@@ -0,0 +1,438 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * A view of a contiguous range of the scenarios in an underlying set of scenario market data.
+ * <p>
+ * Scenario zero of this market data is scenario {@code startIndex} of the underlying data.
+ * Values that are the same in all scenarios are returned unchanged.
+ * Values that differ by scenario are returned as a view of the values for the scenarios in the range,
+ * which is not serializable.
+ */
+@BeanDefinition(builderScope = "private")
+final class SubsetScenarioMarketData
+    implements ScenarioMarketData, ImmutableBean, Serializable {
+
+  /**
+   * The underlying market data.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ScenarioMarketData underlying;
+  /**
+   * The index of the first scenario in the underlying market data that is included.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final int startIndex;
+  /**
+   * The number of scenarios.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero", overrideGet = true)
+  private final int scenarioCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance containing a range of the scenarios in the underlying market data.
+   *
+   * @param underlying  the underlying market data
+   * @param startIndex  the index of the first scenario to include, inclusive
+   * @param endIndex  the index of the last scenario to include, exclusive
+   * @return the market data for the range of scenarios
+   */
+  static SubsetScenarioMarketData of(ScenarioMarketData underlying, int startIndex, int endIndex) {
+    return new SubsetScenarioMarketData(underlying, startIndex, endIndex - startIndex);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.inRangeInclusive(
+        startIndex + scenarioCount, 1, underlying.getScenarioCount(), "endIndex");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return subset(underlying.getValuationDate());
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return underlying.findValue(id).map(this::subset);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  // restricts a box to the scenarios in the range, without copying the values
+  private <T> MarketDataBox<T> subset(MarketDataBox<T> box) {
+    if (box.isSingleValue()) {
+      return box;
+    }
+    return MarketDataBox.ofScenarioValue(new ScenarioArrayView<>(box.getScenarioValue(), startIndex, scenarioCount));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A view of a range of the values in a scenario array.
+   */
+  private static final class ScenarioArrayView<T> implements ScenarioArray<T> {
+
+    private final ScenarioArray<T> underlying;
+    private final int startIndex;
+    private final int scenarioCount;
+
+    private ScenarioArrayView(ScenarioArray<T> underlying, int startIndex, int scenarioCount) {
+      this.underlying = underlying;
+      this.startIndex = startIndex;
+      this.scenarioCount = scenarioCount;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return scenarioCount;
+    }
+
+    @Override
+    public T get(int scenarioIndex) {
+      ArgChecker.inRange(scenarioIndex, 0, scenarioCount, "scenarioIndex");
+      return underlying.get(startIndex + scenarioIndex);
+    }
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code SubsetScenarioMarketData}.
+   * @return the meta-bean, not null
+   */
+  public static SubsetScenarioMarketData.Meta meta() {
+    return SubsetScenarioMarketData.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(SubsetScenarioMarketData.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private SubsetScenarioMarketData(
+      ScenarioMarketData underlying,
+      int startIndex,
+      int scenarioCount) {
+    JodaBeanUtils.notNull(underlying, "underlying");
+    ArgChecker.notNegative(startIndex, "startIndex");
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    this.underlying = underlying;
+    this.startIndex = startIndex;
+    this.scenarioCount = scenarioCount;
+    validate();
+  }
+
+  @Override
+  public SubsetScenarioMarketData.Meta metaBean() {
+    return SubsetScenarioMarketData.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the underlying market data.
+   * @return the value of the property, not null
+   */
+  public ScenarioMarketData getUnderlying() {
+    return underlying;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the index of the first scenario in the underlying market data that is included.
+   * @return the value of the property
+   */
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   * @return the value of the property
+   */
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      SubsetScenarioMarketData other = (SubsetScenarioMarketData) obj;
+      return JodaBeanUtils.equal(underlying, other.underlying) &&
+          (startIndex == other.startIndex) &&
+          (scenarioCount == other.scenarioCount);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(underlying);
+    hash = hash * 31 + JodaBeanUtils.hashCode(startIndex);
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("SubsetScenarioMarketData{");
+    buf.append("underlying").append('=').append(JodaBeanUtils.toString(underlying)).append(',').append(' ');
+    buf.append("startIndex").append('=').append(JodaBeanUtils.toString(startIndex)).append(',').append(' ');
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code SubsetScenarioMarketData}.
+   */
+  static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code underlying} property.
+     */
+    private final MetaProperty<ScenarioMarketData> underlying = DirectMetaProperty.ofImmutable(
+        this, "underlying", SubsetScenarioMarketData.class, ScenarioMarketData.class);
+    /**
+     * The meta-property for the {@code startIndex} property.
+     */
+    private final MetaProperty<Integer> startIndex = DirectMetaProperty.ofImmutable(
+        this, "startIndex", SubsetScenarioMarketData.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     */
+    private final MetaProperty<Integer> scenarioCount = DirectMetaProperty.ofImmutable(
+        this, "scenarioCount", SubsetScenarioMarketData.class, Integer.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "underlying",
+        "startIndex",
+        "scenarioCount");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1770633379:  // underlying
+          return underlying;
+        case -1593646704:  // startIndex
+          return startIndex;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends SubsetScenarioMarketData> builder() {
+      return new SubsetScenarioMarketData.Builder();
+    }
+
+    @Override
+    public Class<? extends SubsetScenarioMarketData> beanType() {
+      return SubsetScenarioMarketData.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code underlying} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ScenarioMarketData> underlying() {
+      return underlying;
+    }
+
+    /**
+     * The meta-property for the {@code startIndex} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> startIndex() {
+      return startIndex;
+    }
+
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioCount() {
+      return scenarioCount;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1770633379:  // underlying
+          return ((SubsetScenarioMarketData) bean).getUnderlying();
+        case -1593646704:  // startIndex
+          return ((SubsetScenarioMarketData) bean).getStartIndex();
+        case -1203198113:  // scenarioCount
+          return ((SubsetScenarioMarketData) bean).getScenarioCount();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code SubsetScenarioMarketData}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<SubsetScenarioMarketData> {
+
+    private ScenarioMarketData underlying;
+    private int startIndex;
+    private int scenarioCount;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1770633379:  // underlying
+          return underlying;
+        case -1593646704:  // startIndex
+          return startIndex;
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1770633379:  // underlying
+          this.underlying = (ScenarioMarketData) newValue;
+          break;
+        case -1593646704:  // startIndex
+          this.startIndex = (Integer) newValue;
+          break;
+        case -1203198113:  // scenarioCount
+          this.scenarioCount = (Integer) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public SubsetScenarioMarketData build() {
+      return new SubsetScenarioMarketData(
+          underlying,
+          startIndex,
+          scenarioCount);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("SubsetScenarioMarketData.Builder{");
+      buf.append("underlying").append('=').append(JodaBeanUtils.toString(underlying)).append(',').append(' ');
+      buf.append("startIndex").append('=').append(JodaBeanUtils.toString(startIndex)).append(',').append(' ');
+      buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link LazySingleMarketDataBox} and {@link LazyScenarioArray}.
+ */
+public class LazySingleMarketDataBoxTest {
+
+  @Test
+  public void singleValue() {
+    MarketDataBox<Integer> box = MarketDataBox.ofLazySingleValue(27, 2);
+    assertThat(box.isSingleValue()).isTrue();
+    assertThat(box.isLazy()).isTrue();
+    assertThat(box.getSingleValue()).isEqualTo(27);
+    assertThat(box.getValue(0)).isEqualTo(27);
+    assertThat(box.getValue(Integer.MAX_VALUE)).isEqualTo(27);
+    assertThat(box.getScenarioCount()).isEqualTo(-1);
+    assertThat(box.getMarketDataType()).isEqualTo(Integer.class);
+    assertThat(box.stream().collect(toList())).containsExactly(27);
+    assertThatIllegalArgumentException().isThrownBy(() -> box.getValue(-1));
+    assertThatIllegalStateException().isThrownBy(box::getScenarioValue);
+  }
+
+  @Test
+  public void map() {
+    MarketDataBox<Integer> box = MarketDataBox.ofLazySingleValue(27, 2);
+    assertThat(box.map(v -> v * 2)).isEqualTo(MarketDataBox.ofLazySingleValue(54, 2));
+  }
+
+  @Test
+  public void combineWith() {
+    MarketDataBox<Integer> box = MarketDataBox.ofLazySingleValue(27, 2);
+    assertThat(box.combineWith(MarketDataBox.ofSingleValue(15), (v1, v2) -> v1 + v2))
+        .isEqualTo(MarketDataBox.ofSingleValue(42));
+    assertThat(box.combineWith(MarketDataBox.ofScenarioValues(1, 2), (v1, v2) -> v1 + v2))
+        .isEqualTo(MarketDataBox.ofScenarioValues(28, 29));
+  }
+
+  @Test
+  public void mapWithIndex_lazy() {
+    AtomicInteger invocations = new AtomicInteger();
+    MarketDataBox<Integer> box = MarketDataBox.ofLazySingleValue(27, 2);
+    MarketDataBox<Integer> result = box.mapWithIndex(
+        5,
+        (v, idx) -> {
+          invocations.incrementAndGet();
+          return v + idx;
+        });
+    assertThat(invocations.get()).isEqualTo(0);
+    assertThat(result.isScenarioValue()).isTrue();
+    assertThat(result.getScenarioCount()).isEqualTo(5);
+    assertThat(result.getValue(3)).isEqualTo(30);
+    assertThat(invocations.get()).isEqualTo(1);
+    assertThat(result.getValue(3)).isEqualTo(30);
+    assertThat(invocations.get()).isEqualTo(1);
+    assertThat(result.stream().collect(toList())).containsExactly(27, 28, 29, 30, 31);
+    assertThatIllegalArgumentException().isThrownBy(() -> result.getValue(5));
+  }
+
+  @Test
+  public void mapWithIndex_eviction() {
+    AtomicInteger invocations = new AtomicInteger();
+    ScenarioArray<Integer> array = LazyScenarioArray.of(
+        5,
+        idx -> {
+          invocations.incrementAndGet();
+          return idx * 10;
+        },
+        2);
+    assertThat(array.get(0)).isEqualTo(0);
+    assertThat(array.get(1)).isEqualTo(10);
+    assertThat(array.get(0)).isEqualTo(0);
+    assertThat(invocations.get()).isEqualTo(2);
+    // scenario 1 is the least recently used and is discarded
+    assertThat(array.get(2)).isEqualTo(20);
+    assertThat(array.get(0)).isEqualTo(0);
+    assertThat(invocations.get()).isEqualTo(3);
+    assertThat(array.get(1)).isEqualTo(10);
+    assertThat(invocations.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void mapWithIndex_noCache() {
+    AtomicInteger invocations = new AtomicInteger();
+    ScenarioArray<Integer> array = LazyScenarioArray.of(3, idx -> invocations.incrementAndGet(), 0);
+    array.get(1);
+    array.get(1);
+    assertThat(invocations.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void coverage() {
+    MarketDataBox<Integer> box = MarketDataBox.ofLazySingleValue(27, 2);
+    assertThat(box).isEqualTo(MarketDataBox.ofLazySingleValue(27, 2));
+    assertThat(box).isNotEqualTo(MarketDataBox.ofLazySingleValue(27, 3));
+    assertThat(box).isNotEqualTo(MarketDataBox.ofSingleValue(27));
+    assertThat(box.hashCode()).isEqualTo(MarketDataBox.ofLazySingleValue(27, 2).hashCode());
+    assertThat(box.toString()).contains("27");
+    assertThat(LazyScenarioArray.of(3, idx -> idx, 2).toString()).contains("3");
+  }
+
+  @Test
+  public void mapWithIndex_equals() {
+    MarketDataBox<Integer> box1 = MarketDataBox.ofLazySingleValue(27, 2).mapWithIndex(3, (value, idx) -> value + idx);
+    MarketDataBox<Integer> box2 = MarketDataBox.ofLazySingleValue(27, 0).mapWithIndex(3, (value, idx) -> idx + value);
+    assertThat(box1).isEqualTo(box2);
+    assertThat(box1.hashCode()).isEqualTo(box2.hashCode());
+    assertThat(box1).isNotEqualTo(MarketDataBox.ofLazySingleValue(28, 2).mapWithIndex(3, (value, idx) -> value + idx));
+    assertThat(box1).isNotEqualTo(MarketDataBox.ofLazySingleValue(27, 2).mapWithIndex(2, (value, idx) -> value + idx));
+    assertThat(box1).isNotEqualTo(MarketDataBox.ofScenarioValues(27, 28, 29));
+    assertThat(box1.getScenarioValue()).isNotEqualTo(null);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(MarketDataBox.ofLazySingleValue(27, 2));
+  }
+
+}
@@ -8,14 +8,18 @@ package com.opengamma.strata.data.scenario;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.ObservableSource;
 
@@ -61,4 +65,60 @@ public class ScenarioFxRateProviderTest {
     assertThat(defaultRateProvider.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.4d);
     assertThat(sourceRateProvider.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.41d);
   }
+
+  @Test
+  public void fxRates() {
+    assertThat(fxRateProvider.fxRates(Currency.GBP, Currency.GBP)).isEqualTo(DoubleArray.of(1d));
+    assertThat(fxRateProvider.fxRates(Currency.GBP, Currency.USD)).isEqualTo(DoubleArray.of(1.4d));
+    assertThat(fxRateProvider.fxRates(Currency.USD, Currency.GBP)).isEqualTo(DoubleArray.of(1d / 1.4d));
+  }
+
+  @Test
+  public void fxRates_scenarios() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(LocalDate.of(2011, 3, 8))
+        .addScenarioValue(
+            FxRateId.of(Currency.GBP, Currency.USD),
+            ImmutableList.of(FxRate.of(Currency.GBP, Currency.USD, 1.4d), FxRate.of(Currency.GBP, Currency.USD, 1.5d)))
+        .addValue(FxRateId.of(Currency.EUR, Currency.USD), FxRate.of(Currency.EUR, Currency.USD, 1.2d))
+        .build();
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.of(marketData);
+    assertThat(test.fxRates(Currency.GBP, Currency.USD)).isEqualTo(DoubleArray.of(1.4d, 1.5d));
+    assertThat(test.fxRates(Currency.EUR, Currency.USD)).isEqualTo(DoubleArray.of(1.2d, 1.2d));
+    // triangulated through USD, which is not a direct rate in the market data
+    DoubleArray crossRates = test.fxRates(Currency.EUR, Currency.GBP);
+    assertThat(crossRates.get(0)).isEqualTo(test.fxRate(Currency.EUR, Currency.GBP, 0));
+    assertThat(crossRates.get(1)).isEqualTo(test.fxRate(Currency.EUR, Currency.GBP, 1));
+  }
+
+  @Test
+  public void cached() {
+    AtomicInteger lookups = new AtomicInteger();
+    ScenarioFxRateProvider counting = new ScenarioFxRateProvider() {
+      @Override
+      public int getScenarioCount() {
+        return 1;
+      }
+
+      @Override
+      public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+        lookups.incrementAndGet();
+        return fxRateProvider.fxRate(baseCurrency, counterCurrency, scenarioIndex);
+      }
+
+      @Override
+      public FxRateProvider fxRateProvider(int scenarioIndex) {
+        return fxRateProvider.fxRateProvider(scenarioIndex);
+      }
+    };
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.cached(counting);
+    assertThat(ScenarioFxRateProvider.cached(test)).isSameAs(test);
+    assertThat(test.getScenarioCount()).isEqualTo(1);
+    assertThat(test.fxRate(Currency.GBP, Currency.GBP, 0)).isEqualTo(1d);
+    assertThat(test.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.4d);
+    assertThat(test.convert(10, Currency.GBP, Currency.USD, 0)).isEqualTo(14d);
+    assertThat(test.fxRates(Currency.GBP, Currency.USD)).isSameAs(test.fxRates(Currency.GBP, Currency.USD));
+    assertThat(lookups.get()).isEqualTo(1);
+    assertThat(test.fxRateProvider(0).fxRate(Currency.GBP, Currency.USD)).isEqualTo(1.4d);
+  }
+
 }
@@ -26,6 +26,7 @@ public class SingleMarketDataBoxTest {
     MarketDataBox<Integer> box = MarketDataBox.ofSingleValue(27);
     assertThat(box.isSingleValue()).isTrue();
     assertThat(box.isScenarioValue()).isFalse();
+    assertThat(box.isLazy()).isFalse();
   }
 
   @Test
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.TestingNamedId;
+import com.opengamma.strata.data.TestingObservableId;
+
+/**
+ * Test {@link SubsetScenarioMarketData}.
+ */
+public class SubsetScenarioMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final TestingNamedId ID1 = new TestingNamedId("1");
+  private static final TestingNamedId ID2 = new TestingNamedId("2");
+  private static final TestingObservableId ID3 = new TestingObservableId("3");
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2011, 3, 8), 1.1)
+      .build();
+  private static final ScenarioMarketData BASE_DATA = ImmutableScenarioMarketData.builder(VAL_DATE)
+      .addBox(ID1, MarketDataBox.ofSingleValue("1"))
+      .addBox(ID2, MarketDataBox.ofScenarioValues("a", "b", "c", "d"))
+      .addTimeSeries(ID3, TIME_SERIES)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_subsetScenarios() {
+    ScenarioMarketData test = BASE_DATA.subsetScenarios(1, 3);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(VAL_DATE));
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofSingleValue("1"));
+    MarketDataBox<String> box = test.getValue(ID2);
+    assertThat(box.getScenarioCount()).isEqualTo(2);
+    assertThat(box.stream().collect(toList())).containsExactly("b", "c");
+    assertThatIllegalArgumentException().isThrownBy(() -> box.getValue(2));
+    assertThat(test.scenario(1).getValue(ID2)).isEqualTo("c");
+    assertThat(test.getIds()).isEqualTo(BASE_DATA.getIds());
+    assertThat(test.findIds(ID1.getMarketDataName())).containsExactly(ID1);
+    assertThat(test.getTimeSeriesIds()).containsExactly(ID3);
+    assertThat(test.getTimeSeries(ID3)).isEqualTo(TIME_SERIES);
+  }
+
+  @Test
+  public void test_subsetScenarios_all() {
+    assertThat(BASE_DATA.subsetScenarios(0, 4)).isSameAs(BASE_DATA);
+  }
+
+  @Test
+  public void test_subsetScenarios_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BASE_DATA.subsetScenarios(-1, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> BASE_DATA.subsetScenarios(2, 2));
+    assertThatIllegalArgumentException().isThrownBy(() -> BASE_DATA.subsetScenarios(2, 5));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    SubsetScenarioMarketData test = SubsetScenarioMarketData.of(BASE_DATA, 1, 3);
+    coverImmutableBean(test);
+    SubsetScenarioMarketData test2 = SubsetScenarioMarketData.of(
+        ImmutableScenarioMarketData.of(2, VAL_DATE, ImmutableMap.of(), ImmutableMap.of()), 0, 1);
+    coverBeanEquals(test, test2);
+  }
+
+}
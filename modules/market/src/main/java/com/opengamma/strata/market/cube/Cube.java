@@ -13,6 +13,7 @@ import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -95,6 +96,24 @@ public interface Cube extends ParameterizedData {
    */
   public abstract double wValue(double x, double y, double z);
 
+  /**
+   * Computes the w-values for the specified x-values, y-values and z-values.
+   * <p>
+   * This is equivalent to calling {@link #wValue(double, double, double)} for each point,
+   * but implementations may be able to evaluate many points more efficiently.
+   *
+   * @param xValues  the x-values to find the w-values for
+   * @param yValues  the y-values to find the w-values for, of the same size as the x-values
+   * @param zValues  the z-values to find the w-values for, of the same size as the x-values
+   * @return the values at the x/y/z points
+   */
+  public default DoubleArray wValues(DoubleArray xValues, DoubleArray yValues, DoubleArray zValues) {
+    ArgChecker.isTrue(
+        xValues.size() == yValues.size() && xValues.size() == zValues.size(),
+        "Arrays of x-values, y-values and z-values must be the same size");
+    return DoubleArray.of(xValues.size(), i -> wValue(xValues.get(i), yValues.get(i), zValues.get(i)));
+  }
+
   /**
    * Computes the sensitivity of the w-value with respect to the cube parameters.
    * <p>
@@ -305,6 +305,11 @@ public final class InterpolatedNodalCube
     return boundInterpolator.interpolate(x, y, z);
   }
 
+  @Override
+  public DoubleArray wValues(DoubleArray xValues, DoubleArray yValues, DoubleArray zValues) {
+    return boundInterpolator.interpolate(xValues, yValues, zValues);
+  }
+
   @Override
   public UnitParameterSensitivity wValueParameterSensitivity(double x, double y, double z) {
     DoubleArray sensitivityValues = boundInterpolator.parameterSensitivity(x, y, z);
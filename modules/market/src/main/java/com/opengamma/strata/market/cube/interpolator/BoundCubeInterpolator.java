@@ -6,6 +6,7 @@
 package com.opengamma.strata.market.cube.interpolator;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -28,6 +29,25 @@ public interface BoundCubeInterpolator {
    */
   public abstract double interpolate(double x, double y, double z);
 
+  /**
+   * Computes the w-values for the specified x-y-z-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double, double, double)} for each point,
+   * but implementations may be able to evaluate many points more efficiently.
+   *
+   * @param xValues  the x-values to find the w-values for
+   * @param yValues  the y-values to find the w-values for, of the same size as the x-values
+   * @param zValues  the z-values to find the w-values for, of the same size as the x-values
+   * @return the values at the x-y-z-values
+   * @throws RuntimeException if a w-value cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray xValues, DoubleArray yValues, DoubleArray zValues) {
+    ArgChecker.isTrue(
+        xValues.size() == yValues.size() && xValues.size() == zValues.size(),
+        "Arrays of x-values, y-values and z-values must be the same size");
+    return DoubleArray.of(xValues.size(), i -> interpolate(xValues.get(i), yValues.get(i), zValues.get(i)));
+  }
+
   /**
    * Computes the partial derivatives of the cube.
    * <p>
@@ -30,6 +30,7 @@ import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolatorWeights;
 import com.opengamma.strata.market.surface.interpolator.BoundSurfaceInterpolator;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
 
@@ -198,6 +199,7 @@ public final class GridCubeInterpolator
     double[] tempY = new double[size];
     double[] tempZ = new double[size];
     double[] tempW = new double[size];
+    int[] rowSizes = new int[size];
     ImmutableList.Builder<BoundSurfaceInterpolator> yzInterpBuilder = ImmutableList.builder();
     int i = 0;
     while (i < size) {
@@ -236,6 +238,7 @@ public final class GridCubeInterpolator
                 zExtrapolatorRight)
             .bind(yValuesSameX, zValuesSameX, wValuesSameX));
       }
+      rowSizes[countUniqueX] = countSameX;
       countUniqueX++;
     }
     if (countUniqueX == 1) {
@@ -249,6 +252,7 @@ public final class GridCubeInterpolator
         xExtrapolatorRight,
         size,
         uniqueXArray,
+        Arrays.copyOf(rowSizes, countUniqueX),
         yzInterps);
   }
 
@@ -256,6 +260,10 @@ public final class GridCubeInterpolator
 
   /**
    * Bound interpolator.
+   * <p>
+   * If the x-interpolator is linear in the w-values, such as linear or natural spline, the weights of
+   * the x-interpolation are precomputed. Each lookup then only evaluates the yz-interpolators that have
+   * a non-zero weight, without binding a new curve interpolator.
    */
   static class Bound implements BoundCubeInterpolator {
 
@@ -264,7 +272,10 @@ public final class GridCubeInterpolator
     private final CurveExtrapolator xExtrapolatorRight;
     private final DoubleArray xValuesUnique;
     private final int paramSize;
+    private final int[] rowSizes;
     private final BoundSurfaceInterpolator[] yzInterpolators;
+    // null if the x-interpolator is not linear in the w-values
+    private final CurveInterpolatorWeights xWeights;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -272,6 +283,7 @@ public final class GridCubeInterpolator
         CurveExtrapolator xExtrapolatorRight,
         int paramSize,
         DoubleArray xValuesUnique,
+        int[] rowSizes,
         BoundSurfaceInterpolator[] yzInterpolators) {
 
       this.xInterpolator = xInterpolator;
@@ -279,12 +291,18 @@ public final class GridCubeInterpolator
       this.xExtrapolatorRight = xExtrapolatorRight;
       this.xValuesUnique = xValuesUnique;
       this.paramSize = paramSize;
+      this.rowSizes = rowSizes;
       this.yzInterpolators = yzInterpolators;
+      this.xWeights = CurveInterpolatorWeights.of(xValuesUnique, xInterpolator, xExtrapolatorLeft, xExtrapolatorRight)
+          .orElse(null);
     }
 
     //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y, double z) {
+      if (xWeights != null) {
+        return xWeights.value(x, i -> yzInterpolators[i].interpolate(y, z));
+      }
       // use each yz-interpolator to find the w-value for each unique x
       DoubleArray wValuesEffective = DoubleArray.of(yzInterpolators.length, i -> yzInterpolators[i].interpolate(y, z));
       // interpolate unique x-values against derived w-values
@@ -295,17 +313,25 @@ public final class GridCubeInterpolator
     public DoubleArray parameterSensitivity(double x, double y, double z) {
       int uniqueX = yzInterpolators.length;
       final DoubleArray[] yzSens = new DoubleArray[uniqueX];
-      // use each yz-interpolator to find the w-value sensitivity for each unique x
-      for (int i = 0; i < uniqueX; i++) {
-        yzSens[i] = yzInterpolators[i].parameterSensitivity(y, z);
+      DoubleArray xSens;
+      if (xWeights != null) {
+        // the sensitivity to the derived w-values is the weight, so rows with zero weight are skipped
+        xSens = xWeights.weights(x);
+        for (int i = 0; i < uniqueX; i++) {
+          yzSens[i] = xSens.get(i) != 0d ? yzInterpolators[i].parameterSensitivity(y, z) : null;
+        }
+      } else {
+        // use each yz-interpolator to find the w-value sensitivity for each unique x
+        for (int i = 0; i < uniqueX; i++) {
+          yzSens[i] = yzInterpolators[i].parameterSensitivity(y, z);
+        }
+        // use each yz-interpolator to find the w-value for each unique x
+        DoubleArray wValuesEffective = DoubleArray.of(uniqueX, i -> yzInterpolators[i].interpolate(y, z));
+        // find the sensitivity of the unique x-values against derived w-values
+        xSens = xInterpolator
+            .bind(xValuesUnique, wValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
+            .parameterSensitivity(x);
       }
-      // use each yz-interpolator to find the w-value for each unique x
-      DoubleArray wValuesEffective = DoubleArray.of(uniqueX, i -> yzInterpolators[i].interpolate(y, z));
-      // find the sensitivity of the unique x-values against derived w-values
-      DoubleArray xSens = xInterpolator
-          .bind(xValuesUnique, wValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
-          .parameterSensitivity(x);
-
       return project(xSens, yzSens);
     }
 
@@ -313,13 +339,33 @@ public final class GridCubeInterpolator
     @Override
     public ValueDerivatives firstPartialDerivatives(double x, double y, double z) {
       int uniqueX = yzInterpolators.length;
+      if (xWeights != null) {
+        // the derivatives of each yz-interpolator with non-zero weight are only calculated once
+        DoubleArray weights = xWeights.weights(x);
+        double wValue = 0d;
+        double yDerivative = 0d;
+        double zDerivative = 0d;
+        for (int i = 0; i < uniqueX; i++) {
+          double weight = weights.get(i);
+          if (weight != 0d) {
+            ValueDerivatives yzDerivatives = yzInterpolators[i].firstPartialDerivatives(y, z);
+            wValue += weight * yzDerivatives.getValue();
+            yDerivative += weight * yzDerivatives.getDerivative(0);
+            zDerivative += weight * yzDerivatives.getDerivative(1);
+          }
+        }
+        double xDerivative = xWeights.firstDerivative(x, i -> yzInterpolators[i].interpolate(y, z));
+        return ValueDerivatives.of(wValue, DoubleArray.of(xDerivative, yDerivative, zDerivative));
+      }
       DoubleArray wValuesEffective = DoubleArray.of(uniqueX, i -> yzInterpolators[i].interpolate(y, z));
       double xDerivative =
           xInterpolator.bind(xValuesUnique, wValuesEffective, xExtrapolatorLeft, xExtrapolatorRight).firstDerivative(x);
-      DoubleArray yDerivatives =
-          DoubleArray.of(uniqueX, i -> yzInterpolators[i].firstPartialDerivatives(y, z).getDerivative(0));
-      DoubleArray zDerivatives =
-          DoubleArray.of(uniqueX, i -> yzInterpolators[i].firstPartialDerivatives(y, z).getDerivative(1));
+      ValueDerivatives[] yzDerivatives = new ValueDerivatives[uniqueX];
+      for (int i = 0; i < uniqueX; i++) {
+        yzDerivatives[i] = yzInterpolators[i].firstPartialDerivatives(y, z);
+      }
+      DoubleArray yDerivatives = DoubleArray.of(uniqueX, i -> yzDerivatives[i].getDerivative(0));
+      DoubleArray zDerivatives = DoubleArray.of(uniqueX, i -> yzDerivatives[i].getDerivative(1));
       double yDerivative =
           xInterpolator.bind(xValuesUnique, yDerivatives, xExtrapolatorLeft, xExtrapolatorRight).interpolate(x);
       double zDerivative =
@@ -328,15 +374,19 @@ public final class GridCubeInterpolator
       return ValueDerivatives.of(wValue, DoubleArray.of(xDerivative, yDerivative, zDerivative));
     }
 
-    // project sensitivities back to parameters
+    // project sensitivities back to parameters, a null yz-sensitivity indicates a row with zero x-sensitivity
     private DoubleArray project(DoubleArray xSens, DoubleArray[] yzSens) {
       int countParam = 0;
       double[] paramSens = new double[paramSize];
       for (int i = 0; i < xSens.size(); i++) {
         double xs = xSens.get(i);
         DoubleArray yzs = yzSens[i];
-        for (int j = 0; j < yzs.size(); j++) {
-          paramSens[countParam++] = xs * yzs.get(j);
+        if (yzs == null) {
+          countParam += rowSizes[i];
+        } else {
+          for (int j = 0; j < yzs.size(); j++) {
+            paramSens[countParam++] = xs * yzs.get(j);
+          }
         }
       }
       return DoubleArray.ofUnsafe(paramSens);
@@ -142,6 +142,30 @@ public interface CurveNode {
     throw new UnsupportedOperationException("CurveNode.sampleResolvedTrade() is not supported");
   }
 
+  /**
+   * Creates a template for the resolved trade representing the instrument at the node.
+   * <p>
+   * The template resolves the trade for any market data on the valuation date, see
+   * {@link #resolvedTrade(double, MarketData, ReferenceData)}. Where possible, the work that does not
+   * depend on the market quote, such as creating the schedule, is performed once when the template is created.
+   * <p>
+   * The default implementation resolves the trade in full each time the template is used.
+   *
+   * @param quantity  the quantity or notional of the trade
+   * @param valuationDate  the valuation date
+   * @param refData  the reference data, used to resolve the trade
+   * @return the template
+   * @throws ReferenceDataNotFoundException if an identifier cannot be resolved in the reference data
+   * @throws RuntimeException if unable to resolve due to an invalid definition
+   */
+  public default CurveNodeTradeTemplate resolvedTradeTemplate(
+      double quantity,
+      LocalDate valuationDate,
+      ReferenceData refData) {
+
+    return marketData -> resolvedTrade(quantity, marketData, refData);
+  }
+
   /**
    * Gets the initial guess used for calibrating the node.
    * <p>
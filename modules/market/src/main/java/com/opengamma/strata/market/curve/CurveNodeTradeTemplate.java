@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.product.ResolvedTrade;
+
+/**
+ * A template for the resolved trade of a curve node on a fixed valuation date.
+ * <p>
+ * Resolving the trade at a node involves creating schedules and year fractions that only depend
+ * on the valuation date, not on the market quote. A template performs this work once, so that
+ * the trade can be obtained for different quotes by only changing the rate.
+ * This is useful when the same curves are calibrated many times on the same valuation date,
+ * such as when calibrating scenarios.
+ * <p>
+ * Templates are obtained from {@link CurveNode#resolvedTradeTemplate}.
+ * The trade returned must be equal to that returned by {@link CurveNode#resolvedTrade}
+ * for the same market data.
+ * If the valuation date of the market data differs from that of the template,
+ * the trade is resolved in full.
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ */
+@FunctionalInterface
+public interface CurveNodeTradeTemplate {
+
+  /**
+   * Creates the resolved trade representing the instrument at the node.
+   *
+   * @param marketData  the market data required to build a trade for the instrument, including the valuation date
+   * @return a trade representing the instrument at the node
+   * @throws RuntimeException if unable to resolve due to an invalid definition
+   */
+  public abstract ResolvedTrade resolvedTrade(MarketData marketData);
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Container for nodal curves in multiple scenarios, where the curves differ only by their y-values.
+ * <p>
+ * This class is a more efficient alternative to storing curves using {@code MarketDataBox.ofScenarioValues}
+ * when there are a large number of scenarios.
+ * <p>
+ * The metadata, x-values and interpolators are stored once in a base curve.
+ * The y-values for all scenarios are stored in a single matrix, with one row for each scenario
+ * and one column for each node of the base curve.
+ * The curve for a scenario is a lightweight view created on demand which shares the state
+ * of the base curve and the row of y-values for the scenario.
+ */
+@BeanDefinition(builderScope = "private")
+public final class NodalCurveScenarioArray
+    implements ScenarioArray<NodalCurve>, ImmutableBean, Serializable {
+
+  /**
+   * The base curve.
+   * <p>
+   * This provides the metadata, x-values and interpolators shared by the curves in all scenarios.
+   * The y-values of the base curve are not used.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final NodalCurve curve;
+  /**
+   * The y-values of the curves.
+   * <p>
+   * There is one row in the matrix for each scenario and one column for each node of the curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix yValues;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a base curve and the y-values for each scenario.
+   * <p>
+   * The matrix must have one row for each scenario and one column for each node of the curve.
+   *
+   * @param curve  the base curve, providing the metadata, x-values and interpolators
+   * @param yValues  the y-values, one row for each scenario
+   * @return an instance containing the curves for each scenario
+   */
+  public static NodalCurveScenarioArray of(NodalCurve curve, DoubleMatrix yValues) {
+    return new NodalCurveScenarioArray(curve, yValues);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.isTrue(
+        yValues.columnCount() == curve.getParameterCount(),
+        "Number of y-values {} must match the number of curve nodes {}",
+        yValues.columnCount(),
+        curve.getParameterCount());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return yValues.rowCount();
+  }
+
+  @Override
+  public NodalCurve get(int scenarioIndex) {
+    return curve.withYValues(yValues.row(scenarioIndex));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code NodalCurveScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static NodalCurveScenarioArray.Meta meta() {
+    return NodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(NodalCurveScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private NodalCurveScenarioArray(
+      NodalCurve curve,
+      DoubleMatrix yValues) {
+    JodaBeanUtils.notNull(curve, "curve");
+    JodaBeanUtils.notNull(yValues, "yValues");
+    this.curve = curve;
+    this.yValues = yValues;
+    validate();
+  }
+
+  @Override
+  public NodalCurveScenarioArray.Meta metaBean() {
+    return NodalCurveScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the base curve.
+   * <p>
+   * This provides the metadata, x-values and interpolators shared by the curves in all scenarios.
+   * The y-values of the base curve are not used.
+   * @return the value of the property, not null
+   */
+  public NodalCurve getCurve() {
+    return curve;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the y-values of the curves.
+   * <p>
+   * There is one row in the matrix for each scenario and one column for each node of the curve.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getYValues() {
+    return yValues;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      NodalCurveScenarioArray other = (NodalCurveScenarioArray) obj;
+      return JodaBeanUtils.equal(curve, other.curve) &&
+          JodaBeanUtils.equal(yValues, other.yValues);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(curve);
+    hash = hash * 31 + JodaBeanUtils.hashCode(yValues);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("NodalCurveScenarioArray{");
+    buf.append("curve").append('=').append(JodaBeanUtils.toString(curve)).append(',').append(' ');
+    buf.append("yValues").append('=').append(JodaBeanUtils.toString(yValues));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code NodalCurveScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code curve} property.
+     */
+    private final MetaProperty<NodalCurve> curve = DirectMetaProperty.ofImmutable(
+        this, "curve", NodalCurveScenarioArray.class, NodalCurve.class);
+    /**
+     * The meta-property for the {@code yValues} property.
+     */
+    private final MetaProperty<DoubleMatrix> yValues = DirectMetaProperty.ofImmutable(
+        this, "yValues", NodalCurveScenarioArray.class, DoubleMatrix.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "curve",
+        "yValues");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return curve;
+        case -1726182661:  // yValues
+          return yValues;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends NodalCurveScenarioArray> builder() {
+      return new NodalCurveScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends NodalCurveScenarioArray> beanType() {
+      return NodalCurveScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code curve} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<NodalCurve> curve() {
+      return curve;
+    }
+
+    /**
+     * The meta-property for the {@code yValues} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleMatrix> yValues() {
+      return yValues;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return ((NodalCurveScenarioArray) bean).getCurve();
+        case -1726182661:  // yValues
+          return ((NodalCurveScenarioArray) bean).getYValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code NodalCurveScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<NodalCurveScenarioArray> {
+
+    private NodalCurve curve;
+    private DoubleMatrix yValues;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          return curve;
+        case -1726182661:  // yValues
+          return yValues;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 95027439:  // curve
+          this.curve = (NodalCurve) newValue;
+          break;
+        case -1726182661:  // yValues
+          this.yValues = (DoubleMatrix) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public NodalCurveScenarioArray build() {
+      return new NodalCurveScenarioArray(
+          curve,
+          yValues);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("NodalCurveScenarioArray.Builder{");
+      buf.append("curve").append('=').append(JodaBeanUtils.toString(curve)).append(',').append(' ');
+      buf.append("yValues").append('=').append(JodaBeanUtils.toString(yValues));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -410,6 +410,27 @@ public final class RatesCurveGroupDefinition
         .collect(toImmutableList());
   }
 
+  /**
+   * Creates a list of templates for the trades representing the instrument at each node.
+   * <p>
+   * Each template resolves the trade that the node represents for any market data on the valuation date,
+   * matching {@link #resolvedTrades(MarketData, ReferenceData)}. The work that does not depend on the
+   * market quotes is performed once, thus the templates can be used to build the trades for many sets
+   * of market data on the same valuation date.
+   * The result combines the list of templates from each curve in order.
+   * Each trade is created with a quantity of 1.
+   *
+   * @param valuationDate  the valuation date
+   * @param refData  the reference data, used to resolve the trades
+   * @return the list of all templates
+   */
+  public ImmutableList<CurveNodeTradeTemplate> resolvedTradeTemplates(LocalDate valuationDate, ReferenceData refData) {
+    return curveDefinitionsByName.values().stream()
+        .flatMap(curveDef -> curveDef.getNodes().stream())
+        .map(node -> node.resolvedTradeTemplate(1d, valuationDate, refData))
+        .collect(toImmutableList());
+  }
+
   /**
    * Gets the list of all initial guesses.
    * <p>
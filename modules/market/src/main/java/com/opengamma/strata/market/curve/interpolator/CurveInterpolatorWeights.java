@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntToDoubleFunction;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * The weights applied to the y-values of a curve by an interpolator that is linear in the y-values.
+ * <p>
+ * For interpolators such as linear and natural spline, the interpolated value is a weighted sum
+ * of the y-values, where the weights only depend on the x-values. Once the x-values are known, the
+ * interpolated value can be found for any set of y-values without binding a new curve interpolator.
+ * This is used by the grid surface and cube interpolators, where the y-values vary with each lookup.
+ * <p>
+ * Linear interpolation with flat extrapolation is evaluated directly from the two surrounding nodes,
+ * only obtaining the y-values that are needed and without allocating.
+ * Other supported interpolators obtain the weights from the parameter sensitivity of a curve bound once,
+ * which allocates an array of weights for each lookup. The first derivative of those interpolators is
+ * found by binding the interpolator to the y-values for each lookup.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CurveInterpolatorWeights {
+
+  /**
+   * The interpolators that are linear in the y-values.
+   */
+  private static final ImmutableSet<CurveInterpolator> LINEAR_INTERPOLATORS = ImmutableSet.of(
+      CurveInterpolators.LINEAR,
+      CurveInterpolators.DOUBLE_QUADRATIC,
+      CurveInterpolators.NATURAL_CUBIC_SPLINE,
+      CurveInterpolators.NATURAL_SPLINE,
+      CurveInterpolators.STEP_UPPER);
+  /**
+   * The extrapolators that are linear in the y-values and have an exact parameter sensitivity.
+   * <p>
+   * The linear extrapolator is excluded as its gradient, and thus its parameter sensitivity,
+   * is obtained by finite difference, which does not exactly match the extrapolated value.
+   * The interpolator extrapolator is excluded as the parameter sensitivity of some interpolators
+   * does not match the value outside the range of the nodes.
+   */
+  private static final ImmutableSet<CurveExtrapolator> LINEAR_EXTRAPOLATORS = ImmutableSet.of(
+      CurveExtrapolators.FLAT);
+
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] xValues;
+  /**
+   * The interpolator.
+   */
+  private final CurveInterpolator interpolator;
+  /**
+   * The left extrapolator.
+   */
+  private final CurveExtrapolator extrapolatorLeft;
+  /**
+   * The right extrapolator.
+   */
+  private final CurveExtrapolator extrapolatorRight;
+  /**
+   * The bound interpolator used to obtain the weights, null if linear with flat extrapolation.
+   */
+  private final BoundCurveInterpolator weightInterpolator;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the weights for the specified x-values, if the interpolator and extrapolators are linear in the y-values.
+   * <p>
+   * An empty result is returned if the interpolated value is not a weighted sum of the y-values.
+   *
+   * @param xValues  the x-values of the nodes, sorted and unique, at least two
+   * @param interpolator  the interpolator
+   * @param extrapolatorLeft  the left extrapolator
+   * @param extrapolatorRight  the right extrapolator
+   * @return the weights, empty if the interpolation is not linear in the y-values
+   */
+  public static Optional<CurveInterpolatorWeights> of(
+      DoubleArray xValues,
+      CurveInterpolator interpolator,
+      CurveExtrapolator extrapolatorLeft,
+      CurveExtrapolator extrapolatorRight) {
+
+    ArgChecker.isTrue(xValues.size() >= 2, "At least two x-values are required");
+    if (!LINEAR_INTERPOLATORS.contains(interpolator) ||
+        !LINEAR_EXTRAPOLATORS.contains(extrapolatorLeft) ||
+        !LINEAR_EXTRAPOLATORS.contains(extrapolatorRight)) {
+      return Optional.empty();
+    }
+    return Optional.of(new CurveInterpolatorWeights(xValues, interpolator, extrapolatorLeft, extrapolatorRight));
+  }
+
+  // restricted constructor
+  private CurveInterpolatorWeights(
+      DoubleArray xValues,
+      CurveInterpolator interpolator,
+      CurveExtrapolator extrapolatorLeft,
+      CurveExtrapolator extrapolatorRight) {
+
+    this.xValues = xValues.toArray();
+    this.interpolator = interpolator;
+    this.extrapolatorLeft = extrapolatorLeft;
+    this.extrapolatorRight = extrapolatorRight;
+    boolean stencil = interpolator.equals(CurveInterpolators.LINEAR) &&
+        extrapolatorLeft.equals(CurveExtrapolators.FLAT) &&
+        extrapolatorRight.equals(CurveExtrapolators.FLAT);
+    // the weights do not depend on the y-values, so any y-values can be used
+    this.weightInterpolator = stencil ?
+        null :
+        interpolator.bind(xValues, DoubleArray.filled(xValues.size()), extrapolatorLeft, extrapolatorRight);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes.
+   *
+   * @return the number of nodes
+   */
+  public int size() {
+    return xValues.length;
+  }
+
+  /**
+   * Computes the interpolated value for the specified x-value.
+   * <p>
+   * The y-value of each node is obtained from the function, which is only invoked
+   * for the nodes that have a non-zero weight.
+   *
+   * @param x  the x-value to find the value for
+   * @param yValues  the function providing the y-value for each node index
+   * @return the interpolated value
+   */
+  public double value(double x, IntToDoubleFunction yValues) {
+    if (weightInterpolator == null) {
+      int last = xValues.length - 1;
+      if (x <= xValues[0]) {
+        return yValues.applyAsDouble(0);
+      } else if (x >= xValues[last]) {
+        return yValues.applyAsDouble(last);
+      }
+      int lowerIndex = lowerIndex(x);
+      double x1 = xValues[lowerIndex];
+      double y1 = yValues.applyAsDouble(lowerIndex);
+      if (x == x1) {
+        return y1;
+      }
+      double gradient = (yValues.applyAsDouble(lowerIndex + 1) - y1) / (xValues[lowerIndex + 1] - x1);
+      return y1 + (x - x1) * gradient;
+    }
+    DoubleArray weights = weightInterpolator.parameterSensitivity(x);
+    double value = 0d;
+    for (int i = 0; i < weights.size(); i++) {
+      double weight = weights.get(i);
+      if (weight != 0d) {
+        value += weight * yValues.applyAsDouble(i);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Computes the first derivative of the interpolated value with respect to x.
+   * <p>
+   * The y-value of each node is obtained from the function.
+   *
+   * @param x  the x-value at which the derivative is taken
+   * @param yValues  the function providing the y-value for each node index
+   * @return the first derivative
+   */
+  public double firstDerivative(double x, IntToDoubleFunction yValues) {
+    if (weightInterpolator == null) {
+      if (x < xValues[0] || x > xValues[xValues.length - 1]) {
+        return 0d;
+      }
+      int lowerIndex = lowerIndex(x);
+      return (yValues.applyAsDouble(lowerIndex + 1) - yValues.applyAsDouble(lowerIndex)) /
+          (xValues[lowerIndex + 1] - xValues[lowerIndex]);
+    }
+    DoubleArray values = DoubleArray.of(xValues.length, yValues);
+    return interpolator.bind(DoubleArray.ofUnsafe(xValues), values, extrapolatorLeft, extrapolatorRight)
+        .firstDerivative(x);
+  }
+
+  /**
+   * Computes the weight of each node for the specified x-value.
+   * <p>
+   * This is the sensitivity of the interpolated value to the y-value of each node.
+   *
+   * @param x  the x-value to find the weights for
+   * @return the weights, one for each node
+   */
+  public DoubleArray weights(double x) {
+    if (weightInterpolator == null) {
+      int last = xValues.length - 1;
+      double[] weights = new double[xValues.length];
+      if (x <= xValues[0]) {
+        weights[0] = 1d;
+      } else if (x >= xValues[last]) {
+        weights[last] = 1d;
+      } else {
+        int lowerIndex = lowerIndex(x);
+        double a = (xValues[lowerIndex + 1] - x) / (xValues[lowerIndex + 1] - xValues[lowerIndex]);
+        weights[lowerIndex] = a;
+        weights[lowerIndex + 1] = 1 - a;
+      }
+      return DoubleArray.ofUnsafe(weights);
+    }
+    return weightInterpolator.parameterSensitivity(x);
+  }
+
+  // finds the index of the node at or below the x-value, which must not be beyond the last node
+  private int lowerIndex(double x) {
+    // ensure negative zero is handled as positive zero
+    int index = Arrays.binarySearch(xValues, x == 0d ? 0d : x);
+    int lowerIndex = index >= 0 ? index : -index - 2;
+    return Math.max(Math.min(lowerIndex, xValues.length - 2), 0);
+  }
+
+  @Override
+  public String toString() {
+    return "CurveInterpolatorWeights[" + interpolator + ", " + extrapolatorLeft + ", " + extrapolatorRight + "]";
+  }
+
+}
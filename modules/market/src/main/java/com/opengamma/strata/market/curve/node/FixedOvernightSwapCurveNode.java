@@ -34,6 +34,7 @@ import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveNodeDate;
 import com.opengamma.strata.market.curve.CurveNodeDateOrder;
+import com.opengamma.strata.market.curve.CurveNodeTradeTemplate;
 import com.opengamma.strata.market.param.DatedParameterMetadata;
 import com.opengamma.strata.market.param.LabelDateParameterMetadata;
 import com.opengamma.strata.market.param.TenorDateParameterMetadata;
@@ -203,6 +204,17 @@ public final class FixedOvernightSwapCurveNode
     return trade(quantity, marketData, refData).resolve(refData);
   }
 
+  @Override
+  public CurveNodeTradeTemplate resolvedTradeTemplate(double quantity, LocalDate valuationDate, ReferenceData refData) {
+    BuySell buySell = quantity > 0 ? BuySell.SELL : BuySell.BUY;
+    ResolvedSwapTrade trade = template.createTrade(valuationDate, buySell, Math.abs(quantity), 0d, refData).resolve(refData);
+    if (!FixedRateTradeTemplate.isFixedRateReplaceable(trade)) {
+      return CurveNode.super.resolvedTradeTemplate(quantity, valuationDate, refData);
+    }
+    return new FixedRateTradeTemplate<>(
+        this, quantity, valuationDate, refData, rateId, additionalSpread, trade, FixedRateTradeTemplate::withFixedRate);
+  }
+
   @Override
   public ResolvedSwapTrade sampleResolvedTrade(
       LocalDate valuationDate,
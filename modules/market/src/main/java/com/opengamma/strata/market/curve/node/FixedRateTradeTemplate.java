@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.node;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.function.ObjDoubleFunction;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.CurveNodeTradeTemplate;
+import com.opengamma.strata.product.ResolvedTrade;
+import com.opengamma.strata.product.deposit.ResolvedTermDepositTrade;
+import com.opengamma.strata.product.fra.ResolvedFraTrade;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.SwapLegType;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * Template for the resolved trade of a curve node where the quote is the fixed rate.
+ * <p>
+ * The trade is resolved once on the valuation date with a fixed rate of zero.
+ * The trade for specific market data is then obtained by replacing the fixed rate.
+ *
+ * @param <T> the type of the resolved trade
+ */
+final class FixedRateTradeTemplate<T extends ResolvedTrade> implements CurveNodeTradeTemplate {
+
+  /**
+   * The node, used to resolve the trade in full if the valuation date differs.
+   */
+  private final CurveNode node;
+  /**
+   * The quantity.
+   */
+  private final double quantity;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The identifier of the market data value that provides the rate.
+   */
+  private final ObservableId rateId;
+  /**
+   * The additional spread added to the fixed rate.
+   */
+  private final double additionalSpread;
+  /**
+   * The trade resolved with a fixed rate of zero.
+   */
+  private final T trade;
+  /**
+   * The function replacing the fixed rate of the trade.
+   */
+  private final ObjDoubleFunction<T, T> withFixedRate;
+
+  // restricted constructor
+  FixedRateTradeTemplate(
+      CurveNode node,
+      double quantity,
+      LocalDate valuationDate,
+      ReferenceData refData,
+      ObservableId rateId,
+      double additionalSpread,
+      T trade,
+      ObjDoubleFunction<T, T> withFixedRate) {
+
+    this.node = node;
+    this.quantity = quantity;
+    this.valuationDate = valuationDate;
+    this.refData = refData;
+    this.rateId = rateId;
+    this.additionalSpread = additionalSpread;
+    this.trade = trade;
+    this.withFixedRate = withFixedRate;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ResolvedTrade resolvedTrade(MarketData marketData) {
+    if (!valuationDate.equals(marketData.getValuationDate())) {
+      return node.resolvedTrade(quantity, marketData, refData);
+    }
+    return withFixedRate.apply(trade, marketData.getValue(rateId) + additionalSpread);
+  }
+
+  //-------------------------------------------------------------------------
+  // replaces the fixed rate of a FRA
+  static ResolvedFraTrade withFixedRate(ResolvedFraTrade trade, double fixedRate) {
+    return trade.toBuilder()
+        .product(trade.getProduct().toBuilder().fixedRate(fixedRate).build())
+        .build();
+  }
+
+  // replaces the rate of a term deposit
+  static ResolvedTermDepositTrade withFixedRate(ResolvedTermDepositTrade trade, double rate) {
+    return trade.toBuilder()
+        .product(trade.getProduct().toBuilder().rate(rate).build())
+        .build();
+  }
+
+  // checks if the fixed rate of the fixed legs of the swap can be replaced
+  static boolean isFixedRateReplaceable(ResolvedSwapTrade trade) {
+    return trade.getProduct().getLegs(SwapLegType.FIXED).stream()
+        .flatMap(leg -> leg.getPaymentPeriods().stream())
+        .allMatch(period -> period instanceof RatePaymentPeriod &&
+            ((RatePaymentPeriod) period).getAccrualPeriods().stream()
+                .allMatch(accrual -> accrual.getRateComputation() instanceof FixedRateComputation));
+  }
+
+  // replaces the fixed rate of the fixed legs of the swap
+  static ResolvedSwapTrade withFixedRate(ResolvedSwapTrade trade, double fixedRate) {
+    FixedRateComputation computation = FixedRateComputation.of(fixedRate);
+    ResolvedSwap swap = trade.getProduct();
+    ResolvedSwap patched = swap.toBuilder()
+        .legs(swap.getLegs().stream()
+            .map(leg -> leg.getType().equals(SwapLegType.FIXED) ? withFixedRate(leg, computation) : leg)
+            .collect(toImmutableList()))
+        .build();
+    return trade.toBuilder().product(patched).build();
+  }
+
+  private static ResolvedSwapLeg withFixedRate(ResolvedSwapLeg leg, FixedRateComputation computation) {
+    return leg.toBuilder()
+        .paymentPeriods(leg.getPaymentPeriods().stream()
+            .map(period -> withFixedRate((RatePaymentPeriod) period, computation))
+            .collect(toImmutableList()))
+        .build();
+  }
+
+  private static SwapPaymentPeriod withFixedRate(RatePaymentPeriod period, FixedRateComputation computation) {
+    return period.toBuilder()
+        .accrualPeriods(period.getAccrualPeriods().stream()
+            .map(accrual -> accrual.toBuilder().rateComputation(computation).build())
+            .collect(toImmutableList()))
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "FixedRateTradeTemplate[" + node.getLabel() + ", " + valuationDate + "]";
+  }
+
+}
@@ -35,6 +35,8 @@ import com.opengamma.strata.collect.tuple.ObjIntPair;
 import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioPerturbation;
 import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.curve.NodalCurve;
+import com.opengamma.strata.market.curve.NodalCurveScenarioArray;
 
 /**
  * A perturbation that applies different shifts to specific points in a parameterized data.
@@ -47,6 +49,11 @@ import com.opengamma.strata.market.ShiftType;
  * <p>
  * When matching the shift to the parameterized data, either the identifier or label parameter may be used.
  * A shift is not applied if there is no point on the parameterized data with a matching identifier.
+ * <p>
+ * When applied to a single {@link NodalCurve}, the shifted curves are stored in a {@link NodalCurveScenarioArray},
+ * which holds the y-values for all scenarios in a single matrix and shares the rest of the curve.
+ * This is not done if the box {@linkplain MarketDataBox#isLazy() calculates scenario values lazily},
+ * in which case each shifted curve is only created when it is requested.
  *
  * @see ParameterMetadata#getIdentifier()
  */
@@ -123,11 +130,34 @@ public final class PointShifts
 
     log.debug("Applying {} point shift to ParameterizedData '{}'", shiftType,
         marketData.getValue(0).toString());
+    if (marketData.isSingleValue() && !marketData.isLazy() && marketData.getSingleValue() instanceof NodalCurve) {
+      return applyShifts((NodalCurve) marketData.getSingleValue());
+    }
     return marketData.mapWithIndex(
         shifts.rowCount(),
         (prams, scenarioIndex) -> applyShifts(scenarioIndex, prams));
   }
 
+  // shifts a nodal curve in all scenarios, storing the y-values in a single matrix
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private MarketDataBox<ParameterizedData> applyShifts(NodalCurve curve) {
+    int nodeCount = curve.getParameterCount();
+    int[] shiftIndices = new int[nodeCount];
+    for (int i = 0; i < nodeCount; i++) {
+      shiftIndices[i] = nodeIndex(curve.getParameterMetadata(i));
+    }
+    double[] baseValues = curve.getYValues().toArrayUnsafe();
+    double[][] yValues = new double[shifts.rowCount()][nodeCount];
+    for (int scenarioIndex = 0; scenarioIndex < yValues.length; scenarioIndex++) {
+      for (int i = 0; i < nodeCount; i++) {
+        double shiftAmount = shiftIndices[i] >= 0 ? shifts.get(scenarioIndex, shiftIndices[i]) : 0;
+        yValues[scenarioIndex][i] = shiftType.applyShift(baseValues[i], shiftAmount);
+      }
+    }
+    NodalCurveScenarioArray curves = NodalCurveScenarioArray.of(curve, DoubleMatrix.ofUnsafe(yValues));
+    return (MarketDataBox) MarketDataBox.ofScenarioValue(curves);
+  }
+
   private ParameterizedData applyShifts(int scenarioIndex, ParameterizedData prams) {
     return prams.withPerturbation((index, value, meta) -> {
       double shiftAmount = shiftForNode(scenarioIndex, meta);
@@ -141,17 +171,23 @@ public final class PointShifts
   }
 
   private double shiftForNode(int scenarioIndex, ParameterMetadata meta) {
+    int nodeIndex = nodeIndex(meta);
+    return nodeIndex >= 0 ? shifts.get(scenarioIndex, nodeIndex) : 0;
+  }
+
+  // finds the column in the matrix of shifts for the parameter, -1 if not found
+  private int nodeIndex(ParameterMetadata meta) {
     Integer nodeIndex = nodeIndices.get(meta.getIdentifier());
 
     if (nodeIndex != null) {
-      return shifts.get(scenarioIndex, nodeIndex);
+      return nodeIndex;
     }
     nodeIndex = nodeIndices.get(meta.getLabel());
 
     if (nodeIndex != null) {
-      return shifts.get(scenarioIndex, nodeIndex);
+      return nodeIndex;
     }
-    return 0;
+    return -1;
   }
 
   @Override
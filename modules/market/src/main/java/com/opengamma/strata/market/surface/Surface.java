@@ -13,6 +13,7 @@ import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -105,6 +106,21 @@ public interface Surface extends ParameterizedData {
     return zValue(xyPair.getFirst(), xyPair.getSecond());
   }
 
+  /**
+   * Computes the z-values for the specified x-values and y-values.
+   * <p>
+   * This is equivalent to calling {@link #zValue(double, double)} for each point,
+   * but implementations may be able to evaluate many points more efficiently.
+   * 
+   * @param xValues  the x-values to find the z-values for
+   * @param yValues  the y-values to find the z-values for, of the same size as the x-values
+   * @return the values at the x/y points
+   */
+  public default DoubleArray zValues(DoubleArray xValues, DoubleArray yValues) {
+    ArgChecker.isTrue(xValues.size() == yValues.size(), "Arrays of x-values and y-values must be the same size");
+    return DoubleArray.of(xValues.size(), i -> zValue(xValues.get(i), yValues.get(i)));
+  }
+
   /**
    * Computes the sensitivity of the z-value with respect to the surface parameters.
    * <p>
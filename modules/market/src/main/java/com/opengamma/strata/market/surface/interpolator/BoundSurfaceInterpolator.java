@@ -6,6 +6,7 @@
 package com.opengamma.strata.market.surface.interpolator;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -27,6 +28,22 @@ public interface BoundSurfaceInterpolator {
    */
   public abstract double interpolate(double x, double y);
 
+  /**
+   * Computes the z-values for the specified x-y-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double, double)} for each point,
+   * but implementations may be able to evaluate many points more efficiently.
+   * 
+   * @param xValues  the x-values to find the z-values for
+   * @param yValues  the y-values to find the z-values for, of the same size as the x-values
+   * @return the values at the x-y-values
+   * @throws RuntimeException if a z-value cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray xValues, DoubleArray yValues) {
+    ArgChecker.isTrue(xValues.size() == yValues.size(), "Arrays of x-values and y-values must be the same size");
+    return DoubleArray.of(xValues.size(), i -> interpolate(xValues.get(i), yValues.get(i)));
+  }
+
   /**
    * Computes the partial derivatives of the surface.
    * <p>
@@ -32,6 +32,7 @@ import com.opengamma.strata.market.curve.interpolator.BoundCurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolatorWeights;
 
 /**
  * A surface interpolator that is based on two curve interpolators.
@@ -149,6 +150,7 @@ public final class GridSurfaceInterpolator
     double[] uniqueX = new double[size];
     double[] tempY = new double[size];
     double[] tempZ = new double[size];
+    int[] rowSizes = new int[size];
     ImmutableList.Builder<BoundCurveInterpolator> yInterpBuilder = ImmutableList.builder();
     int i = 0;
     while (i < size) {
@@ -178,6 +180,7 @@ public final class GridSurfaceInterpolator
         DoubleArray zValuesSameX = DoubleArray.ofUnsafe(Arrays.copyOf(tempZ, countSameX));
         yInterpBuilder.add(yInterpolator.bind(yValuesSameX, zValuesSameX, yExtrapolatorLeft, yExtrapolatorRight));
       }
+      rowSizes[countUniqueX] = countSameX;
       countUniqueX++;
     }
     if (countUniqueX == 1) {
@@ -185,12 +188,23 @@ public final class GridSurfaceInterpolator
     }
     DoubleArray uniqueXArray = DoubleArray.ofUnsafe(Arrays.copyOf(uniqueX, countUniqueX));
     BoundCurveInterpolator[] yInterps = yInterpBuilder.build().toArray(new BoundCurveInterpolator[0]);
-    return new Bound(xInterpolator, xExtrapolatorLeft, xExtrapolatorRight, size, uniqueXArray, yInterps);
+    return new Bound(
+        xInterpolator,
+        xExtrapolatorLeft,
+        xExtrapolatorRight,
+        size,
+        uniqueXArray,
+        Arrays.copyOf(rowSizes, countUniqueX),
+        yInterps);
   }
 
   //-------------------------------------------------------------------------
   /**
    * Bound interpolator.
+   * <p>
+   * If the x-interpolator is linear in the z-values, such as linear or natural spline, the weights of
+   * the x-interpolation are precomputed. Each lookup then only evaluates the y-interpolators that have
+   * a non-zero weight, without binding a new curve interpolator.
    */
   static class Bound implements BoundSurfaceInterpolator {
     private final CurveInterpolator xInterpolator;
@@ -198,7 +212,10 @@ public final class GridSurfaceInterpolator
     private final CurveExtrapolator xExtrapolatorRight;
     private final DoubleArray xValuesUnique;
     private final int paramSize;
+    private final int[] rowSizes;
     private final BoundCurveInterpolator[] yInterpolators;
+    // null if the x-interpolator is not linear in the z-values
+    private final CurveInterpolatorWeights xWeights;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -206,6 +223,7 @@ public final class GridSurfaceInterpolator
         CurveExtrapolator xExtrapolatorRight,
         int paramSize,
         DoubleArray xValuesUnique,
+        int[] rowSizes,
         BoundCurveInterpolator[] yInterpolators) {
 
       this.xInterpolator = xInterpolator;
@@ -213,12 +231,18 @@ public final class GridSurfaceInterpolator
       this.xExtrapolatorRight = xExtrapolatorRight;
       this.xValuesUnique = xValuesUnique;
       this.paramSize = paramSize;
+      this.rowSizes = rowSizes;
       this.yInterpolators = yInterpolators;
+      this.xWeights = CurveInterpolatorWeights.of(xValuesUnique, xInterpolator, xExtrapolatorLeft, xExtrapolatorRight)
+          .orElse(null);
     }
 
     //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y) {
+      if (xWeights != null) {
+        return xWeights.value(x, i -> yInterpolators[i].interpolate(y));
+      }
       // use each y-interpolator to find the z-value for each unique x
       DoubleArray zValuesEffective = DoubleArray.of(yInterpolators.length, i -> yInterpolators[i].interpolate(y));
       // interpolate unique x-values against derived z-values
@@ -229,44 +253,62 @@ public final class GridSurfaceInterpolator
     public DoubleArray parameterSensitivity(double x, double y) {
       int uniqueX = yInterpolators.length;
       final DoubleArray[] ySens = new DoubleArray[uniqueX];
-      // use each y-interpolator to find the z-value sensitivity for each unique x
-      for (int i = 0; i < uniqueX; i++) {
-        ySens[i] = yInterpolators[i].parameterSensitivity(y);
+      DoubleArray xSens;
+      if (xWeights != null) {
+        // the sensitivity to the derived z-values is the weight, so rows with zero weight are skipped
+        xSens = xWeights.weights(x);
+        for (int i = 0; i < uniqueX; i++) {
+          ySens[i] = xSens.get(i) != 0d ? yInterpolators[i].parameterSensitivity(y) : null;
+        }
+      } else {
+        // use each y-interpolator to find the z-value sensitivity for each unique x
+        for (int i = 0; i < uniqueX; i++) {
+          ySens[i] = yInterpolators[i].parameterSensitivity(y);
+        }
+        // use each y-interpolator to find the z-value for each unique x
+        DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
+        // find the sensitivity of the unique x-values against derived z-values
+        xSens = xInterpolator
+            .bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
+            .parameterSensitivity(x);
       }
-      // use each y-interpolator to find the z-value for each unique x
-      DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
-      // find the sensitivity of the unique x-values against derived z-values
-      DoubleArray xSens = xInterpolator
-          .bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
-          .parameterSensitivity(x);
-
       return project(xSens, ySens);
     }
 
     //-------------------------------------------------------------------------
     @Override
     public ValueDerivatives firstPartialDerivatives(double x, double y) {
+      if (xWeights != null) {
+        double zValue = xWeights.value(x, i -> yInterpolators[i].interpolate(y));
+        double xDerivative = xWeights.firstDerivative(x, i -> yInterpolators[i].interpolate(y));
+        double yDerivative = xWeights.value(x, i -> yInterpolators[i].firstDerivative(y));
+        return ValueDerivatives.of(zValue, DoubleArray.of(xDerivative, yDerivative));
+      }
       int uniqueX = yInterpolators.length;
       DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
-      yInterpolators[0].interpolate(y);
-      double xDerivative =
-          xInterpolator.bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight).firstDerivative(x);
+      BoundCurveInterpolator xBound =
+          xInterpolator.bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight);
+      double xDerivative = xBound.firstDerivative(x);
       DoubleArray yDerivatives = DoubleArray.of(uniqueX, i -> yInterpolators[i].firstDerivative(y));
       double yDerivative =
           xInterpolator.bind(xValuesUnique, yDerivatives, xExtrapolatorLeft, xExtrapolatorRight).interpolate(x);
-      double zValue = interpolate(x, y);
+      double zValue = xBound.interpolate(x);
       return ValueDerivatives.of(zValue, DoubleArray.of(xDerivative, yDerivative));
     }
 
-    // project sensitivities back to parameters
+    // project sensitivities back to parameters, a null y-sensitivity indicates a row with zero x-sensitivity
     private DoubleArray project(DoubleArray xSens, DoubleArray[] ySens) {
       int countParam = 0;
       double[] paramSens = new double[paramSize];
       for (int i = 0; i < xSens.size(); i++) {
         double xs = xSens.get(i);
         DoubleArray ys = ySens[i];
-        for (int j = 0; j < ys.size(); j++) {
-          paramSens[countParam++] = xs * ys.get(j);
+        if (ys == null) {
+          countParam += rowSizes[i];
+        } else {
+          for (int j = 0; j < ys.size(); j++) {
+            paramSens[countParam++] = xs * ys.get(j);
+          }
         }
       }
       return DoubleArray.ofUnsafe(paramSens);
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
 
 /**
@@ -204,6 +206,43 @@ public class GridCubeInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_precomputedXWeights() {
+    GridSurfaceInterpolator yzInterp = GridSurfaceInterpolator.of(LINEAR, LINEAR);
+    DoubleArray xUnique = DoubleArray.of(0d, 1d, 2d);
+    for (CurveInterpolator xInterp : new CurveInterpolator[] {LINEAR, NATURAL_SPLINE}) {
+      GridCubeInterpolator test = GridCubeInterpolator.of(
+          xInterp, FLAT, FLAT, LINEAR, FLAT, FLAT, LINEAR, FLAT, FLAT);
+      BoundCubeInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA);
+      for (int i = 0; i < X_TEST.size(); i++) {
+        double x = X_TEST.get(i);
+        double y = Y_TEST.get(i);
+        double z = Z_TEST.get(i);
+        // reference interpolates each x-slice in y and z, then interpolates the slice values in x
+        DoubleArray sliceValues = DoubleArray.of(3, k -> yzInterp.bind(
+            Y_DATA.subArray(12 * k, 12 * k + 12),
+            Z_DATA.subArray(12 * k, 12 * k + 12),
+            W_DATA.subArray(12 * k, 12 * k + 12)).interpolate(y, z));
+        BoundCurveInterpolator expected = xInterp.bind(xUnique, sliceValues, FLAT, FLAT);
+        assertThat(bci.interpolate(x, y, z)).isCloseTo(expected.interpolate(x), TOL);
+        ValueDerivatives derivatives = bci.firstPartialDerivatives(x, y, z);
+        assertThat(derivatives.getValue()).isCloseTo(expected.interpolate(x), TOL);
+        assertThat(derivatives.getDerivative(0)).isCloseTo(expected.firstDerivative(x), offset(1e-10));
+        DoubleArray sensi = bci.parameterSensitivity(x, y, z);
+        double eps = 1e-7;
+        for (int j = 0; j < W_DATA.size(); j++) {
+          double up = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA.with(j, W_DATA.get(j) + eps)).interpolate(x, y, z);
+          double dw = test.bind(X_DATA, Y_DATA, Z_DATA, W_DATA.with(j, W_DATA.get(j) - eps)).interpolate(x, y, z);
+          assertThat(sensi.get(j)).isCloseTo(0.5 * (up - dw) / eps, offset(1e-6));
+        }
+      }
+      DoubleArray batch = bci.interpolate(X_TEST, Y_TEST, Z_TEST);
+      for (int i = 0; i < X_TEST.size(); i++) {
+        assertThat(batch.get(i)).isEqualTo(bci.interpolate(X_TEST.get(i), Y_TEST.get(i), Z_TEST.get(i)));
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
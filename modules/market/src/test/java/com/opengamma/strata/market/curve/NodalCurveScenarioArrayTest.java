@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.date.DayCounts;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link NodalCurveScenarioArray}.
+ */
+public class NodalCurveScenarioArrayTest {
+
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      Curves.zeroRates(CurveName.of("curve"), DayCounts.ACT_365F),
+      DoubleArray.of(1, 2, 3),
+      DoubleArray.of(5, 6, 7),
+      CurveInterpolators.LINEAR);
+  private static final DoubleMatrix Y_VALUES = DoubleMatrix.copyOf(new double[][] {{1, 2, 3}, {4, 5, 6}});
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    NodalCurveScenarioArray test = NodalCurveScenarioArray.of(CURVE, Y_VALUES);
+    assertThat(test.getCurve()).isEqualTo(CURVE);
+    assertThat(test.getYValues()).isEqualTo(Y_VALUES);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.get(0)).isEqualTo(CURVE.withYValues(DoubleArray.of(1, 2, 3)));
+    assertThat(test.get(1)).isEqualTo(CURVE.withYValues(DoubleArray.of(4, 5, 6)));
+    assertThat(test.get(1).getXValues()).isSameAs(CURVE.getXValues());
+    assertThat(test.get(1).getMetadata()).isSameAs(CURVE.getMetadata());
+    assertThat(test.stream().collect(Collectors.toList())).containsExactly(test.get(0), test.get(1));
+  }
+
+  @Test
+  public void test_of_wrongSize() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NodalCurveScenarioArray.of(CURVE, DoubleMatrix.of(1, 2, 1d, 2d)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    NodalCurveScenarioArray test = NodalCurveScenarioArray.of(CURVE, Y_VALUES);
+    coverImmutableBean(test);
+    NodalCurveScenarioArray test2 = NodalCurveScenarioArray.of(
+        ConstantNodalCurve.of(Curves.zeroRates(CurveName.of("other"), DayCounts.ACT_365F), 1d, 2d),
+        DoubleMatrix.of(1, 1, 3d));
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(NodalCurveScenarioArray.of(CURVE, Y_VALUES));
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.interpolator;
+
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.EXPONENTIAL;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.FLAT;
+import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.INTERPOLATOR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LOG_LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_CUBIC_SPLINE;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.STEP_UPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link CurveInterpolatorWeights}.
+ */
+public class CurveInterpolatorWeightsTest {
+
+  private static final DoubleArray X_DATA = DoubleArray.of(-1.0, 0.0, 0.5, 2.0, 3.5, 5.0);
+  private static final DoubleArray Y_DATA = DoubleArray.of(2.0, 3.1, 1.4, 4.5, 4.0, 6.2);
+  private static final DoubleArray X_TEST =
+      DoubleArray.of(-3.0, -1.0, -0.0, 0.0, 0.25, 0.5, 1.0, 1.9999, 2.0, 3.0, 4.99, 5.0, 7.0);
+  private static final double TOL = 1.e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_notLinear() {
+    assertThat(CurveInterpolatorWeights.of(X_DATA, LOG_LINEAR, FLAT, FLAT)).isEmpty();
+    assertThat(CurveInterpolatorWeights.of(X_DATA, LINEAR, EXPONENTIAL, FLAT)).isEmpty();
+    assertThat(CurveInterpolatorWeights.of(X_DATA, LINEAR, FLAT, EXPONENTIAL)).isEmpty();
+    assertThat(CurveInterpolatorWeights.of(X_DATA, LINEAR, INTERPOLATOR, FLAT)).isEmpty();
+    assertThat(CurveInterpolatorWeights.of(X_DATA, LINEAR, FLAT, CurveExtrapolators.LINEAR)).isEmpty();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurveInterpolatorWeights.of(DoubleArray.of(1d), LINEAR, FLAT, FLAT));
+  }
+
+  @Test
+  public void test_matchesBoundInterpolator() {
+    CurveInterpolator[] interpolators = {LINEAR, DOUBLE_QUADRATIC, NATURAL_CUBIC_SPLINE, NATURAL_SPLINE, STEP_UPPER};
+    for (CurveInterpolator interpolator : interpolators) {
+      CurveInterpolatorWeights test = CurveInterpolatorWeights.of(X_DATA, interpolator, FLAT, FLAT).get();
+      BoundCurveInterpolator bound = interpolator.bind(X_DATA, Y_DATA, FLAT, FLAT);
+      assertThat(test.size()).isEqualTo(X_DATA.size());
+      for (int i = 0; i < X_TEST.size(); i++) {
+        double x = X_TEST.get(i);
+        String desc = interpolator + " " + x;
+        assertThat(test.value(x, Y_DATA::get)).as(desc).isCloseTo(bound.interpolate(x), offset(TOL));
+        assertThat(test.firstDerivative(x, Y_DATA::get)).as(desc).isCloseTo(bound.firstDerivative(x), offset(TOL));
+        DoubleArray weights = test.weights(x);
+        DoubleArray expected = bound.parameterSensitivity(x);
+        for (int j = 0; j < weights.size(); j++) {
+          assertThat(weights.get(j)).as(desc).isCloseTo(expected.get(j), offset(TOL));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_linearFlat_onlyUsesSurroundingNodes() {
+    CurveInterpolatorWeights test = CurveInterpolatorWeights.of(X_DATA, LINEAR, FLAT, FLAT).get();
+    AtomicInteger count = new AtomicInteger();
+    assertThat(test.value(1.0, i -> {
+      count.incrementAndGet();
+      return Y_DATA.get(i);
+    })).isCloseTo(1.4 + 0.5 * (4.5 - 1.4) / 1.5, offset(TOL));
+    assertThat(count.get()).isEqualTo(2);
+    count.set(0);
+    assertThat(test.value(0.5, i -> {
+      count.incrementAndGet();
+      return Y_DATA.get(i);
+    })).isEqualTo(1.4);
+    assertThat(count.get()).isEqualTo(1);
+    assertThat(test.toString()).contains("Linear");
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve.node;
+
+import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.CurveNodeTradeTemplate;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.product.deposit.type.IborFixingDepositTemplate;
+import com.opengamma.strata.product.deposit.type.TermDepositConventions;
+import com.opengamma.strata.product.deposit.type.TermDepositTemplate;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedIborSwapTemplate;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
+
+/**
+ * Test {@link CurveNodeTradeTemplate} as returned by the curve nodes.
+ */
+public class CurveNodeTradeTemplateTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final QuoteId QUOTE_ID = QuoteId.of(StandardId.of("OG-Ticker", "Deposit1"));
+  private static final double SPREAD = 0.0015;
+
+  public static Stream<Arguments> data_nodes() {
+    return Stream.of(
+        Arguments.of(FraCurveNode.of(FraTemplate.of(Period.ofMonths(2), GBP_LIBOR_3M), QUOTE_ID, SPREAD)),
+        Arguments.of(TermDepositCurveNode.of(
+            TermDepositTemplate.of(Period.ofMonths(3), TermDepositConventions.EUR_DEPOSIT_T2), QUOTE_ID, SPREAD)),
+        Arguments.of(FixedIborSwapCurveNode.of(
+            FixedIborSwapTemplate.of(TENOR_10Y, FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M), QUOTE_ID, SPREAD)),
+        Arguments.of(FixedOvernightSwapCurveNode.of(
+            FixedOvernightSwapTemplate.of(TENOR_10Y, FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS),
+            QUOTE_ID,
+            SPREAD)),
+        Arguments.of(IborFixingDepositCurveNode.of(IborFixingDepositTemplate.of(GBP_LIBOR_3M), QUOTE_ID, SPREAD)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_nodes")
+  public void test_resolvedTradeTemplate(CurveNode node) {
+    for (double quantity : new double[] {1d, -2d}) {
+      CurveNodeTradeTemplate template = node.resolvedTradeTemplate(quantity, VAL_DATE, REF_DATA);
+      for (double rate : new double[] {0.035, -0.002}) {
+        MarketData marketData = ImmutableMarketData.builder(VAL_DATE).addValue(QUOTE_ID, rate).build();
+        assertThat(template.resolvedTrade(marketData)).isEqualTo(node.resolvedTrade(quantity, marketData, REF_DATA));
+      }
+      MarketData otherDate = ImmutableMarketData.builder(VAL_DATE.plusDays(1)).addValue(QUOTE_ID, 0.035).build();
+      assertThat(template.resolvedTrade(otherDate)).isEqualTo(node.resolvedTrade(quantity, otherDate, REF_DATA));
+    }
+  }
+
+}
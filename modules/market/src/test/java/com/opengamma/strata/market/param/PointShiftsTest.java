@@ -25,6 +25,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.NodalCurveScenarioArray;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 
@@ -69,6 +70,7 @@ public class PointShiftsTest {
 
     MarketDataBox<ParameterizedData> shiftedCurveBox = shift.applyTo(
         MarketDataBox.ofSingleValue(curve), REF_DATA);
+    assertThat(shiftedCurveBox.getScenarioValue()).isInstanceOf(NodalCurveScenarioArray.class);
 
     Curve scenario1Curve = InterpolatedNodalCurve.of(
         Curves.zeroRates(CurveName.of("curve"), DayCounts.ACT_365F, nodeMetadata),
@@ -109,6 +111,14 @@ public class PointShiftsTest {
             .isEqualTo(expectedY);
       }
     }
+
+    // the shifted curves are created lazily if the box calculates scenario values lazily
+    MarketDataBox<ParameterizedData> lazyCurveBox = shift.applyTo(
+        MarketDataBox.ofLazySingleValue(curve, 2), REF_DATA);
+    assertThat(lazyCurveBox.getScenarioValue()).isNotInstanceOf(NodalCurveScenarioArray.class);
+    for (int scenarioIndex = 0; scenarioIndex < 4; scenarioIndex++) {
+      assertThat(lazyCurveBox.getValue(scenarioIndex)).isEqualTo(shiftedCurveBox.getValue(scenarioIndex));
+    }
   }
 
   @Test
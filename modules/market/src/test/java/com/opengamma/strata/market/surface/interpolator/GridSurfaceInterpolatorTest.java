@@ -13,6 +13,7 @@ import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.
 import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.LOG_LINEAR;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.NATURAL_SPLINE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
@@ -21,6 +22,8 @@ import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 
 /**
  * Test {@link GridSurfaceInterpolator}.
@@ -164,6 +167,50 @@ public class GridSurfaceInterpolatorTest {
     assertThat(valueDerivatives.getDerivative(1)).isCloseTo(expected, offset(1e-6));
   }
 
+  @Test
+  public void test_precomputedXWeights() {
+    DoubleArray xUnique = DoubleArray.of(0d, 1d, 2d, 3d);
+    CurveInterpolator[] xInterpolators = {LINEAR, NATURAL_SPLINE};
+    for (CurveInterpolator xInterp : xInterpolators) {
+      GridSurfaceInterpolator test = GridSurfaceInterpolator.of(xInterp, FLAT, FLAT, LINEAR, FLAT, FLAT);
+      BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+      DoubleArray xTest = DoubleArray.of(-0.5, 0.0, 0.2, 1.3, 2.5, 3.0, 3.7);
+      DoubleArray yTest = DoubleArray.of(3.2, 4.4, 3.4, 4.1, 4.5, 2.0, 5.5);
+      for (int i = 0; i < xTest.size(); i++) {
+        double x = xTest.get(i);
+        double y = yTest.get(i);
+        // reference interpolates each row in y, then interpolates the row values in x
+        DoubleArray rowValues = DoubleArray.of(
+            LINEAR.bind(DoubleArray.of(3d, 4d, 5d), Z_DATA.subArray(0, 3), FLAT, FLAT).interpolate(y),
+            LINEAR.bind(DoubleArray.of(3d, 4d, 5d), Z_DATA.subArray(3, 6), FLAT, FLAT).interpolate(y),
+            LINEAR.bind(DoubleArray.of(3d, 4d, 5d), Z_DATA.subArray(6, 9), FLAT, FLAT).interpolate(y),
+            Z_DATA.get(9));
+        BoundCurveInterpolator expected = xInterp.bind(xUnique, rowValues, FLAT, FLAT);
+        assertThat(bci.interpolate(x, y)).isCloseTo(expected.interpolate(x), offset(TOL));
+        assertThat(bci.firstPartialDerivatives(x, y).getValue()).isCloseTo(expected.interpolate(x), offset(TOL));
+        assertThat(bci.firstPartialDerivatives(x, y).getDerivative(0))
+            .isCloseTo(expected.firstDerivative(x), offset(1e-10));
+        DoubleArray sensi = bci.parameterSensitivity(x, y);
+        double eps = 1e-7;
+        for (int j = 0; j < Z_DATA.size(); j++) {
+          double up = test.bind(X_DATA, Y_DATA, Z_DATA.with(j, Z_DATA.get(j) + eps)).interpolate(x, y);
+          double dw = test.bind(X_DATA, Y_DATA, Z_DATA.with(j, Z_DATA.get(j) - eps)).interpolate(x, y);
+          assertThat(sensi.get(j)).isCloseTo(0.5 * (up - dw) / eps, offset(1e-6));
+        }
+      }
+      DoubleArray batch = bci.interpolate(xTest, yTest);
+      for (int i = 0; i < xTest.size(); i++) {
+        assertThat(batch.get(i)).isEqualTo(bci.interpolate(xTest.get(i), yTest.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void test_interpolate_batchSizeMismatch() {
+    BoundSurfaceInterpolator bci = GridSurfaceInterpolator.of(LINEAR, LINEAR).bind(X_DATA, Y_DATA, Z_DATA);
+    assertThatIllegalArgumentException().isThrownBy(() -> bci.interpolate(X_TEST, DoubleArray.of(1d)));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
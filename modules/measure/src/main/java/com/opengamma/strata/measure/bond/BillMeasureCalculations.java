@@ -5,17 +5,25 @@
  */
 package com.opengamma.strata.measure.bond;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.CompoundedRateType;
 import com.opengamma.strata.pricer.bond.DiscountingBillTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
+import com.opengamma.strata.product.bond.ResolvedBill;
 import com.opengamma.strata.product.bond.ResolvedBillTrade;
 
 /**
@@ -193,4 +201,50 @@ public class BillMeasureCalculations {
     return tradePricer.currentCash(trade, discountingProvider.getValuationDate());
   }
 
+  //-------------------------------------------------------------------------
+  // calculates z-spread for all scenarios
+  DoubleScenarioArray zSpread(
+      ResolvedBillTrade trade,
+      LegalEntityDiscountingScenarioMarketData marketData,
+      ReferenceData refData,
+      double price,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return DoubleScenarioArray.of(
+        marketData.getScenarioCount(),
+        i -> zSpread(
+            trade, marketData.scenario(i).discountingProvider(), refData, price, compoundedRateType, periodsPerYear));
+  }
+
+  // z-spread for one scenario
+  double zSpread(
+      ResolvedBillTrade trade,
+      LegalEntityDiscountingProvider discountingProvider,
+      ReferenceData refData,
+      double price,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ResolvedBill product = trade.getProduct();
+    LocalDate settlementDate = product.getSettlementDateOffset().adjust(discountingProvider.getValuationDate(), refData);
+    return tradePricer.getProductPricer()
+        .zSpreadFromCurvesAndPrice(product, discountingProvider, settlementDate, price, compoundedRateType, periodsPerYear);
+  }
+
+  // z-spread for many trades
+  DoubleArray zSpread(
+      List<ResolvedBillTrade> trades,
+      LegalEntityDiscountingProvider discountingProvider,
+      ReferenceData refData,
+      DoubleArray prices,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ArgChecker.isTrue(trades.size() == prices.size(), "Number of trades and prices must match");
+    return DoubleArray.of(
+        trades.size(),
+        i -> zSpread(trades.get(i), discountingProvider, refData, prices.get(i), compoundedRateType, periodsPerYear));
+  }
+
 }
@@ -5,13 +5,19 @@
  */
 package com.opengamma.strata.measure.bond;
 
+import java.util.List;
+
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.pricer.CompoundedRateType;
 import com.opengamma.strata.pricer.bond.DiscountingBillTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.product.bond.BillTrade;
@@ -321,4 +327,85 @@ public class BillTradeCalculations {
     return calc.currentCash(trade, ratesProvider);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates z-spread across one or more scenarios.
+   * <p>
+   * The z-spread is the parallel shift applied to continuously compounded rates or periodic
+   * compounded rates of the issuer discounting curve such that the price from the curves
+   * matches the specified price of the bill for standard settlement in each scenario.
+   * 
+   * @param trade  the trade
+   * @param lookup  the lookup used to query the market data
+   * @param marketData  the market data
+   * @param refData  the reference data used to calculate the settlement date
+   * @param price  the price of the bill
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spread, one entry per scenario
+   */
+  public DoubleScenarioArray zSpread(
+      ResolvedBillTrade trade,
+      LegalEntityDiscountingMarketDataLookup lookup,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      double price,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return calc.zSpread(trade, lookup.marketDataView(marketData), refData, price, compoundedRateType, periodsPerYear);
+  }
+
+  /**
+   * Calculates z-spread for a single set of market data.
+   * <p>
+   * The z-spread is the parallel shift applied to continuously compounded rates or periodic
+   * compounded rates of the issuer discounting curve such that the price from the curves
+   * matches the specified price of the bill for standard settlement.
+   * 
+   * @param trade  the trade
+   * @param ratesProvider  the market data
+   * @param refData  the reference data used to calculate the settlement date
+   * @param price  the price of the bill
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spread
+   */
+  public double zSpread(
+      ResolvedBillTrade trade,
+      LegalEntityDiscountingProvider ratesProvider,
+      ReferenceData refData,
+      double price,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return calc.zSpread(trade, ratesProvider, refData, price, compoundedRateType, periodsPerYear);
+  }
+
+  /**
+   * Calculates z-spread for many trades using a single set of market data.
+   * <p>
+   * This is equivalent to calling
+   * {@link #zSpread(ResolvedBillTrade, LegalEntityDiscountingProvider, ReferenceData, double,
+   * CompoundedRateType, int)} for each trade.
+   * 
+   * @param trades  the trades
+   * @param ratesProvider  the market data
+   * @param refData  the reference data used to calculate the settlement date
+   * @param prices  the prices of the bills, one for each trade
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spreads, one entry per trade
+   */
+  public DoubleArray zSpread(
+      List<ResolvedBillTrade> trades,
+      LegalEntityDiscountingProvider ratesProvider,
+      ReferenceData refData,
+      DoubleArray prices,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return calc.zSpread(trades, ratesProvider, refData, prices, compoundedRateType, periodsPerYear);
+  }
+
 }
@@ -5,17 +5,26 @@
  */
 package com.opengamma.strata.measure.bond;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondProductPricer;
 import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBond;
 import com.opengamma.strata.product.bond.ResolvedFixedCouponBondTrade;
 
 /**
@@ -193,4 +202,52 @@ final class FixedCouponBondMeasureCalculations {
     return tradePricer.currentCash(trade, discountingProvider.getValuationDate());
   }
 
+  //-------------------------------------------------------------------------
+  // calculates z-spread for all scenarios
+  DoubleScenarioArray zSpread(
+      ResolvedFixedCouponBondTrade trade,
+      LegalEntityDiscountingScenarioMarketData marketData,
+      ReferenceData refData,
+      double cleanPrice,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return DoubleScenarioArray.of(
+        marketData.getScenarioCount(),
+        i -> zSpread(
+            trade, marketData.scenario(i).discountingProvider(), refData, cleanPrice, compoundedRateType, periodsPerYear));
+  }
+
+  // z-spread for one scenario
+  double zSpread(
+      ResolvedFixedCouponBondTrade trade,
+      LegalEntityDiscountingProvider discountingProvider,
+      ReferenceData refData,
+      double cleanPrice,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ResolvedFixedCouponBond product = trade.getProduct();
+    DiscountingFixedCouponBondProductPricer productPricer = tradePricer.getProductPricer();
+    LocalDate settlementDate = product.getSettlementDateOffset().adjust(discountingProvider.getValuationDate(), refData);
+    double dirtyPrice = productPricer.dirtyPriceFromCleanPrice(product, settlementDate, cleanPrice);
+    return productPricer.zSpreadCashFlows(product, discountingProvider, settlementDate, compoundedRateType, periodsPerYear)
+        .zSpreadFromPrice(dirtyPrice);
+  }
+
+  // z-spread for many trades
+  DoubleArray zSpread(
+      List<ResolvedFixedCouponBondTrade> trades,
+      LegalEntityDiscountingProvider discountingProvider,
+      ReferenceData refData,
+      DoubleArray cleanPrices,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ArgChecker.isTrue(trades.size() == cleanPrices.size(), "Number of trades and clean prices must match");
+    return DoubleArray.of(
+        trades.size(),
+        i -> zSpread(trades.get(i), discountingProvider, refData, cleanPrices.get(i), compoundedRateType, periodsPerYear));
+  }
+
 }
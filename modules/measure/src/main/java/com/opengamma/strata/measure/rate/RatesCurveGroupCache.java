@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.rate;
+
+import static java.util.Comparator.comparing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.io.BeanBinaryCodec;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+
+/**
+ * A file-backed cache of calibrated curve groups, keyed by a hash of the calibration inputs.
+ * <p>
+ * Calibrating a curve group is expensive, and the same inputs are often calibrated again,
+ * such as when a batch is re-run or a process is restarted.
+ * This cache stores each calibrated group in a file in a directory, named by a hash of
+ * the curve group definition, the market data used in calibration and the calibrator settings.
+ * The files are written using {@link BeanBinaryCodec}, and persist between processes.
+ * <p>
+ * The number of files is bounded. When a group is added and the bound is exceeded,
+ * the least recently used files are deleted, based on the file modification time
+ * that is updated whenever a group is found.
+ * A file that is not a valid curve group is logged, treated as missing and deleted.
+ * <p>
+ * The reference data used in calibration, such as holiday calendars, is not part of the inputs that are hashed.
+ * Instead, the cache is created with a reference data version, which must be changed whenever
+ * the reference data changes.
+ * <p>
+ * This class is thread-safe. A directory may be shared between processes, as files are
+ * written to a temporary file and then moved into place.
+ */
+public final class RatesCurveGroupCache {
+
+  /**
+   * The logger.
+   */
+  private static final Logger log = LoggerFactory.getLogger(RatesCurveGroupCache.class);
+  /**
+   * The suffix of the cache files.
+   */
+  private static final String SUFFIX = ".bin";
+
+  /**
+   * The directory containing the cache files.
+   */
+  private final Path directory;
+  /**
+   * The maximum number of cache files.
+   */
+  private final int maxEntries;
+  /**
+   * The version of the reference data used in calibration.
+   */
+  private final String referenceDataVersion;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that stores files in the specified directory.
+   * <p>
+   * The directory is created if it does not exist.
+   * The reference data version is included in the key of each curve group.
+   * It must be changed whenever the reference data used in calibration changes, such as a holiday calendar,
+   * otherwise curve groups calibrated with the old reference data will be found.
+   *
+   * @param directory  the directory to store the calibrated curve groups in
+   * @param maxEntries  the maximum number of curve groups to store, at least one
+   * @param referenceDataVersion  the version of the reference data used in calibration
+   * @return the cache
+   * @throws UncheckedIOException if the directory cannot be created
+   */
+  public static RatesCurveGroupCache of(Path directory, int maxEntries, String referenceDataVersion) {
+    ArgChecker.notNull(directory, "directory");
+    ArgChecker.notNegativeOrZero(maxEntries, "maxEntries");
+    ArgChecker.notNull(referenceDataVersion, "referenceDataVersion");
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return new RatesCurveGroupCache(directory, maxEntries, referenceDataVersion);
+  }
+
+  // restricted constructor
+  private RatesCurveGroupCache(Path directory, int maxEntries, String referenceDataVersion) {
+    this.directory = directory;
+    this.maxEntries = maxEntries;
+    this.referenceDataVersion = referenceDataVersion;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the key of a calibration.
+   * <p>
+   * The key is a hash of the reference data version, the description of the calibrator, the curve group
+   * definition, the valuation date, and the values and the time-series in the market data.
+   * The market data is hashed in the order of the identifiers, thus the key does not depend on
+   * the iteration order of the market data.
+   * <p>
+   * Only market data values that are quotes, as a {@code Double}, or FX rates can be hashed.
+   *
+   * @param groupDefn  the curve group definition, filtered for the valuation date
+   * @param marketData  the market data used in calibration
+   * @param calibration  the description of the calibrator, including all settings that alter the result
+   * @return the key
+   * @throws IllegalArgumentException if the definition or market data cannot be hashed
+   */
+  public String key(RatesCurveGroupDefinition groupDefn, MarketData marketData, String calibration) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(referenceDataVersion, StandardCharsets.UTF_8);
+    hasher.putString(calibration, StandardCharsets.UTF_8);
+    hasher.putBytes(BeanBinaryCodec.write(groupDefn).readUnsafe());
+    hasher.putLong(marketData.getValuationDate().toEpochDay());
+    List<MarketDataId<?>> ids = marketData.getIds().stream()
+        .sorted(comparing(Object::toString))
+        .collect(Collectors.toList());
+    for (MarketDataId<?> id : ids) {
+      hasher.putString(id.toString(), StandardCharsets.UTF_8);
+      putValue(hasher, id, marketData.getValue(id));
+    }
+    List<ObservableId> timeSeriesIds = marketData.getTimeSeriesIds().stream()
+        .sorted(comparing(Object::toString))
+        .collect(Collectors.toList());
+    for (ObservableId id : timeSeriesIds) {
+      LocalDateDoubleTimeSeries timeSeries = marketData.getTimeSeries(id);
+      hasher.putString(id.toString(), StandardCharsets.UTF_8);
+      hasher.putInt(timeSeries.size());
+      for (int epochDay : timeSeries.epochDayArray().toArrayUnsafe()) {
+        hasher.putInt(epochDay);
+      }
+      for (double value : timeSeries.valueArray().toArrayUnsafe()) {
+        hasher.putDouble(value);
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  // hashes the content of a market data value
+  private static void putValue(Hasher hasher, MarketDataId<?> id, Object value) {
+    if (value instanceof Double) {
+      hasher.putDouble((Double) value);
+    } else if (value instanceof FxRate) {
+      FxRate fxRate = (FxRate) value;
+      hasher.putString(fxRate.getPair().toString(), StandardCharsets.UTF_8);
+      hasher.putDouble(fxRate.fxRate(fxRate.getPair()));
+    } else {
+      throw new IllegalArgumentException(
+          "Unable to hash market data value for " + id + " of type " + value.getClass().getName());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the calibrated curve group with the specified key.
+   * <p>
+   * The modification time of the file is updated, marking the group as recently used.
+   * If the file is not a valid curve group, it is logged and deleted.
+   *
+   * @param key  the key, from {@link #key(RatesCurveGroupDefinition, MarketData, String)}
+   * @return the curve group, empty if not found
+   * @throws UncheckedIOException if the file exists but cannot be read
+   */
+  public Optional<RatesCurveGroup> find(String key) {
+    Path file = file(key);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    RatesCurveGroup group;
+    try {
+      group = BeanBinaryCodec.read(file, RatesCurveGroup.class);
+    } catch (UncheckedIOException ex) {
+      if (ex.getCause() instanceof NoSuchFileException) {
+        // evicted by another thread or process
+        return Optional.empty();
+      }
+      throw ex;
+    } catch (IllegalArgumentException ex) {
+      log.warn("Deleting invalid cached curve group " + file + ": " + ex.getMessage());
+      delete(file);
+      return Optional.empty();
+    }
+    try {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (NoSuchFileException ex) {
+      // evicted by another thread or process after being read
+    } catch (IOException ex) {
+      log.warn("Unable to mark cached curve group as used " + file + ": " + ex.getMessage());
+    }
+    return Optional.ofNullable(group);
+  }
+
+  /**
+   * Adds a calibrated curve group to the cache.
+   * <p>
+   * If the number of groups exceeds the maximum, the least recently used groups are deleted.
+   *
+   * @param key  the key, from {@link #key(RatesCurveGroupDefinition, MarketData, String)}
+   * @param group  the calibrated curve group
+   * @throws UncheckedIOException if the group cannot be written
+   */
+  public void put(String key, RatesCurveGroup group) {
+    ArgChecker.notNull(group, "group");
+    Path file = file(key);
+    try {
+      Path tempFile = Files.createTempFile(directory, key, ".tmp");
+      try {
+        BeanBinaryCodec.write(group, tempFile);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    evict();
+  }
+
+  /**
+   * Gets the number of curve groups in the cache.
+   *
+   * @return the number of curve groups
+   */
+  public int size() {
+    return files().size();
+  }
+
+  //-------------------------------------------------------------------------
+  // deletes the least recently used files beyond the maximum
+  private synchronized void evict() {
+    List<Path> files = files();
+    if (files.size() <= maxEntries) {
+      return;
+    }
+    List<Path> byAge = new ArrayList<>();
+    for (Path file : files) {
+      if (Files.exists(file)) {
+        byAge.add(file);
+      }
+    }
+    byAge.sort(comparing(RatesCurveGroupCache::lastModified));
+    for (int i = 0; i < byAge.size() - maxEntries; i++) {
+      delete(byAge.get(i));
+    }
+  }
+
+  // the cache files
+  private List<Path> files() {
+    try (Stream<Path> stream = Files.list(directory)) {
+      return stream
+          .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+          .collect(Collectors.toList());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private Path file(String key) {
+    ArgChecker.notBlank(key, "key");
+    return directory.resolve(key + SUFFIX);
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException ex) {
+      return Long.MIN_VALUE;
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      // the file will be deleted on a later eviction
+      log.warn("Unable to delete cached curve group " + file + ": " + ex.getMessage());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "RatesCurveGroupCache[" + directory + ", maxEntries=" + maxEntries +
+        ", referenceDataVersion=" + referenceDataVersion + "]";
+  }
+
+}
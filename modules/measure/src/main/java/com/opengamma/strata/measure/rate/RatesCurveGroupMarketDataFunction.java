@@ -6,11 +6,18 @@
 package com.opengamma.strata.measure.rate;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
 
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -38,6 +45,7 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.measure.curve.RootFinderConfig;
 import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.curve.RatesCurveTradeTemplateCache;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 
 /**
@@ -47,10 +55,23 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  */
 public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<RatesCurveGroup, RatesCurveGroupId> {
 
+  /**
+   * The logger.
+   */
+  private static final Logger log = LoggerFactory.getLogger(RatesCurveGroupMarketDataFunction.class);
+
   /**
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The cache of calibrated curve groups, null if calibration is not cached.
+   */
+  private final RatesCurveGroupCache cache;
+  /**
+   * The cache of calibration trade templates, shared by the calibrators created by this function.
+   */
+  private final RatesCurveTradeTemplateCache templateCache = RatesCurveTradeTemplateCache.create();
 
   //-------------------------------------------------------------------------
   /**
@@ -74,6 +95,26 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    */
   public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.cache = null;
+  }
+
+  /**
+   * Creates a new function for building curve groups that caches the calibrated groups.
+   * <p>
+   * Before calibrating a curve group, the cache is checked for a group calibrated from the same
+   * definition, market data and calibrator settings. If found, the cached group is used.
+   * Otherwise the group is calibrated and added to the cache.
+   * <p>
+   * The calibrator settings are the {@link RootFinderConfig} and, for each trade type, the class and name
+   * of the calibration measure and present value measure. Measures with the same class and name are
+   * assumed to be equivalent. The reference data is identified by the version of the cache.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param cache  the cache of calibrated curve groups
+   */
+  public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, RatesCurveGroupCache cache) {
+    this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.cache = ArgChecker.notNull(cache, "cache");
   }
 
   //-------------------------------------------------------------------------
@@ -107,14 +148,17 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData) {
 
     // create the calibrator, using the configured RootFinderConfig if found
+    // the trade templates are shared between builds, such as the calibration of each scenario
     RootFinderConfig rfc = marketDataConfig.find(RootFinderConfig.class).orElse(RootFinderConfig.standard());
     RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(
-        rfc.getAbsoluteTolerance(), rfc.getRelativeTolerance(), rfc.getMaximumSteps(), calibrationMeasures);
+        rfc.getAbsoluteTolerance(), rfc.getRelativeTolerance(), rfc.getMaximumSteps(), calibrationMeasures)
+        .withTemplateCache(templateCache);
 
     // calibrate
     CurveGroupName groupName = id.getCurveGroupName();
     RatesCurveGroupDefinition configuredDefn = marketDataConfig.get(RatesCurveGroupDefinition.class, groupName);
-    return buildCurveGroup(configuredDefn, calibrator, marketData, refData, id.getObservableSource());
+    String calibration = calibration(calibrator, rfc);
+    return buildCurveGroup(configuredDefn, calibrator, calibration, marketData, refData, id.getObservableSource());
   }
 
   @Override
@@ -125,6 +169,8 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   //-------------------------------------------------------------------------
   /**
    * Builds a curve group given the configuration for the group and a set of market data.
+   * <p>
+   * The cache is not used, as the settings of the calibrator are not known.
    *
    * @param configuredGroup  the definition of the curve group
    * @param calibrator  the calibrator
@@ -140,6 +186,40 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData,
       ObservableSource obsSource) {
 
+    // the root finder settings of the calibrator are not known, thus the cache is not used
+    return buildCurveGroup(configuredGroup, calibrator, null, marketData, refData, obsSource);
+  }
+
+  // describes the settings of the calibrator that alter the calibrated curves
+  static String calibration(RatesCurveCalibrator calibrator, RootFinderConfig rfc) {
+    return Messages.format(
+        "RootFinder[{}, {}, {}], measures={}, pvMeasures={}",
+        rfc.getAbsoluteTolerance(),
+        rfc.getRelativeTolerance(),
+        rfc.getMaximumSteps(),
+        describe(calibrator.getMeasures()),
+        describe(calibrator.getPvMeasures()));
+  }
+
+  // describes the measure used for each trade type, sorted by trade type
+  private static String describe(CalibrationMeasures measures) {
+    return measures.getTradeTypes().stream()
+        .sorted(comparing(Class::getName))
+        .map(tradeType -> tradeType.getName() + "=" + measures.findMeasure(tradeType)
+            .map(measure -> measure.getClass().getName() + ":" + measure)
+            .orElse(""))
+        .collect(joining(", ", measures.getName() + "[", "]"));
+  }
+
+  // builds the curve group, where the calibration describes the calibrator for the cache, null if not cached
+  private MarketDataBox<RatesCurveGroup> buildCurveGroup(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      String calibration,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ObservableSource obsSource) {
+
     // find and combine all the input data
     CurveGroupName groupName = configuredGroup.getName();
 
@@ -154,8 +234,9 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     Map<ObservableId, LocalDateDoubleTimeSeries> fixings = extractFixings(marketData);
 
     return multipleValues || multipleValuationDates ?
-        buildMultipleCurveGroups(configuredGroup, calibrator, valuationDates, inputBoxes, fixings, refData) :
-        buildSingleCurveGroup(configuredGroup, calibrator, valuationDates.getSingleValue(), inputBoxes, fixings, refData);
+        buildMultipleCurveGroups(configuredGroup, calibrator, calibration, valuationDates, inputBoxes, fixings, refData) :
+        buildSingleCurveGroup(
+            configuredGroup, calibrator, calibration, valuationDates.getSingleValue(), inputBoxes, fixings, refData);
   }
 
   // extract the fixings from the input data
@@ -171,6 +252,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   private MarketDataBox<RatesCurveGroup> buildMultipleCurveGroups(
       RatesCurveGroupDefinition configuredGroup,
       RatesCurveCalibrator calibrator,
+      String calibration,
       MarketDataBox<LocalDate> valuationDateBox,
       List<MarketDataBox<RatesCurveInputs>> inputBoxes,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
@@ -184,7 +266,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
       List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
       MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+      builder.add(buildGroup(filteredGroup, calibrator, calibration, inputs, refData));
     }
     ImmutableList<RatesCurveGroup> curveGroups = builder.build();
     return MarketDataBox.ofScenarioValues(curveGroups);
@@ -200,6 +282,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   private MarketDataBox<RatesCurveGroup> buildSingleCurveGroup(
       RatesCurveGroupDefinition configuredGroup,
       RatesCurveCalibrator calibrator,
+      String calibration,
       LocalDate valuationDate,
       List<MarketDataBox<RatesCurveInputs>> inputBoxes,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
@@ -208,7 +291,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
     List<RatesCurveInputs> inputs = inputBoxes.stream().map(MarketDataBox::getSingleValue).collect(toImmutableList());
     MarketData inputValues = inputsByKey(valuationDate, inputs, fixings);
-    RatesCurveGroup curveGroup = buildGroup(filteredGroup, calibrator, inputValues, refData);
+    RatesCurveGroup curveGroup = buildGroup(filteredGroup, calibrator, calibration, inputValues, refData);
     return MarketDataBox.ofSingleValue(curveGroup);
   }
 
@@ -249,7 +332,40 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     return ImmutableMarketData.builder(valuationDate).values(marketDataMap).timeSeries(fixings).build();
   }
 
+  // uses the cached curve group if available, otherwise calibrates and adds the group to the cache
   private RatesCurveGroup buildGroup(
+      RatesCurveGroupDefinition groupDefn,
+      RatesCurveCalibrator calibrator,
+      String calibration,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    if (cache == null || calibration == null) {
+      return calibrateGroup(groupDefn, calibrator, marketData, refData);
+    }
+    String key;
+    try {
+      key = cache.key(groupDefn, marketData, calibration);
+    } catch (IllegalArgumentException ex) {
+      log.warn("Curve group '" + groupDefn.getName() + "' is not cached as the inputs cannot be hashed: " +
+          ex.getMessage());
+      return calibrateGroup(groupDefn, calibrator, marketData, refData);
+    }
+    Optional<RatesCurveGroup> cached = cache.find(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    RatesCurveGroup curveGroup = calibrateGroup(groupDefn, calibrator, marketData, refData);
+    try {
+      cache.put(key, curveGroup);
+    } catch (UncheckedIOException ex) {
+      // failure to write to the cache does not prevent the group being used
+      log.warn("Unable to cache curve group '" + groupDefn.getName() + "': " + ex.getMessage());
+    }
+    return curveGroup;
+  }
+
+  private RatesCurveGroup calibrateGroup(
       RatesCurveGroupDefinition groupDefn,
       RatesCurveCalibrator calibrator,
       MarketData marketData,
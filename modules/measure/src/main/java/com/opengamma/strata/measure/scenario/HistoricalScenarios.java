@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.scenario;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.GenericDoubleShifts;
+import com.opengamma.strata.market.ShiftType;
+
+/**
+ * Factory methods for creating historical simulation scenarios.
+ * <p>
+ * A historical simulation scenario applies the change observed in the market between two
+ * consecutive historical dates to the current market data. Given time-series for a set of
+ * market data identifiers, such as the quotes used to calibrate curves, the daily changes are
+ * calculated in bulk over a lookback window and converted to a {@link ScenarioDefinition}.
+ * <p>
+ * Each scenario is named using the date at the end of the historical change.
+ * The shifts for all scenarios are held in a single matrix, with each perturbation referring
+ * to one row of the matrix, avoiding the creation of an object per scenario.
+ */
+public final class HistoricalScenarios {
+
+  /**
+   * Restricted constructor.
+   */
+  private HistoricalScenarios() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a scenario definition from the most recent changes in the time-series.
+   * <p>
+   * The time-series are aligned on the dates they have in common, and the changes between
+   * each pair of consecutive common dates are calculated using {@link ShiftType#computeShift(double, double)}.
+   * The most recent {@code scenarioCount} changes are used, thus the time-series must have
+   * at least {@code scenarioCount + 1} dates in common.
+   *
+   * @param timeSeries  the time-series, keyed by the identifier of the market data to perturb
+   * @param shiftType  the type of shift, used to calculate the changes and to apply them
+   * @param scenarioCount  the number of scenarios to create
+   * @return the scenario definition
+   * @throws IllegalArgumentException if there is insufficient data in common to create the scenarios
+   */
+  public static ScenarioDefinition ofChanges(
+      Map<? extends MarketDataId<Double>, LocalDateDoubleTimeSeries> timeSeries,
+      ShiftType shiftType,
+      int scenarioCount) {
+
+    return ofChanges(timeSeries, shiftType, LocalDate.MAX, scenarioCount);
+  }
+
+  /**
+   * Creates a scenario definition from the changes in the time-series up to the specified date.
+   * <p>
+   * The time-series are aligned on the dates they have in common, and the changes between
+   * each pair of consecutive common dates are calculated using {@link ShiftType#computeShift(double, double)}.
+   * The {@code scenarioCount} changes ending on or before the end date are used, thus the time-series must
+   * have at least {@code scenarioCount + 1} dates in common on or before the end date.
+   *
+   * @param timeSeries  the time-series, keyed by the identifier of the market data to perturb
+   * @param shiftType  the type of shift, used to calculate the changes and to apply them
+   * @param endDate  the last date to consider, inclusive
+   * @param scenarioCount  the number of scenarios to create
+   * @return the scenario definition
+   * @throws IllegalArgumentException if there is insufficient data in common to create the scenarios
+   */
+  public static ScenarioDefinition ofChanges(
+      Map<? extends MarketDataId<Double>, LocalDateDoubleTimeSeries> timeSeries,
+      ShiftType shiftType,
+      LocalDate endDate,
+      int scenarioCount) {
+
+    ArgChecker.notEmpty(timeSeries, "timeSeries");
+    ArgChecker.notNull(shiftType, "shiftType");
+    ArgChecker.notNull(endDate, "endDate");
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+
+    List<MarketDataId<Double>> ids = new ArrayList<>(timeSeries.keySet());
+    List<LocalDateDoubleTimeSeries> series = new ArrayList<>(timeSeries.values());
+    Pair<IntArray, DoubleMatrix> aligned = LocalDateDoubleTimeSeries.alignedValues(series);
+    int[] epochDays = aligned.getFirst().toArrayUnsafe();
+    DoubleMatrix values = aligned.getSecond();
+
+    // find the number of common dates on or before the end date
+    // the epoch days of the time-series fit in an int, so a larger or smaller end date includes all or none of them
+    long endEpochDay = endDate.toEpochDay();
+    int available;
+    if (endEpochDay >= Integer.MAX_VALUE) {
+      available = epochDays.length;
+    } else if (endEpochDay < Integer.MIN_VALUE) {
+      available = 0;
+    } else {
+      int index = Arrays.binarySearch(epochDays, (int) endEpochDay);
+      available = index >= 0 ? index + 1 : -index - 1;
+    }
+    ArgChecker.isTrue(
+        available > scenarioCount,
+        "Time-series must have at least {} dates in common on or before {} but found {}",
+        scenarioCount + 1,
+        endDate,
+        available);
+
+    // calculate the changes in bulk, one row per identifier and one column per scenario
+    int start = available - scenarioCount;
+    double[][] shifts = new double[ids.size()][scenarioCount];
+    for (int i = 0; i < ids.size(); i++) {
+      double[] row = values.row(i).toArrayUnsafe();
+      double[] shiftRow = shifts[i];
+      for (int j = 0; j < scenarioCount; j++) {
+        shiftRow[j] = shiftType.computeShift(row[start + j - 1], row[start + j]);
+      }
+    }
+    DoubleMatrix shiftMatrix = DoubleMatrix.ofUnsafe(shifts);
+
+    // each perturbation refers to a row of the matrix without copying
+    ImmutableList.Builder<PerturbationMapping<?>> mappings = ImmutableList.builder();
+    for (int i = 0; i < ids.size(); i++) {
+      mappings.add(PerturbationMapping.of(
+          MarketDataFilter.ofId(ids.get(i)),
+          GenericDoubleShifts.of(shiftType, shiftMatrix.row(i))));
+    }
+    ImmutableList.Builder<String> scenarioNames = ImmutableList.builder();
+    for (int j = 0; j < scenarioCount; j++) {
+      scenarioNames.add(LocalDate.ofEpochDay(epochDays[start + j]).toString());
+    }
+    return ScenarioDefinition.ofMappings(mappings.build(), scenarioNames.build());
+  }
+
+}
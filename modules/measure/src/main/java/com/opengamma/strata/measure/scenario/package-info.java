@@ -0,0 +1,10 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Support for creating scenarios.
+ */
+package com.opengamma.strata.measure.scenario;
@@ -5,14 +5,21 @@
  */
 package com.opengamma.strata.measure.bond;
 
+import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -21,6 +28,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.bond.DiscountingBillTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
+import com.opengamma.strata.product.bond.ResolvedBill;
 import com.opengamma.strata.product.bond.ResolvedBillTrade;
 
 /**
@@ -33,6 +41,7 @@ public class BillTradeCalculationsTest {
   private static final BillTradeCalculations CALC = BillTradeCalculations.DEFAULT;
   private static final DiscountingBillTradePricer PRICER = DiscountingBillTradePricer.DEFAULT;
   private static final MarketQuoteSensitivityCalculator MQ_CALC = MarketQuoteSensitivityCalculator.DEFAULT;
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
 
   //-------------------------------------------------------------------------
   @Test
@@ -86,4 +95,20 @@ public class BillTradeCalculationsTest {
     assertThat(BillTradeCalculations.DEFAULT.pv01MarketQuoteBucketed(RTRADE, provider)).isEqualTo(expectedPv01CalBucketed);
   }
 
+  @Test
+  public void test_zSpread() {
+    ScenarioMarketData md = BillTradeCalculationFunctionTest.marketData();
+    LegalEntityDiscountingProvider provider = LOOKUP.marketDataView(md.scenario(0)).discountingProvider();
+    ResolvedBill bill = RTRADE.getProduct();
+    LocalDate settlement = provider.getValuationDate();
+    double price = PRICER.getProductPricer().priceFromCurvesWithZSpread(bill, provider, settlement, 0.01, CONTINUOUS, 0);
+
+    assertThat(CALC.zSpread(RTRADE, provider, REF_DATA, price, CONTINUOUS, 0)).isCloseTo(0.01, offset(1e-12));
+    DoubleArray bulk = CALC.zSpread(ImmutableList.of(RTRADE), provider, REF_DATA, DoubleArray.of(price), CONTINUOUS, 0);
+    assertThat(bulk.get(0)).isCloseTo(0.01, offset(1e-12));
+    DoubleScenarioArray scenarios = CALC.zSpread(RTRADE, LOOKUP, md, REF_DATA, price, CONTINUOUS, 0);
+    assertThat(scenarios.getScenarioCount()).isEqualTo(1);
+    assertThat(scenarios.get(0)).isCloseTo(0.01, offset(1e-12));
+  }
+
 }
@@ -6,23 +6,32 @@
 package com.opengamma.strata.measure.bond;
 
 import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.math.DoubleMath;
+import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondProductPricer;
 import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondTradePricer;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBond;
 import com.opengamma.strata.product.bond.ResolvedFixedCouponBondTrade;
 
 /**
@@ -33,6 +42,7 @@ public class FixedCouponBondTradeCalculationsTest {
   private static final ResolvedFixedCouponBondTrade RTRADE = FixedCouponBondTradeCalculationFunctionTest.RTRADE;
   private static final LegalEntityDiscountingMarketDataLookup LOOKUP = FixedCouponBondTradeCalculationFunctionTest.LOOKUP;
   private static final MarketQuoteSensitivityCalculator MQ_CALC = MarketQuoteSensitivityCalculator.DEFAULT;
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
 
   //-------------------------------------------------------------------------
   @Test
@@ -91,4 +101,28 @@ public class FixedCouponBondTradeCalculationsTest {
     assertThat(bucketedComputed.get(0).equalWithTolerance(expectedPv01CalBucketed, 1.0e-10)).isTrue();
   }
 
+  @Test
+  public void test_zSpread() {
+    ScenarioMarketData md = FixedCouponBondTradeCalculationFunctionTest.marketData();
+    LegalEntityDiscountingProvider provider = LOOKUP.marketDataView(md.scenario(0)).discountingProvider();
+    DiscountingFixedCouponBondProductPricer pricer = DiscountingFixedCouponBondProductPricer.DEFAULT;
+    ResolvedFixedCouponBond bond = RTRADE.getProduct();
+    LocalDate settlement = bond.getSettlementDateOffset().adjust(provider.getValuationDate(), REF_DATA);
+    double dirtyPrice = pricer.dirtyPriceFromCurvesWithZSpread(bond, provider, REF_DATA, 0.015, PERIODIC, 2);
+    double cleanPrice = pricer.cleanPriceFromDirtyPrice(bond, settlement, dirtyPrice);
+    double expected = pricer.zSpreadFromCurvesAndDirtyPrice(bond, provider, REF_DATA, dirtyPrice, PERIODIC, 2);
+    assertThat(expected).isCloseTo(0.015, offset(1e-10));
+
+    assertThat(FixedCouponBondTradeCalculations.DEFAULT.zSpread(RTRADE, provider, REF_DATA, cleanPrice, PERIODIC, 2))
+        .isCloseTo(expected, offset(1e-12));
+    DoubleArray bulk = FixedCouponBondTradeCalculations.DEFAULT.zSpread(
+        ImmutableList.of(RTRADE, RTRADE), provider, REF_DATA, DoubleArray.of(cleanPrice, cleanPrice), PERIODIC, 2);
+    assertThat(bulk.get(0)).isCloseTo(expected, offset(1e-12));
+    assertThat(bulk.get(1)).isCloseTo(expected, offset(1e-12));
+    DoubleScenarioArray scenarios =
+        FixedCouponBondTradeCalculations.DEFAULT.zSpread(RTRADE, LOOKUP, md, REF_DATA, cleanPrice, PERIODIC, 2);
+    assertThat(scenarios.getScenarioCount()).isEqualTo(1);
+    assertThat(scenarios.get(0)).isCloseTo(expected, offset(1e-12));
+  }
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.rate;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.MoreFiles;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndices;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.DefaultCurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroupId;
+import com.opengamma.strata.market.curve.RatesCurveInputs;
+import com.opengamma.strata.market.curve.RatesCurveInputsId;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.measure.curve.RootFinderConfig;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.curve.TradeCalibrationMeasure;
+
+/**
+ * Test {@link RatesCurveGroupCache}.
+ */
+public class RatesCurveGroupCacheTest {
+
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.standard();
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final CurveGroupName GROUP_NAME = CurveGroupName.of("Curve Group");
+  private static final CurveName CURVE_NAME = CurveName.of("FRA Curve");
+  private static final InterpolatedNodalCurveDefinition CURVE_DEFN = CurveTestUtils.fraCurveDefinition();
+  private static final RatesCurveGroupDefinition GROUP_DEFN = RatesCurveGroupDefinition.builder()
+      .name(GROUP_NAME)
+      .addCurve(CURVE_DEFN, Currency.USD, IborIndices.USD_LIBOR_3M)
+      .build();
+  private static final double[] RATES = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+
+  private Path tmpDir;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    tmpDir = Files.createTempDirectory("rates-curve-group-cache-test");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    try {
+      MoreFiles.deleteRecursively(tmpDir);
+    } catch (IOException ex) {
+      // ignore
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_key() {
+    List<MarketDataId<?>> ids = CURVE_DEFN.getNodes().stream()
+        .map(CurveTestUtils::key)
+        .collect(toImmutableList());
+    ImmutableMap.Builder<MarketDataId<?>, Object> forward = ImmutableMap.builder();
+    ImmutableMap.Builder<MarketDataId<?>, Object> reverse = ImmutableMap.builder();
+    for (int i = 0; i < ids.size(); i++) {
+      forward.put(ids.get(i), RATES[i]);
+      reverse.put(ids.get(ids.size() - 1 - i), RATES[ids.size() - 1 - i]);
+    }
+    MarketData marketData = ImmutableMarketData.of(VAL_DATE, forward.build());
+    RatesCurveGroupCache cache = RatesCurveGroupCache.of(tmpDir, 10, "v1");
+    String key = cache.key(GROUP_DEFN, marketData, "calibrator");
+    assertThat(key).matches("[0-9a-f]{64}");
+    assertThat(cache.key(GROUP_DEFN, ImmutableMarketData.of(VAL_DATE, reverse.build()), "calibrator"))
+        .isEqualTo(key);
+    assertThat(cache.key(GROUP_DEFN, marketData, "other")).isNotEqualTo(key);
+    MarketData nextDay = ImmutableMarketData.of(VAL_DATE.plusDays(1), forward.build());
+    assertThat(cache.key(GROUP_DEFN, nextDay, "calibrator")).isNotEqualTo(key);
+    Map<MarketDataId<?>, Object> bumped = new HashMap<>(forward.build());
+    bumped.put(ids.get(0), RATES[0] + 1e-12);
+    assertThat(cache.key(GROUP_DEFN, ImmutableMarketData.of(VAL_DATE, bumped), "calibrator"))
+        .isNotEqualTo(key);
+    MarketData withFixings = marketData.combinedWith(ImmutableMarketData.builder(VAL_DATE)
+        .addTimeSeries(IndexQuoteId.of(IborIndices.USD_LIBOR_3M), LocalDateDoubleTimeSeries.of(VAL_DATE.minusDays(1), 0.003))
+        .build());
+    assertThat(cache.key(GROUP_DEFN, withFixings, "calibrator")).isNotEqualTo(key);
+    RatesCurveGroupCache otherVersion = RatesCurveGroupCache.of(tmpDir, 10, "v2");
+    assertThat(otherVersion.key(GROUP_DEFN, marketData, "calibrator")).isNotEqualTo(key);
+    Map<MarketDataId<?>, Object> unhashable = new HashMap<>(forward.build());
+    unhashable.put(CurveId.of(GROUP_NAME, CURVE_NAME), ConstantCurve.of(CURVE_NAME, 0.01));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> cache.key(GROUP_DEFN, ImmutableMarketData.of(VAL_DATE, unhashable), "calibrator"));
+  }
+
+  @Test
+  public void test_calibration() {
+    RootFinderConfig rfc = RootFinderConfig.standard();
+    String calibration = RatesCurveGroupMarketDataFunction.calibration(CALIBRATOR, rfc);
+    // same name, different measures
+    CalibrationMeasures renamed = CalibrationMeasures.of(
+        CalibrationMeasures.PAR_SPREAD.getName(),
+        TradeCalibrationMeasure.FRA_PAR_SPREAD,
+        TradeCalibrationMeasure.SWAP_PAR_SPREAD);
+    RatesCurveCalibrator renamedCalibrator = RatesCurveCalibrator.of(
+        rfc.getAbsoluteTolerance(), rfc.getRelativeTolerance(), rfc.getMaximumSteps(), renamed);
+    assertThat(RatesCurveGroupMarketDataFunction.calibration(renamedCalibrator, rfc)).isNotEqualTo(calibration);
+    RatesCurveCalibrator pvCalibrator = RatesCurveCalibrator.of(
+        rfc.getAbsoluteTolerance(),
+        rfc.getRelativeTolerance(),
+        rfc.getMaximumSteps(),
+        CalibrationMeasures.PAR_SPREAD,
+        renamed);
+    assertThat(RatesCurveGroupMarketDataFunction.calibration(pvCalibrator, rfc)).isNotEqualTo(calibration);
+    RootFinderConfig otherRfc = RootFinderConfig.builder()
+        .absoluteTolerance(rfc.getAbsoluteTolerance() / 10)
+        .relativeTolerance(rfc.getRelativeTolerance())
+        .maximumSteps(rfc.getMaximumSteps())
+        .build();
+    assertThat(RatesCurveGroupMarketDataFunction.calibration(CALIBRATOR, otherRfc)).isNotEqualTo(calibration);
+  }
+
+  @Test
+  public void test_function() {
+    RatesCurveGroupCache cache = RatesCurveGroupCache.of(tmpDir.resolve("cache"), 10, "v1");
+    RatesCurveGroupMarketDataFunction function =
+        new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, cache);
+    MarketDataConfig config = MarketDataConfig.builder().add(GROUP_NAME, GROUP_DEFN).build();
+    RatesCurveGroupId id = RatesCurveGroupId.of(GROUP_NAME);
+    RatesCurveGroup calibrated = function.build(id, config, marketData(0d), REF_DATA).getSingleValue();
+    assertThat(cache.size()).isEqualTo(1);
+    RatesCurveGroup cached = function.build(id, config, marketData(0d), REF_DATA).getSingleValue();
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cached).isEqualTo(calibrated);
+    RatesCurveGroup uncached = new RatesCurveGroupMarketDataFunction()
+        .build(id, config, marketData(0d), REF_DATA).getSingleValue();
+    assertThat(cached).isEqualTo(uncached);
+    function.build(id, config, marketData(1e-4), REF_DATA);
+    assertThat(cache.size()).isEqualTo(2);
+    // same name, different measures
+    CalibrationMeasures renamed = CalibrationMeasures.of(
+        CalibrationMeasures.PAR_SPREAD.getName(),
+        TradeCalibrationMeasure.FRA_PAR_SPREAD,
+        TradeCalibrationMeasure.SWAP_PAR_SPREAD);
+    new RatesCurveGroupMarketDataFunction(renamed, cache).build(id, config, marketData(0d), REF_DATA);
+    assertThat(cache.size()).isEqualTo(3);
+    // the calibrator settings are not known, thus not cached
+    function.buildCurveGroup(GROUP_DEFN, CALIBRATOR, marketData(2e-4), REF_DATA, ObservableSource.NONE);
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_eviction() throws IOException {
+    RatesCurveGroupCache cache = RatesCurveGroupCache.of(tmpDir, 2, "v1");
+    RatesCurveGroup group = calibrate();
+    cache.put("a", group);
+    cache.put("b", group);
+    Files.setLastModifiedTime(tmpDir.resolve("a.bin"), FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(tmpDir.resolve("b.bin"), FileTime.fromMillis(2000));
+    assertThat(cache.find("a")).hasValue(group);
+    cache.put("c", group);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.find("a")).hasValue(group);
+    assertThat(cache.find("b")).isEmpty();
+    assertThat(cache.find("c")).hasValue(group);
+  }
+
+  @Test
+  public void test_corrupt() throws IOException {
+    RatesCurveGroupCache cache = RatesCurveGroupCache.of(tmpDir, 2, "v1");
+    Files.write(tmpDir.resolve("a.bin"), "Not a curve group".getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.find("a")).isEmpty();
+    assertThat(Files.exists(tmpDir.resolve("a.bin"))).isFalse();
+    assertThat(cache.find("b")).isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  private static RatesCurveGroup calibrate() {
+    return new RatesCurveGroupMarketDataFunction()
+        .buildCurveGroup(GROUP_DEFN, CALIBRATOR, marketData(0d), REF_DATA, ObservableSource.NONE)
+        .getSingleValue();
+  }
+
+  private static ScenarioMarketData marketData(double shift) {
+    ImmutableMap.Builder<MarketDataId<?>, Object> builder = ImmutableMap.builder();
+    for (int i = 0; i < RATES.length; i++) {
+      builder.put(CurveTestUtils.key(CURVE_DEFN.getNodes().get(i)), RATES[i] + shift);
+    }
+    RatesCurveInputs curveInputs = RatesCurveInputs.of(builder.build(), DefaultCurveMetadata.of(CURVE_NAME));
+    return ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addValue(RatesCurveInputsId.of(GROUP_NAME, CURVE_NAME, ObservableSource.NONE), curveInputs)
+        .build();
+  }
+
+}
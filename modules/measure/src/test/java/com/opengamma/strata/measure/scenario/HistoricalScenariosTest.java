@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.market.GenericDoubleShifts;
+import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.observable.QuoteId;
+
+/**
+ * Test {@link HistoricalScenarios}.
+ */
+public class HistoricalScenariosTest {
+
+  private static final QuoteId QUOTE_ID1 = QuoteId.of(StandardId.of("OG", "1"));
+  private static final QuoteId QUOTE_ID2 = QuoteId.of(StandardId.of("OG", "2"));
+  private static final LocalDate DATE1 = date(2020, 1, 6);
+  private static final LocalDate DATE2 = date(2020, 1, 7);
+  private static final LocalDate DATE3 = date(2020, 1, 8);
+  private static final LocalDate DATE4 = date(2020, 1, 9);
+  private static final LocalDate DATE5 = date(2020, 1, 10);
+  private static final LocalDateDoubleTimeSeries TS1 = LocalDateDoubleTimeSeries.builder()
+      .put(DATE1, 1)
+      .put(DATE2, 2)
+      .put(DATE3, 4)
+      .put(DATE4, 5)
+      .put(DATE5, 10)
+      .build();
+  // no value on DATE3
+  private static final LocalDateDoubleTimeSeries TS2 = LocalDateDoubleTimeSeries.builder()
+      .put(DATE1, 8)
+      .put(DATE2, 4)
+      .put(DATE4, 2)
+      .put(DATE5, 3)
+      .build();
+  private static final Map<QuoteId, LocalDateDoubleTimeSeries> TIME_SERIES =
+      ImmutableMap.of(QUOTE_ID1, TS1, QUOTE_ID2, TS2);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofChanges_absolute() {
+    ScenarioDefinition test = HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, 3);
+    assertThat(test.getScenarioNames()).containsExactly("2020-01-07", "2020-01-09", "2020-01-10");
+    assertThat(test.getMappings()).containsExactly(
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID1),
+            GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(1, 3, 5))),
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID2),
+            GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(-4, -2, 1))));
+  }
+
+  @Test
+  public void test_ofChanges_relative() {
+    ScenarioDefinition test = HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.RELATIVE, 2);
+    assertThat(test.getScenarioNames()).containsExactly("2020-01-09", "2020-01-10");
+    assertThat(test.getMappings()).containsExactly(
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID1),
+            GenericDoubleShifts.of(ShiftType.RELATIVE, DoubleArray.of(1.5, 1))),
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID2),
+            GenericDoubleShifts.of(ShiftType.RELATIVE, DoubleArray.of(-0.5, 0.5))));
+  }
+
+  @Test
+  public void test_ofChanges_endDate() {
+    ScenarioDefinition test = HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, DATE4, 2);
+    assertThat(test.getScenarioNames()).containsExactly("2020-01-07", "2020-01-09");
+    assertThat(test.getMappings()).containsExactly(
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID1),
+            GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(1, 3))),
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_ID2),
+            GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(-4, -2))));
+    // end date that is not in the time-series
+    ScenarioDefinition test2 = HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, DATE3, 1);
+    assertThat(test2.getScenarioNames()).isEqualTo(ImmutableList.of("2020-01-07"));
+    // end dates beyond the range of the time-series epoch days
+    ScenarioDefinition test3 = HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, LocalDate.MAX, 2);
+    assertThat(test3.getScenarioNames()).isEqualTo(HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, 2)
+        .getScenarioNames());
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, LocalDate.MIN, 1))
+        .withMessageContaining("but found 0");
+  }
+
+  @Test
+  public void test_ofChanges_insufficientData() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, DATE3, 2));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalScenarios.ofChanges(TIME_SERIES, ShiftType.ABSOLUTE, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalScenarios.ofChanges(ImmutableMap.of(), ShiftType.ABSOLUTE, 1));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverPrivateConstructor(HistoricalScenarios.class);
+  }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.bond;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
+import com.opengamma.strata.math.impl.rootfinding.BrentSingleRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.RealSingleRootFinder;
+import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.DiscountFactors;
+
+/**
+ * The cash flows of a bond or bill discounted on the issuer curve, used to convert between z-spread and price.
+ * <p>
+ * The price with z-spread is the sum of the remaining cash flows, each discounted with the z-spread
+ * applied to the issuer curve, divided by the repo discount factor to the settlement date.
+ * The discount factor of each cash flow is obtained from the curve once, so that the price can be
+ * computed for any z-spread without interpolating the curve. The z-spread is applied in closed form
+ * for each {@link CompoundedRateType}, as defined by
+ * {@link DiscountFactors#discountFactorWithSpread(double, double, CompoundedRateType, int)}.
+ * The z-spread is found from the price
+ * using a Newton iteration with the analytic derivative of the price, falling back to a bracketed
+ * root finder if the iteration does not converge.
+ * <p>
+ * This is intended for use when the z-spread of many bonds is computed from the same curves,
+ * such as when computing the z-spread of each bond of an issuer from its quoted price.
+ * Instances are obtained from {@link DiscountingFixedCouponBondProductPricer#zSpreadCashFlows}
+ * and {@link DiscountingBillProductPricer#zSpreadCashFlows}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BondZSpreadCashFlows {
+
+  /**
+   * The year fraction below which the discount factor is one.
+   */
+  private static final double EFFECTIVE_ZERO = 1e-10;
+  /**
+   * The maximum number of Newton iterations.
+   */
+  private static final int MAX_ITERATIONS = 50;
+  /**
+   * The absolute accuracy of the z-spread.
+   */
+  private static final double Z_SPREAD_ACCURACY = 1e-15;
+  /**
+   * The root finder used if the Newton iteration does not converge.
+   */
+  private static final RealSingleRootFinder ROOT_FINDER = new BrentSingleRootFinder();
+  /**
+   * Brackets a root.
+   */
+  private static final BracketRoot ROOT_BRACKETER = new BracketRoot();
+
+  /**
+   * The cash flow amounts, already divided by the repo discount factor and the notional.
+   */
+  private final double[] amounts;
+  /**
+   * The year fraction of each cash flow.
+   */
+  private final double[] yearFractions;
+  /**
+   * The discount factor of each cash flow without z-spread if continuously compounded,
+   * the periodic rate plus one if periodically compounded.
+   */
+  private final double[] bases;
+  /**
+   * The compounded rate type.
+   */
+  private final CompoundedRateType compoundedRateType;
+  /**
+   * The number of periods per year.
+   */
+  private final int periodsPerYear;
+
+  // restricted constructor
+  BondZSpreadCashFlows(
+      DiscountFactors discountFactors,
+      double[] yearFractions,
+      double[] amounts,
+      double scale,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    if (compoundedRateType.equals(CompoundedRateType.PERIODIC)) {
+      ArgChecker.notNegativeOrZero(periodsPerYear, "periodPerYear");
+    }
+    int nCashFlows = yearFractions.length;
+    this.amounts = new double[nCashFlows];
+    this.yearFractions = yearFractions;
+    this.bases = new double[nCashFlows];
+    this.compoundedRateType = compoundedRateType;
+    this.periodsPerYear = periodsPerYear;
+    for (int i = 0; i < nCashFlows; i++) {
+      this.amounts[i] = amounts[i] * scale;
+      double yearFraction = yearFractions[i];
+      if (yearFraction >= EFFECTIVE_ZERO) {
+        double df = discountFactors.discountFactor(yearFraction);
+        this.bases[i] = compoundedRateType.equals(CompoundedRateType.PERIODIC) ?
+            Math.pow(df, -1d / periodsPerYear / yearFraction) :
+            df;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the compounded rate type.
+   *
+   * @return the compounded rate type
+   */
+  public CompoundedRateType getCompoundedRateType() {
+    return compoundedRateType;
+  }
+
+  /**
+   * Gets the year fraction of each cash flow.
+   *
+   * @return the year fractions
+   */
+  public DoubleArray getYearFractions() {
+    return DoubleArray.copyOf(yearFractions);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the price from the z-spread.
+   * <p>
+   * This matches the price with z-spread of the pricer that created this instance.
+   *
+   * @param zSpread  the z-spread
+   * @return the price
+   */
+  public double priceFromZSpread(double zSpread) {
+    double price = 0d;
+    for (int i = 0; i < amounts.length; i++) {
+      price += amounts[i] * discountFactor(i, zSpread);
+    }
+    return price;
+  }
+
+  /**
+   * Calculates the price from the z-spread and its derivative with respect to the z-spread.
+   *
+   * @param zSpread  the z-spread
+   * @return the price and its derivative
+   */
+  public ValueDerivatives priceFromZSpreadAd(double zSpread) {
+    double price = 0d;
+    double derivative = 0d;
+    for (int i = 0; i < amounts.length; i++) {
+      double yearFraction = yearFractions[i];
+      if (yearFraction < EFFECTIVE_ZERO) {
+        price += amounts[i];
+      } else if (compoundedRateType.equals(CompoundedRateType.PERIODIC)) {
+        double ratePeriodicAnnualPlusOne = bases[i] + zSpread / periodsPerYear;
+        double df = Math.pow(ratePeriodicAnnualPlusOne, -periodsPerYear * yearFraction);
+        price += amounts[i] * df;
+        derivative -= amounts[i] * yearFraction * df / ratePeriodicAnnualPlusOne;
+      } else {
+        double df = bases[i] * Math.exp(-zSpread * yearFraction);
+        price += amounts[i] * df;
+        derivative -= amounts[i] * yearFraction * df;
+      }
+    }
+    return ValueDerivatives.of(price, DoubleArray.of(derivative));
+  }
+
+  /**
+   * Calculates the z-spread from the price.
+   * <p>
+   * The z-spread is found using a Newton iteration with the analytic derivative of the price.
+   * If the iteration does not converge, the z-spread is found using a bracketed root finder.
+   *
+   * @param price  the price
+   * @return the z-spread
+   */
+  public double zSpreadFromPrice(double price) {
+    double zSpread = 0d;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      ValueDerivatives priceAd = priceFromZSpreadAd(zSpread);
+      double step = (priceAd.getValue() - price) / priceAd.getDerivative(0);
+      if (!Double.isFinite(step)) {
+        break;
+      }
+      zSpread -= step;
+      if (Math.abs(step) <= Z_SPREAD_ACCURACY) {
+        return zSpread;
+      }
+    }
+    return zSpreadFromPriceBracketed(price);
+  }
+
+  // the discount factor of a cash flow with z-spread
+  private double discountFactor(int index, double zSpread) {
+    double yearFraction = yearFractions[index];
+    if (yearFraction < EFFECTIVE_ZERO) {
+      return 1d;
+    }
+    if (compoundedRateType.equals(CompoundedRateType.PERIODIC)) {
+      return Math.pow(bases[index] + zSpread / periodsPerYear, -periodsPerYear * yearFraction);
+    }
+    return bases[index] * Math.exp(-zSpread * yearFraction);
+  }
+
+  // solves for the z-spread using a bracketed root finder
+  private double zSpreadFromPriceBracketed(double price) {
+    Function<Double, Double> priceResidual = z -> priceFromZSpread(z) - price;
+    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, -0.01, 0.01);
+    return ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "BondZSpreadCashFlows[" + compoundedRateType + ", cashFlows=" + amounts.length + "]";
+  }
+
+}
@@ -6,12 +6,15 @@
 package com.opengamma.strata.pricer.bond;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.product.bond.ResolvedBill;
 
@@ -232,6 +235,99 @@ public class DiscountingBillProductPricer {
     return bill.yieldFromPrice(price, settlementDate);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the z-spread of the bill from curves and price.
+   * <p>
+   * The z-spread is a parallel shift applied to continuously compounded rates or
+   * periodic compounded rates of the issuer discounting curve to match the price.
+   * <p>
+   * The z-spread is applied only on the legal entity curve, not on the repo curve.
+   * 
+   * @param bill  the bill
+   * @param provider  the discounting provider
+   * @param settlementDate  the settlement date
+   * @param price  the price
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spread
+   */
+  public double zSpreadFromCurvesAndPrice(
+      ResolvedBill bill,
+      LegalEntityDiscountingProvider provider,
+      LocalDate settlementDate,
+      double price,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    return zSpreadCashFlows(bill, provider, settlementDate, compoundedRateType, periodsPerYear)
+        .zSpreadFromPrice(price);
+  }
+
+  /**
+   * Calculates the z-spread of each bill from curves and price.
+   * <p>
+   * This is equivalent to calling
+   * {@link #zSpreadFromCurvesAndPrice(ResolvedBill, LegalEntityDiscountingProvider, LocalDate, double,
+   * CompoundedRateType, int)} for each bill.
+   * 
+   * @param bills  the bills
+   * @param provider  the discounting provider
+   * @param settlementDate  the settlement date
+   * @param prices  the prices, one for each bill
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spreads of the bills
+   */
+  public DoubleArray zSpreadFromCurvesAndPrice(
+      List<ResolvedBill> bills,
+      LegalEntityDiscountingProvider provider,
+      LocalDate settlementDate,
+      DoubleArray prices,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ArgChecker.isTrue(bills.size() == prices.size(), "Number of bills and prices must match");
+    return DoubleArray.of(
+        bills.size(),
+        i -> zSpreadFromCurvesAndPrice(
+            bills.get(i), provider, settlementDate, prices.get(i), compoundedRateType, periodsPerYear));
+  }
+
+  /**
+   * Obtains the cash flows of the bill used to convert between z-spread and price.
+   * <p>
+   * The result captures the discount factor of the notional payment, allowing the price and
+   * z-spread to be computed repeatedly without interpolating the issuer curve.
+   * 
+   * @param bill  the bill
+   * @param provider  the discounting provider
+   * @param settlementDate  the settlement date
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spread cash flows of the bill
+   */
+  public BondZSpreadCashFlows zSpreadCashFlows(
+      ResolvedBill bill,
+      LegalEntityDiscountingProvider provider,
+      LocalDate settlementDate,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ArgChecker.inOrderNotEqual(settlementDate, bill.getNotional().getDate(), "settlementDate", "endDate");
+    ArgChecker.inOrderOrEqual(provider.getValuationDate(), settlementDate, "valuationDate", "settlementDate");
+    DiscountFactors discountFactors = issuerCurveDf(bill, provider).getDiscountFactors();
+    double yearFraction = discountFactors.relativeYearFraction(bill.getNotional().getDate());
+    double dfRepoSettle = repoCurveDf(bill, provider).discountFactor(settlementDate);
+    return new BondZSpreadCashFlows(
+        discountFactors,
+        new double[] {yearFraction},
+        new double[] {1d},
+        1d / dfRepoSettle,
+        compoundedRateType,
+        periodsPerYear);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the price sensitivity for settlement at a given settlement date using curves.
@@ -12,7 +12,8 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.J
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
-import java.util.function.Function;
+import java.util.Arrays;
+import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -22,10 +23,8 @@ import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
-import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
-import com.opengamma.strata.math.impl.rootfinding.BrentSingleRootFinder;
-import com.opengamma.strata.math.impl.rootfinding.RealSingleRootFinder;
 import com.opengamma.strata.pricer.CompoundedRateType;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.product.Security;
@@ -51,15 +50,6 @@ public class DiscountingFixedCouponBondProductPricer {
       DiscountingFixedCouponBondPaymentPeriodPricer.DEFAULT,
       DiscountingPaymentPricer.DEFAULT);
 
-  /**
-   * The root finder.
-   */
-  private static final RealSingleRootFinder ROOT_FINDER = new BrentSingleRootFinder();
-  /**
-   * Brackets a root.
-   */
-  private static final BracketRoot ROOT_BRACKETER = new BracketRoot();
-
   /**
    * Pricer for {@link Payment}.
    */
@@ -314,15 +304,90 @@ public class DiscountingFixedCouponBondProductPricer {
       CompoundedRateType compoundedRateType,
       int periodsPerYear) {
 
-    final Function<Double, Double> residual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double z) {
-        return dirtyPriceFromCurvesWithZSpread(
-            bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
+    LocalDate settlementDate = bond.getSettlementDateOffset().adjust(provider.getValuationDate(), refData);
+    return zSpreadCashFlows(bond, provider, settlementDate, compoundedRateType, periodsPerYear)
+        .zSpreadFromPrice(dirtyPrice);
+  }
+
+  /**
+   * Calculates the z-spread of each fixed coupon bond product from curves and dirty price.
+   * <p>
+   * This is equivalent to calling
+   * {@link #zSpreadFromCurvesAndDirtyPrice(ResolvedFixedCouponBond, LegalEntityDiscountingProvider, ReferenceData,
+   * double, CompoundedRateType, int)} for each bond, such as when computing the z-spreads of all the bonds
+   * of an issuer from their quoted prices.
+   * 
+   * @param bonds  the products
+   * @param provider  the discounting provider
+   * @param refData  the reference data used to calculate the settlement date
+   * @param dirtyPrices  the dirty prices, one for each product
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spreads of the products
+   */
+  public DoubleArray zSpreadFromCurvesAndDirtyPrice(
+      List<ResolvedFixedCouponBond> bonds,
+      LegalEntityDiscountingProvider provider,
+      ReferenceData refData,
+      DoubleArray dirtyPrices,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    ArgChecker.isTrue(bonds.size() == dirtyPrices.size(), "Number of bonds and dirty prices must match");
+    return DoubleArray.of(
+        bonds.size(),
+        i -> zSpreadFromCurvesAndDirtyPrice(
+            bonds.get(i), provider, refData, dirtyPrices.get(i), compoundedRateType, periodsPerYear));
+  }
+
+  /**
+   * Obtains the cash flows of the fixed coupon bond product used to convert between z-spread and dirty price.
+   * <p>
+   * The result captures the discount factors of the nominal payment and the coupons remaining after the
+   * settlement date, allowing the dirty price and z-spread to be computed repeatedly without
+   * interpolating the issuer curve.
+   * 
+   * @param bond  the product
+   * @param provider  the discounting provider
+   * @param settlementDate  the settlement date
+   * @param compoundedRateType  the compounded rate type
+   * @param periodsPerYear  the number of periods per year
+   * @return the z-spread cash flows of the product
+   */
+  public BondZSpreadCashFlows zSpreadCashFlows(
+      ResolvedFixedCouponBond bond,
+      LegalEntityDiscountingProvider provider,
+      LocalDate settlementDate,
+      CompoundedRateType compoundedRateType,
+      int periodsPerYear) {
+
+    DiscountFactors discountFactors = issuerCurveDf(bond, provider).getDiscountFactors();
+    LocalDate valuationDate = discountFactors.getValuationDate();
+    ImmutableList<FixedCouponBondPaymentPeriod> payments = bond.getPeriodicPayments();
+    double[] yearFractions = new double[payments.size() + 1];
+    double[] amounts = new double[payments.size() + 1];
+    int nCashFlows = 0;
+    for (FixedCouponBondPaymentPeriod period : payments) {
+      if (!period.getDetachmentDate().isBefore(settlementDate) && !period.getPaymentDate().isBefore(valuationDate)) {
+        yearFractions[nCashFlows] = discountFactors.relativeYearFraction(period.getPaymentDate());
+        amounts[nCashFlows] = period.getFixedRate() * period.getNotional() * period.getYearFraction();
+        nCashFlows++;
       }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(residual, -0.01, 0.01); // Starting range is [-1%, 1%]
-    return ROOT_FINDER.getRoot(residual, range[0], range[1]);
+    }
+    Payment nominal = bond.getNominalPayment();
+    if (!valuationDate.isAfter(nominal.getDate())) {
+      yearFractions[nCashFlows] = discountFactors.relativeYearFraction(nominal.getDate());
+      amounts[nCashFlows] = nominal.getAmount();
+      nCashFlows++;
+    }
+    double scale = 1d / (repoCurveDf(bond, provider).discountFactor(settlementDate) * bond.getNotional());
+    return new BondZSpreadCashFlows(
+        discountFactors,
+        Arrays.copyOf(yearFractions, nCashFlows),
+        Arrays.copyOf(amounts, nCashFlows),
+        scale,
+        compoundedRateType,
+        periodsPerYear);
   }
 
   //-------------------------------------------------------------------------
@@ -699,22 +764,7 @@ public class DiscountingFixedCouponBondProductPricer {
    * @return the yield of the product 
    */
   public double yieldFromDirtyPrice(ResolvedFixedCouponBond bond, LocalDate settlementDate, double dirtyPrice) {
-    if (bond.getYieldConvention().equals(JP_SIMPLE)) {
-      double cleanPrice = cleanPriceFromDirtyPrice(bond, settlementDate, dirtyPrice);
-      LocalDate maturityDate = bond.getUnadjustedEndDate();
-      double maturity = bond.getDayCount().relativeYearFraction(settlementDate, maturityDate);
-      return (bond.getFixedRate() + (1d - cleanPrice) / maturity) / cleanPrice;
-    }
-
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double y) {
-        return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
-    double yield = ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
-    return yield;
+    return yieldCashFlows(bond, settlementDate).yieldFromDirtyPrice(dirtyPrice);
   }
 
   /**
@@ -731,25 +781,90 @@ public class DiscountingFixedCouponBondProductPricer {
    * @return the yield of the product 
    */
   public ValueDerivatives yieldFromDirtyPriceAd(ResolvedFixedCouponBond bond, LocalDate settlementDate, double dirtyPrice) {
-    if (bond.getYieldConvention().equals(JP_SIMPLE)) {
-      double cleanPrice = cleanPriceFromDirtyPrice(bond, settlementDate, dirtyPrice);
-      LocalDate maturityDate = bond.getUnadjustedEndDate();
-      double maturity = bond.getDayCount().relativeYearFraction(settlementDate, maturityDate);
-      double yield = (bond.getFixedRate() + (1d - cleanPrice) / maturity) / cleanPrice;
-      double priceBar =
-          (-1.0d / maturity * cleanPrice - (bond.getFixedRate() + (1d - cleanPrice) / maturity)) / (cleanPrice * cleanPrice);
-      return ValueDerivatives.of(yield, DoubleArray.of(priceBar));
+    return yieldCashFlows(bond, settlementDate).yieldFromDirtyPriceAd(dirtyPrice);
+  }
+
+  /**
+   * Calculates the yield of each fixed coupon bond product from its dirty price.
+   * <p>
+   * This is equivalent to calling {@link #yieldFromDirtyPrice(ResolvedFixedCouponBond, LocalDate, double)}
+   * for each bond, such as when computing the yields of all the bonds of an issuer.
+   * 
+   * @param bonds  the products
+   * @param settlementDate  the settlement date
+   * @param dirtyPrices  the dirty prices, one for each product
+   * @return the yields of the products
+   */
+  public DoubleArray yieldFromDirtyPrice(
+      List<ResolvedFixedCouponBond> bonds,
+      LocalDate settlementDate,
+      DoubleArray dirtyPrices) {
+
+    ArgChecker.isTrue(bonds.size() == dirtyPrices.size(), "Number of bonds and dirty prices must match");
+    return DoubleArray.of(bonds.size(), i -> yieldFromDirtyPrice(bonds.get(i), settlementDate, dirtyPrices.get(i)));
+  }
+
+  /**
+   * Calculates the dirty price of each fixed coupon bond product from its yield.
+   * <p>
+   * This is equivalent to calling {@link #dirtyPriceFromYield(ResolvedFixedCouponBond, LocalDate, double)}
+   * for each bond.
+   * 
+   * @param bonds  the products
+   * @param settlementDate  the settlement date
+   * @param yields  the yields, one for each product
+   * @return the dirty prices of the products
+   */
+  public DoubleArray dirtyPriceFromYield(
+      List<ResolvedFixedCouponBond> bonds,
+      LocalDate settlementDate,
+      DoubleArray yields) {
+
+    ArgChecker.isTrue(bonds.size() == yields.size(), "Number of bonds and yields must match");
+    return DoubleArray.of(
+        bonds.size(), i -> yieldCashFlows(bonds.get(i), settlementDate).dirtyPriceFromYield(yields.get(i)));
+  }
+
+  /**
+   * Obtains the cash flows of the fixed coupon bond product used to convert between yield and dirty price.
+   * <p>
+   * The result captures the coupons remaining after the settlement date, allowing the dirty price
+   * and yield to be computed repeatedly without walking the payment periods of the bond.
+   * 
+   * @param bond  the product
+   * @param settlementDate  the settlement date
+   * @return the yield cash flows of the product
+   * @throws UnsupportedOperationException if the yield convention is not supported
+   */
+  public FixedCouponBondYieldCashFlows yieldCashFlows(ResolvedFixedCouponBond bond, LocalDate settlementDate) {
+    FixedCouponBondYieldConvention yieldConv = bond.getYieldConvention();
+    double fixedRate = bond.getFixedRate();
+    int eventsPerYear = bond.getFrequency().eventsPerYear();
+    if (yieldConv.equals(JP_SIMPLE)) {
+      // negative if the settlement date is after maturity
+      double maturity = bond.getDayCount().relativeYearFraction(settlementDate, bond.getUnadjustedEndDate());
+      double accrued = maturity < 0d ? 0d : accruedInterest(bond, settlementDate) / bond.getNotional();
+      return new FixedCouponBondYieldCashFlows(yieldConv, fixedRate, eventsPerYear, 0d, new double[0], 0d, maturity, accrued);
     }
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double y) {
-        return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
-    double yield = ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
-    ValueDerivatives priceDYield = dirtyPriceFromYieldAd(bond, settlementDate, yield);
-    return ValueDerivatives.of(yield, DoubleArray.of(1.0 / priceDYield.getDerivative(0)));
+    if (!yieldConv.equals(US_STREET) && !yieldConv.equals(GB_BUMP_DMO) && !yieldConv.equals(DE_BONDS)) {
+      throw new UnsupportedOperationException("The convention " + yieldConv.name() + " is not supported.");
+    }
+    ImmutableList<FixedCouponBondPaymentPeriod> payments = bond.getPeriodicPayments();
+    double factorToNextCoupon = factorToNextCoupon(bond, settlementDate);
+    int nCoupon = payments.size() - couponIndex(payments, settlementDate);
+    if (nCoupon == 1 && (yieldConv.equals(US_STREET) || yieldConv.equals(DE_BONDS))) {
+      FixedCouponBondPaymentPeriod payment = payments.get(payments.size() - 1);
+      double singlePeriodPayment = 1d + payment.getFixedRate() * payment.getYearFraction();
+      return new FixedCouponBondYieldCashFlows(
+          yieldConv, fixedRate, eventsPerYear, factorToNextCoupon, new double[0], singlePeriodPayment, 0d, 0d);
+    }
+    double[] couponAmounts = payments.stream()
+        .filter(period -> (period.hasExCouponPeriod() && !settlementDate.isAfter(period.getDetachmentDate())) ||
+            (!period.hasExCouponPeriod() && period.getPaymentDate().isAfter(settlementDate)))
+        .mapToDouble(period -> fixedRate * period.getYearFraction())
+        .toArray();
+    return new FixedCouponBondYieldCashFlows(
+        yieldConv, fixedRate, eventsPerYear, factorToNextCoupon, couponAmounts, 0d, 0d, 0d);
   }
 
   //-------------------------------------------------------------------------
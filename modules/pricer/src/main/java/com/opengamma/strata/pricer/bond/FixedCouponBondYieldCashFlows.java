@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.bond;
+
+import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.JP_SIMPLE;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
+import com.opengamma.strata.math.impl.rootfinding.BrentSingleRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.RealSingleRootFinder;
+import com.opengamma.strata.product.bond.FixedCouponBondYieldConvention;
+
+/**
+ * The cash flows of a fixed coupon bond from a settlement date, used to convert between yield and dirty price.
+ * <p>
+ * The yield conventions only depend on the coupon amounts remaining after the settlement date
+ * and the accrual factor to the next coupon. These are extracted from the bond once, so that
+ * the dirty price can be computed from a yield without walking the payment periods or computing
+ * year fractions. The yield is found from the dirty price using a Newton iteration with the
+ * analytic derivative of the dirty price, falling back to a bracketed root finder if the
+ * iteration does not converge.
+ * <p>
+ * This is intended for use when the yield or price of a bond is computed many times for the
+ * same settlement date, such as when the price is updated in real time.
+ * Instances are obtained from {@link DiscountingFixedCouponBondProductPricer#yieldCashFlows}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class FixedCouponBondYieldCashFlows {
+
+  /**
+   * The maximum number of Newton iterations.
+   */
+  private static final int MAX_ITERATIONS = 50;
+  /**
+   * The absolute accuracy of the yield.
+   */
+  private static final double YIELD_ACCURACY = 1e-15;
+  /**
+   * The root finder used if the Newton iteration does not converge.
+   */
+  private static final RealSingleRootFinder ROOT_FINDER = new BrentSingleRootFinder();
+  /**
+   * Brackets a root.
+   */
+  private static final BracketRoot ROOT_BRACKETER = new BracketRoot();
+
+  /**
+   * The yield convention.
+   */
+  private final FixedCouponBondYieldConvention yieldConvention;
+  /**
+   * The fixed rate of the bond.
+   */
+  private final double fixedRate;
+  /**
+   * The number of coupons per year.
+   */
+  private final double eventsPerYear;
+  /**
+   * The accrual factor to the next coupon, expressed in coupon periods.
+   */
+  private final double factorToNextCoupon;
+  /**
+   * The coupon amounts after the settlement date, per unit notional, empty for the simple convention.
+   */
+  private final double[] couponAmounts;
+  /**
+   * The final payment per unit notional if only a single period remains and the period is priced
+   * with simple compounding, zero otherwise.
+   */
+  private final double singlePeriodPayment;
+  /**
+   * The year fraction from settlement to maturity for the simple convention, negative if after maturity.
+   */
+  private final double maturity;
+  /**
+   * The accrued interest per unit notional, used by the simple convention.
+   */
+  private final double accruedInterest;
+
+  // restricted constructor
+  FixedCouponBondYieldCashFlows(
+      FixedCouponBondYieldConvention yieldConvention,
+      double fixedRate,
+      int eventsPerYear,
+      double factorToNextCoupon,
+      double[] couponAmounts,
+      double singlePeriodPayment,
+      double maturity,
+      double accruedInterest) {
+
+    this.yieldConvention = yieldConvention;
+    this.fixedRate = fixedRate;
+    this.eventsPerYear = eventsPerYear;
+    this.factorToNextCoupon = factorToNextCoupon;
+    this.couponAmounts = couponAmounts;
+    this.singlePeriodPayment = singlePeriodPayment;
+    this.maturity = maturity;
+    this.accruedInterest = accruedInterest;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the yield convention.
+   *
+   * @return the yield convention
+   */
+  public FixedCouponBondYieldConvention getYieldConvention() {
+    return yieldConvention;
+  }
+
+  /**
+   * Gets the coupon amounts after the settlement date, per unit notional.
+   * <p>
+   * This is empty for the {@link FixedCouponBondYieldConvention#JP_SIMPLE} convention.
+   *
+   * @return the coupon amounts
+   */
+  public DoubleArray getCouponAmounts() {
+    return DoubleArray.copyOf(couponAmounts);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the dirty price from the yield.
+   * <p>
+   * This matches {@link DiscountingFixedCouponBondProductPricer#dirtyPriceFromYield}.
+   *
+   * @param yield  the yield
+   * @return the dirty price
+   */
+  public double dirtyPriceFromYield(double yield) {
+    if (yieldConvention.equals(JP_SIMPLE)) {
+      if (maturity < 0d) {
+        return 0d;
+      }
+      return (1d + fixedRate * maturity) / (1d + yield * maturity) + accruedInterest;
+    }
+    if (singlePeriodPayment != 0d) {
+      return singlePeriodPayment / (1d + factorToNextCoupon * yield / eventsPerYear);
+    }
+    double factorOnPeriod = 1d + yield / eventsPerYear;
+    double pvAtFirstCoupon = 0d;
+    double discount = 1d;
+    for (double couponAmount : couponAmounts) {
+      pvAtFirstCoupon += couponAmount * discount;
+      discount /= factorOnPeriod;
+    }
+    pvAtFirstCoupon += discount * factorOnPeriod;
+    return pvAtFirstCoupon * Math.pow(factorOnPeriod, -factorToNextCoupon);
+  }
+
+  /**
+   * Calculates the dirty price from the yield and its derivative with respect to the yield.
+   * <p>
+   * This matches {@link DiscountingFixedCouponBondProductPricer#dirtyPriceFromYieldAd}.
+   *
+   * @param yield  the yield
+   * @return the dirty price and its derivative
+   */
+  public ValueDerivatives dirtyPriceFromYieldAd(double yield) {
+    if (yieldConvention.equals(JP_SIMPLE)) {
+      if (maturity < 0d) {
+        return ValueDerivatives.of(0d, DoubleArray.of(0d));
+      }
+      double denominator = 1d + yield * maturity;
+      double numerator = 1d + fixedRate * maturity;
+      return ValueDerivatives.of(
+          numerator / denominator + accruedInterest,
+          DoubleArray.of(-numerator / (denominator * denominator) * maturity));
+    }
+    if (singlePeriodPayment != 0d) {
+      double denominator = 1d + factorToNextCoupon * yield / eventsPerYear;
+      return ValueDerivatives.of(
+          singlePeriodPayment / denominator,
+          DoubleArray.of(-singlePeriodPayment / (denominator * denominator) * factorToNextCoupon / eventsPerYear));
+    }
+    double factorOnPeriod = 1d + yield / eventsPerYear;
+    double pvAtFirstCoupon = 0d;
+    double pvAtFirstCouponDerivative = 0d;
+    double discount = 1d;
+    int nCoupon = couponAmounts.length;
+    for (int i = 0; i < nCoupon; i++) {
+      pvAtFirstCoupon += couponAmounts[i] * discount;
+      pvAtFirstCouponDerivative -= i * couponAmounts[i] * discount;
+      discount /= factorOnPeriod;
+    }
+    pvAtFirstCoupon += discount * factorOnPeriod;
+    pvAtFirstCouponDerivative += (1 - nCoupon) * discount * factorOnPeriod;
+    double priceAfter = Math.pow(factorOnPeriod, -factorToNextCoupon);
+    double price = pvAtFirstCoupon * priceAfter;
+    // the derivatives above are multiplied by the factor on period
+    double factorOnPeriodBar = (pvAtFirstCouponDerivative - factorToNextCoupon * pvAtFirstCoupon) * priceAfter / factorOnPeriod;
+    return ValueDerivatives.of(price, DoubleArray.of(factorOnPeriodBar / eventsPerYear));
+  }
+
+  /**
+   * Calculates the yield from the dirty price.
+   * <p>
+   * The yield is found using a Newton iteration with the analytic derivative of the dirty price.
+   * If the iteration does not converge, the yield is found using a bracketed root finder
+   * as in {@link DiscountingFixedCouponBondProductPricer#yieldFromDirtyPrice}.
+   *
+   * @param dirtyPrice  the dirty price
+   * @return the yield
+   */
+  public double yieldFromDirtyPrice(double dirtyPrice) {
+    if (yieldConvention.equals(JP_SIMPLE)) {
+      double cleanPrice = dirtyPrice - accruedInterest;
+      return (fixedRate + (1d - cleanPrice) / maturity) / cleanPrice;
+    }
+    double yield = fixedRate;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      ValueDerivatives price = dirtyPriceFromYieldAd(yield);
+      double step = (price.getValue() - dirtyPrice) / price.getDerivative(0);
+      if (!Double.isFinite(step)) {
+        break;
+      }
+      yield -= step;
+      if (Math.abs(step) <= YIELD_ACCURACY) {
+        return yield;
+      }
+    }
+    return yieldFromDirtyPriceBracketed(dirtyPrice);
+  }
+
+  /**
+   * Calculates the yield from the dirty price and its derivative with respect to the dirty price.
+   *
+   * @param dirtyPrice  the dirty price
+   * @return the yield and its derivative
+   */
+  public ValueDerivatives yieldFromDirtyPriceAd(double dirtyPrice) {
+    if (yieldConvention.equals(JP_SIMPLE)) {
+      double cleanPrice = dirtyPrice - accruedInterest;
+      double yield = (fixedRate + (1d - cleanPrice) / maturity) / cleanPrice;
+      double priceBar = (-1d / maturity * cleanPrice - (fixedRate + (1d - cleanPrice) / maturity)) / (cleanPrice * cleanPrice);
+      return ValueDerivatives.of(yield, DoubleArray.of(priceBar));
+    }
+    double yield = yieldFromDirtyPrice(dirtyPrice);
+    ValueDerivatives priceDYield = dirtyPriceFromYieldAd(yield);
+    return ValueDerivatives.of(yield, DoubleArray.of(1d / priceDYield.getDerivative(0)));
+  }
+
+  // solves for the yield using a bracketed root finder
+  private double yieldFromDirtyPriceBracketed(double dirtyPrice) {
+    Function<Double, Double> priceResidual = y -> dirtyPriceFromYield(y) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
+    return ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "FixedCouponBondYieldCashFlows[" + yieldConvention + ", coupons=" + couponAmounts.length + "]";
+  }
+
+}
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.curve;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -140,6 +141,16 @@ public final class CalibrationMeasures {
     return measuresByTrade.keySet();
   }
 
+  /**
+   * Finds the measure for a trade type.
+   * 
+   * @param tradeType  the trade type
+   * @return the measure, empty if the trade type is not supported
+   */
+  public Optional<CalibrationMeasure<? extends ResolvedTrade>> findMeasure(Class<?> tradeType) {
+    return Optional.ofNullable(measuresByTrade.get(tradeType));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the value, such as par spread.
@@ -79,6 +79,10 @@ public final class RatesCurveCalibrator {
    * This is used to compute the present value sensitivity to market quotes stored in the metadata.
    */
   private final CalibrationMeasures pvMeasures;
+  /**
+   * The cache of trade templates, null if the trades are resolved on each calibration.
+   */
+  private final RatesCurveTradeTemplateCache templateCache;
 
   //-------------------------------------------------------------------------
   /**
@@ -154,7 +158,7 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures pvMeasures) {
 
     NewtonVectorRootFinder rootFinder = NewtonVectorRootFinder.broyden(toleranceAbs, toleranceRel, stepMaximum);
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, null);
   }
 
   /**
@@ -171,7 +175,7 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures measures,
       CalibrationMeasures pvMeasures) {
 
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, null);
   }
 
   //-------------------------------------------------------------------------
@@ -179,11 +183,29 @@ public final class RatesCurveCalibrator {
   private RatesCurveCalibrator(
       NewtonVectorRootFinder rootFinder,
       CalibrationMeasures measures,
-      CalibrationMeasures pvMeasures) {
+      CalibrationMeasures pvMeasures,
+      RatesCurveTradeTemplateCache templateCache) {
 
     this.rootFinder = ArgChecker.notNull(rootFinder, "rootFinder");
     this.measures = ArgChecker.notNull(measures, "measures");
     this.pvMeasures = ArgChecker.notNull(pvMeasures, "pvMeasures");
+    this.templateCache = templateCache;
+  }
+
+  /**
+   * Returns a copy of this calibrator that uses the specified cache of trade templates.
+   * <p>
+   * By default, the trades used in calibration are resolved from the curve nodes on each calibration.
+   * When calibrating the same curve groups many times on the same valuation date, such as once per scenario,
+   * the cache allows the resolved schedules of the trades to be shared.
+   * The cache may be shared between calibrators.
+   *
+   * @param templateCache  the cache of trade templates
+   * @return the curve calibrator
+   */
+  public RatesCurveCalibrator withTemplateCache(RatesCurveTradeTemplateCache templateCache) {
+    ArgChecker.notNull(templateCache, "templateCache");
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, templateCache);
   }
 
   //-------------------------------------------------------------------------
@@ -196,6 +218,15 @@ public final class RatesCurveCalibrator {
     return measures;
   }
 
+  /**
+   * Gets the present value measures.
+   * 
+   * @return the present value measures
+   */
+  public CalibrationMeasures getPvMeasures() {
+    return pvMeasures;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calibrates a single curve group, containing one or more curves.
@@ -264,7 +295,7 @@ public final class RatesCurveCalibrator {
       RatesCurveGroupDefinition groupDefnBound =
           groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
       // combine all data in the group into flat lists
-      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
+      ImmutableList<ResolvedTrade> trades = resolvedTrades(groupDefnBound, marketData, refData);
       ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
@@ -468,6 +499,21 @@ public final class RatesCurveCalibrator {
     return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
   }
 
+  //-------------------------------------------------------------------------
+  // resolves the trades of the group, using the cached templates if available
+  private ImmutableList<ResolvedTrade> resolvedTrades(
+      RatesCurveGroupDefinition groupDefn,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    if (templateCache == null) {
+      return groupDefn.resolvedTrades(marketData, refData);
+    }
+    return templateCache.templates(groupDefn, marketData.getValuationDate(), refData).stream()
+        .map(template -> template.resolvedTrade(marketData))
+        .collect(toImmutableList());
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
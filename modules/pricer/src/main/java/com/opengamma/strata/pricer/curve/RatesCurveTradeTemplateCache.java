@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.market.curve.CurveNodeTradeTemplate;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+
+/**
+ * A cache of the trade templates used to calibrate curve groups.
+ * <p>
+ * The trades used to calibrate a curve group only differ by the market quotes
+ * when calibrated many times on the same valuation date, such as once per scenario.
+ * This cache holds the templates of each curve group and valuation date, see
+ * {@link RatesCurveGroupDefinition#resolvedTradeTemplates(LocalDate, ReferenceData)},
+ * allowing the schedules of the trades to be shared between calibrations.
+ * <p>
+ * The cache is used by passing it to {@link RatesCurveCalibrator#withTemplateCache(RatesCurveTradeTemplateCache)}.
+ * The same cache may be shared by many calibrators.
+ * <p>
+ * The reference data is compared by identity and is only weakly referenced,
+ * thus the templates are discarded once the reference data is no longer in use.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RatesCurveTradeTemplateCache {
+
+  /**
+   * The default maximum number of curve groups and valuation dates cached for each reference data.
+   */
+  private static final int DEFAULT_MAX_SIZE = 100;
+
+  /**
+   * The maximum number of curve groups and valuation dates cached for each reference data.
+   */
+  private final int maxSize;
+  /**
+   * The trade templates, keyed by the reference data, then the curve group and valuation date.
+   */
+  private final Cache<ReferenceData, ConcurrentMap<Pair<RatesCurveGroupDefinition, LocalDate>,
+      ImmutableList<CurveNodeTradeTemplate>>> templates = CacheBuilder.newBuilder().weakKeys().build();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty cache using the default maximum size.
+   *
+   * @return the cache
+   */
+  public static RatesCurveTradeTemplateCache create() {
+    return new RatesCurveTradeTemplateCache(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates an empty cache specifying the maximum size.
+   * <p>
+   * The maximum size is the number of curve groups and valuation dates cached for each reference data.
+   *
+   * @param maxSize  the maximum size, greater than zero
+   * @return the cache
+   */
+  public static RatesCurveTradeTemplateCache of(int maxSize) {
+    ArgChecker.notNegativeOrZero(maxSize, "maxSize");
+    return new RatesCurveTradeTemplateCache(maxSize);
+  }
+
+  // restricted constructor
+  private RatesCurveTradeTemplateCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the trade templates of the curve group on the valuation date.
+   * <p>
+   * The templates are created if they are not present in the cache.
+   *
+   * @param groupDefn  the curve group definition
+   * @param valuationDate  the valuation date
+   * @param refData  the reference data, used to resolve the trades
+   * @return the trade templates, in the order of the curve nodes
+   */
+  public ImmutableList<CurveNodeTradeTemplate> templates(
+      RatesCurveGroupDefinition groupDefn,
+      LocalDate valuationDate,
+      ReferenceData refData) {
+
+    return templates.asMap()
+        .computeIfAbsent(refData, r -> CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .<Pair<RatesCurveGroupDefinition, LocalDate>, ImmutableList<CurveNodeTradeTemplate>>build()
+            .asMap())
+        .computeIfAbsent(
+            Pair.of(groupDefn, valuationDate),
+            key -> groupDefn.resolvedTradeTemplates(valuationDate, refData));
+  }
+
+  // the number of cached entries, for testing
+  long size() {
+    return templates.asMap().values().stream().mapToLong(map -> map.size()).sum();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("RatesCurveTradeTemplateCache[maxSize={}]", maxSize);
+  }
+
+}
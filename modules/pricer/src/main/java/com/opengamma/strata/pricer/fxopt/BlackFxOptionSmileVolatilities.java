@@ -143,6 +143,25 @@ public final class BlackFxOptionSmileVolatilities
     return smile.volatility(expiryTime, strike, forward);
   }
 
+  /**
+   * Calculates the volatility at the specified expiry for several strikes.
+   * <p>
+   * This is equivalent to calling {@link #volatility(CurrencyPair, double, double, double)} for each strike,
+   * but only obtains the smile at the expiry once.
+   *
+   * @param currencyPair  the currency pair
+   * @param expiryTime  the time to expiry as a year fraction
+   * @param strikes  the strikes
+   * @param forward  the forward rate
+   * @return the volatilities, one for each strike
+   */
+  public DoubleArray volatility(CurrencyPair currencyPair, double expiryTime, DoubleArray strikes, double forward) {
+    if (currencyPair.isInverse(this.currencyPair)) {
+      return smile.volatility(expiryTime, strikes.map(strike -> 1d / strike), 1d / forward);
+    }
+    return smile.volatility(expiryTime, strikes, forward);
+  }
+
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
     CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
@@ -5,11 +5,18 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.IntStream;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.currency.Currency;
@@ -19,11 +26,13 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.impl.tree.ConstantContinuousSingleBarrierKnockoutFunction;
 import com.opengamma.strata.pricer.impl.tree.EuropeanVanillaOptionFunction;
+import com.opengamma.strata.pricer.impl.tree.OptionFunction;
 import com.opengamma.strata.pricer.impl.tree.TrinomialTree;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -54,6 +63,10 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * Default number of time steps.
    */
   private static final int NUM_STEPS_DEFAULT = 51;
+  /**
+   * The shift applied to curve parameters for the sensitivity to rates.
+   */
+  private static final double SHIFT = 1.0e-5;
 
   /**
    * Default implementation.
@@ -192,6 +205,11 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       RecombiningTrinomialTreeData treeData) {
 
     double price = price(option, ratesProvider, volatilities, treeData);
+    return presentValue(option, price);
+  }
+
+  // the present value from the price
+  private CurrencyAmount presentValue(ResolvedFxSingleBarrierOption option, double price) {
     ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     return CurrencyAmount.of(underlyingOption.getCounterCurrency(), signedNotional(underlyingOption) * price);
   }
@@ -242,7 +260,6 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
 
     ArgChecker.isTrue(baseTreeData.getNumberOfSteps() == calibrator.getNumberOfSteps(),
         "the number of steps mismatch between pricer and trinomial tree data");
-    double shift = 1.0e-5;
     CurrencyAmount pvBase = presentValue(option, ratesProvider, volatilities, baseTreeData);
     ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
@@ -256,12 +273,12 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
         Curve curve = entry.getValue();
         int nParams = curve.getParameterCount();
         DoubleArray sensitivity = DoubleArray.of(nParams, i -> {
-          Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
+          Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + SHIFT);
           Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
           mapBumped.put(entry.getKey(), dscBumped);
           ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
           double pvBumped = presentValue(option, providerDscBumped, volatilities).getAmount();
-          return (pvBumped - pvBase.getAmount()) / shift;
+          return (pvBumped - pvBase.getAmount()) / SHIFT;
         });
         result = result.combinedWith(curve.createParameterSensitivity(pvBase.getCurrency(), sensitivity));
       }
@@ -309,8 +326,17 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
       BlackFxOptionVolatilities volatilities,
       RecombiningTrinomialTreeData treeData) {
 
-    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     ValueDerivatives priceDerivatives = priceDerivatives(option, ratesProvider, volatilities, treeData);
+    return currencyExposure(option, ratesProvider, priceDerivatives);
+  }
+
+  // the currency exposure from the price and delta
+  private MultiCurrencyAmount currencyExposure(
+      ResolvedFxSingleBarrierOption option,
+      RatesProvider ratesProvider,
+      ValueDerivatives priceDerivatives) {
+
+    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     double price = priceDerivatives.getValue();
     double delta = priceDerivatives.getDerivative(0);
     CurrencyPair currencyPair = underlyingOption.getUnderlying().getCurrencyPair();
@@ -322,67 +348,229 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each FX barrier option product.
+   * <p>
+   * This is equivalent to calling
+   * {@link #presentValue(ResolvedFxSingleBarrierOption, RatesProvider, BlackFxOptionVolatilities)}
+   * for each option. The trinomial tree is calibrated once for each currency pair and expiry,
+   * and all the options sharing a calibrated tree are priced in a single backward sweep of the tree.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present values of the products
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    List<ValueDerivatives> prices = priceDerivatives(options, ratesProvider, volatilities);
+    return IntStream.range(0, options.size())
+        .mapToObj(i -> presentValue(options.get(i), prices.get(i).getValue()))
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Calculates the present value sensitivity of each FX barrier option product.
+   * <p>
+   * This is equivalent to calling
+   * {@link #presentValueSensitivityRates(ResolvedFxSingleBarrierOption, RatesProvider, BlackFxOptionVolatilities)}
+   * for each option. The sensitivity is computed by bump and re-price, where each bumped curve is
+   * shared by all the options and the trinomial tree is calibrated once for each currency pair and expiry.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present value sensitivities of the products
+   */
+  public List<CurrencyParameterSensitivities> presentValueSensitivityRates(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    List<CurrencyAmount> pvBase = presentValue(options, ratesProvider, volatilities);
+    ImmutableRatesProvider immRatesProvider = ratesProvider.toImmutableRatesProvider();
+    ImmutableMap<Currency, Curve> baseCurves = immRatesProvider.getDiscountCurves();
+    CurrencyParameterSensitivities[] result = new CurrencyParameterSensitivities[options.size()];
+    Arrays.fill(result, CurrencyParameterSensitivities.empty());
+
+    for (Entry<Currency, Curve> entry : baseCurves.entrySet()) {
+      int[] indices = IntStream.range(0, options.size())
+          .filter(i -> options.get(i).getCurrencyPair().contains(entry.getKey()))
+          .toArray();
+      if (indices.length == 0) {
+        continue;
+      }
+      List<ResolvedFxSingleBarrierOption> affected = Arrays.stream(indices)
+          .mapToObj(options::get)
+          .collect(toImmutableList());
+      Curve curve = entry.getValue();
+      int nParams = curve.getParameterCount();
+      double[][] sensitivity = new double[indices.length][nParams];
+      for (int j = 0; j < nParams; j++) {
+        Curve dscBumped = curve.withParameter(j, curve.getParameter(j) + SHIFT);
+        Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
+        mapBumped.put(entry.getKey(), dscBumped);
+        ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
+        List<CurrencyAmount> pvBumped = presentValue(affected, providerDscBumped, volatilities);
+        for (int i = 0; i < indices.length; i++) {
+          sensitivity[i][j] = (pvBumped.get(i).getAmount() - pvBase.get(indices[i]).getAmount()) / SHIFT;
+        }
+      }
+      for (int i = 0; i < indices.length; i++) {
+        int index = indices[i];
+        result[index] = result[index].combinedWith(
+            curve.createParameterSensitivity(pvBase.get(index).getCurrency(), DoubleArray.ofUnsafe(sensitivity[i])));
+      }
+    }
+    return ImmutableList.copyOf(result);
+  }
+
+  /**
+   * Calculates the currency exposure of each FX barrier option product.
+   * <p>
+   * This is equivalent to calling
+   * {@link #currencyExposure(ResolvedFxSingleBarrierOption, RatesProvider, BlackFxOptionVolatilities)}
+   * for each option. The trinomial tree is calibrated once for each currency pair and expiry.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the currency exposures of the products
+   */
+  public List<MultiCurrencyAmount> currencyExposure(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    List<ValueDerivatives> prices = priceDerivatives(options, ratesProvider, volatilities);
+    return IntStream.range(0, options.size())
+        .mapToObj(i -> currencyExposure(options.get(i), ratesProvider, prices.get(i)))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  // price and delta of options, calibrating one tree for each currency pair and expiry
+  private List<ValueDerivatives> priceDerivatives(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Map<Pair<CurrencyPair, Double>, List<Integer>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < options.size(); i++) {
+      ResolvedFxVanillaOption underlyingOption = options.get(i).getUnderlyingOption();
+      Pair<CurrencyPair, Double> key = Pair.of(
+          underlyingOption.getUnderlying().getCurrencyPair(), volatilities.relativeTime(underlyingOption.getExpiry()));
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+    ValueDerivatives[] result = new ValueDerivatives[options.size()];
+    for (Entry<Pair<CurrencyPair, Double>, List<Integer>> entry : groups.entrySet()) {
+      Pair<CurrencyPair, Double> key = entry.getKey();
+      List<Integer> indices = entry.getValue();
+      RecombiningTrinomialTreeData treeData =
+          calibrator.calibrateTrinomialTree(key.getSecond(), key.getFirst(), ratesProvider, volatilities);
+      List<ResolvedFxSingleBarrierOption> group = indices.stream().map(options::get).collect(toImmutableList());
+      List<ValueDerivatives> prices = priceDerivatives(group, ratesProvider, volatilities, treeData);
+      for (int i = 0; i < indices.size(); i++) {
+        result[indices.get(i)] = prices.get(i);
+      }
+    }
+    return ImmutableList.copyOf(result);
+  }
+
+  // price and delta of a single option
   private ValueDerivatives priceDerivatives(
       ResolvedFxSingleBarrierOption option,
       RatesProvider ratesProvider,
       BlackFxOptionVolatilities volatilities,
       RecombiningTrinomialTreeData data) {
 
-    validate(option, ratesProvider, volatilities);
-    validateData(option, ratesProvider, volatilities, data);
+    return priceDerivatives(ImmutableList.of(option), ratesProvider, volatilities, data).get(0);
+  }
+
+  // price and delta of options sharing the same tree, priced in a single backward sweep
+  private List<ValueDerivatives> priceDerivatives(
+      List<ResolvedFxSingleBarrierOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities,
+      RecombiningTrinomialTreeData data) {
+
+    int nOptions = options.size();
+    List<OptionFunction> functions = new ArrayList<>();
+    int[] vanillaIndex = new int[nOptions];
+    double[] rebateAtExpiry = new double[nOptions]; // used to price knock-in option
+    double[] rebateAtExpiryDerivative = new double[nOptions]; // used to price knock-in option
     int nSteps = data.getNumberOfSteps();
-    ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
     double timeToExpiry = data.getTime(nSteps);
-    ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
-    Currency ccyBase = underlyingFx.getCounterCurrencyPayment().getCurrency();
-    Currency ccyCounter = underlyingFx.getCounterCurrencyPayment().getCurrency();
-    DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
-    DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
-    double rebateAtExpiry = 0d; // used to price knock-in option
-    double rebateAtExpiryDerivative = 0d; // used to price knock-in option
-    double notional = Math.abs(underlyingFx.getBaseCurrencyPayment().getAmount());
-    double[] rebateArray = new double[nSteps + 1];
-    SimpleConstantContinuousBarrier barrier = (SimpleConstantContinuousBarrier) option.getBarrier();
-    if (option.getRebate().isPresent()) {
-      CurrencyAmount rebateCurrencyAmount = option.getRebate().get();
-      double rebatePerUnit = rebateCurrencyAmount.getAmount() / notional;
-      boolean isCounter = rebateCurrencyAmount.getCurrency().equals(ccyCounter);
-      double rebate = isCounter ? rebatePerUnit : rebatePerUnit * barrier.getBarrierLevel();
-      if (barrier.getKnockType().isKnockIn()) { // use in-out parity
-        double dfCounterAtExpiry = counterDiscountFactors.discountFactor(timeToExpiry);
-        double dfBaseAtExpiry = baseDiscountFactors.discountFactor(timeToExpiry);
-        for (int i = 0; i < nSteps + 1; ++i) {
-          rebateArray[i] = isCounter ?
-              rebate * dfCounterAtExpiry / counterDiscountFactors.discountFactor(data.getTime(i)) :
-              rebate * dfBaseAtExpiry / baseDiscountFactors.discountFactor(data.getTime(i));
-        }
-        if (isCounter) {
-          rebateAtExpiry = rebatePerUnit * dfCounterAtExpiry;
+    for (int k = 0; k < nOptions; k++) {
+      ResolvedFxSingleBarrierOption option = options.get(k);
+      validate(option, ratesProvider, volatilities);
+      validateData(option, ratesProvider, volatilities, data);
+      ResolvedFxVanillaOption underlyingOption = option.getUnderlyingOption();
+      ResolvedFxSingle underlyingFx = underlyingOption.getUnderlying();
+      Currency ccyBase = underlyingFx.getCounterCurrencyPayment().getCurrency();
+      Currency ccyCounter = underlyingFx.getCounterCurrencyPayment().getCurrency();
+      DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
+      DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
+      double notional = Math.abs(underlyingFx.getBaseCurrencyPayment().getAmount());
+      double[] rebateArray = new double[nSteps + 1];
+      SimpleConstantContinuousBarrier barrier = (SimpleConstantContinuousBarrier) option.getBarrier();
+      if (option.getRebate().isPresent()) {
+        CurrencyAmount rebateCurrencyAmount = option.getRebate().get();
+        double rebatePerUnit = rebateCurrencyAmount.getAmount() / notional;
+        boolean isCounter = rebateCurrencyAmount.getCurrency().equals(ccyCounter);
+        double rebate = isCounter ? rebatePerUnit : rebatePerUnit * barrier.getBarrierLevel();
+        if (barrier.getKnockType().isKnockIn()) { // use in-out parity
+          double dfCounterAtExpiry = counterDiscountFactors.discountFactor(timeToExpiry);
+          double dfBaseAtExpiry = baseDiscountFactors.discountFactor(timeToExpiry);
+          for (int i = 0; i < nSteps + 1; ++i) {
+            rebateArray[i] = isCounter ?
+                rebate * dfCounterAtExpiry / counterDiscountFactors.discountFactor(data.getTime(i)) :
+                rebate * dfBaseAtExpiry / baseDiscountFactors.discountFactor(data.getTime(i));
+          }
+          if (isCounter) {
+            rebateAtExpiry[k] = rebatePerUnit * dfCounterAtExpiry;
+          } else {
+            rebateAtExpiry[k] = rebatePerUnit * data.getSpot() * dfBaseAtExpiry;
+            rebateAtExpiryDerivative[k] = rebatePerUnit * dfBaseAtExpiry;
+          }
         } else {
-          rebateAtExpiry = rebatePerUnit * data.getSpot() * dfBaseAtExpiry;
-          rebateAtExpiryDerivative = rebatePerUnit * dfBaseAtExpiry;
+          Arrays.fill(rebateArray, rebate);
         }
-      } else {
-        Arrays.fill(rebateArray, rebate);
+      }
+      functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+          underlyingOption.getStrike(),
+          timeToExpiry,
+          underlyingOption.getPutCall(),
+          nSteps,
+          barrier.getBarrierType(),
+          barrier.getBarrierLevel(),
+          DoubleArray.ofUnsafe(rebateArray)));
+      vanillaIndex[k] = -1;
+      if (barrier.getKnockType().isKnockIn()) {  // use in-out parity
+        vanillaIndex[k] = functions.size();
+        functions.add(EuropeanVanillaOptionFunction.of(
+            underlyingOption.getStrike(), timeToExpiry, underlyingOption.getPutCall(), nSteps));
       }
     }
-    ConstantContinuousSingleBarrierKnockoutFunction barrierFunction = ConstantContinuousSingleBarrierKnockoutFunction.of(
-        underlyingOption.getStrike(),
-        timeToExpiry,
-        underlyingOption.getPutCall(),
-        nSteps,
-        barrier.getBarrierType(),
-        barrier.getBarrierLevel(),
-        DoubleArray.ofUnsafe(rebateArray));
-    ValueDerivatives barrierPrice = TREE.optionPriceAdjoint(barrierFunction, data);
-    if (barrier.getKnockType().isKnockIn()) {  // use in-out parity
-      EuropeanVanillaOptionFunction vanillaFunction = EuropeanVanillaOptionFunction.of(
-          underlyingOption.getStrike(), timeToExpiry, underlyingOption.getPutCall(), nSteps);
-      ValueDerivatives vanillaPrice = TREE.optionPriceAdjoint(vanillaFunction, data);
-      return ValueDerivatives.of(vanillaPrice.getValue() + rebateAtExpiry - barrierPrice.getValue(),
-          DoubleArray.of(vanillaPrice.getDerivative(0) + rebateAtExpiryDerivative - barrierPrice.getDerivative(0)));
+    List<ValueDerivatives> prices = TREE.optionPriceAdjoint(functions, data);
+    ImmutableList.Builder<ValueDerivatives> builder = ImmutableList.builder();
+    int barrierIndex = 0;
+    for (int k = 0; k < nOptions; k++) {
+      ValueDerivatives barrierPrice = prices.get(barrierIndex);
+      if (vanillaIndex[k] < 0) {
+        builder.add(barrierPrice);
+        barrierIndex++;
+      } else {
+        ValueDerivatives vanillaPrice = prices.get(vanillaIndex[k]);
+        builder.add(ValueDerivatives.of(vanillaPrice.getValue() + rebateAtExpiry[k] - barrierPrice.getValue(),
+            DoubleArray.of(vanillaPrice.getDerivative(0) + rebateAtExpiryDerivative[k] - barrierPrice.getDerivative(0))));
+        barrierIndex += 2;
+      }
     }
-    return barrierPrice;
+    return builder.build();
   }
 
   //-------------------------------------------------------------------------
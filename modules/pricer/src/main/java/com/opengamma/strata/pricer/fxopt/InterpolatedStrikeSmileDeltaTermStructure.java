@@ -31,6 +31,8 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.Tenor;
@@ -69,6 +71,10 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
    * difference approximation.
    */
   private static final double EPS = 1e-6;
+  /**
+   * The maximum number of smiles interpolated in time that are cached.
+   */
+  private static final int SLICE_CACHE_SIZE = 1000;
 
   /**
    * The smile description at the different time to expiry. All item should have the same deltas.
@@ -121,6 +127,10 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
    * The parameter combiner.
    */
   private final transient ParameterizedDataCombiner paramCombiner;  // not a property
+  /**
+   * The smiles interpolated in time, keyed by expiry.
+   */
+  private final transient Cache<Double, SmileSlice> sliceCache;  // not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -588,6 +598,7 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
     this.strikeExtrapolatorRight = strikeExtrapolatorRight;
     this.expiries = expiries;
     this.paramCombiner = ParameterizedDataCombiner.of(volatilityTerm);
+    this.sliceCache = CacheBuilder.newBuilder().maximumSize(SLICE_CACHE_SIZE).build();
   }
 
   private Object readResolve() {
@@ -663,39 +674,40 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
   @Override
   public double volatility(double time, double strike, double forward) {
     ArgChecker.isTrue(time >= 0, "Positive time");
-    SmileDeltaParameters smile = smileForExpiry(time);
-    DoubleArray strikes = smile.strike(forward);
-    BoundCurveInterpolator bound = strikeInterpolator.bind(
-        strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
-    return bound.interpolate(strike);
+    return slice(time).strikeSmile(forward).bound.interpolate(strike);
+  }
+
+  @Override
+  public DoubleArray volatility(double time, DoubleArray strikes, double forward) {
+    ArgChecker.isTrue(time >= 0, "Positive time");
+    BoundCurveInterpolator bound = slice(time).strikeSmile(forward).bound;
+    return strikes.map(bound::interpolate);
   }
 
   @Override
   public VolatilityAndBucketedSensitivities volatilityAndSensitivities(double time, double strike, double forward) {
     ArgChecker.isTrue(time >= 0, "Positive time");
-    SmileDeltaParameters smile = smileForExpiry(time);
-    DoubleArray strikes = smile.strike(forward);
-    BoundCurveInterpolator bound = strikeInterpolator.bind(
-        strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
+    SmileSlice slice = slice(time);
+    BoundCurveInterpolator bound = slice.strikeSmile(forward).bound;
     double volatility = bound.interpolate(strike);
     DoubleArray smileVolatilityBar = bound.parameterSensitivity(strike);
-    SmileAndBucketedSensitivities smileAndSensitivities = smileAndSensitivitiesForExpiry(time, smileVolatilityBar);
-    return VolatilityAndBucketedSensitivities.of(volatility, smileAndSensitivities.getSensitivities());
+    return VolatilityAndBucketedSensitivities.of(volatility, slice.sensitivities(smileVolatilityBar));
   }
 
   @Override
   public ValueDerivatives partialFirstDerivatives(double expiry, double strike, double forward) {
     ArgChecker.isTrue(expiry >= 0, "Positive time");
-    SmileDeltaParameters smile = smileForExpiry(expiry);
-    DoubleArray strikes = smile.strike(forward);
-    BoundCurveInterpolator volBound = strikeInterpolator.bind(
-        strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
+    SmileSlice slice = slice(expiry);
+    SmileDeltaParameters smile = slice.smile;
+    StrikeSmile strikeSmile = slice.strikeSmile(forward);
+    DoubleArray strikes = strikeSmile.strikes;
+    BoundCurveInterpolator volBound = strikeSmile.bound;
     double vol = volBound.interpolate(strike);
     double dVoldStrike = volBound.firstDerivative(strike);
 
     DoubleArray dNodeStrikesdExpiryDirect = smile.impliedStrikesDerivativeToExpiry(forward);
     DoubleArray dNodeStrikesdNodeVols = smile.impliedStrikesDerivativeToSmileVols(forward);
-    DoubleArray dNodeVolsdExpiry = smileVolsDerivativeToExpiry(expiry);
+    DoubleArray dNodeVolsdExpiry = slice.volatilityDerivativeToExpiry();
     DoubleArray dNodeStrikesdExpiry = dNodeStrikesdExpiryDirect.plus(dNodeStrikesdNodeVols.multipliedBy(dNodeVolsdExpiry));
     DoubleArray dVoldNodeStrikes = DoubleArray.of(
         strikes.size(),
@@ -733,38 +745,7 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
   //-------------------------------------------------------------------------
   @Override
   public SmileDeltaParameters smileForExpiry(double expiry) {
-    int nbVol = getStrikeCount();
-    int nbTime = getSmileCount();
-    ArgChecker.isTrue(nbTime > 1, "Need more than one time value to perform interpolation");
-    double[] volatilityT = new double[nbVol];
-    for (int loopvol = 0; loopvol < nbVol; loopvol++) {
-      double[] volDelta = new double[nbTime];
-      for (int looptime = 0; looptime < nbTime; looptime++) {
-        volDelta[looptime] = volatilityTerm.get(looptime).getVolatility().get(loopvol);
-      }
-      BoundCurveInterpolator bound = timeInterpolator.bind(
-          getExpiries(), DoubleArray.ofUnsafe(volDelta), timeExtrapolatorLeft, timeExtrapolatorRight);
-      volatilityT[loopvol] = bound.interpolate(expiry);
-    }
-    return SmileDeltaParameters.of(expiry, getDelta(), DoubleArray.ofUnsafe(volatilityT));
-  }
-
-  //-------------------------------------------------------------------------
-  private DoubleArray smileVolsDerivativeToExpiry(double expiry) {
-    int nbVol = getStrikeCount();
-    int nbTime = getSmileCount();
-    ArgChecker.isTrue(nbTime > 1, "Need more than one time value to perform interpolation");
-    double[] derivatives = new double[nbVol];
-    for (int loopvol = 0; loopvol < nbVol; loopvol++) {
-      double[] volDelta = new double[nbTime];
-      for (int looptime = 0; looptime < nbTime; looptime++) {
-        volDelta[looptime] = volatilityTerm.get(looptime).getVolatility().get(loopvol);
-      }
-      BoundCurveInterpolator bound = timeInterpolator.bind(
-          getExpiries(), DoubleArray.ofUnsafe(volDelta), timeExtrapolatorLeft, timeExtrapolatorRight);
-      derivatives[loopvol] = bound.firstDerivative(expiry);
-    }
-    return DoubleArray.ofUnsafe(derivatives);
+    return slice(expiry).smile;
   }
 
   @Override
@@ -775,10 +756,24 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
     int nbVol = getStrikeCount();
     ArgChecker.isTrue(volatilityAtTimeSensitivity.size() == nbVol, "Sensitivity with incorrect size");
     ArgChecker.isTrue(nbVol > 1, "Need more than one volatility value to perform interpolation");
+    SmileSlice slice = slice(expiry);
+    return SmileAndBucketedSensitivities.of(slice.smile, slice.sensitivities(volatilityAtTimeSensitivity));
+  }
+
+  //-------------------------------------------------------------------------
+  // obtains the smile interpolated in time, using the cache
+  private SmileSlice slice(double expiry) {
+    ArgChecker.isTrue(getSmileCount() > 1, "Need more than one time value to perform interpolation");
+    return sliceCache.asMap().computeIfAbsent(expiry, this::createSlice);
+  }
+
+  // interpolates the smile in time
+  private SmileSlice createSlice(double expiry) {
+    int nbVol = getStrikeCount();
     int nbTime = getSmileCount();
-    ArgChecker.isTrue(nbTime > 1, "Need more than one time value to perform interpolation");
     double[] volatilityT = new double[nbVol];
     double[][] volatilitySensitivity = new double[nbTime][nbVol];
+    BoundCurveInterpolator[] bounds = new BoundCurveInterpolator[nbVol];
     for (int loopvol = 0; loopvol < nbVol; loopvol++) {
       double[] volDelta = new double[nbTime];
       for (int looptime = 0; looptime < nbTime; looptime++) {
@@ -788,13 +783,104 @@ public final class InterpolatedStrikeSmileDeltaTermStructure
           getExpiries(), DoubleArray.ofUnsafe(volDelta), timeExtrapolatorLeft, timeExtrapolatorRight);
       DoubleArray volatilitySensitivityVol = bound.parameterSensitivity(expiry);
       for (int looptime = 0; looptime < nbTime; looptime++) {
-        volatilitySensitivity[looptime][loopvol] =
-            volatilitySensitivityVol.get(looptime) * volatilityAtTimeSensitivity.get(loopvol);
+        volatilitySensitivity[looptime][loopvol] = volatilitySensitivityVol.get(looptime);
       }
       volatilityT[loopvol] = bound.interpolate(expiry);
+      bounds[loopvol] = bound;
     }
     SmileDeltaParameters smile = SmileDeltaParameters.of(expiry, getDelta(), DoubleArray.ofUnsafe(volatilityT));
-    return SmileAndBucketedSensitivities.of(smile, DoubleMatrix.ofUnsafe(volatilitySensitivity));
+    return new SmileSlice(smile, volatilitySensitivity, bounds);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The smile at a single expiry, interpolated in time.
+   * <p>
+   * This holds the smile volatilities, their sensitivity to the volatilities of the term structure
+   * and the interpolators used to find their derivative to the expiry.
+   * The strikes of the smile depend on the forward, and are held for the last forward used.
+   */
+  private final class SmileSlice {
+    /**
+     * The smile.
+     */
+    private final SmileDeltaParameters smile;
+    /**
+     * The sensitivity of each smile volatility to the volatilities of the term structure, by time then strike.
+     */
+    private final double[][] volatilitySensitivity;
+    /**
+     * The time interpolator for each smile volatility.
+     */
+    private final BoundCurveInterpolator[] bounds;
+    /**
+     * The strikes and strike interpolator for the last forward used.
+     */
+    private volatile StrikeSmile strikeSmile;
+
+    private SmileSlice(SmileDeltaParameters smile, double[][] volatilitySensitivity, BoundCurveInterpolator[] bounds) {
+      this.smile = smile;
+      this.volatilitySensitivity = volatilitySensitivity;
+      this.bounds = bounds;
+    }
+
+    // obtains the strikes and strike interpolator for the forward
+    private StrikeSmile strikeSmile(double forward) {
+      StrikeSmile last = strikeSmile;
+      if (last != null && last.forward == forward) {
+        return last;
+      }
+      DoubleArray strikes = smile.strike(forward);
+      BoundCurveInterpolator bound = strikeInterpolator.bind(
+          strikes, smile.getVolatility(), strikeExtrapolatorLeft, strikeExtrapolatorRight);
+      StrikeSmile created = new StrikeSmile(forward, strikes, bound);
+      strikeSmile = created;
+      return created;
+    }
+
+    // the sensitivity to the volatilities of the term structure, from the sensitivity to the smile volatilities
+    private DoubleMatrix sensitivities(DoubleArray volatilityAtTimeSensitivity) {
+      int nbTime = volatilitySensitivity.length;
+      int nbVol = volatilityAtTimeSensitivity.size();
+      double[][] sensitivity = new double[nbTime][nbVol];
+      for (int looptime = 0; looptime < nbTime; looptime++) {
+        for (int loopvol = 0; loopvol < nbVol; loopvol++) {
+          sensitivity[looptime][loopvol] =
+              volatilitySensitivity[looptime][loopvol] * volatilityAtTimeSensitivity.get(loopvol);
+        }
+      }
+      return DoubleMatrix.ofUnsafe(sensitivity);
+    }
+
+    // the derivative of each smile volatility to the expiry
+    private DoubleArray volatilityDerivativeToExpiry() {
+      double expiry = smile.getExpiry();
+      return DoubleArray.of(bounds.length, loopvol -> bounds[loopvol].firstDerivative(expiry));
+    }
+  }
+
+  /**
+   * The strikes of a smile for a forward, with the strike interpolator.
+   */
+  private static final class StrikeSmile {
+    /**
+     * The forward.
+     */
+    private final double forward;
+    /**
+     * The strikes.
+     */
+    private final DoubleArray strikes;
+    /**
+     * The interpolator of the volatility in the strike dimension.
+     */
+    private final BoundCurveInterpolator bound;
+
+    private StrikeSmile(double forward, DoubleArray strikes, BoundCurveInterpolator bound) {
+      this.forward = forward;
+      this.strikes = strikes;
+      this.bound = bound;
+    }
   }
 
   //------------------------- AUTOGENERATED START -------------------------
@@ -115,6 +115,21 @@ public interface SmileDeltaTermStructure
    */
   public abstract double volatility(double expiry, double strike, double forward);
 
+  /**
+   * Calculates the volatility at a given time/forward for several strikes from the term structure.
+   * <p>
+   * This is equivalent to calling {@link #volatility(double, double, double)} for each strike,
+   * but allows implementations to obtain the smile at the expiry only once.
+   * 
+   * @param expiry  the time to expiry
+   * @param strikes  the strikes
+   * @param forward  the forward
+   * @return the volatilities, one for each strike
+   */
+  public default DoubleArray volatility(double expiry, DoubleArray strikes, double forward) {
+    return strikes.map(strike -> volatility(expiry, strike, forward));
+  }
+
   /**
    * Calculates the volatility and the volatility sensitivity with respect to the volatility data points.
    * 
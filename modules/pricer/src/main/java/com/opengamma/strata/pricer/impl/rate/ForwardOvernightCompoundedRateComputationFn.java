@@ -127,6 +127,27 @@ public class ForwardOvernightCompoundedRateComputationFn
     private double pastCompositionFactor() {
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
+      // use the cumulative compounded fixings to handle the fixings in the non-cutoff period if possible
+      if (firstFixing.isBefore(lastFixingNonCutoff) &&
+          rates.getValuationDate().isAfter(computation.calculatePublicationFromFixing(firstFixing))) {
+        OvernightCompoundedFixings compoundedFixings = OvernightCompoundedFixings.of(computation, indexFixingDateSeries);
+        int startIndex = compoundedFixings.indexOf(firstFixing);
+        if (startIndex >= 0) {
+          int endIndex = compoundedFixings.firstUnpublished(computation, rates.getValuationDate(), startIndex);
+          int lastIndex = compoundedFixings.indexOf(lastFixingNonCutoff);
+          if (lastIndex >= 0) {
+            endIndex = Math.min(endIndex, lastIndex);
+          }
+          // if the fixings are incomplete, the loop below reports the missing fixing
+          if (endIndex > startIndex && compoundedFixings.isComplete(startIndex, endIndex)) {
+            compositionFactor = compoundedFixings.compositionFactor(startIndex, endIndex);
+            // the fixings commonly end on the last published fixing, thus the next fixing is not in the time-series
+            currentFixing = endIndex < compoundedFixings.size() ?
+                compoundedFixings.fixingDate(endIndex) :
+                computation.getFixingCalendar().next(compoundedFixings.fixingDate(endIndex - 1));
+          }
+        }
+      }
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
           rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
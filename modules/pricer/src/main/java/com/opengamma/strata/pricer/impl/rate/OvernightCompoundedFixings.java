@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.CacheBuilder;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.product.rate.OvernightRateComputation;
+
+/**
+ * The cumulative compounded value of the fixings of an overnight index.
+ * <p>
+ * This holds each fixing date of the index between the first and last date of a time-series of fixings,
+ * together with the product of the compounding factors {@code (1 + accrualFactor * fixing)} of all earlier
+ * fixings. The compounding factor of any range of fixings is then the ratio of two stored values.
+ * <p>
+ * Instances are cached for each time-series, calendar and index. The time-series is compared by identity
+ * and held weakly, thus the cache is populated once for each set of market data and discarded with it.
+ * The calendar is also compared by identity and held weakly, as calendars are equal if their identifiers
+ * are equal, yet two calendars with the same identifier may have different holidays.
+ */
+final class OvernightCompoundedFixings {
+
+  /**
+   * The cache, keyed by the time-series, then by calendar and then by index.
+   */
+  private static final ConcurrentMap<LocalDateDoubleTimeSeries,
+      ConcurrentMap<HolidayCalendar, Map<OvernightIndex, OvernightCompoundedFixings>>> CACHE = weakIdentityMap();
+
+  /**
+   * The fixing dates, as epoch days, in ascending order.
+   */
+  private final int[] fixingDates;
+  /**
+   * The cumulative compounding factor, one larger than the number of fixing dates.
+   * The element at index {@code i} is the product of the compounding factors of fixings {@code 0} to {@code i - 1}.
+   * Fixing dates without a fixing are treated as having a compounding factor of one.
+   */
+  private final double[] cumulativeFactors;
+  /**
+   * The cumulative number of missing fixings, one larger than the number of fixing dates.
+   * The element at index {@code i} is the number of fixing dates {@code 0} to {@code i - 1} without a fixing.
+   */
+  private final int[] cumulativeMissing;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the cumulative compounded fixings for the index of a computation.
+   * <p>
+   * The conventions of the index and the fixing calendar of the computation are used.
+   *
+   * @param computation  the computation, defining the index and fixing calendar
+   * @param fixings  the time-series of fixings
+   * @return the cumulative compounded fixings
+   */
+  static OvernightCompoundedFixings of(OvernightRateComputation computation, LocalDateDoubleTimeSeries fixings) {
+    return CACHE.computeIfAbsent(fixings, ts -> weakIdentityMap())
+        .computeIfAbsent(computation.getFixingCalendar(), cal -> new ConcurrentHashMap<>())
+        .computeIfAbsent(computation.getIndex(), index -> build(computation, fixings));
+  }
+
+  // a concurrent map whose keys are compared by identity and held weakly
+  private static <K, V> ConcurrentMap<K, V> weakIdentityMap() {
+    return CacheBuilder.newBuilder().weakKeys().<K, V>build().asMap();
+  }
+
+  // compounds the fixings in the time-series
+  private static OvernightCompoundedFixings build(
+      OvernightRateComputation computation,
+      LocalDateDoubleTimeSeries fixings) {
+
+    if (fixings.isEmpty()) {
+      return new OvernightCompoundedFixings(new int[0], new double[] {1d}, new int[] {0});
+    }
+    HolidayCalendar calendar = computation.getFixingCalendar();
+    DayCount dayCount = computation.getIndex().getDayCount();
+    LocalDate lastDate = fixings.getLatestDate();
+    LocalDate currentFixing = calendar.nextOrSame(fixings.getEarliestDate());
+    int maxSize = (int) Math.max(ChronoUnit.DAYS.between(currentFixing, lastDate) + 1, 0);
+    int[] fixingDates = new int[maxSize];
+    double[] cumulativeFactors = new double[maxSize + 1];
+    int[] cumulativeMissing = new int[maxSize + 1];
+    double factor = 1d;
+    int missing = 0;
+    int size = 0;
+    while (!currentFixing.isAfter(lastDate)) {
+      fixingDates[size] = Math.toIntExact(currentFixing.toEpochDay());
+      cumulativeFactors[size] = factor;
+      cumulativeMissing[size] = missing;
+      OptionalDouble fixedRate = fixings.get(currentFixing);
+      if (fixedRate.isPresent()) {
+        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
+        LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
+        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+        factor *= 1d + accrualFactor * fixedRate.getAsDouble();
+      } else {
+        missing++;
+      }
+      size++;
+      currentFixing = calendar.next(currentFixing);
+    }
+    cumulativeFactors[size] = factor;
+    cumulativeMissing[size] = missing;
+    return new OvernightCompoundedFixings(
+        Arrays.copyOf(fixingDates, size),
+        Arrays.copyOf(cumulativeFactors, size + 1),
+        Arrays.copyOf(cumulativeMissing, size + 1));
+  }
+
+  // restricted constructor
+  private OvernightCompoundedFixings(int[] fixingDates, double[] cumulativeFactors, int[] cumulativeMissing) {
+    this.fixingDates = fixingDates;
+    this.cumulativeFactors = cumulativeFactors;
+    this.cumulativeMissing = cumulativeMissing;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of fixing dates.
+   *
+   * @return the number of fixing dates
+   */
+  int size() {
+    return fixingDates.length;
+  }
+
+  /**
+   * Gets the fixing date at the specified index.
+   *
+   * @param index  the index of the fixing date
+   * @return the fixing date
+   */
+  LocalDate fixingDate(int index) {
+    return LocalDate.ofEpochDay(fixingDates[index]);
+  }
+
+  /**
+   * Finds the index of a fixing date.
+   *
+   * @param fixingDate  the fixing date
+   * @return the index of the fixing date, -1 if it is not one of the fixing dates
+   */
+  int indexOf(LocalDate fixingDate) {
+    long epochDay = fixingDate.toEpochDay();
+    if (fixingDates.length == 0 || epochDay < fixingDates[0] || epochDay > fixingDates[fixingDates.length - 1]) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(fixingDates, (int) epochDay);
+    return index >= 0 ? index : -1;
+  }
+
+  /**
+   * Finds the index of the first fixing date, at or after the specified index, whose fixing
+   * is not published strictly before the valuation date.
+   *
+   * @param computation  the computation, defining the publication date of each fixing
+   * @param valuationDate  the valuation date
+   * @param fromIndex  the index to start searching from
+   * @return the index of the first unpublished fixing, the number of fixing dates if all are published
+   */
+  int firstUnpublished(OvernightRateComputation computation, LocalDate valuationDate, int fromIndex) {
+    // the publication date increases with the fixing date, so a binary search can be used
+    int low = fromIndex;
+    int high = fixingDates.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      LocalDate publicationDate = computation.calculatePublicationFromFixing(fixingDate(mid));
+      if (valuationDate.isAfter(publicationDate)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Checks if all the fixings in a range are present.
+   *
+   * @param startIndex  the index of the first fixing date, inclusive
+   * @param endIndex  the index of the last fixing date, exclusive
+   * @return true if there is a fixing for every fixing date in the range
+   */
+  boolean isComplete(int startIndex, int endIndex) {
+    return cumulativeMissing[endIndex] == cumulativeMissing[startIndex];
+  }
+
+  /**
+   * Calculates the compounding factor of the fixings in a range.
+   *
+   * @param startIndex  the index of the first fixing date, inclusive
+   * @param endIndex  the index of the last fixing date, exclusive
+   * @return the product of {@code (1 + accrualFactor * fixing)} for each fixing in the range
+   */
+  double compositionFactor(int startIndex, int endIndex) {
+    return cumulativeFactors[endIndex] / cumulativeFactors[startIndex];
+  }
+
+}
@@ -36,6 +36,14 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    */
   public static final HullWhiteOneFactorPiecewiseConstantInterestRateModel DEFAULT =
       new HullWhiteOneFactorPiecewiseConstantInterestRateModel();
+  /**
+   * The maximum number of Newton iterations used to find the exercise boundary.
+   */
+  private static final int KAPPA_MAX_ITERATIONS = 50;
+  /**
+   * The accuracy of the exercise boundary found by Newton iteration.
+   */
+  private static final double KAPPA_ACCURACY = 1.0E-12;
 
   //-------------------------------------------------------------------------
   /**
@@ -182,8 +190,72 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
       double numeraireTime,
       double bondMaturity) {
 
+    return alpha(data, alphaIntegral(data, startExpiry, endExpiry), numeraireTime, bondMaturity);
+  }
+
+  /**
+   * Calculates the alpha values for a given period with respect to several bond maturities.
+   * <p>
+   * This is equivalent to calling the single maturity alpha method for each bond maturity,
+   * but the integral of the volatility over the expiry period is only computed once.
+   * 
+   * @param data  the Hull-White model data
+   * @param startExpiry the start time of the expiry period
+   * @param endExpiry  the end time of the expiry period
+   * @param numeraireTime  the time to maturity for the bond numeraire
+   * @param bondMaturities  the times to maturity for the bonds
+   * @return the re-based bond volatilities
+   */
+  public DoubleArray alpha(
+      HullWhiteOneFactorPiecewiseConstantParameters data,
+      double startExpiry,
+      double endExpiry,
+      double numeraireTime,
+      DoubleArray bondMaturities) {
+
+    double integral = alphaIntegral(data, startExpiry, endExpiry);
+    return bondMaturities.map(bondMaturity -> alpha(data, integral, numeraireTime, bondMaturity));
+  }
+
+  /**
+   * Calculates the alpha value from the integral of the volatility over the expiry period.
+   * <p>
+   * The integral is obtained from {@link #alphaIntegral(HullWhiteOneFactorPiecewiseConstantParameters, double, double)}.
+   * As it only depends on the expiry period, it can be shared between bonds and between instruments.
+   * 
+   * @param data  the Hull-White model data
+   * @param alphaIntegral  the integral of the volatility over the expiry period
+   * @param numeraireTime  the time to maturity for the bond numeraire
+   * @param bondMaturity the time to maturity for the bond
+   * @return the re-based bond volatility
+   */
+  public double alpha(
+      HullWhiteOneFactorPiecewiseConstantParameters data,
+      double alphaIntegral,
+      double numeraireTime,
+      double bondMaturity) {
+
     double factor1 = Math.exp(-data.getMeanReversion() * numeraireTime) -
         Math.exp(-data.getMeanReversion() * bondMaturity);
+    return factor1 * Math.sqrt(alphaIntegral);
+  }
+
+  /**
+   * Calculates the integral of the volatility over the expiry period, used to compute alpha.
+   * <p>
+   * The alpha of a bond is the square root of this integral multiplied by a factor depending only on
+   * the numeraire time and the bond maturity.
+   * 
+   * @param data  the Hull-White model data
+   * @param startExpiry the start time of the expiry period
+   * @param endExpiry  the end time of the expiry period
+   * @return the integral
+   */
+  public double alphaIntegral(
+      HullWhiteOneFactorPiecewiseConstantParameters data,
+      double startExpiry,
+      double endExpiry) {
+
     double numerator = 2 * data.getMeanReversion() * data.getMeanReversion() * data.getMeanReversion();
     int indexStart = Math.abs(Arrays.binarySearch(data.getVolatilityTime().toArray(), startExpiry) + 1);
     // Period in which the time startExpiry is; volatilityTime.get(i-1) <= startExpiry < volatilityTime.get(i);
@@ -203,7 +275,7 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
       factor2 += data.getVolatility().get(loopperiod + indexStart - 1) *
           data.getVolatility().get(loopperiod + indexStart - 1) * (exp2as[loopperiod + 1] - exp2as[loopperiod]);
     }
-    return factor1 * Math.sqrt(factor2 / numerator);
+    return factor2 / numerator;
   }
 
   /**
@@ -267,11 +339,45 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    * Reference: Henrard, M. (2003). "Explicit bond option and swaption formula in Heath-Jarrow-Morton one-factor model". 
    * International Journal of Theoretical and Applied Finance, 6(1):57--72.
    * 
+   * <p>
+   * The boundary is found using a Newton iteration with the analytic derivative of the swap value.
+   * If the iteration does not converge, the boundary is found using a bracketed root finder.
+   * 
    * @param discountedCashFlow  the cash flow equivalent discounted to today
    * @param alpha  the zero-coupon bond volatilities
    * @return the exercise boundary
    */
   public double kappa(DoubleArray discountedCashFlow, DoubleArray alpha) {
+    int nbCf = alpha.size();
+    double[] weight = new double[nbCf];
+    double[] slope = new double[nbCf];
+    for (int loopcf = 0; loopcf < nbCf; loopcf++) {
+      weight[loopcf] = discountedCashFlow.get(loopcf) * Math.exp(-0.5 * alpha.get(loopcf) * alpha.get(loopcf));
+      slope[loopcf] = alpha.get(loopcf) - alpha.get(0);
+    }
+    double x = 0d;
+    for (int i = 0; i < KAPPA_MAX_ITERATIONS; i++) {
+      double value = 0d;
+      double derivative = 0d;
+      for (int loopcf = 0; loopcf < nbCf; loopcf++) {
+        double term = weight[loopcf] * Math.exp(-slope[loopcf] * x);
+        value += term;
+        derivative -= slope[loopcf] * term;
+      }
+      double step = value / derivative;
+      if (!Double.isFinite(step)) {
+        break;
+      }
+      x -= step;
+      if (Math.abs(step) <= KAPPA_ACCURACY) {
+        return x;
+      }
+    }
+    return kappaBracketed(discountedCashFlow, alpha);
+  }
+
+  // finds the exercise boundary using a bracketed root finder
+  private double kappaBracketed(DoubleArray discountedCashFlow, DoubleArray alpha) {
     final Function<Double, Double> swapValue = new Function<Double, Double>() {
       @Override
       public Double apply(Double x) {
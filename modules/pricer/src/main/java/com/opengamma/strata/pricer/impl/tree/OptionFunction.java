@@ -127,8 +127,14 @@ public interface OptionFunction {
       int i) {
 
     int nNodes = 2 * i + 1;
-    return DoubleArray.of(nNodes, j -> discountFactor * (transitionProbability.get(j, 2) * value.get(j + 2) +
-        transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
+    double[][] probs = transitionProbability.toArrayUnsafe();
+    double[] next = value.toArrayUnsafe();
+    double[] res = new double[nNodes];
+    for (int j = 0; j < nNodes; ++j) {
+      double[] probsAtNode = probs[j];
+      res[j] = discountFactor * (probsAtNode[2] * next[j + 2] + probsAtNode[1] * next[j + 1] + probsAtNode[0] * next[j]);
+    }
+    return DoubleArray.ofUnsafe(res);
   }
 
 }
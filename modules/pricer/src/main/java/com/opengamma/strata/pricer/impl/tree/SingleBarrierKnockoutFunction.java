@@ -102,16 +102,18 @@ abstract class SingleBarrierKnockoutFunction implements OptionFunction {
     double barrierLevel = getBarrierLevel(i);
     double rebate = getRebate(i);
     boolean isDown = getBarrierType().isDown();
+    // access the underlying arrays directly as this is called for every layer of the tree
+    double[] state = stateValue.toArrayUnsafe();
+    double[][] probs = transitionProbability.toArrayUnsafe();
+    double[] next = values.toArrayUnsafe();
     for (int j = 0; j < nNodes; ++j) {
-      if ((isDown && stateValue.get(j) <= barrierLevel) ||
-          (!isDown && stateValue.get(j) >= barrierLevel)) {
+      if ((isDown && state[j] <= barrierLevel) ||
+          (!isDown && state[j] >= barrierLevel)) {
         res[j] = rebate;
       } else {
-        double upProb = transitionProbability.get(j, 2);
-        double middleProb = transitionProbability.get(j, 1);
-        double downProb = transitionProbability.get(j, 0);
+        double[] probsAtNode = probs[j];
         res[j] = discountFactor *
-            (upProb * values.get(j + 2) + middleProb * values.get(j + 1) + downProb * values.get(j));
+            (probsAtNode[2] * next[j + 2] + probsAtNode[1] * next[j + 1] + probsAtNode[0] * next[j]);
       }
     }
     // modification if barrier lies between two consecutive nodes 
@@ -5,9 +5,13 @@
  */
 package com.opengamma.strata.pricer.impl.tree;
 
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 
 /**
@@ -100,21 +104,55 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
+    return optionPriceAdjoint(ImmutableList.of(function), data).get(0);
+  }
+
+  /**
+   * Compute the price and delta of several options under the same trinomial tree gird.
+   * <p>
+   * The options are priced in a single backward sweep of the tree, such that the data of each time layer
+   * is obtained once and shared by all the options. This is more efficient than pricing each option separately
+   * when many options are priced against the same calibrated tree, such as options of the same expiry.
+   * <p>
+   * The delta is the first derivative of the price with respect to spot, and approximated by the data embedded in 
+   * the trinomial tree.
+   * 
+   * @param functions  the options
+   * @param data  the trinomial tree data
+   * @return the option price and spot delta, one for each option
+   */
+  public List<ValueDerivatives> optionPriceAdjoint(
+      List<? extends OptionFunction> functions,
+      RecombiningTrinomialTreeData data) {
+
     int nSteps = data.getNumberOfSteps();
-    ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    double delta = 0d;
+    int nFunctions = functions.size();
+    DoubleArray[] values = new DoubleArray[nFunctions];
+    DoubleArray stateValueAtExpiry = data.getStateValueAtLayer(nSteps);
+    for (int k = 0; k < nFunctions; k++) {
+      OptionFunction function = functions.get(k);
+      ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
+      values[k] = function.getPayoffAtExpiryTrinomial(stateValueAtExpiry);
+    }
+    double[] delta = new double[nFunctions];
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-      if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
-        delta = 0.5 * (d1 + d2);
+      double discountFactor = data.getDiscountFactorAtLayer(i);
+      DoubleMatrix probability = data.getProbabilityAtLayer(i);
+      DoubleArray stateValue = data.getStateValueAtLayer(i);
+      for (int k = 0; k < nFunctions; k++) {
+        values[k] = functions.get(k).getNextOptionValues(discountFactor, probability, stateValue, values[k], i);
+        if (i == 1) {
+          double d1 = (values[k].get(2) - values[k].get(1)) / (stateValue.get(2) - stateValue.get(1));
+          double d2 = (values[k].get(1) - values[k].get(0)) / (stateValue.get(1) - stateValue.get(0));
+          delta[k] = 0.5 * (d1 + d2);
+        }
       }
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
+    ImmutableList.Builder<ValueDerivatives> builder = ImmutableList.builder();
+    for (int k = 0; k < nFunctions; k++) {
+      builder.add(ValueDerivatives.of(values[k].get(0), DoubleArray.of(delta[k])));
+    }
+    return builder.build();
   }
 
 }
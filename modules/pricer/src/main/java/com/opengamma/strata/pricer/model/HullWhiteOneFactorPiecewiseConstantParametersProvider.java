@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -26,9 +27,14 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.collect.tuple.Triple;
 import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
 
 /**
@@ -45,6 +51,10 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
    */
   private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
       HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  /**
+   * The maximum number of model integrals of each kind that are cached.
+   */
+  private static final int CACHE_SIZE = 1000;
 
   /**
    * The Hull-White model parameters.
@@ -63,6 +73,10 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
    */
   @PropertyDefinition(validate = "notNull")
   private final ZonedDateTime valuationDateTime;
+  /**
+   * The caches of model integrals, created on first use.
+   */
+  private transient volatile ModelCaches caches;  // not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -104,6 +118,8 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
   //-------------------------------------------------------------------------
   /**
    * Calculates the future convexity factor for the specified period at the future reference date.
+   * <p>
+   * The factor is cached, thus pricing the same future again with this provider does not recompute it.
    * 
    * @param referenceDate  the reference date
    * @param startDate  the start date of the period
@@ -111,10 +127,10 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
    * @return the convexity factor
    */
   public double futuresConvexityFactor(LocalDate referenceDate, LocalDate startDate, LocalDate endDate) {
-    double referenceTime = relativeTime(referenceDate);
-    double startTime = relativeTime(startDate);
-    double endTime = relativeTime(endDate);
-    return MODEL.futuresConvexityFactor(parameters, referenceTime, startTime, endTime);
+    return caches().convexity.asMap().computeIfAbsent(
+        Triple.of(referenceDate, startDate, endDate),
+        dates -> MODEL.futuresConvexityFactor(
+            parameters, relativeTime(referenceDate), relativeTime(startDate), relativeTime(endDate)));
   }
 
   /**
@@ -162,11 +178,47 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
    * @return  the alpha
    */
   public double alpha(LocalDate startDate, LocalDate endDate, LocalDate numeraireDate, LocalDate maturityDate) {
-    double startTime = relativeTime(startDate);
-    double endTime = relativeTime(endDate);
     double numeraireTime = relativeTime(numeraireDate);
     double maturityTime = relativeTime(maturityDate);
-    return MODEL.alpha(parameters, startTime, endTime, numeraireTime, maturityTime);
+    return MODEL.alpha(parameters, alphaIntegral(startDate, endDate), numeraireTime, maturityTime);
+  }
+
+  /**
+   * Calculates the alpha values for the specified period with respect to several maturity dates.
+   * <p>
+   * The alpha is computed with a bond numeraire of {@code numeraireDate}.
+   * This is equivalent to calling {@link #alpha(LocalDate, LocalDate, LocalDate, LocalDate)} for each maturity date.
+   * 
+   * @param startDate  the start date of the period
+   * @param endDate  the end date of the period
+   * @param numeraireDate  the numeraire date
+   * @param maturityDates  the maturity dates
+   * @return the alpha values, one for each maturity date
+   */
+  public DoubleArray alpha(LocalDate startDate, LocalDate endDate, LocalDate numeraireDate, List<LocalDate> maturityDates) {
+    double integral = alphaIntegral(startDate, endDate);
+    double numeraireTime = relativeTime(numeraireDate);
+    return DoubleArray.of(
+        maturityDates.size(),
+        i -> MODEL.alpha(parameters, integral, numeraireTime, relativeTime(maturityDates.get(i))));
+  }
+
+  // the integral of the volatility over the period, which is cached as it is shared by all bonds and instruments
+  private double alphaIntegral(LocalDate startDate, LocalDate endDate) {
+    return caches().alphaIntegral.asMap().computeIfAbsent(
+        Pair.of(startDate, endDate),
+        dates -> MODEL.alphaIntegral(parameters, relativeTime(startDate), relativeTime(endDate)));
+  }
+
+  // gets the caches, creating them if necessary
+  // concurrent first use may create the caches more than once, which only loses the cached values
+  private ModelCaches caches() {
+    ModelCaches result = caches;
+    if (result == null) {
+      result = new ModelCaches();
+      caches = result;
+    }
+    return result;
   }
 
   /**
@@ -202,6 +254,23 @@ public final class HullWhiteOneFactorPiecewiseConstantParametersProvider
     return MODEL;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * The caches of model integrals.
+   */
+  private static final class ModelCaches {
+    /**
+     * The integrals of the volatility over expiry periods, keyed by the start and end date of the period.
+     */
+    private final Cache<Pair<LocalDate, LocalDate>, Double> alphaIntegral =
+        CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+    /**
+     * The futures convexity factors, keyed by the reference, start and end date.
+     */
+    private final Cache<Triple<LocalDate, LocalDate, LocalDate>, Double> convexity =
+        CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code HullWhiteOneFactorPiecewiseConstantParametersProvider}.
@@ -9,6 +9,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -127,63 +128,39 @@ public final class CurveGammaCalculator {
       RatesProvider ratesProvider,
       Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
 
+    return calculateCrossGammaIntraCurve(ratesProvider, ImmutableList.of(sensitivitiesFn)).get(0);
+  }
+
+  /**
+   * Computes intra-curve cross gamma for a batch of sensitivity functions sharing the same curves.
+   * <p>
+   * This computes the same result as {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}
+   * for each sensitivity function, typically one function for each trade in a portfolio.
+   * Each curve is bumped once for the whole batch, with the bumped rates provider shared by all the functions.
+   * A function is only invoked for a curve if its base delta contains a sensitivity to that curve.
+   * <p>
+   * The sensitivities are computed for discount curves, and forward curves for {@code RateIndex} and {@code PriceIndex}. 
+   * This implementation works only for single currency trades. 
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions
+   * @return the cross gamma, one for each sensitivity function, in the same order
+   */
+  public List<CrossGammaParameterSensitivities> calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
-    CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    // discount curve
-    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-      Currency currency = entry.getKey();
-      Curve curve = entry.getValue();
-      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curve, currency, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else if (curve.split().size() > 1) {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        for (int i = 0; i < nCurves; ++i) {
-          int currentIndex = i;
-          Curve underlyingCurve = curves.get(currentIndex);
-          if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                underlyingCurve,
-                currency,
-                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                sensitivitiesFn);
-            result = result.combinedWith(gammaSingle);
-          }
-        }
-      }
-    }
-    // forward curve
-    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-      Index index = entry.getKey();
-      if (index instanceof RateIndex || index instanceof PriceIndex) {
-        Currency currency = getCurrency(index);
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              curve, currency, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-          result = result.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurve,
-                  currency,
-                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
+    // used to check target sensitivity exits
+    List<CurrencyParameterSensitivities> baseDeltas = sensitivitiesFns.stream()
+        .map(fn -> fn.apply(immProv))
+        .collect(toImmutableList());
+    CrossGammaParameterSensitivities[] results = new CrossGammaParameterSensitivities[sensitivitiesFns.size()];
+    Arrays.fill(results, CrossGammaParameterSensitivities.empty());
+    for (CurveBump bump : curveBumps(immProv, baseDeltas)) {
+      computeGammaForCurve(results, bump, sensitivitiesFns);
     }
-    return result;
+    return ImmutableList.copyOf(results);
   }
 
   //-------------------------------------------------------------------------
@@ -300,67 +277,53 @@ public final class CurveGammaCalculator {
       RatesProvider ratesProvider,
       Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
 
+    return calculateCrossGammaCrossCurve(ratesProvider, ImmutableList.of(sensitivitiesFn)).get(0);
+  }
+
+  /**
+   * Computes cross-curve gamma for a batch of sensitivity functions sharing the same curves.
+   * <p>
+   * This computes the same result as {@link #calculateCrossGammaCrossCurve(RatesProvider, Function)}
+   * for each sensitivity function, typically one function for each trade in a portfolio.
+   * Each curve is bumped once for the whole batch, and each function is invoked once for each bump,
+   * with the sensitivity to all curves taken from the same invocation.
+   * A function is only invoked for a curve if its base delta contains a sensitivity to that curve.
+   * <p>
+   * The sensitivities are computed for discount curves, and forward curves for {@code RateIndex} and {@code PriceIndex}. 
+   * This implementation works only for single currency trades. 
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions
+   * @return the cross gamma, one for each sensitivity function, in the same order
+   */
+  public List<CrossGammaParameterSensitivities> calculateCrossGammaCrossCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
-    CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits.
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
-      CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
-      // discount curve
-      for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-        Currency currency = entry.getKey();
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              baseDeltaSingle, curve, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-          resultInner = resultInner.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  baseDeltaSingle,
-                  underlyingCurve,
-                  c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              resultInner = resultInner.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
-      // forward curve
-      for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-        Index index = entry.getKey();
-        if (index instanceof RateIndex || index instanceof PriceIndex) {
-          Currency currency = getCurrency(index);
-          Curve curve = entry.getValue();
-          if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                baseDeltaSingle, curve, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-            resultInner = resultInner.combinedWith(gammaSingle);
-          } else if (curve.split().size() > 1) {
-            ImmutableList<Curve> curves = curve.split();
-            int nCurves = curves.size();
-            for (int i = 0; i < nCurves; ++i) {
-              int currentIndex = i;
-              Curve underlyingCurve = curves.get(currentIndex);
-              if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-                CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                    baseDeltaSingle,
-                    underlyingCurve,
-                    c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                    sensitivitiesFn);
-                resultInner = resultInner.combinedWith(gammaSingle);
-              }
-            }
-          }
-        }
+    // used to check target sensitivity exits
+    List<CurrencyParameterSensitivities> baseDeltas = sensitivitiesFns.stream()
+        .map(fn -> fn.apply(immProv))
+        .collect(toImmutableList());
+    // the block cross gamma of each delta of each function
+    CrossGammaParameterSensitivities[][] blocks = new CrossGammaParameterSensitivities[baseDeltas.size()][];
+    for (int k = 0; k < baseDeltas.size(); k++) {
+      blocks[k] = new CrossGammaParameterSensitivities[baseDeltas.get(k).size()];
+      Arrays.fill(blocks[k], CrossGammaParameterSensitivities.empty());
+    }
+    for (CurveBump bump : curveBumps(immProv, baseDeltas)) {
+      computeCrossGammaForCurve(blocks, baseDeltas, bump, sensitivitiesFns);
+    }
+    ImmutableList.Builder<CrossGammaParameterSensitivities> results = ImmutableList.builder();
+    for (int k = 0; k < baseDeltas.size(); k++) {
+      CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+      List<CurrencyParameterSensitivity> deltas = baseDeltas.get(k).getSensitivities();
+      for (int a = 0; a < deltas.size(); a++) {
+        result = result.combinedWith(combineSensitivities(deltas.get(a), blocks[k][a]));
       }
-      result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
+      results.add(result);
     }
-    return result;
+    return results.build();
   }
 
   //-------------------------------------------------------------------------
@@ -373,58 +336,163 @@ public final class CurveGammaCalculator {
     throw new IllegalArgumentException("unsupported index");
   }
 
-  // compute the second order sensitivity to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
+  // finds the curves to bump, discount curves and then forward curves
+  // a function is bumped on the full curve if it has a delta to it, otherwise on the underlying curves it has a delta to
+  private List<CurveBump> curveBumps(ImmutableRatesProvider immProv, List<CurrencyParameterSensitivities> baseDeltas) {
+    List<CurveBump> bumps = new ArrayList<>();
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      addCurveBumps(
+          bumps, baseDeltas, entry.getValue(), currency, c -> immProv.toBuilder().discountCurve(currency, c).build());
+    }
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        addCurveBumps(
+            bumps, baseDeltas, entry.getValue(), getCurrency(index), c -> immProv.toBuilder().indexCurve(index, c).build());
+      }
+    }
+    return bumps;
+  }
+
+  private static void addCurveBumps(
+      List<CurveBump> bumps,
+      List<CurrencyParameterSensitivities> baseDeltas,
       Curve curve,
-      Currency sensitivityCurrency,
-      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
+      Currency currency,
+      Function<Curve, ImmutableRatesProvider> ratesProviderFn) {
+
+    int[] curveTargets = IntStream.range(0, baseDeltas.size())
+        .filter(k -> hasSensitivity(baseDeltas.get(k), curve, currency))
+        .toArray();
+    if (curveTargets.length > 0) {
+      bumps.add(new CurveBump(curve, currency, ratesProviderFn, curveTargets));
+    }
+    if (curveTargets.length < baseDeltas.size() && curve.split().size() > 1) {
+      ImmutableList<Curve> curves = curve.split();
+      for (int i = 0; i < curves.size(); ++i) {
+        int currentIndex = i;
+        Curve underlyingCurve = curves.get(currentIndex);
+        int[] underlyingTargets = IntStream.range(0, baseDeltas.size())
+            .filter(k -> !hasSensitivity(baseDeltas.get(k), curve, currency))
+            .filter(k -> hasSensitivity(baseDeltas.get(k), underlyingCurve, currency))
+            .toArray();
+        if (underlyingTargets.length > 0) {
+          bumps.add(new CurveBump(
+              underlyingCurve,
+              currency,
+              c -> ratesProviderFn.apply(curve.withUnderlyingCurve(currentIndex, c)),
+              underlyingTargets));
+        }
+      }
+    }
+  }
 
+  private static boolean hasSensitivity(CurrencyParameterSensitivities delta, Curve curve, Currency currency) {
+    return delta.findSensitivity(curve.getName(), currency).isPresent();
+  }
+
+  // compute the second order sensitivity to the bumped curve for each target sensitivity function
+  // the deltas of all the functions are differentiated together, so each bumped rates provider is only built once
+  private void computeGammaForCurve(
+      CrossGammaParameterSensitivities[] results,
+      CurveBump bump,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    Curve curve = bump.curve;
+    CurveName curveName = curve.getName();
+    Currency sensitivityCurrency = bump.currency;
+    int[] targets = bump.targets;
+    int nParams = curve.getParameterCount();
     Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray t) {
         Curve newCurve = replaceParameters(curve, t);
-        ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(newCurve.getName(), sensitivityCurrency).getSensitivity();
+        ImmutableRatesProvider newRates = bump.ratesProviderFn.apply(newCurve);
+        double[] sensiAll = new double[targets.length * nParams];
+        for (int k = 0; k < targets.length; k++) {
+          CurrencyParameterSensitivities sensiMulti = sensitivitiesFns.get(targets[k]).apply(newRates);
+          DoubleArray sensi = sensiMulti.getSensitivity(curveName, sensitivityCurrency).getSensitivity();
+          System.arraycopy(sensi.toArrayUnsafe(), 0, sensiAll, k * nParams, nParams);
+        }
+        return DoubleArray.ofUnsafe(sensiAll);
       }
     };
-    int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
-    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
-        .mapToObj(i -> curve.getParameterMetadata(i))
-        .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensi);
+    DoubleMatrix sensiAll = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    List<ParameterMetadata> metadata = parameterMetadata(curve);
+    for (int k = 0; k < targets.length; k++) {
+      int offset = k * nParams;
+      DoubleMatrix sensi = DoubleMatrix.of(nParams, nParams, (i, j) -> sensiAll.get(offset + i, j));
+      CrossGammaParameterSensitivity gammaSingle =
+          CrossGammaParameterSensitivity.of(curveName, metadata, sensitivityCurrency, sensi);
+      results[targets[k]] = results[targets[k]].combinedWith(gammaSingle);
+    }
   }
 
-  // computes the sensitivity of baseDeltaSingle to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
-      CurrencyParameterSensitivity baseDeltaSingle,
-      Curve curve,
-      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
-
+  // compute the sensitivity of every delta of each target sensitivity function to the bumped curve
+  // each function is invoked once for each bump, providing the bumped delta to all curves
+  private void computeCrossGammaForCurve(
+      CrossGammaParameterSensitivities[][] blocks,
+      List<CurrencyParameterSensitivities> baseDeltas,
+      CurveBump bump,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    Curve curve = bump.curve;
+    int[] targets = bump.targets;
+    int[] offsets = new int[targets.length + 1];
+    for (int k = 0; k < targets.length; k++) {
+      offsets[k + 1] = offsets[k] + baseDeltas.get(targets[k]).getSensitivities().stream()
+          .mapToInt(s -> s.getParameterCount())
+          .sum();
+    }
     Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray t) {
         Curve newCurve = replaceParameters(curve, t);
-        ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity();
+        ImmutableRatesProvider newRates = bump.ratesProviderFn.apply(newCurve);
+        double[] sensiAll = new double[offsets[targets.length]];
+        for (int k = 0; k < targets.length; k++) {
+          CurrencyParameterSensitivities sensiMulti = sensitivitiesFns.get(targets[k]).apply(newRates);
+          int offset = offsets[k];
+          for (CurrencyParameterSensitivity baseDeltaSingle : baseDeltas.get(targets[k]).getSensitivities()) {
+            DoubleArray sensi = sensiMulti
+                .getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency())
+                .getSensitivity();
+            System.arraycopy(sensi.toArrayUnsafe(), 0, sensiAll, offset, sensi.size());
+            offset += sensi.size();
+          }
+        }
+        return DoubleArray.ofUnsafe(sensiAll);
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
-    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
+    DoubleMatrix sensiAll = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    List<ParameterMetadata> metadata = parameterMetadata(curve);
+    for (int k = 0; k < targets.length; k++) {
+      int offset = offsets[k];
+      List<CurrencyParameterSensitivity> deltas = baseDeltas.get(targets[k]).getSensitivities();
+      for (int a = 0; a < deltas.size(); a++) {
+        CurrencyParameterSensitivity baseDeltaSingle = deltas.get(a);
+        int rowOffset = offset;
+        DoubleMatrix sensi = DoubleMatrix.of(
+            baseDeltaSingle.getParameterCount(), nParams, (i, j) -> sensiAll.get(rowOffset + i, j));
+        CrossGammaParameterSensitivity gammaSingle = CrossGammaParameterSensitivity.of(
+            baseDeltaSingle.getMarketDataName(),
+            baseDeltaSingle.getParameterMetadata(),
+            curve.getName(),
+            metadata,
+            baseDeltaSingle.getCurrency(),
+            sensi);
+        blocks[targets[k]][a] = blocks[targets[k]][a].combinedWith(gammaSingle);
+        offset += baseDeltaSingle.getParameterCount();
+      }
+    }
+  }
+
+  private static List<ParameterMetadata> parameterMetadata(Curve curve) {
+    return IntStream.range(0, curve.getParameterCount())
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(
-        baseDeltaSingle.getMarketDataName(),
-        baseDeltaSingle.getParameterMetadata(),
-        curve.getName(),
-        metadata,
-        baseDeltaSingle.getCurrency(),
-        sensi);
   }
 
   private CrossGammaParameterSensitivity combineSensitivities(
@@ -502,6 +570,29 @@ public final class CurveGammaCalculator {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A curve to bump, with the sensitivity functions that are differentiated with respect to it.
+   */
+  private static final class CurveBump {
+    private final Curve curve;
+    private final Currency currency;
+    private final Function<Curve, ImmutableRatesProvider> ratesProviderFn;
+    private final int[] targets;
+
+    private CurveBump(
+        Curve curve,
+        Currency currency,
+        Function<Curve, ImmutableRatesProvider> ratesProviderFn,
+        int[] targets) {
+
+      this.curve = curve;
+      this.currency = currency;
+      this.ratesProviderFn = ratesProviderFn;
+      this.targets = targets;
+    }
+  }
+
   //-------------------------------------------------------------------------
   private Curve getCurve(DiscountFactors discountFactors) {
     if (discountFactors instanceof SimpleDiscountFactors) {
@@ -6,6 +6,8 @@
 package com.opengamma.strata.pricer.swaption;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -90,14 +92,15 @@ public class HullWhiteSwaptionPhysicalProductPricer {
     }
     ResolvedSwapLeg cashFlowEquiv = CashFlowEquivalentCalculator.cashFlowEquivalentSwap(swap, ratesProvider);
     int nPayments = cashFlowEquiv.getPaymentEvents().size();
-    double[] alpha = new double[nPayments];
+    List<LocalDate> maturityDates = new ArrayList<>(nPayments);
     double[] discountedCashFlow = new double[nPayments];
     for (int loopcf = 0; loopcf < nPayments; loopcf++) {
       NotionalExchange payment = (NotionalExchange) cashFlowEquiv.getPaymentEvents().get(loopcf);
-      LocalDate maturityDate = payment.getPaymentDate();
-      alpha[loopcf] = hwProvider.alpha(ratesProvider.getValuationDate(), expiryDate, expiryDate, maturityDate);
+      maturityDates.add(payment.getPaymentDate());
       discountedCashFlow[loopcf] = paymentPricer.presentValueAmount(payment.getPayment(), ratesProvider);
     }
+    double[] alpha = hwProvider.alpha(ratesProvider.getValuationDate(), expiryDate, expiryDate, maturityDates)
+        .toArrayUnsafe();
     double omega = (swap.getLegs(SwapLegType.FIXED).get(0).getPayReceive().isPay() ? -1d : 1d);
     double kappa = computeKappa(hwProvider, discountedCashFlow, alpha, omega);
     double pv = 0.0;
@@ -152,13 +155,15 @@ public class HullWhiteSwaptionPhysicalProductPricer {
     ImmutableList<Payment> list = cashFlowEquivSensi.keySet().asList();
     ImmutableList<PointSensitivityBuilder> listSensi = cashFlowEquivSensi.values().asList();
     int nPayments = list.size();
-    double[] alpha = new double[nPayments];
+    List<LocalDate> maturityDates = new ArrayList<>(nPayments);
     double[] discountedCashFlow = new double[nPayments];
     for (int loopcf = 0; loopcf < nPayments; loopcf++) {
       Payment payment = list.get(loopcf);
-      alpha[loopcf] = hwProvider.alpha(ratesProvider.getValuationDate(), expiryDate, expiryDate, payment.getDate());
+      maturityDates.add(payment.getDate());
       discountedCashFlow[loopcf] = paymentPricer.presentValueAmount(payment, ratesProvider);
     }
+    double[] alpha = hwProvider.alpha(ratesProvider.getValuationDate(), expiryDate, expiryDate, maturityDates)
+        .toArrayUnsafe();
     double omega = (swap.getLegs(SwapLegType.FIXED).get(0).getPayReceive().isPay() ? -1d : 1d);
     double kappa = computeKappa(hwProvider, discountedCashFlow, alpha, omega);
     PointSensitivityBuilder point = PointSensitivityBuilder.none();
@@ -16,6 +16,7 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.AdjustablePayment;
@@ -226,6 +227,28 @@ public class DiscountingBillProductPricerTest {
     assertThat(priceComputed).isCloseTo(priceExpected, offset(TOLERANCE_PRICE));
   }
   
+  @Test
+  public void zSpreadFromCurvesAndPrice() {
+    LocalDate settlementDate = VAL_DATE.plusDays(1);
+    for (CompoundedRateType type : CompoundedRateType.values()) {
+      double price = PRICER.priceFromCurvesWithZSpread(BILL, PROVIDER, settlementDate, Z_SPREAD, type, 4);
+      BondZSpreadCashFlows cashFlows = PRICER.zSpreadCashFlows(BILL, PROVIDER, settlementDate, type, 4);
+      assertThat(cashFlows.priceFromZSpread(Z_SPREAD)).isCloseTo(price, offset(TOLERANCE_PRICE));
+      double zSpread = PRICER.zSpreadFromCurvesAndPrice(BILL, PROVIDER, settlementDate, price, type, 4);
+      assertThat(zSpread).isCloseTo(Z_SPREAD, offset(TOLERANCE_PRICE));
+    }
+    DoubleArray prices = DoubleArray.of(
+        PRICER.priceFromCurvesWithZSpread(BILL, PROVIDER, settlementDate, Z_SPREAD, CompoundedRateType.CONTINUOUS, 0),
+        PRICER.priceFromCurves(BILL, PROVIDER, settlementDate));
+    DoubleArray zSpreads = PRICER.zSpreadFromCurvesAndPrice(
+        ImmutableList.of(BILL, BILL), PROVIDER, settlementDate, prices, CompoundedRateType.CONTINUOUS, 0);
+    assertThat(zSpreads.get(0)).isCloseTo(Z_SPREAD, offset(TOLERANCE_PRICE));
+    assertThat(zSpreads.get(1)).isCloseTo(0d, offset(TOLERANCE_PRICE));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.zSpreadFromCurvesAndPrice(
+            BILL, PROVIDER, MATURITY_DATE, 0.99, CompoundedRateType.CONTINUOUS, 0));
+  }
+
   @Test
   public void price_zspread_settle_date_after_maturity_error() {
     assertThatIllegalArgumentException()
@@ -17,6 +17,7 @@ import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
 import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
@@ -53,6 +54,7 @@ import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.CompoundedRateType;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
@@ -349,6 +351,37 @@ public class DiscountingFixedCouponBondProductPricerTest {
     assertThat(computed).isCloseTo(Z_SPREAD, offset(TOL));
   }
 
+  @Test
+  public void test_zSpreadCashFlows() {
+    LocalDate settlement = DATE_OFFSET.adjust(VAL_DATE, REF_DATA);
+    for (CompoundedRateType rateType : CompoundedRateType.values()) {
+      BondZSpreadCashFlows test = PRICER.zSpreadCashFlows(PRODUCT, PROVIDER, settlement, rateType, PERIOD_PER_YEAR);
+      assertThat(test.getCompoundedRateType()).isEqualTo(rateType);
+      for (double z : new double[] {-0.01, 0d, Z_SPREAD}) {
+        double expected = PRICER.dirtyPriceFromCurvesWithZSpread(PRODUCT, PROVIDER, z, rateType, PERIOD_PER_YEAR, settlement);
+        assertThat(test.priceFromZSpread(z)).isCloseTo(expected, offset(TOL));
+        ValueDerivatives computed = test.priceFromZSpreadAd(z);
+        assertThat(computed.getValue()).isCloseTo(expected, offset(TOL));
+        double expectedDerivative = (test.priceFromZSpread(z + EPS) - test.priceFromZSpread(z - EPS)) / (2d * EPS);
+        assertThat(computed.getDerivative(0)).isCloseTo(expectedDerivative, offset(EPS));
+        assertThat(test.zSpreadFromPrice(expected)).isCloseTo(z, offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_zSpreadFromCurvesAndDirtyPrice_bulk() {
+    List<ResolvedFixedCouponBond> bonds = ImmutableList.of(PRODUCT, PRODUCT_NO_EXCOUPON);
+    DoubleArray zSpreads = DoubleArray.of(Z_SPREAD, -0.005);
+    DoubleArray prices = DoubleArray.of(
+        bonds.size(),
+        i -> PRICER.dirtyPriceFromCurvesWithZSpread(bonds.get(i), PROVIDER, REF_DATA, zSpreads.get(i), PERIODIC, 2));
+    DoubleArray computed = PRICER.zSpreadFromCurvesAndDirtyPrice(bonds, PROVIDER, REF_DATA, prices, PERIODIC, 2);
+    assertThat(computed.equalWithTolerance(zSpreads, TOL)).isTrue();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.zSpreadFromCurvesAndDirtyPrice(bonds, PROVIDER, REF_DATA, DoubleArray.of(1d), PERIODIC, 2));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_presentValueSensitivity() {
@@ -887,6 +920,60 @@ public class DiscountingFixedCouponBondProductPricerTest {
     assertThat(computed).isCloseTo(0d, offset(TOL));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void yieldCashFlows() {
+    List<Pair<ResolvedFixedCouponBond, LocalDate>> bonds = ImmutableList.of(
+        Pair.of(PRODUCT, VAL_DATE),
+        Pair.of(PRODUCT_NO_EXCOUPON, VAL_DATE),
+        Pair.of(PRODUCT_US, SETTLEMENT_US),
+        Pair.of(PRODUCT_US_0, SETTLEMENT_US),
+        Pair.of(PRODUCT_US, SETTLEMENT_LAST_US),
+        Pair.of(PRODUCT_UK, SETTLEMENT_UK),
+        Pair.of(PRODUCT_UK, SETTLEMENT_LAST_UK),
+        Pair.of(PRODUCT_GER, SETTLEMENT_GER),
+        Pair.of(PRODUCT_GER, SETTLEMENT_LAST_GER),
+        Pair.of(PRODUCT_JP, SETTLEMENT_JP),
+        Pair.of(PRODUCT_JP, SETTLEMENT_LAST_JP));
+    double[] yields = {-0.005, 0d, 0.00321, 0.04, 0.15};
+    for (Pair<ResolvedFixedCouponBond, LocalDate> pair : bonds) {
+      ResolvedFixedCouponBond bond = pair.getFirst();
+      LocalDate settlement = pair.getSecond();
+      FixedCouponBondYieldCashFlows test = PRICER.yieldCashFlows(bond, settlement);
+      assertThat(test.getYieldConvention()).isEqualTo(bond.getYieldConvention());
+      for (double yield : yields) {
+        double expected = PRICER.dirtyPriceFromYield(bond, settlement, yield);
+        ValueDerivatives expectedAd = PRICER.dirtyPriceFromYieldAd(bond, settlement, yield);
+        assertThat(test.dirtyPriceFromYield(yield)).isCloseTo(expected, offset(TOL));
+        ValueDerivatives computedAd = test.dirtyPriceFromYieldAd(yield);
+        assertThat(computedAd.getValue()).isCloseTo(expected, offset(TOL));
+        assertThat(computedAd.getDerivative(0)).isCloseTo(expectedAd.getDerivative(0), offset(1e-10));
+        assertThat(test.yieldFromDirtyPrice(expected)).isCloseTo(yield, offset(TOL));
+        ValueDerivatives yieldAd = test.yieldFromDirtyPriceAd(expected);
+        assertThat(yieldAd.getValue()).isCloseTo(yield, offset(TOL));
+        assertThat(yieldAd.getDerivative(0)).isCloseTo(1d / expectedAd.getDerivative(0), offset(1e-8));
+      }
+    }
+    assertThat(PRICER.yieldCashFlows(PRODUCT_JP, SETTLEMENT_ENDED_JP).dirtyPriceFromYield(YIELD_JP)).isEqualTo(0d);
+    assertThat(PRICER.yieldCashFlows(PRODUCT_JP, SETTLEMENT_JP).getCouponAmounts().size()).isEqualTo(0);
+    assertThat(PRICER.yieldCashFlows(PRODUCT_US, SETTLEMENT_US).toString()).startsWith("FixedCouponBondYieldCashFlows[");
+  }
+
+  @Test
+  public void yieldFromDirtyPrice_bulk() {
+    List<ResolvedFixedCouponBond> bonds = ImmutableList.of(PRODUCT_US, PRODUCT_US_0, PRODUCT_US);
+    DoubleArray yields = DoubleArray.of(0.04, 0.02, -0.001);
+    DoubleArray prices = PRICER.dirtyPriceFromYield(bonds, SETTLEMENT_US, yields);
+    DoubleArray computed = PRICER.yieldFromDirtyPrice(bonds, SETTLEMENT_US, prices);
+    for (int i = 0; i < bonds.size(); i++) {
+      assertThat(prices.get(i))
+          .isCloseTo(PRICER.dirtyPriceFromYield(bonds.get(i), SETTLEMENT_US, yields.get(i)), offset(TOL));
+      assertThat(computed.get(i)).isCloseTo(yields.get(i), offset(TOL));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.yieldFromDirtyPrice(bonds, SETTLEMENT_US, DoubleArray.of(1d)));
+  }
+
   @Test
   public void modifiedDurationFromYielddJP() {
     double computed = PRICER.modifiedDurationFromYield(PRODUCT_JP, SETTLEMENT_JP, YIELD_JP);
@@ -211,6 +211,27 @@ public class CalibrationDiscountingSimple1Test {
     }
   }
 
+  @Test
+  public void calibration_repeated() {
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+    for (int i = 0; i < FWD3_NB_NODES; i++) {
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[i])), FWD3_MARKET_QUOTES[i] + 0.0010);
+    }
+    MarketData shiftedQuotes = builder.build();
+    // the second calibrator on the same valuation date uses the trade templates from the first
+    RatesCurveTradeTemplateCache templateCache = RatesCurveTradeTemplateCache.create();
+    RatesProvider base = RatesCurveCalibrator.of(1e-9, 1e-9, 100).withTemplateCache(templateCache)
+        .calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA);
+    assertThat(templateCache.size()).isEqualTo(1);
+    RatesProvider shifted = RatesCurveCalibrator.of(1e-9, 1e-9, 100).withTemplateCache(templateCache)
+        .calibrate(CURVE_GROUP_DEFN, shiftedQuotes, REF_DATA);
+    assertThat(templateCache.size()).isEqualTo(1);
+    assertThat(base).isEqualTo(CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA));
+    assertThat(shifted).isEqualTo(RatesCurveCalibrator.of(1e-9, 1e-9, 100)
+        .calibrate(CURVE_GROUP_DEFN, shiftedQuotes, REF_DATA));
+    assertThat(shifted).isNotEqualTo(base);
+  }
+
   //-------------------------------------------------------------------------
   @Disabled
   void performance() {
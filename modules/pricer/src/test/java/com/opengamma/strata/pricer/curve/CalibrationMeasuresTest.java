@@ -58,6 +58,8 @@ public class CalibrationMeasuresTest {
         TradeCalibrationMeasure.SWAP_PAR_SPREAD);
     assertThat(test.getName()).isEqualTo("Test");
     assertThat(test.getTradeTypes()).containsOnly(ResolvedFraTrade.class, ResolvedSwapTrade.class);
+    assertThat(test.findMeasure(ResolvedFraTrade.class)).hasValue(TradeCalibrationMeasure.FRA_PAR_SPREAD);
+    assertThat(test.findMeasure(ResolvedTermDepositTrade.class)).isEmpty();
     assertThat(test.toString()).isEqualTo("Test");
   }
 
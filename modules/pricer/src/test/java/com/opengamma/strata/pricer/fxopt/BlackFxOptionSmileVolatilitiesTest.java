@@ -147,6 +147,22 @@ public class BlackFxOptionSmileVolatilitiesTest {
     }
   }
 
+  @Test
+  public void test_volatility_multipleStrikes() {
+    DoubleArray strikes = DoubleArray.copyOf(TEST_STRIKE);
+    for (int i = 0; i < NB_EXPIRY; i++) {
+      double expiryTime = VOLS.relativeTime(TEST_EXPIRY[i]);
+      DoubleArray computed = VOLS.volatility(CURRENCY_PAIR, expiryTime, strikes, FORWARD[i]);
+      DoubleArray computedInverse =
+          VOLS.volatility(CURRENCY_PAIR.inverse(), expiryTime, strikes.map(k -> 1d / k), 1d / FORWARD[i]);
+      for (int j = 0; j < NB_STRIKE; ++j) {
+        double volExpected = VOLS.volatility(CURRENCY_PAIR, expiryTime, TEST_STRIKE[j], FORWARD[i]);
+        assertThat(computed.get(j)).isCloseTo(volExpected, offset(TOLERANCE));
+        assertThat(computedInverse.get(j)).isCloseTo(volExpected, offset(TOLERANCE));
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_surfaceParameterSensitivity() {
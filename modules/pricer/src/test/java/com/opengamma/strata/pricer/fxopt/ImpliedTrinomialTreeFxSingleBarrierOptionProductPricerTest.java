@@ -14,9 +14,11 @@ import static org.assertj.core.data.Offset.offset;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
@@ -314,6 +316,34 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     assertThat(computed.equalWithTolerance(expected, 1.0e-13)).isTrue();
   }
 
+  @Test
+  public void test_batch() {
+    double tol = 1.0e-13;
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21);
+    SimpleConstantContinuousBarrier dki = SimpleConstantContinuousBarrier.of(BarrierType.DOWN, KnockType.KNOCK_IN, LEVEL_LOW);
+    List<ResolvedFxSingleBarrierOption> options = ImmutableList.of(
+        CALL_DKO,
+        CALL_UKI_C,
+        ResolvedFxSingleBarrierOption.of(PUT, dki, REBATE_BASE),
+        ResolvedFxSingleBarrierOption.of(PUT, BARRIER_DKO, REBATE));
+    List<CurrencyAmount> pvs = pricer.presentValue(options, RATE_PROVIDER, VOLS);
+    List<MultiCurrencyAmount> ces = pricer.currencyExposure(options, RATE_PROVIDER, VOLS);
+    List<CurrencyParameterSensitivities> sensitivities = pricer.presentValueSensitivityRates(options, RATE_PROVIDER, VOLS);
+    assertThat(pvs).hasSize(options.size());
+    for (int i = 0; i < options.size(); i++) {
+      ResolvedFxSingleBarrierOption option = options.get(i);
+      CurrencyAmount pv = pricer.presentValue(option, RATE_PROVIDER, VOLS);
+      assertThat(pvs.get(i).getCurrency()).isEqualTo(pv.getCurrency());
+      assertThat(pvs.get(i).getAmount()).isCloseTo(pv.getAmount(), offset(NOTIONAL * tol));
+      MultiCurrencyAmount ce = pricer.currencyExposure(option, RATE_PROVIDER, VOLS);
+      assertThat(ces.get(i).getAmount(EUR).getAmount()).isCloseTo(ce.getAmount(EUR).getAmount(), offset(NOTIONAL * tol));
+      assertThat(ces.get(i).getAmount(USD).getAmount()).isCloseTo(ce.getAmount(USD).getAmount(), offset(NOTIONAL * tol));
+      CurrencyParameterSensitivities sensi = pricer.presentValueSensitivityRates(option, RATE_PROVIDER, VOLS);
+      assertThat(sensitivities.get(i).equalWithTolerance(sensi, NOTIONAL * tol)).isTrue();
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withData() {
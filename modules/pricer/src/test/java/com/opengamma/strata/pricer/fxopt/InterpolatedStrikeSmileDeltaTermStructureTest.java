@@ -306,6 +306,29 @@ public class InterpolatedStrikeSmileDeltaTermStructureTest {
     assertThat(valueDerivativesComputed.getDerivative(2)).isCloseTo(forwardDerivativeExpected, DERIV_TOL);
   }
 
+  /**
+   * Tests the volatility for several strikes and the reuse of the smile at an expiry.
+   */
+  @Test
+  public void volatilityMultipleStrikes() {
+    DoubleArray strikes = DoubleArray.of(1.05, 1.25, 1.40, 1.4001, 1.60, 1.95);
+    double[] forwards = {1.40, 1.45, 1.40};
+    for (double timeToExpiry : new double[] {0.05, 0.50, 0.75, 0.75, 4.0}) {
+      SmileDeltaParameters smile = SMILE_TERM.smileForExpiry(timeToExpiry);
+      assertThat(SMILE_TERM.smileForExpiry(timeToExpiry)).isSameAs(smile);
+      for (double forward : forwards) {
+        BoundCurveInterpolator interpolator =
+            INTERPOLATOR_STRIKE.bind(smile.strike(forward), smile.getVolatility(), FLAT, FLAT);
+        DoubleArray computed = SMILE_TERM.volatility(timeToExpiry, strikes, forward);
+        assertThat(computed.size()).isEqualTo(strikes.size());
+        for (int i = 0; i < strikes.size(); i++) {
+          assertThat(computed.get(i)).isEqualTo(SMILE_TERM.volatility(timeToExpiry, strikes.get(i), forward));
+          assertThat(computed.get(i)).isEqualTo(interpolator.interpolate(strikes.get(i)));
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -229,6 +229,24 @@ public class HullWhiteOneFactorPiecewiseConstantInterestRateModelTest {
     }
   }
 
+  /**
+   * Test the alpha values for several maturities against the single maturity values.
+   */
+  @Test
+  public void alphaMultiple() {
+    double expiry1 = 0.25;
+    double expiry2 = 2.25;
+    double numeraire = 10.0;
+    DoubleArray maturities = DoubleArray.of(9.0, 10.0, 11.5);
+    DoubleArray computed = MODEL.alpha(MODEL_PARAMETERS, expiry1, expiry2, numeraire, maturities);
+    double integral = MODEL.alphaIntegral(MODEL_PARAMETERS, expiry1, expiry2);
+    for (int i = 0; i < maturities.size(); i++) {
+      double expected = MODEL.alpha(MODEL_PARAMETERS, expiry1, expiry2, numeraire, maturities.get(i));
+      assertThat(computed.get(i)).isEqualTo(expected);
+      assertThat(MODEL.alpha(MODEL_PARAMETERS, integral, numeraire, maturities.get(i))).isEqualTo(expected);
+    }
+  }
+
   /**
    * Test the swaption exercise boundary.
    */
@@ -13,7 +13,11 @@ import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -746,6 +750,54 @@ public class ForwardOvernightCompoundedRateComputationFnTest {
     }
   }
 
+  /** No cutoff and the time-series ends on the last published fixing. The cumulative compounded fixings are used. */
+  @Test
+  public void rateFedFund0CutOffValuation2CompoundedFixings() {
+    LocalDate valuationDate = date(2015, 1, 13);
+    OvernightCompoundedRateComputation ro =
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, FIXING_START_DATE, FIXING_END_DATE, 0, REF_DATA);
+    OvernightIndexRates mockRates = mock(OvernightIndexRates.class);
+    when(mockRates.getIndex()).thenReturn(USD_FED_FUND);
+    when(mockRates.getValuationDate()).thenReturn(valuationDate);
+    SimpleRatesProvider simpleProv = new SimpleRatesProvider(mockRates);
+
+    LocalDateDoubleTimeSeriesBuilder tsb = LocalDateDoubleTimeSeries.builder();
+    int lastFixing = 3;
+    for (int i = 0; i < lastFixing; i++) {
+      tsb.put(FIXING_DATES[i], FIXING_RATES[i]);
+    }
+    LocalDateDoubleTimeSeries fixings = mock(LocalDateDoubleTimeSeries.class, delegatesTo(tsb.build()));
+    OvernightCompoundedFixings.of(ro, fixings);
+    clearInvocations(fixings);
+    when(mockRates.getFixings()).thenReturn(fixings);
+    double investmentFactor = 1.0;
+    double afNoCutoff = 0.0;
+    for (int i = lastFixing; i < 6; i++) {
+      LocalDate endDate = USD_FED_FUND.calculateMaturityFromEffective(FIXING_DATES[i], REF_DATA);
+      double af = USD_FED_FUND.getDayCount().yearFraction(FIXING_DATES[i], endDate);
+      afNoCutoff += af;
+      investmentFactor *= 1.0d + af * FORWARD_RATES[i];
+    }
+    double rateCmp = (investmentFactor - 1.0d) / afNoCutoff;
+    when(mockRates.periodRate(USD_OBS[lastFixing], FIXING_DATES[6])).thenReturn(rateCmp);
+    double rateComputed = OBS_FWD_ONCMP.rate(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, simpleProv);
+    // the fixings are not looked up individually
+    verify(fixings, never()).get(FIXING_DATES[1]);
+    verify(fixings, never()).get(FIXING_DATES[2]);
+
+    // the same rate as compounding each fixing
+    double afKnown = 0.0d;
+    double investmentFactorKnown = 1.0d;
+    for (int i = 1; i < lastFixing; i++) {
+      LocalDate endDateKnown = USD_FED_FUND.calculateMaturityFromEffective(FIXING_DATES[i], REF_DATA);
+      double af = USD_FED_FUND.getDayCount().yearFraction(FIXING_DATES[i], endDateKnown);
+      afKnown += af;
+      investmentFactorKnown *= 1.0d + FIXING_RATES[i] * af;
+    }
+    double rateExpected = (investmentFactorKnown * (1.0 + rateCmp * afNoCutoff) - 1.0d) / (afKnown + afNoCutoff);
+    assertThat(rateComputed).isCloseTo(rateExpected, offset(TOLERANCE_RATE));
+  }
+
   /** Test rate sensitivity against FD approximation.
    * No cutoff and two already fixed ON rate. ON index is Fed Fund. */
   @Test
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_SOFR;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.ImmutableHolidayCalendar;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * Test {@link OvernightCompoundedFixings}.
+ */
+public class OvernightCompoundedFixingsTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate START = date(2020, 1, 2);
+  private static final LocalDate END = date(2020, 7, 1);
+  private static final OvernightCompoundedRateComputation COMPUTATION =
+      OvernightCompoundedRateComputation.of(GBP_SONIA, START, END, 0, REF_DATA);
+  private static final HolidayCalendar CALENDAR = COMPUTATION.getFixingCalendar();
+  private static final LocalDateDoubleTimeSeries FIXINGS = fixings(START, END, null);
+
+  // fixings for each business day, optionally missing one date
+  private static LocalDateDoubleTimeSeries fixings(LocalDate start, LocalDate end, LocalDate missing) {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    int i = 0;
+    for (LocalDate date = start; date.isBefore(end); date = CALENDAR.next(date)) {
+      if (!date.equals(missing)) {
+        builder.put(date, 0.01 + 0.0001 * (i % 17));
+      }
+      i++;
+    }
+    return builder.build();
+  }
+
+  // compounds the fixings one by one
+  private static double compound(LocalDate start, LocalDate end) {
+    double factor = 1d;
+    for (LocalDate date = start; date.isBefore(end); date = CALENDAR.next(date)) {
+      LocalDate effectiveDate = COMPUTATION.calculateEffectiveFromFixing(date);
+      LocalDate maturityDate = COMPUTATION.calculateMaturityFromEffective(effectiveDate);
+      double accrualFactor = GBP_SONIA.getDayCount().yearFraction(effectiveDate, maturityDate);
+      factor *= 1d + accrualFactor * FIXINGS.get(date).getAsDouble();
+    }
+    return factor;
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compositionFactor() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, FIXINGS);
+    assertThat(test.size()).isEqualTo(FIXINGS.size());
+    assertThat(test.fixingDate(0)).isEqualTo(START);
+    LocalDate from = date(2020, 2, 3);
+    LocalDate to = date(2020, 5, 1);
+    int startIndex = test.indexOf(from);
+    int endIndex = test.indexOf(to);
+    assertThat(test.fixingDate(startIndex)).isEqualTo(from);
+    assertThat(test.fixingDate(endIndex)).isEqualTo(to);
+    assertThat(test.isComplete(startIndex, endIndex)).isTrue();
+    assertThat(test.compositionFactor(startIndex, endIndex)).isCloseTo(compound(from, to), offset(1e-14));
+    assertThat(test.compositionFactor(startIndex, startIndex)).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_indexOf() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, FIXINGS);
+    assertThat(test.indexOf(date(2020, 1, 1))).isEqualTo(-1);
+    assertThat(test.indexOf(date(2020, 1, 4))).isEqualTo(-1);  // Saturday
+    assertThat(test.indexOf(date(2020, 7, 1))).isEqualTo(-1);
+    assertThat(test.indexOf(date(2020, 1, 3))).isEqualTo(1);
+  }
+
+  @Test
+  public void test_firstUnpublished() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, FIXINGS);
+    // SONIA is published the next business day, so fixings strictly before 2020-03-05 are published before 2020-03-06
+    int index = test.firstUnpublished(COMPUTATION, date(2020, 3, 6), 0);
+    assertThat(test.fixingDate(index)).isEqualTo(date(2020, 3, 5));
+    assertThat(test.firstUnpublished(COMPUTATION, date(2020, 1, 1), 0)).isEqualTo(0);
+    assertThat(test.firstUnpublished(COMPUTATION, date(2021, 1, 1), 0)).isEqualTo(test.size());
+  }
+
+  @Test
+  public void test_missing() {
+    LocalDate missing = date(2020, 3, 2);
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, fixings(START, END, missing));
+    int missingIndex = test.indexOf(missing);
+    assertThat(missingIndex).isGreaterThan(0);
+    assertThat(test.isComplete(0, missingIndex)).isTrue();
+    assertThat(test.isComplete(0, missingIndex + 1)).isFalse();
+    assertThat(test.isComplete(missingIndex + 1, test.size())).isTrue();
+  }
+
+  @Test
+  public void test_empty() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, LocalDateDoubleTimeSeries.empty());
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.indexOf(START)).isEqualTo(-1);
+  }
+
+  @Test
+  public void test_cached() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, FIXINGS);
+    assertThat(OvernightCompoundedFixings.of(COMPUTATION, FIXINGS)).isSameAs(test);
+    OvernightCompoundedRateComputation other = OvernightCompoundedRateComputation.of(USD_SOFR, START, END, 0, REF_DATA);
+    assertThat(OvernightCompoundedFixings.of(other, FIXINGS)).isNotSameAs(test);
+  }
+
+  @Test
+  public void test_cached_calendarWithSameId() {
+    OvernightCompoundedFixings test = OvernightCompoundedFixings.of(COMPUTATION, FIXINGS);
+    HolidayCalendar noHolidays = ImmutableHolidayCalendar.of(CALENDAR.getId(), ImmutableList.of(), SATURDAY, SUNDAY);
+    OvernightCompoundedRateComputation other = COMPUTATION.toBuilder().fixingCalendar(noHolidays).build();
+    OvernightCompoundedFixings otherFixings = OvernightCompoundedFixings.of(other, FIXINGS);
+    assertThat(otherFixings).isNotSameAs(test);
+    assertThat(otherFixings.size()).isGreaterThan(test.size());
+  }
+
+}
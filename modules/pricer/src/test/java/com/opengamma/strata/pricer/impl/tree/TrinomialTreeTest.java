@@ -19,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -83,4 +84,48 @@ public class TrinomialTreeTest {
     }
   }
 
+  /**
+   * Test the batched adjoint price is consistent with the price of each option.
+   */
+  @Test
+  public void test_optionPriceAdjoint_multiple() {
+    int nSteps = 51;
+    double dt = TIME / nSteps;
+    double interest = 0.05;
+    double dividend = 0.02;
+    double vol = 0.1;
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    double[] params = lattice.getParametersTrinomial(vol, interest - dividend, dt).toArray();
+    DoubleArray time = DoubleArray.of(nSteps + 1, i -> dt * i);
+    DoubleArray df = DoubleArray.of(nSteps, i -> Math.exp(-interest * dt));
+    double[][] stateValue = new double[nSteps + 1][];
+    stateValue[0] = new double[] {SPOT };
+    List<DoubleMatrix> prob = new ArrayList<DoubleMatrix>();
+    double[] probs = new double[] {params[5], params[4], params[3] };
+    for (int i = 0; i < nSteps; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3,
+          j -> SPOT * Math.pow(params[2], index + 1 - j) * Math.pow(params[1], j)).toArray();
+      double[][] probMatrix = new double[2 * i + 1][];
+      Arrays.fill(probMatrix, probs);
+      prob.add(DoubleMatrix.ofUnsafe(probMatrix));
+    }
+    RecombiningTrinomialTreeData treeData =
+        RecombiningTrinomialTreeData.of(DoubleMatrix.ofUnsafe(stateValue), prob, df, time);
+    List<OptionFunction> functions = new ArrayList<>();
+    for (double strike : STRIKES) {
+      functions.add(EuropeanVanillaOptionFunction.of(strike, TIME, PutCall.CALL, nSteps));
+      functions.add(EuropeanVanillaOptionFunction.of(strike, TIME, PutCall.PUT, nSteps));
+      functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+          strike, TIME, PutCall.CALL, nSteps, BarrierType.DOWN, 90d, DoubleArray.filled(nSteps + 1, 1d)));
+    }
+    List<ValueDerivatives> computed = TRINOMIAL_TREE.optionPriceAdjoint(functions, treeData);
+    assertThat(computed).hasSize(functions.size());
+    for (int i = 0; i < functions.size(); i++) {
+      ValueDerivatives expected = TRINOMIAL_TREE.optionPriceAdjoint(functions.get(i), treeData);
+      assertThat(computed.get(i).getValue()).isEqualTo(expected.getValue());
+      assertThat(computed.get(i).getDerivatives()).isEqualTo(expected.getDerivatives());
+    }
+  }
+
 }
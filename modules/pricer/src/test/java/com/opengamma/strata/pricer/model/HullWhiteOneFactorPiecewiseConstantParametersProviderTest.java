@@ -16,9 +16,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
@@ -68,6 +70,7 @@ public class HullWhiteOneFactorPiecewiseConstantParametersProviderTest {
         ACT_360.relativeYearFraction(VAL_DATE, data1), ACT_360.relativeYearFraction(VAL_DATE, data2),
         ACT_360.relativeYearFraction(VAL_DATE, data3));
     assertThat(computed).isEqualTo(expected);
+    assertThat(provider.futuresConvexityFactor(data1, data2, data3)).isEqualTo(expected);
   }
 
   @Test
@@ -99,6 +102,24 @@ public class HullWhiteOneFactorPiecewiseConstantParametersProviderTest {
     assertThat(computed).isEqualTo(expected);
   }
 
+  @Test
+  public void test_alpha_multiple() {
+    HullWhiteOneFactorPiecewiseConstantParametersProvider provider =
+        HullWhiteOneFactorPiecewiseConstantParametersProvider.of(PARAMETERS, ACT_360, DATE_TIME);
+    LocalDate data1 = LocalDate.of(2015, 5, 20);
+    LocalDate data2 = LocalDate.of(2016, 8, 20);
+    List<LocalDate> maturities = ImmutableList.of(data2, LocalDate.of(2017, 8, 21), LocalDate.of(2021, 8, 20));
+    DoubleArray computed = provider.alpha(data1, data2, data2, maturities);
+    assertThat(computed.size()).isEqualTo(maturities.size());
+    for (int i = 0; i < maturities.size(); i++) {
+      double expected = HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT.alpha(PARAMETERS,
+          ACT_360.relativeYearFraction(VAL_DATE, data1), ACT_360.relativeYearFraction(VAL_DATE, data2),
+          ACT_360.relativeYearFraction(VAL_DATE, data2), ACT_360.relativeYearFraction(VAL_DATE, maturities.get(i)));
+      assertThat(computed.get(i)).isEqualTo(expected);
+      assertThat(provider.alpha(data1, data2, data2, maturities.get(i))).isEqualTo(expected);
+    }
+  }
+
   @Test
   public void test_alphaAdjoint() {
     HullWhiteOneFactorPiecewiseConstantParametersProvider provider =
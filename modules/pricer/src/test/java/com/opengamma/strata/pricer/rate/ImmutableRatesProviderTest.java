@@ -34,6 +34,8 @@ import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.location.Country;
 import com.opengamma.strata.basics.schedule.Frequency;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.io.ArrayByteSource;
+import com.opengamma.strata.collect.io.BeanBinaryCodec;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.curve.ConstantCurve;
 import com.opengamma.strata.market.curve.Curve;
@@ -43,6 +45,7 @@ import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 import com.opengamma.strata.pricer.fx.DiscountFxForwardRates;
 
@@ -338,6 +341,25 @@ public class ImmutableRatesProviderTest {
     cycleBean(ImmutableRatesProvider.builder(VAL_DATE).build());
   }
   
+  @Test
+  public void testSerializeDeserialize_binary() {
+    ImmutableRatesProvider test = ImmutableRatesProvider.builder(VAL_DATE)
+        .fxRateProvider(FX_MATRIX)
+        .discountCurve(GBP, DISCOUNT_CURVE_GBP)
+        .discountCurve(USD, DISCOUNT_CURVE_USD)
+        .iborIndexCurve(USD_LIBOR_3M, USD_LIBOR_CURVE)
+        .overnightIndexCurve(USD_FED_FUND, FED_FUND_CURVE)
+        .priceIndexCurve(GB_RPI, GBPRI_CURVE)
+        .timeSeries(GBP_USD_WM, LocalDateDoubleTimeSeries.of(PREV_DATE, 0.62d))
+        .build();
+    ArrayByteSource bytes = BeanBinaryCodec.write(test);
+    assertThat(BeanBinaryCodec.read(bytes, ImmutableRatesProvider.class)).isEqualTo(test);
+    CurrencyParameterSensitivities sensitivities =
+        test.parameterSensitivity(test.discountFactors(GBP).zeroRatePointSensitivity(VAL_DATE.plusYears(1)).build());
+    ArrayByteSource sensitivityBytes = BeanBinaryCodec.write(sensitivities);
+    assertThat(BeanBinaryCodec.read(sensitivityBytes, CurrencyParameterSensitivities.class)).isEqualTo(sensitivities);
+  }
+
   private void cycleBean(Bean bean) {
     JodaBeanSer ser = JodaBeanSer.COMPACT;
     String result = ser.xmlWriter().write(bean);
@@ -11,6 +11,7 @@ import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -19,6 +20,7 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -174,6 +176,23 @@ public class CurveGammaCalculatorCrossGammaTest {
     assertThat(priceIndexSensi.isPresent()).isFalse();
   }
 
+  @Test
+  public void sensitivity_intra_multi_curve_batch() {
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> fns =
+        ImmutableList.of(this::sensiFn, this::sensiModFn, this::sensiFn);
+    List<CrossGammaParameterSensitivities> computed =
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, fns);
+    assertThat(computed).hasSize(3);
+    for (int i = 0; i < fns.size(); i++) {
+      CrossGammaParameterSensitivities expected =
+          CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, fns.get(i));
+      assertThat(computed.get(i).size()).isEqualTo(expected.size());
+      assertThat(computed.get(i).equalWithTolerance(expected, TOL)).isTrue();
+    }
+    assertThat(computed.get(1).size()).isEqualTo(2);
+    assertThat(CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, ImmutableList.of())).isEmpty();
+  }
+
   @Test
   public void sensitivity_cross_multi_curve() {
     CrossGammaParameterSensitivities sensiComputed =
@@ -366,6 +385,30 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  @Test
+  public void sensitivity_multi_combined_curve_batch() {
+    // the first function is sensitive to the combined curves, the second only to the underlying curves
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> fns =
+        ImmutableList.of(this::sensiWholeCurveFn, this::sensiCombinedFn);
+    List<CrossGammaParameterSensitivities> computedIntra =
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, fns);
+    List<CrossGammaParameterSensitivities> computedCross =
+        CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, fns);
+    for (int i = 0; i < fns.size(); i++) {
+      CrossGammaParameterSensitivities expectedIntra =
+          CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, fns.get(i));
+      assertThat(computedIntra.get(i).size()).isEqualTo(expectedIntra.size());
+      assertThat(computedIntra.get(i).equalWithTolerance(expectedIntra, TOL)).isTrue();
+      CrossGammaParameterSensitivities expectedCross =
+          CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, fns.get(i));
+      assertThat(computedCross.get(i).size()).isEqualTo(expectedCross.size());
+      assertThat(computedCross.get(i).equalWithTolerance(expectedCross, TOL)).isTrue();
+    }
+    assertThat(computedIntra.get(1).size()).isEqualTo(4);
+    assertThat(computedCross.get(1).size()).isEqualTo(4);
+    assertThat(computedIntra.get(1).findSensitivity(RatesProviderDataSets.USD_L3_NAME, USD)).isPresent();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void sensitivity_intra_multi_bond_curve() {
@@ -501,6 +544,20 @@ public class CurveGammaCalculatorCrossGammaTest {
     return sensi;
   }
 
+  // sensitivity function for any curve type - sensitivities are computed to the curves as a whole
+  private CurrencyParameterSensitivities sensiWholeCurveFn(ImmutableRatesProvider provider) {
+    CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
+    List<Curve> curves = ImmutableList.<Curve>builder()
+        .addAll(provider.getDiscountCurves().values())
+        .addAll(provider.getIndexCurves().values())
+        .build();
+    for (Curve curve : curves) {
+      sensi = sensi.combinedWith(CurrencyParameterSensitivity.of(curve.getName(), USD,
+          DoubleArray.of(curve.getParameterCount(), i -> curve.getParameter(i) * curve.getParameter(i))));
+    }
+    return sensi;
+  }
+
   // modified sensitivity function - sensitivities are computed only for ibor index curves
   private CurrencyParameterSensitivities sensiModFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();